@@ -0,0 +1,129 @@
+package de.gurkenlabs.litiengine;
+
+import de.gurkenlabs.litiengine.environment.tilemap.IMap;
+import de.gurkenlabs.litiengine.resources.Resources;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import javax.imageio.ImageIO;
+
+/**
+ * Generates orthogonal maps of arbitrary size with random tiles from a fixed seed so that
+ * benchmarks always operate on the same data.
+ */
+public final class SyntheticMap {
+  public static final int TILE_SIZE = 16;
+  private static final int TILESET_COLUMNS = 8;
+
+  private SyntheticMap() {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Writes a synthetic map with its tileset to a temporary directory and loads it.
+   *
+   * @param width The width of the map in tiles.
+   * @param height The height of the map in tiles.
+   * @param layers The number of tile layers.
+   * @param seed The seed for the random tiles.
+   * @return The loaded map.
+   */
+  public static IMap create(int width, int height, int layers, long seed) {
+    try {
+      Path directory = Files.createTempDirectory("litiengine-benchmark");
+      directory.toFile().deleteOnExit();
+      writeTileset(directory.resolve("tiles.png").toFile());
+
+      String name = "synthetic-" + width + "x" + height + "-" + layers;
+      File mapFile = directory.resolve(name + ".tmx").toFile();
+      mapFile.deleteOnExit();
+      Files.write(
+          mapFile.toPath(),
+          createTmx(name, width, height, layers, new Random(seed)).getBytes(StandardCharsets.UTF_8));
+
+      return Resources.maps().get(mapFile.toURI().toURL());
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Creates comma separated tile data with random grid IDs.
+   *
+   * @param width The width of the data in tiles.
+   * @param height The height of the data in tiles.
+   * @param random The random number generator.
+   * @return The CSV tile data.
+   */
+  public static String createCsvData(int width, int height, Random random) {
+    final int tileCount = TILESET_COLUMNS * TILESET_COLUMNS;
+    StringBuilder sb = new StringBuilder();
+    for (int y = 0; y < height; y++) {
+      sb.append('\n');
+      for (int x = 0; x < width; x++) {
+        // leave some tiles empty like in real maps
+        sb.append(random.nextInt(5) == 0 ? 0 : random.nextInt(tileCount) + 1);
+        if (x < width - 1 || y < height - 1) {
+          sb.append(',');
+        }
+      }
+    }
+
+    return sb.append('\n').toString();
+  }
+
+  private static String createTmx(String name, int width, int height, int layers, Random random) {
+    final int tilesetSize = TILESET_COLUMNS * TILE_SIZE;
+    StringBuilder sb = new StringBuilder();
+    sb.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+    sb.append(
+        String.format(
+            "<map version=\"1.0\" tiledversion=\"1.1.4\" orientation=\"orthogonal\" renderorder=\"right-down\" width=\"%d\" height=\"%d\" tilewidth=\"%d\" tileheight=\"%d\" infinite=\"0\" nextobjectid=\"1\" name=\"%s\">%n",
+            width, height, TILE_SIZE, TILE_SIZE, name));
+    sb.append(
+        String.format(
+            " <tileset firstgid=\"1\" name=\"tiles\" tilewidth=\"%d\" tileheight=\"%d\" tilecount=\"%d\" columns=\"%d\">%n",
+            TILE_SIZE, TILE_SIZE, TILESET_COLUMNS * TILESET_COLUMNS, TILESET_COLUMNS));
+    sb.append(
+        String.format(
+            "  <image source=\"tiles.png\" width=\"%d\" height=\"%d\"/>%n",
+            tilesetSize, tilesetSize));
+    sb.append(" </tileset>\n");
+
+    for (int i = 0; i < layers; i++) {
+      sb.append(
+          String.format(
+              " <layer name=\"layer %d\" width=\"%d\" height=\"%d\">%n", i, width, height));
+      sb.append("  <data encoding=\"csv\">");
+      sb.append(createCsvData(width, height, random));
+      sb.append("</data>\n");
+      sb.append(" </layer>\n");
+    }
+
+    sb.append("</map>\n");
+    return sb.toString();
+  }
+
+  private static void writeTileset(File file) throws IOException {
+    final int size = TILESET_COLUMNS * TILE_SIZE;
+    BufferedImage image = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+    Graphics2D g = image.createGraphics();
+    for (int x = 0; x < TILESET_COLUMNS; x++) {
+      for (int y = 0; y < TILESET_COLUMNS; y++) {
+        g.setColor(new Color(x * 32, y * 32, 128, 128 + x * 16));
+        g.fillRect(x * TILE_SIZE, y * TILE_SIZE, TILE_SIZE, TILE_SIZE);
+      }
+    }
+
+    g.dispose();
+    ImageIO.write(image, "png", file);
+    file.deleteOnExit();
+  }
+}
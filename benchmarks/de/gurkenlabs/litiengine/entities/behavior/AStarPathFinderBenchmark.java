@@ -0,0 +1,72 @@
+package de.gurkenlabs.litiengine.entities.behavior;
+
+import de.gurkenlabs.litiengine.Game;
+import de.gurkenlabs.litiengine.entities.CollisionBox;
+import de.gurkenlabs.litiengine.entities.Creature;
+import java.awt.Dimension;
+import java.awt.geom.Point2D;
+import java.awt.geom.Rectangle2D;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AStarPathFinderBenchmark {
+  private static final int NODE_SIZE = 16;
+
+  @Param({"32", "128"})
+  private int gridSize;
+
+  /** The percentage of grid nodes that are blocked by static collision boxes. */
+  @Param({"10", "30"})
+  private int obstacles;
+
+  private AStarPathFinder pathFinder;
+  private Creature entity;
+  private Point2D target;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    Random random = new Random(42);
+
+    final int size = this.gridSize * NODE_SIZE;
+    Game.physics().clear();
+    Game.physics().setBounds(new Rectangle2D.Double(0, 0, size, size));
+    for (int x = 1; x < this.gridSize - 1; x++) {
+      for (int y = 1; y < this.gridSize - 1; y++) {
+        if (random.nextInt(100) < this.obstacles) {
+          Game.physics().add(new CollisionBox(x * NODE_SIZE, y * NODE_SIZE, NODE_SIZE, NODE_SIZE));
+        }
+      }
+    }
+
+    Game.physics().update();
+    this.pathFinder = new AStarPathFinder(new Dimension(size, size), NODE_SIZE);
+
+    this.entity = new Creature();
+    this.entity.setSize(NODE_SIZE / 2.0, NODE_SIZE / 2.0);
+    this.entity.setLocation(NODE_SIZE / 4.0, NODE_SIZE / 4.0);
+    this.target = new Point2D.Double(size - NODE_SIZE / 2.0, size - NODE_SIZE / 2.0);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    Game.physics().clear();
+  }
+
+  @Benchmark
+  public Path findPath() {
+    return this.pathFinder.findPath(this.entity, this.target);
+  }
+}
@@ -0,0 +1,61 @@
+package de.gurkenlabs.litiengine.environment.tilemap;
+
+import de.gurkenlabs.litiengine.SyntheticMap;
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures the rendering of the visible tiles of synthetic maps. This benchmark needs a display (or
+ * a virtual one such as xvfb) because the tileset images are converted to images that are
+ * compatible with the screen device when the map is loaded.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MapRendererBenchmark {
+  @Param({"64", "256"})
+  private int mapSize;
+
+  @Param({"1", "4"})
+  private int layers;
+
+  private IMap map;
+  private BufferedImage target;
+  private Graphics2D graphics;
+  private Rectangle2D viewport;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    this.map = SyntheticMap.create(this.mapSize, this.mapSize, this.layers, 42);
+    this.target = new BufferedImage(960, 540, BufferedImage.TYPE_INT_ARGB);
+    this.graphics = this.target.createGraphics();
+
+    // center the viewport on the map so that tiles on all sides need to be culled
+    double x = Math.max(0, this.map.getSizeInPixels().getWidth() / 2.0 - this.target.getWidth() / 2.0);
+    double y = Math.max(0, this.map.getSizeInPixels().getHeight() / 2.0 - this.target.getHeight() / 2.0);
+    this.viewport = new Rectangle2D.Double(x, y, this.target.getWidth(), this.target.getHeight());
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    this.graphics.dispose();
+  }
+
+  @Benchmark
+  public BufferedImage renderViewport() {
+    MapRenderer.render(this.graphics, this.map, this.viewport);
+    return this.target;
+  }
+}
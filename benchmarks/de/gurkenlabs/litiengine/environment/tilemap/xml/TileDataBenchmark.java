@@ -0,0 +1,54 @@
+package de.gurkenlabs.litiengine.environment.tilemap.xml;
+
+import de.gurkenlabs.litiengine.SyntheticMap;
+import java.io.IOException;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TileDataBenchmark {
+  @Param({"64", "256"})
+  private int size;
+
+  @Param({"csv", "base64", "base64-zlib", "base64-gzip"})
+  private String format;
+
+  private String encoding;
+  private String compression;
+  private String value;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    TileData csv = new TileData();
+    csv.setEncoding(TileData.Encoding.CSV);
+    csv.setValue(SyntheticMap.createCsvData(this.size, this.size, new Random(42)));
+
+    String[] parts = this.format.split("-");
+    this.encoding = parts[0];
+    this.compression = parts.length > 1 ? parts[1] : TileData.Compression.NONE;
+    this.value =
+        TileData.encode(
+            new TileData(csv.getTiles(), this.size, this.size, this.encoding, this.compression));
+  }
+
+  @Benchmark
+  public List<Tile> decode() {
+    TileData data = new TileData();
+    data.setEncoding(this.encoding);
+    data.setCompression(this.compression);
+    data.setValue(this.value);
+    return data.getTiles();
+  }
+}
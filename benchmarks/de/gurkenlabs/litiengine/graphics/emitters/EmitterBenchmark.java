@@ -0,0 +1,81 @@
+package de.gurkenlabs.litiengine.graphics.emitters;
+
+import de.gurkenlabs.litiengine.Game;
+import de.gurkenlabs.litiengine.graphics.emitters.particles.ParticleType;
+import de.gurkenlabs.litiengine.graphics.emitters.xml.EmitterData;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures the update and rendering of emitters with many particles. This benchmark needs a display
+ * (or a virtual one such as xvfb) because {@code Game.init} creates the game window.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EmitterBenchmark {
+  @Param({"1000", "10000"})
+  private int particles;
+
+  @Param({"RECTANGLE", "ELLIPSE"})
+  private ParticleType particleType;
+
+  private Emitter emitter;
+  private BufferedImage target;
+  private Graphics2D graphics;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    // the emitter depends on the game loop for its update rate
+    Game.init(Game.COMMANDLINE_ARG_NOGUI);
+
+    // particles draw their colors from the game's random; seed it so that every run is the same
+    Game.random().setSeed(42);
+
+    EmitterData data = new EmitterData();
+    data.setWidth(256);
+    data.setHeight(256);
+    data.setMaxParticles(this.particles);
+    data.setSpawnAmount(this.particles);
+    data.setSpawnRate(0);
+    data.setParticleType(this.particleType);
+    data.setColors(Color.RED, Color.ORANGE, Color.YELLOW);
+
+    this.emitter = new Emitter(480, 270, data);
+
+    // the game loop isn't running, so the particles stay alive and the emitter keeps its full load
+    this.emitter.update();
+
+    this.target = new BufferedImage(960, 540, BufferedImage.TYPE_INT_ARGB);
+    this.graphics = this.target.createGraphics();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    this.graphics.dispose();
+  }
+
+  @Benchmark
+  public Emitter update() {
+    this.emitter.update();
+    return this.emitter;
+  }
+
+  @Benchmark
+  public BufferedImage render() {
+    this.emitter.render(this.graphics);
+    return this.target;
+  }
+}
@@ -0,0 +1,104 @@
+package de.gurkenlabs.litiengine.physics;
+
+import de.gurkenlabs.litiengine.Game;
+import de.gurkenlabs.litiengine.entities.CollisionBox;
+import de.gurkenlabs.litiengine.entities.Creature;
+import java.awt.geom.Point2D;
+import java.awt.geom.Rectangle2D;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PhysicsEngineBenchmark {
+  private static final double WORLD_SIZE = 4096;
+
+  @Param({"100", "1000"})
+  private int entities;
+
+  @Param({"100", "1000"})
+  private int staticColliders;
+
+  private PhysicsEngine engine;
+  private final List<Creature> creatures = new ArrayList<>();
+  private final List<Point2D> startLocations = new ArrayList<>();
+  private double[] angles;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    Random random = new Random(42);
+
+    this.engine = Game.physics();
+    this.engine.clear();
+    this.engine.setBounds(new Rectangle2D.Double(0, 0, WORLD_SIZE, WORLD_SIZE));
+    for (int i = 0; i < this.staticColliders; i++) {
+      this.engine.add(
+          new CollisionBox(
+              random.nextDouble() * WORLD_SIZE,
+              random.nextDouble() * WORLD_SIZE,
+              8 + random.nextDouble() * 64,
+              8 + random.nextDouble() * 64));
+    }
+
+    this.angles = new double[this.entities];
+    for (int i = 0; i < this.entities; i++) {
+      Creature creature = new Creature();
+      creature.setSize(16, 16);
+      creature.setCollisionBoxWidth(12);
+      creature.setCollisionBoxHeight(8);
+      Point2D location =
+          new Point2D.Double(random.nextDouble() * WORLD_SIZE, random.nextDouble() * WORLD_SIZE);
+      creature.setLocation(location);
+
+      this.startLocations.add(location);
+      this.creatures.add(creature);
+      this.angles[i] = random.nextDouble() * 360;
+      this.engine.add(creature);
+    }
+
+    this.engine.update();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    this.engine.clear();
+  }
+
+  @Setup(Level.Iteration)
+  public void resetLocations() {
+    for (int i = 0; i < this.creatures.size(); i++) {
+      this.creatures.get(i).setLocation(this.startLocations.get(i));
+    }
+
+    this.engine.update();
+  }
+
+  /** Moves every entity once and refreshes the collision boxes, i.e. a single physics tick. */
+  @Benchmark
+  public void tick(Blackhole blackhole) {
+    for (int i = 0; i < this.creatures.size(); i++) {
+      blackhole.consume(this.engine.move(this.creatures.get(i), this.angles[i], 2));
+    }
+
+    this.engine.update();
+  }
+
+  @Benchmark
+  public boolean collidesRectangle() {
+    return this.engine.collides(new Rectangle2D.Double(WORLD_SIZE / 2, WORLD_SIZE / 2, 32, 32));
+  }
+}
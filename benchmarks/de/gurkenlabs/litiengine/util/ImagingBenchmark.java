@@ -0,0 +1,88 @@
+package de.gurkenlabs.litiengine.util;
+
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the pixel operations of {@code Imaging} for a small sprite and for images that are large
+ * enough to be processed in parallel. This benchmark needs a display (or a virtual one such as
+ * xvfb) because some of the operations create images that are compatible with the screen device.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ImagingBenchmark {
+  private static final int PALETTE_SIZE = 16;
+
+  @Param({"32", "256", "1024"})
+  private int size;
+
+  private BufferedImage image;
+  private BufferedImage copy;
+  private final Map<Color, Color> palette = new HashMap<>();
+
+  @Setup(Level.Trial)
+  public void setup() {
+    Random random = new Random(42);
+    Color[] colors = new Color[PALETTE_SIZE];
+    for (int i = 0; i < PALETTE_SIZE; i++) {
+      colors[i] = new Color(random.nextInt(256), random.nextInt(256), random.nextInt(256));
+      this.palette.put(colors[i], colors[i].darker());
+    }
+
+    // palette based sprite with runs of the same color and transparent areas
+    this.image = new BufferedImage(this.size, this.size, BufferedImage.TYPE_INT_ARGB);
+    for (int y = 0; y < this.size; y++) {
+      for (int x = 0; x < this.size; x++) {
+        if (random.nextInt(8) != 0) {
+          this.image.setRGB(x, y, colors[(x / 4 + y / 4) % PALETTE_SIZE].getRGB());
+        }
+      }
+    }
+
+    this.copy = Imaging.copy(this.image);
+  }
+
+  @Benchmark
+  public BufferedImage replaceColors() {
+    return Imaging.replaceColors(this.image, this.palette);
+  }
+
+  @Benchmark
+  public BufferedImage applyAlphaChannel() {
+    return Imaging.applyAlphaChannel(this.image, Color.BLACK);
+  }
+
+  @Benchmark
+  public BufferedImage flashVisiblePixels() {
+    return Imaging.flashVisiblePixels(this.image, Color.WHITE);
+  }
+
+  @Benchmark
+  public BufferedImage borderAlpha() {
+    return Imaging.borderAlpha(this.image, Color.RED, true);
+  }
+
+  @Benchmark
+  public boolean isEmpty() {
+    return Imaging.isEmpty(this.image);
+  }
+
+  @Benchmark
+  public boolean areEqual() {
+    return Imaging.areEqual(this.image, this.copy);
+  }
+}
@@ -0,0 +1,89 @@
+package de.gurkenlabs.litiengine.util.geom;
+
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.Line2D;
+import java.awt.geom.Point2D;
+import java.awt.geom.Rectangle2D;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GeometricUtilitiesBenchmark {
+  private static final int SAMPLES = 1024;
+
+  private final Line2D[] lines = new Line2D[SAMPLES];
+  private final Rectangle2D[] rectangles = new Rectangle2D[SAMPLES];
+  private final Point2D[] points = new Point2D[SAMPLES];
+  private final Ellipse2D[] circles = new Ellipse2D[SAMPLES];
+
+  @Setup(Level.Trial)
+  public void setup() {
+    Random random = new Random(42);
+    for (int i = 0; i < SAMPLES; i++) {
+      this.lines[i] =
+          new Line2D.Double(
+              random.nextDouble() * 512,
+              random.nextDouble() * 512,
+              random.nextDouble() * 512,
+              random.nextDouble() * 512);
+      this.rectangles[i] =
+          new Rectangle2D.Double(
+              random.nextDouble() * 512,
+              random.nextDouble() * 512,
+              random.nextDouble() * 64,
+              random.nextDouble() * 64);
+      this.points[i] = new Point2D.Double(random.nextDouble() * 512, random.nextDouble() * 512);
+      this.circles[i] =
+          GeometricUtilities.getCircle(this.points[i], 8 + random.nextDouble() * 32);
+    }
+  }
+
+  @Benchmark
+  public void lineIntersections(Blackhole blackhole) {
+    for (int i = 0; i < SAMPLES; i++) {
+      blackhole.consume(
+          GeometricUtilities.getIntersectionPoint(this.lines[i], this.lines[SAMPLES - 1 - i]));
+    }
+  }
+
+  @Benchmark
+  public void lineRectangleIntersections(Blackhole blackhole) {
+    for (int i = 0; i < SAMPLES; i++) {
+      blackhole.consume(
+          GeometricUtilities.getIntersectionPoint(this.lines[i], this.rectangles[i]));
+    }
+  }
+
+  @Benchmark
+  public void circleIntersections(Blackhole blackhole) {
+    for (int i = 0; i < SAMPLES; i++) {
+      blackhole.consume(
+          GeometricUtilities.intersects(this.circles[i], this.circles[SAMPLES - 1 - i]));
+    }
+  }
+
+  @Benchmark
+  public void projections(Blackhole blackhole) {
+    for (int i = 0; i < SAMPLES; i++) {
+      blackhole.consume(GeometricUtilities.project(this.points[i], i % 360, 10));
+    }
+  }
+
+  @Benchmark
+  public void rectangleDistances(Blackhole blackhole) {
+    for (int i = 0; i < SAMPLES; i++) {
+      blackhole.consume(GeometricUtilities.distance(this.rectangles[i], this.points[i]));
+    }
+  }
+}
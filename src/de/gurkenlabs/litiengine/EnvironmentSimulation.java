@@ -0,0 +1,171 @@
+package de.gurkenlabs.litiengine;
+
+import java.util.concurrent.locks.Lock;
+import java.util.function.Supplier;
+
+import de.gurkenlabs.litiengine.environment.Environment;
+import de.gurkenlabs.litiengine.physics.PhysicsEngine;
+
+/**
+ * An {@code EnvironmentSimulation} runs an {@code Environment} in isolation from the game's main loop, e.g. one room of a dedicated
+ * headless server that hosts many rooms concurrently.
+ * <p>
+ * Each simulation owns its own {@code IGameLoop}, {@code PhysicsEngine} and {@code GameTime}. While a thread is processing a simulation,
+ * the simulation is bound to that thread and the static accessors {@link Game#loop()}, {@link Game#physics()}, {@link Game#time()} and
+ * {@code Game.world().environment()} resolve to the instances of the simulation instead of the global ones. Hence, existing entities,
+ * abilities and behaviors work unchanged inside a simulation without contending for the global state.
+ * </p>
+ * <p>
+ * The simulation's loop is never started as a thread. Its ticks are either processed manually by calling {@link #step()} or scheduled by
+ * a {@link SimulationScheduler}. A simulation must only be processed by one thread at a time; other threads that want to access its
+ * environment (e.g. to handle network messages) must do so via {@link #run(Runnable)}.
+ * </p>
+ * <p>
+ * The loop of a simulation only updates its physics and the entities of its environment. Updatables that are attached to the
+ * {@code GameWorld} are not processed by simulations; attach them to the loop of the simulation instead.
+ * </p>
+ *
+ * @see SimulationScheduler
+ */
+public final class EnvironmentSimulation {
+  private static final ThreadLocal<EnvironmentSimulation> current = new ThreadLocal<>();
+
+  /**
+   * Avoids the thread-local lookup in the static accessors of the {@code Game} as long as no simulation exists.
+   */
+  private static volatile boolean active;
+
+  private final Environment environment;
+  private final GameLoop loop;
+  private final GameTime time;
+  private final PhysicsEngine physics;
+
+  /**
+   * Initializes a new instance of the {@code EnvironmentSimulation} class.
+   *
+   * @param environment
+   *          The environment to simulate. The environment must not be loaded by the {@code GameWorld} or another simulation.
+   * @param tickRate
+   *          The number of ticks per second at which the simulation is processed.
+   */
+  public EnvironmentSimulation(Environment environment, int tickRate) {
+    if (environment == null) {
+      throw new IllegalArgumentException("The environment of a simulation must not be null.");
+    }
+
+    active = true;
+    this.environment = environment;
+    this.loop = new GameLoop(environment.getMap() != null ? "Simulation " + environment.getMap().getName() : "Simulation", tickRate, true);
+    this.time = new GameTime(this.loop);
+    this.physics = PhysicsEngine.create(this);
+    this.loop.attach(this.physics);
+  }
+
+  /**
+   * Gets the simulation that is bound to the current thread.
+   *
+   * @return The simulation that is currently processed by this thread or null if the thread operates on the global game state.
+   */
+  public static EnvironmentSimulation current() {
+    return active ? current.get() : null;
+  }
+
+  public Environment getEnvironment() {
+    return this.environment;
+  }
+
+  public IGameLoop getLoop() {
+    return this.loop;
+  }
+
+  public GameTime getTime() {
+    return this.time;
+  }
+
+  public PhysicsEngine getPhysics() {
+    return this.physics;
+  }
+
+  /**
+   * Loads the environment of this simulation, which registers its entities with the loop and physics engine of this simulation.
+   */
+  public void load() {
+    this.run(() -> {
+      if (this.environment.getGravity() == 0 && Game.world().gravity() != 0) {
+        this.environment.setGravity(Game.world().gravity());
+      }
+
+      this.environment.load();
+      this.time.loaded(this.environment);
+    });
+  }
+
+  /**
+   * Unloads the environment of this simulation.
+   */
+  public void unload() {
+    this.run(() -> {
+      this.environment.unload();
+      this.physics.clear();
+    });
+  }
+
+  /**
+   * Processes a single tick of this simulation on the calling thread.
+   *
+   * @see UpdateLoop#step()
+   */
+  public void step() {
+    final EnvironmentSimulation previous = bind(this);
+    try {
+      this.loop.step();
+    } finally {
+      bind(previous);
+    }
+  }
+
+  /**
+   * Executes the specified action on the calling thread while this simulation is bound to it and its loop is locked.
+   *
+   * @param action
+   *          The action to execute within this simulation.
+   */
+  public void run(Runnable action) {
+    this.call(() -> {
+      action.run();
+      return null;
+    });
+  }
+
+  /**
+   * Executes the specified action on the calling thread while this simulation is bound to it and its loop is locked.
+   *
+   * @param <T>
+   *          The type of the result.
+   * @param action
+   *          The action to execute within this simulation.
+   * @return The result of the action.
+   */
+  public <T> T call(Supplier<T> action) {
+    final EnvironmentSimulation previous = bind(this);
+    final Lock lock = this.loop.getLock();
+    lock.lock();
+    try {
+      return action.get();
+    } finally {
+      lock.unlock();
+      bind(previous);
+    }
+  }
+
+  private static EnvironmentSimulation bind(EnvironmentSimulation simulation) {
+    final EnvironmentSimulation previous = current.get();
+    if (simulation == null) {
+      current.remove();
+    } else {
+      current.set(simulation);
+    }
+
+    return previous;
+  }
+}
@@ -249,11 +249,17 @@ public final class Game {
    * time.
    * </p>
    *
+   * <p>
+   * <i>If called from a thread that processes an {@code EnvironmentSimulation}, the time of the simulation is returned.</i>
+   * </p>
+   *
    * @return The game's temporal information.
    * @see GameTime#now()
+   * @see EnvironmentSimulation
    */
   public static GameTime time() {
-    return gameTime;
+    final EnvironmentSimulation simulation = EnvironmentSimulation.current();
+    return simulation != null ? simulation.getTime() : gameTime;
   }
 
   /**
@@ -303,13 +309,19 @@ public final class Game {
    * <i>It is also possible to manually register static collision {@code Rectangles} that can further restrict the game world.</i>
    * </p>
    *
+   * <p>
+   * <i>If called from a thread that processes an {@code EnvironmentSimulation}, the physics engine of the simulation is returned.</i>
+   * </p>
+   *
    * @return The engine's {@code PhysicsEngine} component.
    * @see PhysicsEngine
+   * @see EnvironmentSimulation
    * @see PhysicsEngine#move(IMobileEntity, float)
    * @see ICollisionEntity
    */
   public static PhysicsEngine physics() {
-    return physicsEngine;
+    final EnvironmentSimulation simulation = EnvironmentSimulation.current();
+    return simulation != null ? simulation.getPhysics() : physicsEngine;
   }
 
   /**
@@ -344,14 +356,20 @@ public final class Game {
    * This prevents them from interfering with each other and to be able to process player input independent of the game's framerate.</i>
    * </p>
    *
+   * <p>
+   * <i>If called from a thread that processes an {@code EnvironmentSimulation}, the loop of the simulation is returned.</i>
+   * </p>
+   *
    * @return The game's main loop.
    * @see ClientConfiguration#getMaxFps()
+   * @see EnvironmentSimulation
    * @see IUpdateable
    * @see ILoop#attach(IUpdateable)
    * @see ILoop#detach(IUpdateable)
    */
   public static IGameLoop loop() {
-    return gameLoop;
+    final EnvironmentSimulation simulation = EnvironmentSimulation.current();
+    return simulation != null ? simulation.getLoop() : gameLoop;
   }
 
   /**
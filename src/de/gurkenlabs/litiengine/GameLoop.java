@@ -3,6 +3,7 @@ package de.gurkenlabs.litiengine;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import de.gurkenlabs.litiengine.graphics.RenderComponent;
 import de.gurkenlabs.litiengine.input.Input;
@@ -28,15 +29,32 @@ public final class GameLoop extends UpdateLoop implements IGameLoop {
    */
   public static final int TICK_DELTATIME_LAG = 67;
 
-  private static int executionIndex = -1;
+  private static final AtomicInteger executionIndex = new AtomicInteger(-1);
 
   private final List<TimedAction> actions;
+  private final boolean simulationOnly;
 
   private float timeScale;
 
   GameLoop(String name, final int updateRate) {
+    this(name, updateRate, false);
+  }
+
+  /**
+   * Initializes a new instance of the {@code GameLoop} class.
+   *
+   * @param name
+   *          The name of the loop thread.
+   * @param updateRate
+   *          The tick rate of the loop.
+   * @param simulationOnly
+   *          If true, the loop only updates its attached instances and executes timed actions. It neither updates the input and audio
+   *          engine nor the camera, nor does it render the game. This is used by the isolated loops of an {@code EnvironmentSimulation}.
+   */
+  GameLoop(String name, final int updateRate, boolean simulationOnly) {
     super(name, updateRate);
     this.actions = new CopyOnWriteArrayList<>();
+    this.simulationOnly = simulationOnly;
     this.setTimeScale(1.0F);
   }
 
@@ -80,6 +98,15 @@ public final class GameLoop extends UpdateLoop implements IGameLoop {
    */
   @Override
   protected void process() {
+    if (this.simulationOnly) {
+      if (this.getTimeScale() > 0) {
+        super.process();
+        this.executeTimedActions();
+      }
+
+      return;
+    }
+
     this.updateInvariableEngineComponents();
 
     if (this.getTimeScale() > 0) {
@@ -142,7 +169,7 @@ public final class GameLoop extends UpdateLoop implements IGameLoop {
     private TimedAction(final long execution, final Runnable action) {
       this.execution = execution;
       this.action = action;
-      this.id = ++executionIndex;
+      this.id = executionIndex.incrementAndGet();
     }
 
     public Runnable getAction() {
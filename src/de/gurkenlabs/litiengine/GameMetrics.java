@@ -3,13 +3,34 @@ package de.gurkenlabs.litiengine;
 import java.awt.Color;
 import java.awt.Font;
 import java.awt.Graphics2D;
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 import de.gurkenlabs.litiengine.configuration.ClientConfiguration;
 import de.gurkenlabs.litiengine.graphics.IRenderable;
+import de.gurkenlabs.litiengine.graphics.RenderType;
+import de.gurkenlabs.litiengine.util.LatencyHistogram;
+import de.gurkenlabs.litiengine.util.TimeUtilities;
 
 /**
  * The class {@code GameMetrics} provides meta information about the game's metrics. This allows the developer to
@@ -19,17 +40,35 @@ import de.gurkenlabs.litiengine.graphics.IRenderable;
  * <p>
  * This information can be rendered as debug information if configured to get live data during a gameplay session.
  * </p>
+ * 
+ * <p>
+ * Additionally, the engine records the durations of its subsystems into named profiling scopes: the update of every {@code IUpdateable} type
+ * (prefixed with {@value #SCOPE_UPDATE}), the rendering of every {@code RenderType} (prefixed with {@value #SCOPE_RENDER}) and the loading of resources
+ * (prefixed with {@value #SCOPE_LOAD}). The percentiles of these scopes can be queried at runtime, are rendered as part of the debug information and
+ * can be exported as CSV or JSON.
+ * </p>
  *
  * @see ClientConfiguration#showGameMetrics()
  * @see #render(Graphics2D)
+ * @see #getScope(String)
  */
 public final class GameMetrics implements IRenderable {
+  public static final String SCOPE_UPDATE = "update.";
+  public static final String SCOPE_RENDER = "render.";
+  public static final String SCOPE_LOAD = "load.";
+
+  private static final Logger log = Logger.getLogger(GameMetrics.class.getName());
+  private static final int MAX_RENDERED_SCOPES = 10;
+
   private static final Font TITLE_FONT = new Font(Font.MONOSPACED, Font.BOLD, 12);
   private static final Font METRIC_FONT = new Font(Font.MONOSPACED, Font.PLAIN, 12);
   private static final int OFFSET_X = 5;
   private static final int OFFSET_Y = 14;
 
   private final List<RenderMetrics> renderMetrics;
+  private final Map<String, LatencyHistogram> scopes = new ConcurrentHashMap<>();
+  private final Map<Class<?>, LatencyHistogram> updateScopes = new ConcurrentHashMap<>();
+  private final Map<RenderType, LatencyHistogram> renderScopes = new ConcurrentHashMap<>();
 
   private final Runtime runtime;
   private final String javaVersion;
@@ -43,6 +82,11 @@ public final class GameMetrics implements IRenderable {
 
   private float usedMemory;
 
+  private volatile boolean profilingEnabled = true;
+
+  private ScheduledExecutorService dumpExecutor;
+  private ScheduledFuture<?> scheduledDump;
+
   GameMetrics() {
     this.renderMetrics = new CopyOnWriteArrayList<>();
     this.runtime = Runtime.getRuntime();
@@ -65,6 +109,200 @@ public final class GameMetrics implements IRenderable {
     this.renderMetrics.add(new RenderMetrics(name, renderTime, infos));
   }
 
+  /**
+   * Determines whether the durations of the engine's subsystems are recorded into the profiling scopes.
+   * 
+   * @return True if profiling is enabled; otherwise false.
+   */
+  public boolean isProfilingEnabled() {
+    return this.profilingEnabled;
+  }
+
+  /**
+   * Enables or disables the recording of the profiling scopes. Profiling is enabled by default.
+   * 
+   * @param enabled
+   *          True if the durations of the engine's subsystems should be recorded; otherwise false.
+   */
+  public void setProfilingEnabled(boolean enabled) {
+    this.profilingEnabled = enabled;
+  }
+
+  /**
+   * Gets the histogram of the profiling scope with the specified name. The scope is created if it doesn't exist yet.
+   * 
+   * @param name
+   *          The name of the scope.
+   * @return The histogram that holds the recorded durations of the scope.
+   */
+  public LatencyHistogram getScope(String name) {
+    return this.scopes.computeIfAbsent(name, n -> new LatencyHistogram());
+  }
+
+  /**
+   * Gets the histogram of the profiling scope that tracks the updates of all instances of the specified {@code IUpdateable} type.
+   * 
+   * @param type
+   *          The type of the updatable instances.
+   * @return The histogram of the scope {@code update.[type]}.
+   */
+  public LatencyHistogram getScope(Class<? extends IUpdateable> type) {
+    return this.updateScopes.computeIfAbsent(type, t -> this.getScope(SCOPE_UPDATE + t.getName()));
+  }
+
+  /**
+   * Gets the histogram of the profiling scope that tracks the rendering of the specified {@code RenderType}.
+   * 
+   * @param renderType
+   *          The render type.
+   * @return The histogram of the scope {@code render.[renderType]}.
+   */
+  public LatencyHistogram getScope(RenderType renderType) {
+    return this.renderScopes.computeIfAbsent(renderType, t -> this.getScope(SCOPE_RENDER + t.toString().toLowerCase()));
+  }
+
+  /**
+   * Gets all profiling scopes, sorted by their name.
+   * 
+   * @return An unmodifiable snapshot of all profiling scopes.
+   */
+  public Map<String, LatencyHistogram> getScopes() {
+    return Collections.unmodifiableMap(new TreeMap<>(this.scopes));
+  }
+
+  /**
+   * Records the specified duration into the profiling scope with the specified name if profiling is enabled.
+   * 
+   * @param scope
+   *          The name of the scope.
+   * @param nanos
+   *          The duration in nanoseconds.
+   */
+  public void record(String scope, long nanos) {
+    if (this.isProfilingEnabled()) {
+      this.getScope(scope).record(nanos);
+    }
+  }
+
+  /**
+   * Removes all recorded durations from the profiling scopes.
+   */
+  public void resetScopes() {
+    for (LatencyHistogram histogram : this.scopes.values()) {
+      histogram.reset();
+    }
+  }
+
+  /**
+   * Writes the count, mean and percentiles of all profiling scopes as CSV to the specified writer. All durations are written in milliseconds.
+   * 
+   * @param writer
+   *          The writer to export the profiling scopes to.
+   * @throws IOException
+   *           If the scopes could not be written.
+   */
+  public void exportScopesCsv(Writer writer) throws IOException {
+    writer.write("scope,count,mean,p50,p90,p99,max\n");
+    for (Map.Entry<String, LatencyHistogram> scope : this.getScopes().entrySet()) {
+      final LatencyHistogram histogram = scope.getValue();
+      writer.write(String.format(Locale.ROOT, "%s,%d,%.4f,%.4f,%.4f,%.4f,%.4f%n", scope.getKey(), histogram.getCount(), TimeUtilities.nanoToMs((long) histogram.getMean()),
+          TimeUtilities.nanoToMs(histogram.getPercentile(50)), TimeUtilities.nanoToMs(histogram.getPercentile(90)), TimeUtilities.nanoToMs(histogram.getPercentile(99)),
+          TimeUtilities.nanoToMs(histogram.getMax())));
+    }
+  }
+
+  /**
+   * Writes the count, mean and percentiles of all profiling scopes as JSON to the specified writer. All durations are written in milliseconds.
+   * 
+   * @param writer
+   *          The writer to export the profiling scopes to.
+   * @throws IOException
+   *           If the scopes could not be written.
+   */
+  public void exportScopesJson(Writer writer) throws IOException {
+    writer.write("{\"scopes\":[");
+    boolean first = true;
+    for (Map.Entry<String, LatencyHistogram> scope : this.getScopes().entrySet()) {
+      final LatencyHistogram histogram = scope.getValue();
+      if (!first) {
+        writer.write(",");
+      }
+
+      writer.write(String.format(Locale.ROOT, "%n  {\"scope\":\"%s\",\"count\":%d,\"mean\":%.4f,\"p50\":%.4f,\"p90\":%.4f,\"p99\":%.4f,\"max\":%.4f}",
+          scope.getKey().replace("\\", "\\\\").replace("\"", "\\\""), histogram.getCount(), TimeUtilities.nanoToMs((long) histogram.getMean()),
+          TimeUtilities.nanoToMs(histogram.getPercentile(50)), TimeUtilities.nanoToMs(histogram.getPercentile(90)), TimeUtilities.nanoToMs(histogram.getPercentile(99)),
+          TimeUtilities.nanoToMs(histogram.getMax())));
+      first = false;
+    }
+
+    writer.write(String.format("%n]}%n"));
+  }
+
+  /**
+   * Exports all profiling scopes to the specified file. Files with the extension ".json" are written as JSON, all other files as CSV.
+   * 
+   * @param file
+   *          The file to write the profiling scopes to.
+   * @throws IOException
+   *           If the file could not be written.
+   * 
+   * @see #exportScopesCsv(Writer)
+   * @see #exportScopesJson(Writer)
+   */
+  public void dumpScopes(File file) throws IOException {
+    try (Writer writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+      if (file.getName().toLowerCase().endsWith(".json")) {
+        this.exportScopesJson(writer);
+      } else {
+        this.exportScopesCsv(writer);
+      }
+    }
+  }
+
+  /**
+   * Periodically exports all profiling scopes to the specified file, replacing any previously scheduled dump.
+   * 
+   * @param file
+   *          The file to write the profiling scopes to.
+   * @param period
+   *          The period between two dumps.
+   * @param unit
+   *          The time unit of the period.
+   * 
+   * @see #dumpScopes(File)
+   * @see #cancelScopeDumps()
+   */
+  public synchronized void scheduleScopeDumps(File file, long period, TimeUnit unit) {
+    this.cancelScopeDumps();
+    if (this.dumpExecutor == null) {
+      this.dumpExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "Game Metrics Dump");
+        thread.setDaemon(true);
+        return thread;
+      });
+    }
+
+    this.scheduledDump = this.dumpExecutor.scheduleAtFixedRate(() -> {
+      try {
+        this.dumpScopes(file);
+      } catch (IOException e) {
+        log.log(Level.WARNING, "Could not dump the game metrics to " + file + ": " + e.getMessage(), e);
+      }
+    }, period, period, unit);
+  }
+
+  /**
+   * Cancels the periodic export of the profiling scopes.
+   * 
+   * @see #scheduleScopeDumps(File, long, TimeUnit)
+   */
+  public synchronized void cancelScopeDumps() {
+    if (this.scheduledDump != null) {
+      this.scheduledDump.cancel(false);
+      this.scheduledDump = null;
+    }
+  }
+
   @Override
   public void render(final Graphics2D g) {
     this.updateMetrics();
@@ -101,6 +339,25 @@ public final class GameMetrics implements IRenderable {
 
       this.renderMetrics.clear();
     }
+
+    // render the slowest profiling scopes
+    if (Game.config().debug().isDebugEnabled() && this.isProfilingEnabled() && !this.scopes.isEmpty()) {
+      this.drawTitle(g, "[profile] p50 / p99 / max (ms)");
+
+      List<Map.Entry<String, Long>> slowest = new ArrayList<>();
+      for (Map.Entry<String, LatencyHistogram> scope : this.scopes.entrySet()) {
+        if (scope.getValue().getCount() > 0) {
+          slowest.add(new AbstractMap.SimpleEntry<>(scope.getKey(), scope.getValue().getPercentile(99)));
+        }
+      }
+
+      slowest.sort(Comparator.comparing(Map.Entry<String, Long>::getValue).reversed());
+      for (Map.Entry<String, Long> scope : slowest.subList(0, Math.min(MAX_RENDERED_SCOPES, slowest.size()))) {
+        LatencyHistogram histogram = this.scopes.get(scope.getKey());
+        this.drawMetric(g, String.format("%-24.24s: %.2f / %.2f / %.2f", getDisplayName(scope.getKey()), TimeUtilities.nanoToMs(histogram.getPercentile(50)), TimeUtilities.nanoToMs(scope.getValue()),
+            TimeUtilities.nanoToMs(histogram.getMax())));
+      }
+    }
   }
 
   void setFramesPerSecond(final int currentFramesPerSecond) {
@@ -128,6 +385,13 @@ public final class GameMetrics implements IRenderable {
     this.usedMemory = Math.round((this.runtime.totalMemory() - this.runtime.freeMemory()) / (1024f * 1024f) * 10) * 0.1f;
   }
 
+  private static String getDisplayName(String scope) {
+    // shorten fully qualified type names, e.g. "update.de.gurkenlabs.litiengine.physics.PhysicsEngine" -> "update.PhysicsEngine"
+    final int prefixEnd = scope.indexOf('.');
+    final int nameStart = scope.lastIndexOf('.');
+    return nameStart == prefixEnd ? scope : scope.substring(0, prefixEnd + 1) + scope.substring(nameStart + 1);
+  }
+
   private void drawTitle(Graphics2D g, String title) {
     this.currentOffsetY += OFFSET_Y;
     g.setFont(TITLE_FONT);
@@ -9,6 +9,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.SplittableRandom;
 import java.util.stream.Collectors;
 
 import de.gurkenlabs.litiengine.entities.IEntity;
@@ -19,6 +20,25 @@ import de.gurkenlabs.litiengine.util.geom.GeometricUtilities;
 
 /**
  * A random number generator instance that provides enhanced functionalities for the java default {@code Random} implementation.
+ * <p>
+ * Other than {@code java.util.Random}, this implementation doesn't share a single atomically updated seed between all threads. Instead,
+ * every thread draws its numbers from its own {@code SplittableRandom} stream that is derived deterministically from the seed of this
+ * instance.
+ * </p>
+ * <p>
+ * For the instance that is provided by {@code Game.random()}:
+ * </p>
+ * <ul>
+ * <li>The thread that set the seed (or created this instance) draws from the master stream that is seeded with the seed itself. Hence, a
+ * single-threaded game produces the same sequence for a given seed on every run.</li>
+ * <li>Every other thread draws from a stream that is derived from the seed and the name of the thread. Threads should therefore be named
+ * uniquely if their numbers need to be reproducible.</li>
+ * </ul>
+ * <p>
+ * Subsystems that need a reproducible sequence regardless of the thread they run on (e.g. particles or AI) should use their own instance
+ * that is provided by {@link #stream(String)}. The streams of such an instance only depend on its seed, so every thread that uses it
+ * draws the same sequence.
+ * </p>
  */
 @SuppressWarnings("serial")
 public final class GameRandom extends java.util.Random {
@@ -26,7 +46,28 @@ public final class GameRandom extends java.util.Random {
   private static final String ARRAY_MUST_NOT_BE_EMPTY = "array to chose an element from must not be null or empty.";
   private static final String INVALID_AMOUNT_FOR_SAMPLING_WITHOUT_REPLACEMENT = "amount must be <= the specified array length for sampling without replacement.";
 
+  // the golden ratio and the mixing constants of SplitMix64
+  private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+  private static final long MIX_MULTIPLIER_1 = 0xbf58476d1ce4e5b9L;
+  private static final long MIX_MULTIPLIER_2 = 0x94d049bb133111ebL;
+
+  private final transient ThreadLocal<ThreadStream> streams = new ThreadLocal<>();
+
+  // these fields must not be initialized explicitly because the constructor of java.util.Random calls setSeed before they would be
+  private volatile long seed;
+  private volatile int generation;
+  private volatile transient Thread owner;
+
+  // only the instance of the game derives the streams of other threads from their names
+  private final boolean perThreadStreams;
+
   GameRandom() {
+    this.perThreadStreams = true;
+  }
+
+  GameRandom(long seed) {
+    super(seed);
+    this.perThreadStreams = false;
   }
 
   /**
@@ -42,6 +83,116 @@ public final class GameRandom extends java.util.Random {
     this.setSeed(seed.hashCode());
   }
 
+  /**
+   * Sets the seed of this random number generator and restarts the streams of all threads.
+   * <p>
+   * The calling thread becomes the owner of this instance and draws from the master stream that only depends on the seed. Instances that
+   * have been created by {@link #stream(String)} or {@link #split()} use this stream on all threads.
+   * </p>
+   *
+   * @param seed
+   *          The initial seed.
+   */
+  @Override
+  public synchronized void setSeed(long seed) {
+    this.seed = seed;
+    this.owner = Thread.currentThread();
+    this.generation++;
+  }
+
+  /**
+   * Gets the seed that has last been set on this random number generator.
+   *
+   * @return The seed of this instance.
+   */
+  public long getSeed() {
+    return this.seed;
+  }
+
+  /**
+   * Creates a new random number generator for the specified subsystem whose seed is derived from the seed of this instance and the name
+   * of the subsystem.
+   * <p>
+   * The returned instance yields the same sequence for the same seed and subsystem name, independent of the thread that requests or uses
+   * it and of the numbers that have been drawn from this instance.
+   * </p>
+   *
+   * @param subsystem
+   *          The name of the subsystem, e.g. "particles".
+   * @return A new random number generator that is independent of this instance.
+   */
+  public GameRandom stream(String subsystem) {
+    return new GameRandom(mix(this.seed + GOLDEN_GAMMA * mix(subsystem.hashCode())));
+  }
+
+  /**
+   * Creates a new random number generator whose seed is drawn from the stream of the calling thread.
+   *
+   * @return A new random number generator that is independent of this instance.
+   */
+  public GameRandom split() {
+    return new GameRandom(this.getStream().random.nextLong());
+  }
+
+  @Override
+  public int nextInt() {
+    return this.getStream().random.nextInt();
+  }
+
+  @Override
+  public int nextInt(int bound) {
+    return this.getStream().random.nextInt(bound);
+  }
+
+  @Override
+  public long nextLong() {
+    return this.getStream().random.nextLong();
+  }
+
+  @Override
+  public double nextDouble() {
+    return this.getStream().random.nextDouble();
+  }
+
+  @Override
+  public float nextFloat() {
+    return (this.getStream().random.nextInt() >>> 8) * 0x1.0p-24f;
+  }
+
+  @Override
+  public boolean nextBoolean() {
+    return this.getStream().random.nextBoolean();
+  }
+
+  @Override
+  public double nextGaussian() {
+    final ThreadStream stream = this.getStream();
+    if (stream.haveNextGaussian) {
+      stream.haveNextGaussian = false;
+      return stream.nextGaussian;
+    }
+
+    // the polar method, as used by java.util.Random
+    double v1;
+    double v2;
+    double s;
+    do {
+      v1 = 2 * stream.random.nextDouble() - 1;
+      v2 = 2 * stream.random.nextDouble() - 1;
+      s = v1 * v1 + v2 * v2;
+    } while (s >= 1 || s == 0);
+
+    final double multiplier = StrictMath.sqrt(-2 * StrictMath.log(s) / s);
+    stream.nextGaussian = v2 * multiplier;
+    stream.haveNextGaussian = true;
+    return v1 * multiplier;
+  }
+
+  @Override
+  protected int next(int bits) {
+    return (int) (this.getStream().random.nextLong() >>> (64 - bits));
+  }
+
   public <T> T[] sample(final T[] array, int amount, boolean replacement) {
     if (!replacement && array.length < amount) {
       throw new IllegalArgumentException(INVALID_AMOUNT_FOR_SAMPLING_WITHOUT_REPLACEMENT);
@@ -792,4 +943,42 @@ public final class GameRandom extends java.util.Random {
     return new Color(red, green, blue, alpha);
 
   }
+
+  private ThreadStream getStream() {
+    ThreadStream stream = this.streams.get();
+    final int currentGeneration = this.generation;
+    if (stream == null || stream.generation != currentGeneration) {
+      stream = new ThreadStream(this.getThreadSeed(Thread.currentThread()), currentGeneration);
+      this.streams.set(stream);
+    }
+
+    return stream;
+  }
+
+  private long getThreadSeed(Thread thread) {
+    if (!this.perThreadStreams || thread == this.owner) {
+      return this.seed;
+    }
+
+    return mix(this.seed ^ mix(thread.getName().hashCode()));
+  }
+
+  private static long mix(long value) {
+    long z = value + GOLDEN_GAMMA;
+    z = (z ^ (z >>> 30)) * MIX_MULTIPLIER_1;
+    z = (z ^ (z >>> 27)) * MIX_MULTIPLIER_2;
+    return z ^ (z >>> 31);
+  }
+
+  private static final class ThreadStream {
+    private final SplittableRandom random;
+    private final int generation;
+    private double nextGaussian;
+    private boolean haveNextGaussian;
+
+    private ThreadStream(long seed, int generation) {
+      this.random = new SplittableRandom(seed);
+      this.generation = generation;
+    }
+  }
 }
@@ -19,9 +19,21 @@ import de.gurkenlabs.litiengine.environment.EnvironmentLoadedListener;
  * @see GameLoop#getTickRate()
  */
 public final class GameTime implements EnvironmentLoadedListener {
+  private final IGameLoop loop;
   private long environmentLoaded;
 
   GameTime() {
+    this(null);
+  }
+
+  /**
+   * Initializes a new instance of the {@code GameTime} class that measures the time of the specified loop.
+   *
+   * @param loop
+   *          The loop whose ticks are measured or null to measure the ticks of {@code Game.loop()}.
+   */
+  GameTime(IGameLoop loop) {
+    this.loop = loop;
   }
 
   /**
@@ -32,7 +44,7 @@ public final class GameTime implements EnvironmentLoadedListener {
    * @see GameLoop#getTicks()
    */
   public long now() {
-    return Game.loop().getTicks();
+    return this.loop().getTicks();
   }
 
   /**
@@ -46,7 +58,7 @@ public final class GameTime implements EnvironmentLoadedListener {
    * @see #now()
    */
   public long since(final long tick) {
-    return toMilliseconds(Game.loop().getTicks() - tick);
+    return toMilliseconds(this.loop().getTicks() - tick);
   }
 
   /**
@@ -56,7 +68,7 @@ public final class GameTime implements EnvironmentLoadedListener {
    * @return The time since the game has been started.
    */
   public long sinceGameStart() {
-    return this.toMilliseconds(Game.loop().getTicks());
+    return this.toMilliseconds(this.loop().getTicks());
   }
 
   /**
@@ -76,7 +88,7 @@ public final class GameTime implements EnvironmentLoadedListener {
    * @return The milliseconds that correspond to the specified ticks.
    */
   public long toMilliseconds(final long ticks) {
-    return this.toMilliseconds(ticks, Game.loop().getTickRate());
+    return this.toMilliseconds(ticks, this.loop().getTickRate());
   }
 
   /**
@@ -101,7 +113,7 @@ public final class GameTime implements EnvironmentLoadedListener {
    * @return The ticks that correspond to the specified milliseconds.
    */
   public long toTicks(final int milliseconds) {
-    return this.toTicks(milliseconds, Game.loop().getTickRate());
+    return this.toTicks(milliseconds, this.loop().getTickRate());
   }
 
   /**
@@ -119,6 +131,10 @@ public final class GameTime implements EnvironmentLoadedListener {
 
   @Override
   public void loaded(Environment environment) {
-    environmentLoaded = Game.loop().getTicks();
+    environmentLoaded = this.loop().getTicks();
+  }
+
+  private IGameLoop loop() {
+    return this.loop != null ? this.loop : Game.loop();
   }
-}
\ No newline at end of file
+}
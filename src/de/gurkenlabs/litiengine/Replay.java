@@ -0,0 +1,321 @@
+package de.gurkenlabs.litiengine;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import de.gurkenlabs.litiengine.resources.Resources;
+
+/**
+ * A recorded stream of input and command events, each of which is stamped with the tick of the {@code GameLoop} that it is dispatched in.
+ * <p>
+ * Replays are stored as plain text with one event per line in the format {@code <tick> <type> <arguments>}. Empty lines and lines
+ * starting with {@code #} are ignored:
+ * </p>
+ *
+ * <pre>
+ * # tick type arguments
+ * 12 key_pressed 87
+ * 40 key_released 87
+ * 50 mouse_moved 100 120
+ * 51 mouse_pressed 100 120 1
+ * 52 mouse_released 100 120 1
+ * 60 command spawn enemy 3 4
+ * </pre>
+ *
+ * @see ReplayRecorder
+ * @see ReplayHarness
+ */
+public final class Replay {
+  private static final String COMMENT = "#";
+
+  private final List<Event> events = new ArrayList<>();
+
+  public enum EventType {
+    /** A key was pressed. Arguments: {@code <keyCode>} */
+    KEY_PRESSED,
+    /** A key was released. Arguments: {@code <keyCode>} */
+    KEY_RELEASED,
+    /** The mouse was moved. Arguments: {@code <x> <y>} */
+    MOUSE_MOVED,
+    /** The mouse was dragged. Arguments: {@code <x> <y> <button>} */
+    MOUSE_DRAGGED,
+    /** A mouse button was pressed. Arguments: {@code <x> <y> <button>} */
+    MOUSE_PRESSED,
+    /** A mouse button was released. Arguments: {@code <x> <y> <button>} */
+    MOUSE_RELEASED,
+    /** A command was issued. Arguments: {@code <command>} */
+    COMMAND;
+
+    private String getIdentifier() {
+      return this.name().toLowerCase(Locale.ROOT);
+    }
+
+    private static EventType get(String identifier) {
+      for (EventType type : values()) {
+        if (type.getIdentifier().equalsIgnoreCase(identifier)) {
+          return type;
+        }
+      }
+
+      return null;
+    }
+  }
+
+  /**
+   * Adds the specified event to this replay. Events are kept ordered by their tick; events of the same tick keep the order in which they were added.
+   *
+   * @param event
+   *          The event to add.
+   */
+  public void add(Event event) {
+    int index = this.events.size();
+    while (index > 0 && this.events.get(index - 1).getTick() > event.getTick()) {
+      index--;
+    }
+
+    this.events.add(index, event);
+  }
+
+  public List<Event> getEvents() {
+    return Collections.unmodifiableList(this.events);
+  }
+
+  /**
+   * Gets the tick of the last event in this replay.
+   *
+   * @return The tick of the last event or 0 if this replay doesn't contain any events.
+   */
+  public long getLength() {
+    return this.events.isEmpty() ? 0 : this.events.get(this.events.size() - 1).getTick();
+  }
+
+  /**
+   * Loads the replay from the specified path.
+   *
+   * @param path
+   *          The path of the replay file, which is resolved like any other resource.
+   * @return The loaded replay.
+   * @throws IOException
+   *           If the file could not be read or contains an invalid event.
+   *
+   * @see Resources#get(String)
+   */
+  public static Replay load(String path) throws IOException {
+    try (InputStream stream = Resources.get(path)) {
+      if (stream == null) {
+        throw new IOException("The replay " + path + " could not be found.");
+      }
+
+      return read(new InputStreamReader(stream, StandardCharsets.UTF_8));
+    }
+  }
+
+  /**
+   * Reads a replay from the specified reader.
+   *
+   * @param reader
+   *          The reader that provides the replay in its text format.
+   * @return The read replay.
+   * @throws IOException
+   *           If the reader fails or an invalid event is encountered.
+   */
+  public static Replay read(Reader reader) throws IOException {
+    final Replay replay = new Replay();
+    final BufferedReader lines = new BufferedReader(reader);
+    String line;
+    int lineNumber = 0;
+    while ((line = lines.readLine()) != null) {
+      lineNumber++;
+      line = line.trim();
+      if (line.isEmpty() || line.startsWith(COMMENT)) {
+        continue;
+      }
+
+      try {
+        replay.add(Event.parse(line));
+      } catch (IllegalArgumentException e) {
+        throw new IOException("Invalid replay event in line " + lineNumber + ": " + line, e);
+      }
+    }
+
+    return replay;
+  }
+
+  /**
+   * Writes this replay in its text format.
+   *
+   * @param writer
+   *          The writer to write the replay to.
+   * @throws IOException
+   *           If the writer fails.
+   */
+  public void write(Writer writer) throws IOException {
+    for (Event event : this.events) {
+      writer.write(event.toString());
+      writer.write(System.lineSeparator());
+    }
+
+    writer.flush();
+  }
+
+  /**
+   * Saves this replay to the specified file.
+   *
+   * @param file
+   *          The file to save the replay to.
+   * @throws IOException
+   *           If the file could not be written.
+   */
+  public void save(File file) throws IOException {
+    try (BufferedWriter writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+      this.write(writer);
+    }
+  }
+
+  /**
+   * A single event of a {@code Replay}.
+   */
+  public static final class Event {
+    private final long tick;
+    private final EventType type;
+    private final int x;
+    private final int y;
+    private final int code;
+    private final String command;
+
+    private Event(long tick, EventType type, int x, int y, int code, String command) {
+      if (tick < 0) {
+        throw new IllegalArgumentException("The tick of a replay event must not be negative.");
+      }
+
+      this.tick = tick;
+      this.type = type;
+      this.x = x;
+      this.y = y;
+      this.code = code;
+      this.command = command;
+    }
+
+    public static Event key(long tick, boolean pressed, int keyCode) {
+      return new Event(tick, pressed ? EventType.KEY_PRESSED : EventType.KEY_RELEASED, 0, 0, keyCode, null);
+    }
+
+    public static Event mouseMoved(long tick, int x, int y) {
+      return new Event(tick, EventType.MOUSE_MOVED, x, y, 0, null);
+    }
+
+    public static Event mouse(long tick, EventType type, int x, int y, int button) {
+      if (type != EventType.MOUSE_DRAGGED && type != EventType.MOUSE_PRESSED && type != EventType.MOUSE_RELEASED) {
+        throw new IllegalArgumentException("Unsupported mouse event type " + type);
+      }
+
+      return new Event(tick, type, x, y, button, null);
+    }
+
+    public static Event command(long tick, String command) {
+      if (command == null || command.trim().isEmpty()) {
+        throw new IllegalArgumentException("The command of a replay event must not be empty.");
+      }
+
+      return new Event(tick, EventType.COMMAND, 0, 0, 0, command.trim());
+    }
+
+    /**
+     * Gets the tick in which this event is dispatched. The event is dispatched right before the loop processes the tick.
+     *
+     * @return The tick of this event.
+     */
+    public long getTick() {
+      return this.tick;
+    }
+
+    public EventType getType() {
+      return this.type;
+    }
+
+    public int getX() {
+      return this.x;
+    }
+
+    public int getY() {
+      return this.y;
+    }
+
+    /**
+     * Gets the key code of a key event or the mouse button of a mouse event.
+     *
+     * @return The key code or mouse button of this event.
+     */
+    public int getCode() {
+      return this.code;
+    }
+
+    public String getCommand() {
+      return this.command;
+    }
+
+    @Override
+    public String toString() {
+      final String prefix = this.tick + " " + this.type.getIdentifier() + " ";
+      switch (this.type) {
+      case KEY_PRESSED:
+      case KEY_RELEASED:
+        return prefix + this.code;
+      case MOUSE_MOVED:
+        return prefix + this.x + " " + this.y;
+      case COMMAND:
+        return prefix + this.command;
+      default:
+        return prefix + this.x + " " + this.y + " " + this.code;
+      }
+    }
+
+    private static Event parse(String line) {
+      final String[] parts = line.split("\\s+", 3);
+      if (parts.length < 3) {
+        throw new IllegalArgumentException("Missing event arguments");
+      }
+
+      final long tick = Long.parseLong(parts[0]);
+      final EventType type = EventType.get(parts[1]);
+      if (type == null) {
+        throw new IllegalArgumentException("Unknown event type " + parts[1]);
+      }
+
+      if (type == EventType.COMMAND) {
+        return command(tick, parts[2]);
+      }
+
+      final String[] args = parts[2].split("\\s+");
+      switch (type) {
+      case KEY_PRESSED:
+      case KEY_RELEASED:
+        return key(tick, type == EventType.KEY_PRESSED, Integer.parseInt(args[0]));
+      case MOUSE_MOVED:
+        requireArguments(args, 2);
+        return mouseMoved(tick, Integer.parseInt(args[0]), Integer.parseInt(args[1]));
+      default:
+        requireArguments(args, 3);
+        return mouse(tick, type, Integer.parseInt(args[0]), Integer.parseInt(args[1]), Integer.parseInt(args[2]));
+      }
+    }
+
+    private static void requireArguments(String[] args, int count) {
+      if (args.length < count) {
+        throw new IllegalArgumentException("Expected " + count + " arguments but got " + args.length);
+      }
+    }
+  }
+}
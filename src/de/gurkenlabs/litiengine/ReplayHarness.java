@@ -0,0 +1,383 @@
+package de.gurkenlabs.litiengine;
+
+import java.awt.Component;
+import java.awt.event.InputEvent;
+import java.awt.event.KeyEvent;
+import java.awt.event.MouseEvent;
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import de.gurkenlabs.litiengine.entities.IEntity;
+import de.gurkenlabs.litiengine.environment.Environment;
+import de.gurkenlabs.litiengine.input.Input;
+import de.gurkenlabs.litiengine.input.Keyboard;
+import de.gurkenlabs.litiengine.input.Mouse;
+import de.gurkenlabs.litiengine.util.CommandManager;
+import de.gurkenlabs.litiengine.util.LatencyHistogram;
+import de.gurkenlabs.litiengine.util.TimeUtilities;
+
+/**
+ * Boots the engine without a GUI, loads a map and replays a recorded {@code Replay} on it while processing the ticks of the {@code GameLoop}
+ * as fast as possible.
+ * <p>
+ * The {@code GameRandom} is seeded before the environment is loaded and every tick is processed with the fixed delta time of the configured
+ * tick rate. Hence, two runs with the same map, replay and seed yield the same game state, which can be compared by the
+ * {@link Result#getStateChecksum()}. The harness reports the achieved ticks per second, the allocation rate of the loop and the timings of
+ * the {@code GameMetrics} profiling scopes.
+ * </p>
+ *
+ * <p>
+ * Usage: {@code ReplayHarness <map> <replay> [ticks] [seed]}
+ * </p>
+ *
+ * @see UpdateLoop#step()
+ * @see GameMetrics#getScopes()
+ */
+public final class ReplayHarness {
+  private static final Logger log = Logger.getLogger(ReplayHarness.class.getName());
+  private static final long DEFAULT_SEED = 0;
+
+  private final String map;
+  private final Replay replay;
+
+  private long seed = DEFAULT_SEED;
+  private long ticks;
+  private long warmupTicks;
+  private CommandManager commandManager;
+
+  /**
+   * Initializes a new instance of the {@code ReplayHarness} class.
+   *
+   * @param map
+   *          The name of the map to replay on.
+   * @param replay
+   *          The input and commands to replay.
+   */
+  public ReplayHarness(String map, Replay replay) {
+    this.map = map;
+    this.replay = replay;
+    this.ticks = replay.getLength();
+    this.commandManager = new CommandManager();
+  }
+
+  public static void main(String[] args) throws IOException {
+    if (args.length < 2) {
+      System.out.println("Usage: ReplayHarness <map> <replay> [ticks] [seed]");
+      return;
+    }
+
+    final ReplayHarness harness = new ReplayHarness(args[0], Replay.load(args[1]));
+    if (args.length > 2) {
+      harness.setTicks(Long.parseLong(args[2]));
+    }
+
+    if (args.length > 3) {
+      harness.setSeed(Long.parseLong(args[3]));
+    }
+
+    System.out.println(harness.run());
+    Game.exit();
+  }
+
+  public long getSeed() {
+    return this.seed;
+  }
+
+  public long getTicks() {
+    return this.ticks;
+  }
+
+  public long getWarmupTicks() {
+    return this.warmupTicks;
+  }
+
+  public CommandManager getCommandManager() {
+    return this.commandManager;
+  }
+
+  /**
+   * Sets the seed of the {@code GameRandom} that is applied before the environment is loaded.
+   *
+   * @param seed
+   *          The seed for the game's random number generator.
+   * @return This instance to chain further configuration.
+   */
+  public ReplayHarness setSeed(long seed) {
+    this.seed = seed;
+    return this;
+  }
+
+  /**
+   * Sets the number of measured ticks. By default, the harness runs until the last event of the replay has been dispatched.
+   *
+   * @param ticks
+   *          The number of measured ticks.
+   * @return This instance to chain further configuration.
+   */
+  public ReplayHarness setTicks(long ticks) {
+    this.ticks = Math.max(0, ticks);
+    return this;
+  }
+
+  /**
+   * Sets the number of ticks that are processed after loading the environment but before the replay starts and the measurement begins.
+   *
+   * @param warmupTicks
+   *          The number of unmeasured ticks.
+   * @return This instance to chain further configuration.
+   */
+  public ReplayHarness setWarmupTicks(long warmupTicks) {
+    this.warmupTicks = Math.max(0, warmupTicks);
+    return this;
+  }
+
+  /**
+   * Sets the {@code CommandManager} that executes the commands of the replay.
+   *
+   * @param commandManager
+   *          The command manager with the bound game commands.
+   * @return This instance to chain further configuration.
+   */
+  public ReplayHarness setCommandManager(CommandManager commandManager) {
+    this.commandManager = commandManager;
+    return this;
+  }
+
+  /**
+   * Initializes the game without GUI if necessary, loads the map and replays the events while processing the configured number of ticks.
+   * The replay's ticks are relative to the first measured tick.
+   *
+   * @return The result of the replay.
+   * @throws IllegalStateException
+   *           If the game has already been started because the ticks of a running loop thread cannot be controlled.
+   */
+  public Result run() {
+    if (Game.hasStarted()) {
+      throw new IllegalStateException("The replay harness cannot be used while the game loop is running.");
+    }
+
+    Game.hideGUI(true);
+    Game.init(Game.COMMANDLINE_ARG_NOGUI);
+
+    final UpdateLoop loop = (UpdateLoop) Game.loop();
+    Game.random().setSeed(this.seed);
+    final Environment environment = Game.world().loadEnvironment(this.map);
+    if (environment == null) {
+      throw new IllegalArgumentException("The map " + this.map + " could not be loaded.");
+    }
+
+    for (long i = 0; i < this.warmupTicks; i++) {
+      loop.step();
+    }
+
+    Game.metrics().resetScopes();
+    final Component source = Game.window().getRenderComponent();
+    final List<Replay.Event> events = this.replay.getEvents();
+    final long offset = loop.getTicks();
+    int next = 0;
+
+    final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    final long allocatedStart = getAllocatedBytes(threads);
+    final long[] gcStart = getGarbageCollections();
+    final long start = System.nanoTime();
+
+    for (long i = 0; i < this.ticks; i++) {
+      final long tick = loop.getTicks() + 1 - offset;
+      while (next < events.size() && events.get(next).getTick() <= tick) {
+        this.dispatch(events.get(next++), source);
+      }
+
+      loop.step();
+    }
+
+    final long elapsed = System.nanoTime() - start;
+    final long allocatedEnd = getAllocatedBytes(threads);
+    final long[] gcEnd = getGarbageCollections();
+
+    final long allocated = allocatedStart >= 0 && allocatedEnd >= 0 ? allocatedEnd - allocatedStart : -1;
+    return new Result(this.ticks, elapsed, allocated, gcEnd[0] - gcStart[0], gcEnd[1] - gcStart[1], getStateChecksum(environment),
+        Game.metrics().getScopes());
+  }
+
+  private void dispatch(Replay.Event event, Component source) {
+    switch (event.getType()) {
+    case KEY_PRESSED:
+      ((Keyboard) Input.keyboard()).dispatchKeyEvent(new KeyEvent(source, KeyEvent.KEY_PRESSED, 0, 0, event.getCode(), KeyEvent.CHAR_UNDEFINED));
+      break;
+    case KEY_RELEASED:
+      ((Keyboard) Input.keyboard()).dispatchKeyEvent(new KeyEvent(source, KeyEvent.KEY_RELEASED, 0, 0, event.getCode(), KeyEvent.CHAR_UNDEFINED));
+      break;
+    case MOUSE_MOVED:
+      ((Mouse) Input.mouse()).mouseMoved(createMouseEvent(source, MouseEvent.MOUSE_MOVED, event));
+      break;
+    case MOUSE_DRAGGED:
+      ((Mouse) Input.mouse()).mouseDragged(createMouseEvent(source, MouseEvent.MOUSE_DRAGGED, event));
+      break;
+    case MOUSE_PRESSED:
+      ((Mouse) Input.mouse()).mousePressed(createMouseEvent(source, MouseEvent.MOUSE_PRESSED, event));
+      break;
+    case MOUSE_RELEASED:
+      ((Mouse) Input.mouse()).mouseReleased(createMouseEvent(source, MouseEvent.MOUSE_RELEASED, event));
+      break;
+    case COMMAND:
+      if (this.commandManager == null || !this.commandManager.executeCommand(event.getCommand())) {
+        log.log(Level.WARNING, "Replayed command \"{0}\" could not be executed.", event.getCommand());
+      }
+      break;
+    default:
+      break;
+    }
+  }
+
+  private static MouseEvent createMouseEvent(Component source, int id, Replay.Event event) {
+    final int button = event.getCode();
+    final int modifiers = button > MouseEvent.NOBUTTON && id != MouseEvent.MOUSE_RELEASED ? InputEvent.getMaskForButton(button) : 0;
+    return new MouseEvent(source, id, 0, modifiers, event.getX(), event.getY(), 0, false, id == MouseEvent.MOUSE_DRAGGED ? MouseEvent.NOBUTTON : button);
+  }
+
+  private static long getAllocatedBytes(ThreadMXBean threads) {
+    if (threads instanceof com.sun.management.ThreadMXBean) {
+      final com.sun.management.ThreadMXBean allocations = (com.sun.management.ThreadMXBean) threads;
+      if (allocations.isThreadAllocatedMemorySupported() && allocations.isThreadAllocatedMemoryEnabled()) {
+        return allocations.getThreadAllocatedBytes(Thread.currentThread().getId());
+      }
+    }
+
+    return -1;
+  }
+
+  private static long[] getGarbageCollections() {
+    long count = 0;
+    long time = 0;
+    for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+      count += Math.max(0, collector.getCollectionCount());
+      time += Math.max(0, collector.getCollectionTime());
+    }
+
+    return new long[] { count, time };
+  }
+
+  private static long getStateChecksum(Environment environment) {
+    final List<IEntity> entities = new ArrayList<>(environment.getEntities());
+    entities.sort(Comparator.comparingInt(IEntity::getMapId));
+
+    long checksum = 17;
+    for (IEntity entity : entities) {
+      checksum = 31 * checksum + entity.getMapId();
+      checksum = 31 * checksum + Double.doubleToLongBits(entity.getX());
+      checksum = 31 * checksum + Double.doubleToLongBits(entity.getY());
+    }
+
+    return checksum;
+  }
+
+  /**
+   * The measurements of a replay run.
+   */
+  public static final class Result {
+    private final long ticks;
+    private final long elapsedNanos;
+    private final long allocatedBytes;
+    private final long gcCount;
+    private final long gcMillis;
+    private final long stateChecksum;
+    private final Map<String, LatencyHistogram> scopes;
+
+    private Result(long ticks, long elapsedNanos, long allocatedBytes, long gcCount, long gcMillis, long stateChecksum,
+        Map<String, LatencyHistogram> scopes) {
+      this.ticks = ticks;
+      this.elapsedNanos = elapsedNanos;
+      this.allocatedBytes = allocatedBytes;
+      this.gcCount = gcCount;
+      this.gcMillis = gcMillis;
+      this.stateChecksum = stateChecksum;
+      this.scopes = scopes;
+    }
+
+    public long getTicks() {
+      return this.ticks;
+    }
+
+    public long getElapsedNanos() {
+      return this.elapsedNanos;
+    }
+
+    public double getTicksPerSecond() {
+      return this.elapsedNanos == 0 ? 0 : this.ticks / (this.elapsedNanos / 1e9);
+    }
+
+    /**
+     * Gets the number of bytes that were allocated by the loop while replaying.
+     *
+     * @return The allocated bytes or -1 if the JVM doesn't support measuring thread allocations.
+     */
+    public long getAllocatedBytes() {
+      return this.allocatedBytes;
+    }
+
+    public double getAllocatedBytesPerTick() {
+      return this.allocatedBytes < 0 || this.ticks == 0 ? -1 : this.allocatedBytes / (double) this.ticks;
+    }
+
+    public double getAllocationRate() {
+      return this.allocatedBytes < 0 || this.elapsedNanos == 0 ? -1 : this.allocatedBytes / (this.elapsedNanos / 1e9);
+    }
+
+    public long getGarbageCollections() {
+      return this.gcCount;
+    }
+
+    public long getGarbageCollectionMillis() {
+      return this.gcMillis;
+    }
+
+    /**
+     * Gets a checksum over the map ids and locations of all entities at the end of the replay. Deterministic runs yield the same checksum.
+     *
+     * @return The checksum of the final game state.
+     */
+    public long getStateChecksum() {
+      return this.stateChecksum;
+    }
+
+    /**
+     * Gets the per-subsystem timings that were recorded while replaying.
+     *
+     * @return The profiling scopes by their name.
+     */
+    public Map<String, LatencyHistogram> getScopes() {
+      return this.scopes;
+    }
+
+    @Override
+    public String toString() {
+      final StringBuilder sb = new StringBuilder();
+      sb.append(String.format(Locale.ROOT, "ticks: %d in %.1f ms (%.1f ticks/s)%n", this.ticks, TimeUtilities.nanoToMs(this.elapsedNanos),
+          this.getTicksPerSecond()));
+      if (this.allocatedBytes >= 0) {
+        sb.append(String.format(Locale.ROOT, "allocated: %.1f MB (%.1f KB/tick, %.1f MB/s)%n", this.allocatedBytes / 1048576.0,
+            this.getAllocatedBytesPerTick() / 1024.0, this.getAllocationRate() / 1048576.0));
+      }
+
+      sb.append(String.format(Locale.ROOT, "gc: %d collections in %d ms%n", this.gcCount, this.gcMillis));
+      sb.append(String.format(Locale.ROOT, "checksum: %016x%n", this.stateChecksum));
+      sb.append(String.format(Locale.ROOT, "%-40s %10s %10s %10s %10s%n", "scope", "count", "mean(ms)", "p99(ms)", "total(ms)"));
+      for (Map.Entry<String, LatencyHistogram> scope : this.scopes.entrySet()) {
+        final LatencyHistogram histogram = scope.getValue();
+        sb.append(String.format(Locale.ROOT, "%-40s %10d %10.3f %10.3f %10.1f%n", scope.getKey(), histogram.getCount(),
+            histogram.getMean() / 1e6, histogram.getPercentile(99) / 1e6, histogram.getTotal() / 1e6));
+      }
+
+      return sb.toString();
+    }
+  }
+}
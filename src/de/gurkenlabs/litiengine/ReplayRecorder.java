@@ -0,0 +1,130 @@
+package de.gurkenlabs.litiengine;
+
+import java.awt.Component;
+import java.awt.KeyEventDispatcher;
+import java.awt.KeyboardFocusManager;
+import java.awt.event.KeyEvent;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+
+import javax.swing.SwingUtilities;
+
+/**
+ * Records the keyboard and mouse input of the game window as well as explicitly issued commands into a {@code Replay}.
+ * <p>
+ * Input events arrive between two ticks of the {@code GameLoop} and are therefore stamped with the tick that will process them next. The
+ * mouse location is recorded in the coordinates of the {@code RenderComponent}.
+ * </p>
+ *
+ * @see ReplayHarness
+ */
+public final class ReplayRecorder {
+  private final Replay replay = new Replay();
+  private final KeyEventDispatcher keyRecorder = this::recordKey;
+  private final MouseAdapter mouseRecorder = new MouseRecorder();
+
+  private Component component;
+
+  /**
+   * Starts recording the input of the game window.
+   */
+  public synchronized void start() {
+    if (this.component != null) {
+      return;
+    }
+
+    this.component = Game.window().getRenderComponent();
+    this.component.addMouseListener(this.mouseRecorder);
+    this.component.addMouseMotionListener(this.mouseRecorder);
+    KeyboardFocusManager.getCurrentKeyboardFocusManager().addKeyEventDispatcher(this.keyRecorder);
+  }
+
+  /**
+   * Stops recording the input of the game window.
+   *
+   * @return The recorded replay.
+   */
+  public synchronized Replay stop() {
+    if (this.component != null) {
+      this.component.removeMouseListener(this.mouseRecorder);
+      this.component.removeMouseMotionListener(this.mouseRecorder);
+      KeyboardFocusManager.getCurrentKeyboardFocusManager().removeKeyEventDispatcher(this.keyRecorder);
+      this.component = null;
+    }
+
+    return this.replay;
+  }
+
+  /**
+   * Records the specified command so that it gets issued at the same tick when replaying.
+   *
+   * @param command
+   *          The command to record.
+   */
+  public synchronized void recordCommand(String command) {
+    this.replay.add(Replay.Event.command(getNextTick(), command));
+  }
+
+  public Replay getReplay() {
+    return this.replay;
+  }
+
+  private static long getNextTick() {
+    return Game.loop().getTicks() + 1;
+  }
+
+  private synchronized boolean recordKey(KeyEvent e) {
+    if (e.getID() == KeyEvent.KEY_PRESSED || e.getID() == KeyEvent.KEY_RELEASED) {
+      this.replay.add(Replay.Event.key(getNextTick(), e.getID() == KeyEvent.KEY_PRESSED, e.getKeyCode()));
+    }
+
+    return false;
+  }
+
+  private synchronized void recordMouse(Replay.EventType type, MouseEvent e) {
+    if (type == Replay.EventType.MOUSE_MOVED) {
+      this.replay.add(Replay.Event.mouseMoved(getNextTick(), e.getX(), e.getY()));
+    } else {
+      this.replay.add(Replay.Event.mouse(getNextTick(), type, e.getX(), e.getY(), getButton(e)));
+    }
+  }
+
+  private static int getButton(MouseEvent e) {
+    if (e.getButton() != MouseEvent.NOBUTTON) {
+      return e.getButton();
+    }
+
+    // drag events don't provide the button but only the modifiers
+    if (SwingUtilities.isLeftMouseButton(e)) {
+      return MouseEvent.BUTTON1;
+    } else if (SwingUtilities.isMiddleMouseButton(e)) {
+      return MouseEvent.BUTTON2;
+    } else if (SwingUtilities.isRightMouseButton(e)) {
+      return MouseEvent.BUTTON3;
+    }
+
+    return MouseEvent.NOBUTTON;
+  }
+
+  private class MouseRecorder extends MouseAdapter {
+    @Override
+    public void mouseMoved(MouseEvent e) {
+      recordMouse(Replay.EventType.MOUSE_MOVED, e);
+    }
+
+    @Override
+    public void mouseDragged(MouseEvent e) {
+      recordMouse(Replay.EventType.MOUSE_DRAGGED, e);
+    }
+
+    @Override
+    public void mousePressed(MouseEvent e) {
+      recordMouse(Replay.EventType.MOUSE_PRESSED, e);
+    }
+
+    @Override
+    public void mouseReleased(MouseEvent e) {
+      recordMouse(Replay.EventType.MOUSE_RELEASED, e);
+    }
+  }
+}
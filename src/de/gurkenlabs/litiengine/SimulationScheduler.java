@@ -0,0 +1,170 @@
+package de.gurkenlabs.litiengine;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Processes the ticks of multiple {@code EnvironmentSimulation}s concurrently on a fixed pool of worker threads.
+ * <p>
+ * Every simulation is ticked independently at the tick rate of its own loop. A single tick of a simulation is always processed by one
+ * worker thread, but consecutive ticks might be processed by different workers. If a tick takes longer than the tick rate allows, the
+ * following tick starts late but never concurrently.
+ * </p>
+ *
+ * @see EnvironmentSimulation
+ */
+public final class SimulationScheduler implements ILaunchable, AutoCloseable {
+  private static final Logger log = Logger.getLogger(SimulationScheduler.class.getName());
+
+  private final ScheduledThreadPoolExecutor executor;
+  private final Map<EnvironmentSimulation, ScheduledSimulation> simulations = new ConcurrentHashMap<>();
+
+  private boolean started;
+
+  /**
+   * Initializes a new instance of the {@code SimulationScheduler} class with one worker thread per available processor.
+   */
+  public SimulationScheduler() {
+    this(Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Initializes a new instance of the {@code SimulationScheduler} class.
+   *
+   * @param threads
+   *          The number of worker threads that process the simulations.
+   */
+  public SimulationScheduler(int threads) {
+    final AtomicInteger index = new AtomicInteger();
+    this.executor = new ScheduledThreadPoolExecutor(Math.max(1, threads), r -> {
+      Thread thread = new Thread(r, "Simulation Worker #" + index.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+    this.executor.setRemoveOnCancelPolicy(true);
+  }
+
+  /**
+   * Adds the specified simulation to this scheduler. The environment of the simulation is loaded on one of the worker threads and, if this
+   * scheduler has been started, the simulation is ticked once it has been loaded.
+   *
+   * @param simulation
+   *          The simulation to add.
+   */
+  public synchronized void add(EnvironmentSimulation simulation) {
+    if (simulation == null || this.simulations.containsKey(simulation)) {
+      return;
+    }
+
+    final ScheduledSimulation scheduled = new ScheduledSimulation(simulation);
+    this.simulations.put(simulation, scheduled);
+    this.executor.execute(() -> {
+      try {
+        simulation.load();
+      } catch (RuntimeException e) {
+        log.log(Level.SEVERE, "The simulation could not be loaded: " + e.getMessage(), e);
+        this.simulations.remove(simulation, scheduled);
+        return;
+      }
+
+      this.loaded(scheduled);
+    });
+  }
+
+  /**
+   * Removes the specified simulation from this scheduler. Its ticks are no longer processed and its environment is unloaded.
+   *
+   * @param simulation
+   *          The simulation to remove.
+   */
+  public synchronized void remove(EnvironmentSimulation simulation) {
+    final ScheduledSimulation scheduled = this.simulations.remove(simulation);
+    if (scheduled == null || !scheduled.loaded) {
+      // simulations that are still loading are unloaded once they have been loaded
+      return;
+    }
+
+    if (scheduled.ticks != null) {
+      scheduled.ticks.cancel(false);
+    }
+
+    this.executor.execute(simulation::unload);
+  }
+
+  public Collection<EnvironmentSimulation> getSimulations() {
+    return Collections.unmodifiableSet(this.simulations.keySet());
+  }
+
+  /**
+   * Starts processing the ticks of all added simulations.
+   */
+  @Override
+  public synchronized void start() {
+    if (this.started) {
+      return;
+    }
+
+    this.started = true;
+    for (ScheduledSimulation scheduled : this.simulations.values()) {
+      if (scheduled.loaded) {
+        this.schedule(scheduled);
+      }
+    }
+  }
+
+  /**
+   * Stops processing all simulations and shuts down the worker threads. The environments of the simulations remain loaded.
+   */
+  @Override
+  public synchronized void terminate() {
+    this.started = false;
+    this.executor.shutdownNow();
+  }
+
+  @Override
+  public void close() {
+    this.terminate();
+  }
+
+  private synchronized void loaded(ScheduledSimulation scheduled) {
+    scheduled.loaded = true;
+    if (this.simulations.get(scheduled.simulation) != scheduled) {
+      // the simulation was removed while loading
+      this.executor.execute(scheduled.simulation::unload);
+    } else if (this.started) {
+      this.schedule(scheduled);
+    }
+  }
+
+  private void schedule(ScheduledSimulation scheduled) {
+    final long period = TimeUnit.SECONDS.toNanos(1) / Math.max(1, scheduled.simulation.getLoop().getTickRate());
+    scheduled.ticks = this.executor.scheduleAtFixedRate(() -> tick(scheduled.simulation), 0, period, TimeUnit.NANOSECONDS);
+  }
+
+  private static void tick(EnvironmentSimulation simulation) {
+    try {
+      simulation.step();
+    } catch (RuntimeException e) {
+      // an uncaught exception would suppress all subsequent ticks of the simulation
+      log.log(Level.SEVERE, e.getMessage(), e);
+    }
+  }
+
+  private static final class ScheduledSimulation {
+    private final EnvironmentSimulation simulation;
+    private boolean loaded;
+    private ScheduledFuture<?> ticks;
+
+    private ScheduledSimulation(EnvironmentSimulation simulation) {
+      this.simulation = simulation;
+    }
+  }
+}
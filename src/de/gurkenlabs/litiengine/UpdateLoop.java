@@ -7,6 +7,7 @@ import java.util.concurrent.locks.ReentrantLock;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import de.gurkenlabs.litiengine.jfr.TickEvent;
 import de.gurkenlabs.litiengine.util.TimeUtilities;
 
 /**
@@ -47,20 +48,11 @@ public class UpdateLoop extends Thread implements AutoCloseable, ILoop {
   @Override
   public void run() {
     while (!interrupted()) {
-      ++this.totalTicks;
-
-      final long start = System.nanoTime();
-
-      Lock theLock = this.getLock();
-      theLock.lock();
-      try {
-        this.process();
-      } finally {
-        theLock.unlock();
-      }
+      final TickEvent event = new TickEvent();
+      event.begin();
+      final long processNanos = this.tick();
 
       // delay tick to meet the expected rate
-      this.processTime = TimeUtilities.nanoToMs(System.nanoTime() - start);
       double delay;
       try {
         delay = this.delay();
@@ -68,9 +60,30 @@ public class UpdateLoop extends Thread implements AutoCloseable, ILoop {
         break;
       }
       this.deltaTime = (long) (delay + this.processTime);
+      event.commit(this.getName(), this.totalTicks, processNanos, delay, this.delayError);
     }
   }
 
+  /**
+   * Performs a single tick on the calling thread without delaying it afterwards. This allows to process ticks as fast as possible,
+   * e.g. when replaying recorded input in a headless benchmark.
+   * <p>
+   * The delta time is fixed to the expected delta of the current tick rate so that time-dependent logic behaves exactly as
+   * it would at the requested rate, regardless of how fast the ticks are actually processed.
+   * </p>
+   * 
+   * <p>
+   * <b>This must not be called while the loop thread is running.</b>
+   * </p>
+   */
+  void step() {
+    final TickEvent event = new TickEvent();
+    event.begin();
+    final long processNanos = this.tick();
+    this.deltaTime = this.getExpectedDelta();
+    event.commit(this.getName(), this.totalTicks, processNanos, 0, this.delayError);
+  }
+
   @Override
   public void terminate() {
     this.interrupt();
@@ -138,19 +151,47 @@ public class UpdateLoop extends Thread implements AutoCloseable, ILoop {
     this.update();
   }
 
+  private long tick() {
+    ++this.totalTicks;
+    final long start = System.nanoTime();
+
+    Lock theLock = this.getLock();
+    theLock.lock();
+    try {
+      this.process();
+    } finally {
+      theLock.unlock();
+    }
+
+    final long processNanos = System.nanoTime() - start;
+    this.processTime = TimeUtilities.nanoToMs(processNanos);
+    return processNanos;
+  }
+
   protected long getExpectedDelta() {
     return (long) (1000.0 / this.tickRate);
   }
 
   /**
    * Calls the {@code update()} procedure on all registered instances.
+   * If profiling is enabled, the duration of each update is recorded into the profiling scope of the instance's type.
    * 
    * @see IUpdateable#update()
    */
   protected void update() {
+    final GameMetrics metrics = Game.metrics();
+    final boolean profile = metrics.isProfilingEnabled();
     for (IUpdateable updatable : this.getUpdatables()) {
       try {
-        if (updatable != null) {
+        if (updatable == null) {
+          continue;
+        }
+
+        if (profile) {
+          final long start = System.nanoTime();
+          updatable.update();
+          metrics.getScope(updatable.getClass()).record(System.nanoTime() - start);
+        } else {
           updatable.update();
         }
       } catch (final Exception e) {
@@ -7,6 +7,8 @@ import java.awt.Toolkit;
 
 @ConfigurationGroupInfo(prefix = "gfx_")
 public class GraphicConfiguration extends ConfigurationGroup {
+  private static final int DEFAULT_HEADLESS_WIDTH = 1920;
+  private static final int DEFAULT_HEADLESS_HEIGHT = 1080;
 
   private DisplayMode displayMode;
 
@@ -33,7 +35,9 @@ public class GraphicConfiguration extends ConfigurationGroup {
     this.graphicQuality = Quality.LOW;
     this.displayMode = DisplayMode.WINDOWED;
     this.renderDynamicShadows = false;
-    Dimension d = Toolkit.getDefaultToolkit().getScreenSize();
+    // without a display, there is no screen size to derive the default resolution from
+    Dimension d = GraphicsEnvironment.isHeadless() ? new Dimension(DEFAULT_HEADLESS_WIDTH, DEFAULT_HEADLESS_HEIGHT)
+        : Toolkit.getDefaultToolkit().getScreenSize();
     this.resolutionWidth = d.width;
     this.resolutionHeight = d.height - 100;
     this.setEnableResolutionScale(true);
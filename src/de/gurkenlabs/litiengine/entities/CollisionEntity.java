@@ -196,30 +196,35 @@ public abstract class CollisionEntity extends Entity implements ICollisionEntity
   @Override
   public void setCollision(final boolean collision) {
     this.collision = collision;
+    this.staticCollisionChanged();
   }
 
   @Override
   public void setCollisionBoxAlign(final Align align) {
     this.align = align;
     this.refreshCollisionBox();
+    this.staticCollisionChanged();
   }
 
   @Override
   public void setCollisionBoxHeight(final double collisionBoxHeight) {
     this.collisionBoxHeight = collisionBoxHeight;
     this.refreshCollisionBox();
+    this.staticCollisionChanged();
   }
 
   @Override
   public void setCollisionBoxValign(final Valign valign) {
     this.valign = valign;
     this.refreshCollisionBox();
+    this.staticCollisionChanged();
   }
 
   @Override
   public void setCollisionBoxWidth(final double collisionBoxWidth) {
     this.collisionBoxWidth = collisionBoxWidth;
     this.refreshCollisionBox();
+    this.staticCollisionChanged();
   }
 
   @Override
@@ -287,6 +292,16 @@ public abstract class CollisionEntity extends Entity implements ICollisionEntity
     this.collisionBox = this.getCollisionBox(this.getLocation());
   }
 
+  private void staticCollisionChanged() {
+    if (this.getCollisionType() == Collision.STATIC
+        && this.getEnvironment() != null
+        && this.getEnvironment().isLoaded()) {
+      // re-add the entity to the physics engine which caches the collision boxes of static entities
+      Game.physics().remove(this);
+      Game.physics().add(this);
+    }
+  }
+
   @SuppressWarnings("unused")
   private void afterTmxUnmarshal(IMapObject mapObject) {
     this.refreshCollisionBox();
@@ -0,0 +1,27 @@
+package de.gurkenlabs.litiengine.entities;
+
+import de.gurkenlabs.litiengine.environment.EntityPool;
+
+/**
+ * An entity that takes part in the lifecycle of an {@link EntityPool}, which recycles the entities of a blueprint instead of
+ * loading new ones from copied map objects.
+ *
+ * <p>
+ * Entities that don't implement this interface can be pooled as well, but only their location is reset and dead combat entities
+ * are resurrected when they are spawned again.
+ * </p>
+ */
+public interface IPoolableEntity extends IEntity {
+  /**
+   * Called after the entity was removed from its environment and returned to the pool. This can be used to release resources or
+   * to stop effects, sounds and behaviors of the entity.
+   */
+  default void released() {}
+
+  /**
+   * Called right before a pooled entity is added to the environment again. The entity must restore the state that it had right
+   * after it was loaded from its blueprint (e.g. hit points, velocity, animations or custom game state). The location of the
+   * entity has already been set when this is called.
+   */
+  void reset();
+}
@@ -23,6 +23,7 @@ public class SoundSource extends Entity {
 
   private float volume;
   private int range;
+  private int priority;
 
   private boolean loop;
   private Sound sound;
@@ -166,6 +167,29 @@ public class SoundSource extends Entity {
     this.range = range;
   }
 
+  /**
+   * The priority of the sound playback when there are more audible sounds than real voices.
+   *
+   * @return an {@code int} representing the priority.
+   * @see SFXPlayback#getPriority()
+   */
+  public int getPriority() {
+    return this.priority;
+  }
+
+  /**
+   * Sets the priority of the sound playback when there are more audible sounds than real voices.
+   *
+   * @param priority an {@code int} representing the priority.
+   * @see SFXPlayback#setPriority(int)
+   */
+  public void setPriority(int priority) {
+    this.priority = priority;
+    if (this.playback != null) {
+      this.playback.setPriority(priority);
+    }
+  }
+
   /**
    * Sets the sound by fetching a sound resource with a given name.
    *
@@ -189,6 +213,9 @@ public class SoundSource extends Entity {
    * Starts a new playback in the SoundEngine and saves a reference to it in the SoundSource
    * instance. The playback reference can be called with {@link #getPlayback()}.
    *
+   * <p>While the listener is out of range, the playback is a virtual voice that doesn't hold any
+   * audio resources.
+   *
    * @see SoundEngine#playSound(Sound, IEntity, boolean, int, float)
    * @see SFXPlayback
    */
@@ -196,6 +223,9 @@ public class SoundSource extends Entity {
     this.playback =
         Game.audio()
             .playSound(this.getSound(), this, this.isLoop(), this.getRange(), this.getVolume());
+    if (this.playback != null) {
+      this.playback.setPriority(this.getPriority());
+    }
   }
 
   /**
@@ -2,6 +2,7 @@ package de.gurkenlabs.litiengine.entities.behavior;
 
 import de.gurkenlabs.litiengine.entities.IMobileEntity;
 import de.gurkenlabs.litiengine.environment.tilemap.IMap;
+import de.gurkenlabs.litiengine.jfr.PathfindingEvent;
 import java.awt.Dimension;
 import java.awt.Point;
 import java.awt.geom.GeneralPath;
@@ -74,6 +75,8 @@ public class AStarPathFinder extends PathFinder {
   }
 
   private Path findAStarPath(AStarNode startNode, AStarNode targetNode) {
+    final PathfindingEvent event = new PathfindingEvent();
+    event.begin();
     final List<AStarNode> opened = new ArrayList<>();
     final List<AStarNode> closed = new ArrayList<>();
     opened.add(startNode);
@@ -90,6 +93,7 @@ public class AStarPathFinder extends PathFinder {
       // when the currentNode reaches the targetNode, we've found the path
       if (currentNode.equals(targetNode)) {
         Path path = retracePath(startNode, targetNode);
+        event.commit(closed.size(), true);
         clear(opened);
         clear(closed);
         return path;
@@ -98,6 +102,7 @@ public class AStarPathFinder extends PathFinder {
       this.updateAndOpenNeighborNodes(currentNode, targetNode, opened, closed);
     }
 
+    event.commit(closed.size(), false);
     clear(opened);
     clear(closed);
     return null;
@@ -1,15 +1,31 @@
 package de.gurkenlabs.litiengine.entities.behavior;
 
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Predicate;
 
 public abstract class State {
+  private static final Transition[] NO_TRANSITIONS = new Transition[0];
+
   private final String name;
 
-  private final List<Transition> transitions;
+  private final TransitionList transitions;
+
+  // the transitions sorted by their priority, rebuilt after the transitions or priorities changed
+  private volatile Transition[] transitionTable = NO_TRANSITIONS;
+  private volatile boolean transitionTableValid = true;
+  private int transitionTableVersion = Transition.getPriorityVersion();
+
+  private long evaluations;
+  private long skippedEvaluations;
 
   protected State(final String name) {
-    this.transitions = new CopyOnWriteArrayList<>();
+    this.transitions = new TransitionList();
     this.name = name;
   }
 
@@ -29,5 +45,142 @@ public abstract class State {
     return this.transitions;
   }
 
+  /**
+   * Gets the number of times that the conditions of a transition of this state have been
+   * evaluated.
+   *
+   * @return The number of evaluated transition conditions.
+   */
+  public long getEvaluations() {
+    return this.evaluations;
+  }
+
+  /**
+   * Gets the number of times that an event-driven {@code StateMachine} skipped the evaluation of a
+   * transition of this state because the transition hasn't been signaled.
+   *
+   * @return The number of skipped transition evaluations.
+   */
+  public long getSkippedEvaluations() {
+    return this.skippedEvaluations;
+  }
+
+  /** Resets the evaluation counters of this state. */
+  public void resetEvaluations() {
+    this.evaluations = 0;
+    this.skippedEvaluations = 0;
+  }
+
   protected abstract void perform();
+
+  void addEvaluations(final int evaluated, final int skipped) {
+    this.evaluations += evaluated;
+    this.skippedEvaluations += skipped;
+  }
+
+  /**
+   * Gets the transitions of this state, sorted by their priority. The table is only sorted again
+   * after the transitions of this state or the priority of any transition changed.
+   *
+   * @return The sorted transitions; the returned array must not be modified.
+   */
+  Transition[] getTransitionTable() {
+    final int version = Transition.getPriorityVersion();
+    if (!this.transitionTableValid || this.transitionTableVersion != version) {
+      this.transitionTableValid = true;
+      this.transitionTableVersion = version;
+      final Transition[] table = this.transitions.delegate.toArray(NO_TRANSITIONS);
+      Arrays.sort(table);
+      this.transitionTable = table;
+    }
+
+    return this.transitionTable;
+  }
+
+  private void invalidateTransitionTable() {
+    this.transitionTableValid = false;
+  }
+
+  /**
+   * The list of transitions that keeps track of its modifications so that the transition table is
+   * only rebuilt when necessary.
+   */
+  private final class TransitionList extends AbstractList<Transition> {
+    private final List<Transition> delegate = new CopyOnWriteArrayList<>();
+
+    @Override
+    public Transition get(final int index) {
+      return this.delegate.get(index);
+    }
+
+    @Override
+    public int size() {
+      return this.delegate.size();
+    }
+
+    @Override
+    public Iterator<Transition> iterator() {
+      return this.delegate.iterator();
+    }
+
+    @Override
+    public Transition set(final int index, final Transition element) {
+      final Transition previous = this.delegate.set(index, element);
+      invalidateTransitionTable();
+      return previous;
+    }
+
+    @Override
+    public void add(final int index, final Transition element) {
+      this.delegate.add(index, element);
+      invalidateTransitionTable();
+    }
+
+    @Override
+    public Transition remove(final int index) {
+      final Transition removed = this.delegate.remove(index);
+      invalidateTransitionTable();
+      return removed;
+    }
+
+    @Override
+    public boolean remove(final Object o) {
+      final boolean changed = this.delegate.remove(o);
+      invalidateTransitionTable();
+      return changed;
+    }
+
+    @Override
+    public boolean removeAll(final Collection<?> c) {
+      final boolean changed = this.delegate.removeAll(c);
+      invalidateTransitionTable();
+      return changed;
+    }
+
+    @Override
+    public boolean retainAll(final Collection<?> c) {
+      final boolean changed = this.delegate.retainAll(c);
+      invalidateTransitionTable();
+      return changed;
+    }
+
+    @Override
+    public boolean removeIf(final Predicate<? super Transition> filter) {
+      final boolean changed = this.delegate.removeIf(filter);
+      invalidateTransitionTable();
+      return changed;
+    }
+
+    @Override
+    public void sort(final Comparator<? super Transition> c) {
+      this.delegate.sort(c);
+      invalidateTransitionTable();
+    }
+
+    @Override
+    public void clear() {
+      this.delegate.clear();
+      invalidateTransitionTable();
+    }
+  }
 }
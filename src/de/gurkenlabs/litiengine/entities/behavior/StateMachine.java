@@ -1,11 +1,11 @@
 package de.gurkenlabs.litiengine.entities.behavior;
 
 import de.gurkenlabs.litiengine.IUpdateable;
-import java.util.Collections;
-import java.util.List;
 
 public class StateMachine implements IUpdateable {
   private State currentState;
+  private boolean eventDriven;
+  private boolean stateEntered;
 
   protected StateMachine() {}
 
@@ -20,6 +20,33 @@ public class StateMachine implements IUpdateable {
 
     this.currentState = newState;
     this.currentState.enter();
+    this.stateEntered = true;
+  }
+
+  /**
+   * Determines whether this state machine only evaluates the transitions that have been signaled.
+   *
+   * @return True if this state machine is event-driven; otherwise false.
+   */
+  public boolean isEventDriven() {
+    return this.eventDriven;
+  }
+
+  /**
+   * Sets whether this state machine only evaluates the transitions that have been signaled since
+   * its last update, instead of evaluating all transitions of the current state with every update.
+   *
+   * <p>The transitions of a state are always evaluated once after the state has been entered.
+   * Transitions that don't subscribe to the events that can change their conditions are evaluated
+   * with every update.
+   *
+   * @param eventDriven True if this state machine should be event-driven.
+   * @see Transition#subscribe()
+   * @see Transition#signal()
+   */
+  public void setEventDriven(final boolean eventDriven) {
+    this.eventDriven = eventDriven;
+    this.stateEntered = true;
   }
 
   @Override
@@ -29,16 +56,35 @@ public class StateMachine implements IUpdateable {
     }
 
     this.currentState.perform();
-    final List<Transition> transitions = this.currentState.getTransitions();
-    Collections.sort(transitions);
 
+    final State state = this.currentState;
+    final Transition[] transitions = state.getTransitionTable();
+    final boolean evaluateAll = !this.eventDriven || this.stateEntered;
+    this.stateEntered = false;
+
+    int evaluated = 0;
+    int skipped = 0;
+    Transition next = null;
     for (final Transition transition : transitions) {
+      // consume the signal even if the transition is evaluated anyway
+      if (this.eventDriven && !transition.consumeSignal() && !evaluateAll) {
+        skipped++;
+        continue;
+      }
+
+      evaluated++;
       if (transition.conditionsFullfilled()) {
-        this.currentState.exit();
-        this.currentState = transition.getNextState();
-        this.currentState.enter();
-        return;
+        next = transition;
+        break;
       }
     }
+
+    state.addEvaluations(evaluated, skipped);
+    if (next != null) {
+      state.exit();
+      this.currentState = next.getNextState();
+      this.currentState.enter();
+      this.stateEntered = true;
+    }
   }
 }
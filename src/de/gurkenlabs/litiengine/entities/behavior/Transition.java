@@ -1,9 +1,19 @@
 package de.gurkenlabs.litiengine.entities.behavior;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 public abstract class Transition implements Comparable<Transition> {
-  private final int priority;
+  // incremented whenever the priority of any transition changes, which invalidates the sorted
+  // transition tables of all states
+  private static final AtomicInteger priorityVersion = new AtomicInteger();
+
+  private volatile int priority;
   private State state;
 
+  private volatile boolean signaled;
+  private boolean subscribed;
+  private boolean eventDriven;
+
   protected Transition(final int priority) {
     this.priority = priority;
   }
@@ -26,5 +36,73 @@ public abstract class Transition implements Comparable<Transition> {
     return this.priority;
   }
 
+  /**
+   * Sets the priority of this transition. The transitions of a state are evaluated in the order of
+   * their priority.
+   *
+   * @param priority The new priority.
+   */
+  public void setPriority(final int priority) {
+    if (this.priority == priority) {
+      return;
+    }
+
+    this.priority = priority;
+    priorityVersion.incrementAndGet();
+  }
+
+  /**
+   * Signals that the conditions of this transition might have changed. An event-driven {@code
+   * StateMachine} evaluates this transition with its next update.
+   *
+   * @see StateMachine#setEventDriven(boolean)
+   */
+  public void signal() {
+    this.signaled = true;
+  }
+
   protected abstract boolean conditionsFullfilled();
+
+  /**
+   * Subscribes this transition to the events that can change its conditions. Implementations
+   * register listeners that call {@link #signal()} and return true. Transitions that can't
+   * subscribe to such events return false and are evaluated with every update, even by an
+   * event-driven {@code StateMachine}.
+   *
+   * <p>This method is called once, when the transition is first evaluated by an event-driven
+   * {@code StateMachine}.
+   *
+   * @return True if the transition signals changes of its conditions; otherwise false.
+   */
+  protected boolean subscribe() {
+    return false;
+  }
+
+  static int getPriorityVersion() {
+    return priorityVersion.get();
+  }
+
+  /**
+   * Determines whether an event-driven state machine needs to evaluate the conditions of this
+   * transition and consumes the pending signal.
+   *
+   * @return True if the transition has been signaled or doesn't subscribe to events.
+   */
+  boolean consumeSignal() {
+    if (!this.subscribed) {
+      this.subscribed = true;
+      this.eventDriven = this.subscribe();
+    }
+
+    if (!this.eventDriven) {
+      return true;
+    }
+
+    if (!this.signaled) {
+      return false;
+    }
+
+    this.signaled = false;
+    return true;
+  }
 }
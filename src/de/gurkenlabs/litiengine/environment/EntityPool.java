@@ -0,0 +1,335 @@
+package de.gurkenlabs.litiengine.environment;
+
+import java.awt.geom.Point2D;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import de.gurkenlabs.litiengine.entities.ICombatEntity;
+import de.gurkenlabs.litiengine.entities.IEntity;
+import de.gurkenlabs.litiengine.entities.IPoolableEntity;
+import de.gurkenlabs.litiengine.environment.tilemap.IMapObject;
+import de.gurkenlabs.litiengine.environment.tilemap.IMapObjectLayer;
+import de.gurkenlabs.litiengine.environment.tilemap.xml.Blueprint;
+
+/**
+ * Recycles the entities that are spawned from {@link Blueprint}s on an {@code Environment}, e.g. projectiles, pickups or effects that
+ * are spawned and removed at a high rate.
+ * <p>
+ * The first time an instance of a blueprint is spawned, its entities are built like by {@link Environment#build(Blueprint, Point2D)}.
+ * Once they are {@link #release(IEntity) released}, they are removed from the environment and kept in the pool. Spawning the blueprint
+ * again re-adds the pooled entities at the new location, which skips copying the blueprint's map objects, the map object loaders
+ * including the reflective binding of custom properties and the construction of new entities.
+ * </p>
+ * <p>
+ * Pooled entities are reset by moving them to the new location, resurrecting dead combat entities and calling
+ * {@link IPoolableEntity#reset()} on entities that implement the interface.
+ * </p>
+ * <p>
+ * If an entity of a spawned instance is removed from the environment without being released, the pool stops tracking the instance and
+ * its entities are never recycled.
+ * </p>
+ *
+ * @see Environment#getEntityPool()
+ */
+public final class EntityPool {
+  /**
+   * The default number of released blueprint instances that are kept per blueprint.
+   */
+  public static final int DEFAULT_CAPACITY = 256;
+
+  private final Environment environment;
+  private final Map<Blueprint, Pool> pools = new IdentityHashMap<>();
+  private final Map<IEntity, Instance> instances = new IdentityHashMap<>();
+
+  private int capacity = DEFAULT_CAPACITY;
+
+  EntityPool(Environment environment) {
+    this.environment = environment;
+    this.environment.addEntityListener(new EnvironmentEntityListener() {
+      @Override
+      public void entityRemoved(IEntity entity) {
+        EntityPool.this.removed(entity);
+      }
+    });
+  }
+
+  /**
+   * Adds the entities of the specified blueprint to the environment at the defined location, recycling a released instance of the
+   * blueprint if possible.
+   *
+   * @param blueprint
+   *          The blueprint, defining the map objects to load the entities from.
+   * @param location
+   *          The location at which to spawn the entities.
+   * @return A collection with all added entities.
+   *
+   * @see Environment#build(Blueprint, Point2D)
+   */
+  public synchronized Collection<IEntity> spawn(Blueprint blueprint, Point2D location) {
+    final Pool pool = this.pools.computeIfAbsent(blueprint, b -> new Pool());
+
+    // blueprints are built at rounded locations
+    final int x = Math.round((float) location.getX());
+    final int y = Math.round((float) location.getY());
+
+    Instance instance = pool.released.poll();
+    if (instance == null) {
+      pool.misses++;
+      instance = this.build(blueprint, x, y);
+    } else {
+      pool.hits++;
+      instance.spawn(this.environment, x, y);
+    }
+
+    instance.active = true;
+    return instance.getEntities();
+  }
+
+  /**
+   * Adds the entities of the specified blueprint to the environment at the defined location, recycling a released instance of the
+   * blueprint if possible.
+   *
+   * @param blueprint
+   *          The blueprint, defining the map objects to load the entities from.
+   * @param x
+   *          The x-coordinate of the location at which to spawn the entities.
+   * @param y
+   *          The y-coordinate of the location at which to spawn the entities.
+   * @return A collection with all added entities.
+   */
+  public Collection<IEntity> spawn(Blueprint blueprint, double x, double y) {
+    return this.spawn(blueprint, new Point2D.Double(x, y));
+  }
+
+  /**
+   * Removes the specified entity from the environment and returns it to the pool. Since the entities that were built from the same
+   * blueprint instance are pooled together, this also removes and releases all other entities of this instance.
+   * <p>
+   * Entities that were not spawned by this pool are just removed from the environment.
+   * </p>
+   *
+   * @param entity
+   *          The entity to release.
+   */
+  public synchronized void release(IEntity entity) {
+    final Instance instance = this.instances.get(entity);
+    if (instance == null) {
+      this.environment.remove(entity);
+      return;
+    }
+
+    if (!instance.active) {
+      return;
+    }
+
+    instance.active = false;
+    for (Member member : instance.members) {
+      this.environment.remove(member.entity);
+      if (member.entity instanceof IPoolableEntity) {
+        ((IPoolableEntity) member.entity).released();
+      }
+    }
+
+    final Pool pool = this.pools.get(instance.blueprint);
+    if (pool.released.size() < this.capacity) {
+      pool.released.push(instance);
+    } else {
+      pool.discarded++;
+      for (Member member : instance.members) {
+        this.instances.remove(member.entity);
+      }
+    }
+  }
+
+  /**
+   * Determines whether the specified entity was spawned by this pool.
+   *
+   * @param entity
+   *          The entity to check.
+   * @return True if the entity is managed by this pool; otherwise false.
+   */
+  public synchronized boolean isPooled(IEntity entity) {
+    return this.instances.containsKey(entity);
+  }
+
+  /**
+   * Gets the maximum number of released instances that are kept per blueprint. Instances that are released while the pool of
+   * their blueprint is full are discarded.
+   *
+   * @return The capacity per blueprint.
+   */
+  public int getCapacity() {
+    return this.capacity;
+  }
+
+  public synchronized void setCapacity(int capacity) {
+    this.capacity = Math.max(0, capacity);
+  }
+
+  /**
+   * Gets the number of released instances of the specified blueprint that are available for reuse.
+   *
+   * @param blueprint
+   *          The blueprint.
+   * @return The number of pooled instances.
+   */
+  public synchronized int getAvailable(Blueprint blueprint) {
+    final Pool pool = this.pools.get(blueprint);
+    return pool != null ? pool.released.size() : 0;
+  }
+
+  public synchronized long getHits() {
+    return this.pools.values().stream().mapToLong(p -> p.hits).sum();
+  }
+
+  public synchronized long getHits(Blueprint blueprint) {
+    final Pool pool = this.pools.get(blueprint);
+    return pool != null ? pool.hits : 0;
+  }
+
+  public synchronized long getMisses() {
+    return this.pools.values().stream().mapToLong(p -> p.misses).sum();
+  }
+
+  public synchronized long getMisses(Blueprint blueprint) {
+    final Pool pool = this.pools.get(blueprint);
+    return pool != null ? pool.misses : 0;
+  }
+
+  /**
+   * Gets the number of instances that were discarded because the pool of their blueprint was full when they were released.
+   *
+   * @return The number of discarded instances.
+   */
+  public synchronized long getDiscarded() {
+    return this.pools.values().stream().mapToLong(p -> p.discarded).sum();
+  }
+
+  /**
+   * Gets the ratio of spawns that could be served by recycling a released instance.
+   *
+   * @return The hit rate in the range [0, 1] or 0 if nothing has been spawned yet.
+   */
+  public synchronized double getHitRate() {
+    return hitRate(this.getHits(), this.getMisses());
+  }
+
+  /**
+   * Gets the ratio of spawns of the specified blueprint that could be served by recycling a released instance.
+   *
+   * @param blueprint
+   *          The blueprint.
+   * @return The hit rate in the range [0, 1] or 0 if the blueprint hasn't been spawned yet.
+   */
+  public synchronized double getHitRate(Blueprint blueprint) {
+    return hitRate(this.getHits(blueprint), this.getMisses(blueprint));
+  }
+
+  /**
+   * Discards all pooled instances and resets the metrics of this pool. Entities that are currently spawned remain in the environment
+   * but will no longer be recycled.
+   */
+  public synchronized void clear() {
+    this.pools.clear();
+    this.instances.clear();
+  }
+
+  private synchronized void removed(IEntity entity) {
+    // released instances are inactive, so only entities that are removed without being released are handled here
+    final Instance instance = this.instances.get(entity);
+    if (instance == null || !instance.active) {
+      return;
+    }
+
+    instance.active = false;
+    for (Member member : instance.members) {
+      this.instances.remove(member.entity);
+    }
+  }
+
+  private Instance build(Blueprint blueprint, int x, int y) {
+    final Instance instance = new Instance(blueprint);
+    for (IMapObject mapObject : blueprint.build(x, y, this.environment.getNextMapId())) {
+      for (IEntity entity : this.environment.load(mapObject)) {
+        if (entity != null) {
+          instance.members.add(new Member(entity, entity.getX() - x, entity.getY() - y, mapObject.getLayer()));
+          this.instances.put(entity, instance);
+        }
+      }
+    }
+
+    return instance;
+  }
+
+  private static double hitRate(long hits, long misses) {
+    final long total = hits + misses;
+    return total == 0 ? 0 : hits / (double) total;
+  }
+
+  private static final class Pool {
+    private final Deque<Instance> released = new ArrayDeque<>();
+    private long hits;
+    private long misses;
+    private long discarded;
+  }
+
+  private static final class Instance {
+    private final Blueprint blueprint;
+    private final List<Member> members = new ArrayList<>();
+    private Collection<IEntity> entities;
+    private boolean active;
+
+    private Instance(Blueprint blueprint) {
+      this.blueprint = blueprint;
+    }
+
+    private void spawn(Environment environment, int x, int y) {
+      for (Member member : this.members) {
+        final IEntity entity = member.entity;
+        entity.setLocation(x + member.offsetX, y + member.offsetY);
+        if (entity instanceof ICombatEntity && ((ICombatEntity) entity).isDead()) {
+          ((ICombatEntity) entity).resurrect();
+        }
+
+        if (entity instanceof IPoolableEntity) {
+          ((IPoolableEntity) entity).reset();
+        }
+
+        environment.add(entity, member.layer);
+      }
+    }
+
+    private Collection<IEntity> getEntities() {
+      if (this.entities == null) {
+        final List<IEntity> list = new ArrayList<>(this.members.size());
+        for (Member member : this.members) {
+          list.add(member.entity);
+        }
+
+        this.entities = Collections.unmodifiableList(list);
+      }
+
+      return this.entities;
+    }
+  }
+
+  private static final class Member {
+    private final IEntity entity;
+    private final double offsetX;
+    private final double offsetY;
+    private final IMapObjectLayer layer;
+
+    private Member(IEntity entity, double offsetX, double offsetY, IMapObjectLayer layer) {
+      this.entity = entity;
+      this.offsetX = offsetX;
+      this.offsetY = offsetY;
+      this.layer = layer;
+    }
+  }
+}
@@ -17,10 +17,13 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.BiConsumer;
+import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
 import java.util.function.Predicate;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -64,6 +67,8 @@ import de.gurkenlabs.litiengine.graphics.RenderType;
 import de.gurkenlabs.litiengine.graphics.StaticShadowLayer;
 import de.gurkenlabs.litiengine.graphics.StaticShadowType;
 import de.gurkenlabs.litiengine.graphics.emitters.Emitter;
+import de.gurkenlabs.litiengine.jfr.EnvironmentLoadEvent;
+import de.gurkenlabs.litiengine.jfr.MapObjectLoadEvent;
 import de.gurkenlabs.litiengine.physics.GravityForce;
 import de.gurkenlabs.litiengine.physics.IMovementController;
 import de.gurkenlabs.litiengine.resources.Resources;
@@ -101,10 +106,13 @@ public final class Environment implements IRenderable {
   private final Collection<MapArea> mapAreas = ConcurrentHashMap.newKeySet();
   private final Collection<Trigger> triggers = ConcurrentHashMap.newKeySet();
 
+  private final EntityPool entityPool = new EntityPool(this);
+
   private AmbientLight ambientLight;
   private StaticShadowLayer staticShadowLayer;
   private boolean loaded;
   private boolean initialized;
+  private boolean lightingPrepared;
   private IMap map;
 
   private int gravity;
@@ -131,10 +139,26 @@ public final class Environment implements IRenderable {
    *          The map that defines this environment.
    */
   public Environment(final IMap map) {
+    this(map, true);
+  }
+
+  /**
+   * Instantiates a new {@code Environment} for the specified map.
+   *
+   * @param map
+   *          The map that defines this environment.
+   * @param applyPhysicsBounds
+   *          False if the environment is created in the background and must not change the bounds of the physics engine that
+   *          is used by the current environment.
+   */
+  Environment(final IMap map, final boolean applyPhysicsBounds) {
     this();
     this.map = map;
     if (this.getMap() != null) {
-      Game.physics().setBounds(this.getMap().getBounds());
+      if (applyPhysicsBounds) {
+        Game.physics().setBounds(this.getMap().getBounds());
+      }
+
       this.setGravity(this.getMap().getIntValue(MapProperty.GRAVITY));
     }
   }
@@ -328,6 +352,25 @@ public final class Environment implements IRenderable {
     this.fireEntityEvent(l -> l.entityAdded(entity));
   }
 
+  /**
+   * Adds the specified entity to the environment container and binds it to the specified layer if it is rendered with its layer.
+   * 
+   * @param entity
+   *          The entity to add to the environment.
+   * @param layer
+   *          The layer of the map object from which the entity was loaded; may be null.
+   */
+  void add(IEntity entity, IMapObjectLayer layer) {
+    // only add the entity to be rendered with it's layer if its RenderType equals the layer's RenderType
+    if (layer != null && entity.renderWithLayer()) {
+      this.addEntity(entity);
+      this.layerEntities.computeIfAbsent(layer, m -> new CopyOnWriteArrayList<>()).add(entity);
+      this.fireEntityEvent(l -> l.entityAdded(entity));
+    } else {
+      this.add(entity);
+    }
+  }
+
   /**
    * Adds all the specified entities to the environment container.
    * 
@@ -448,6 +491,8 @@ public final class Environment implements IRenderable {
    *          The location at which to spawn the entities.
    * 
    * @return A collection with all added entities.
+   * 
+   * @see #getEntityPool()
    */
   public Collection<IEntity> build(Blueprint blueprint, Point2D location) {
     Collection<IMapObject> mapObjects = blueprint.build(location);
@@ -459,11 +504,24 @@ public final class Environment implements IRenderable {
     return loadedEntities;
   }
 
+  /**
+   * Gets the pool that recycles the entities of blueprints that are spawned on this environment.
+   * 
+   * @return The entity pool of this environment.
+   * 
+   * @see EntityPool#spawn(Blueprint, Point2D)
+   * @see EntityPool#release(IEntity)
+   */
+  public EntityPool getEntityPool() {
+    return this.entityPool;
+  }
+
   /**
    * Clears all loaded entities and renderable instances from this environment.
    */
   public void clear() {
     Game.physics().clear();
+    this.entityPool.clear();
 
     this.combatEntities.clear();
     this.mobileEntities.clear();
@@ -1926,16 +1984,51 @@ public final class Environment implements IRenderable {
    * @see EnvironmentListener#initialized(Environment)
    */
   public final void init() {
+    this.init(p -> {
+    }, () -> false);
+  }
+
+  /**
+   * Initializes all entities and lighting layers of this environment while reporting the progress and checking for cancellation in
+   * between the individual map objects. This allows the initialization to be performed on a background thread.
+   * 
+   * @param progress
+   *          Receives the progress of the initialization in the range [0, 1].
+   * @param cancelled
+   *          Determines whether the initialization should be stopped.
+   * 
+   * @throws CancellationException
+   *           If the initialization was cancelled.
+   */
+  final void init(DoubleConsumer progress, BooleanSupplier cancelled) {
     if (this.initialized) {
       return;
     }
 
     if (this.getMap() != null) {
-      this.loadMapObjects();
+      EnvironmentLoadEvent event = new EnvironmentLoadEvent();
+      event.begin();
+      this.loadMapObjects(p -> progress.accept(p * 0.8), cancelled);
+      event.commit(this.getMap().getName(), EnvironmentLoadEvent.PHASE_MAP_OBJECTS);
+      checkCancelled(cancelled);
+
+      event = new EnvironmentLoadEvent();
+      event.begin();
       this.addStaticShadows();
+      event.commit(this.getMap().getName(), EnvironmentLoadEvent.PHASE_STATIC_SHADOWS);
+      progress.accept(0.9);
+      checkCancelled(cancelled);
+
+      event = new EnvironmentLoadEvent();
+      event.begin();
       this.addAmbientLight();
+      event.commit(this.getMap().getName(), EnvironmentLoadEvent.PHASE_AMBIENT_LIGHT);
+
+      // the lighting layers are rendered upon creation and don't need to be updated when this environment is loaded
+      this.lightingPrepared = true;
     }
 
+    progress.accept(1);
     this.fireEvent(l -> l.initialized(this));
     this.initialized = true;
   }
@@ -1969,8 +2062,28 @@ public final class Environment implements IRenderable {
       Game.physics().setBounds(new Rectangle2D.Double(0, 0, this.getMap().getSizeInPixels().getWidth(), this.getMap().getSizeInPixels().getHeight()));
     }
 
+    final String mapName = this.getMap() != null ? this.getMap().getName() : null;
+    EnvironmentLoadEvent event = new EnvironmentLoadEvent();
+    event.begin();
     this.allEntities.values().stream().forEach(this::load);
-    this.updateLighting();
+    event.commit(mapName, EnvironmentLoadEvent.PHASE_ENTITIES);
+
+    if (this.getMap() != null) {
+      // rasterize the static collision boxes, e.g. for the walkability checks of path finding
+      event = new EnvironmentLoadEvent();
+      event.begin();
+      Game.physics().compileStaticCollisionMap(Math.max(1, Math.min(this.getMap().getTileWidth(), this.getMap().getTileHeight())));
+      event.commit(mapName, EnvironmentLoadEvent.PHASE_STATIC_COLLISION);
+    }
+
+    if (!this.lightingPrepared) {
+      event = new EnvironmentLoadEvent();
+      event.begin();
+      this.updateLighting();
+      event.commit(mapName, EnvironmentLoadEvent.PHASE_LIGHTING);
+    }
+
+    this.lightingPrepared = false;
     this.loaded = true;
     this.fireEvent(l -> l.loaded(this));
   }
@@ -2033,20 +2146,15 @@ public final class Environment implements IRenderable {
     }
 
     if (loader != null) {
+      final MapObjectLoadEvent event = new MapObjectLoadEvent();
+      event.begin();
       Collection<IEntity> loadedEntities;
       loadedEntities = loader.load(this, mapObject);
       loader.afterLoad(loadedEntities, mapObject);
+      event.commit(loader.getMapObjectType(), mapObject.getId(), loadedEntities.size());
       for (IEntity entity : loadedEntities) {
         if (entity != null) {
-
-          // only add the entity to be rendered with it's layer if its RenderType equals the layer's RenderType
-          if (mapObject.getLayer() != null && entity.renderWithLayer()) {
-            this.addEntity(entity);
-            this.layerEntities.computeIfAbsent(mapObject.getLayer(), m -> new CopyOnWriteArrayList<>()).add(entity);
-            this.fireEntityEvent(l -> l.entityAdded(entity));
-          } else {
-            this.add(entity);
-          }
+          this.add(entity, mapObject.getLayer());
         }
       }
 
@@ -2391,6 +2499,7 @@ public final class Environment implements IRenderable {
     }
 
     this.loaded = false;
+    this.lightingPrepared = false;
     this.fireEvent(l -> l.unloaded(this));
   }
 
@@ -2470,8 +2579,13 @@ public final class Environment implements IRenderable {
     // 4. fire event
     this.fireRenderEvent(g, renderType);
 
+    final long renderEnd = System.nanoTime();
+    if (Game.metrics().isProfilingEnabled()) {
+      Game.metrics().getScope(renderType).record(renderEnd - renderStart);
+    }
+
     if (Game.config().debug().trackRenderTimes()) {
-      final double renderTime = TimeUtilities.nanoToMs(System.nanoTime() - renderStart);
+      final double renderTime = TimeUtilities.nanoToMs(renderEnd - renderStart);
       Game.metrics().trackRenderTime(renderType.toString().toLowerCase(), renderTime,
           new GameMetrics.RenderInfo("layers", this.getMap().getRenderLayers().stream().filter(m -> m.getRenderType() == renderType).count()),
           new GameMetrics.RenderInfo("renderables", this.getRenderables(renderType).size()),
@@ -2544,14 +2658,24 @@ public final class Environment implements IRenderable {
     }
   }
 
-  private void loadMapObjects() {
+  private void loadMapObjects(DoubleConsumer progress, BooleanSupplier cancelled) {
+    final int total = this.getMap().getMapObjectLayers().stream().mapToInt(l -> l.getMapObjects().size()).sum();
+    int count = 0;
     for (final IMapObjectLayer layer : this.getMap().getMapObjectLayers()) {
       for (final IMapObject mapObject : layer.getMapObjects()) {
+        checkCancelled(cancelled);
         this.load(mapObject);
+        progress.accept(++count / (double) total);
       }
     }
   }
 
+  private static void checkCancelled(BooleanSupplier cancelled) {
+    if (cancelled.getAsBoolean()) {
+      throw new CancellationException();
+    }
+  }
+
   /**
    * Unload the specified entity by performing the following steps:
    * <ol>
@@ -2665,6 +2789,8 @@ public final class Environment implements IRenderable {
     // we need to load the new entity manually
     if (this.loaded) {
       this.load(entity);
+    } else if (entity instanceof LightSource || entity instanceof StaticShadow) {
+      this.lightingPrepared = false;
     }
 
     this.allEntities.put(entity.getMapId(), entity);
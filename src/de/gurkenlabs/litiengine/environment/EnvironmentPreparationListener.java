@@ -0,0 +1,25 @@
+package de.gurkenlabs.litiengine.environment;
+
+import java.util.EventListener;
+
+/**
+ * This listener provides callbacks for the progress of an {@code Environment} that is prepared in the background.
+ * <p>
+ * Note that the callbacks are invoked on the thread that prepares the environment and not on the game loop.
+ * </p>
+ * 
+ * @see GameWorld#prepareEnvironment(de.gurkenlabs.litiengine.environment.tilemap.IMap, EnvironmentPreparationListener)
+ */
+@FunctionalInterface
+public interface EnvironmentPreparationListener extends EventListener {
+
+  /**
+   * This method is called whenever the preparation of the environment made progress.
+   * 
+   * @param environment
+   *          The environment that is being prepared.
+   * @param progress
+   *          The progress of the preparation in the range [0, 1].
+   */
+  void progressChanged(Environment environment, double progress);
+}
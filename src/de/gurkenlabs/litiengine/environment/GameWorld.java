@@ -4,10 +4,16 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.locks.Lock;
+import java.util.function.Supplier;
 
+import de.gurkenlabs.litiengine.EnvironmentSimulation;
 import de.gurkenlabs.litiengine.Game;
 import de.gurkenlabs.litiengine.IUpdateable;
 import de.gurkenlabs.litiengine.entities.IMobileEntity;
@@ -47,6 +53,7 @@ public final class GameWorld implements IUpdateable {
   private final Map<String, Collection<IUpdateable>> updatables = new ConcurrentHashMap<>();
 
   private final Map<String, Environment> environments = new ConcurrentHashMap<>();
+  private ExecutorService preparationExecutor;
 
   private Environment environment;
   private ICamera camera;
@@ -255,12 +262,18 @@ public final class GameWorld implements IUpdateable {
   /**
    * Gets the game's current {@code Environment}.
    * 
+   * <p>
+   * <i>If called from a thread that processes an {@code EnvironmentSimulation}, the environment of the simulation is returned.</i>
+   * </p>
+   * 
    * @return The currently active environment.
    * 
    * @see Environment
+   * @see EnvironmentSimulation
    */
   public Environment environment() {
-    return this.environment;
+    final EnvironmentSimulation simulation = EnvironmentSimulation.current();
+    return simulation != null ? simulation.getEnvironment() : this.environment;
   }
 
   /**
@@ -360,12 +373,22 @@ public final class GameWorld implements IUpdateable {
    * <i>The loaded environment can then be accessed via {@code GameWorld#environment()}.</i>
    * </p>
    * 
+   * <p>
+   * If resources are loaded lazily, all resources that the environment's map depends on are loaded in parallel before the game loop is
+   * locked.
+   * </p>
+   * 
    * @param env
    *          The environment to be loaded.
    * 
    * @see GameWorld#environment()
+   * @see Resources#setLazyLoading(boolean)
    */
   public void loadEnvironment(final Environment env) {
+    if (env != null && Resources.isLazyLoading()) {
+      Resources.prefetch(env.getMap()).join();
+    }
+
     Lock lock = Game.loop().getLock();
     lock.lock();
     try {
@@ -444,6 +467,61 @@ public final class GameWorld implements IUpdateable {
     return env;
   }
 
+  /**
+   * Prepares the {@code Environment} for the map with the specified name in the background.
+   * 
+   * @param mapName
+   *          The name of the map.
+   * @param listener
+   *          The listener that receives the progress of the preparation; may be null.
+   * @return A future that provides the prepared environment.
+   * 
+   * @see #prepareEnvironment(IMap, EnvironmentPreparationListener)
+   */
+  public CompletableFuture<Environment> prepareEnvironment(String mapName, EnvironmentPreparationListener listener) {
+    return this.prepareEnvironment(() -> Resources.maps().get(mapName), listener);
+  }
+
+  /**
+   * Prepares a new {@code Environment} for the specified map in the background without changing the current environment.
+   * <p>
+   * This loads all resources that the map depends on, creates the entities from all map objects and renders the static shadow and
+   * ambient light layers on a background thread. Once the returned future completes, the environment is known to this game world and can
+   * be swapped in with {@link #loadEnvironment(Environment)}, which then only registers the entities with the game loop and the physics
+   * engine.
+   * </p>
+   * <p>
+   * The preparation can be stopped by cancelling the returned future; the partially prepared environment is discarded in this case.
+   * Note that {@code EnvironmentListener#initialized(Environment)} callbacks are invoked on the background thread.
+   * </p>
+   * 
+   * @param map
+   *          The map for which to prepare the environment.
+   * @param listener
+   *          The listener that receives the progress of the preparation; may be null.
+   * @return A future that provides the prepared environment.
+   */
+  public CompletableFuture<Environment> prepareEnvironment(IMap map, EnvironmentPreparationListener listener) {
+    return this.prepareEnvironment(() -> map, listener);
+  }
+
+  /**
+   * Loads the map with the specified name and all resources it depends on in the background without changing the current environment.
+   * <p>
+   * Use this to prepare the next level while the current one is still being played so that the subsequent call to
+   * {@link #loadEnvironment(String)} doesn't need to load any resources.
+   * </p>
+   * 
+   * @param mapName
+   *          The name of the map to prefetch.
+   * @return A future that is completed once the map and its dependencies are loaded.
+   * 
+   * @see Resources#prefetch(String)
+   */
+  public CompletableFuture<Void> prefetch(String mapName) {
+    return Resources.prefetch(mapName);
+  }
+
   /**
    * Unloads the current {@code Environment} and sets it to null.
    */
@@ -590,6 +668,55 @@ public final class GameWorld implements IUpdateable {
     listeners.get(mapIdentifier).remove(listener);
   }
 
+  private CompletableFuture<Environment> prepareEnvironment(Supplier<IMap> mapSupplier, EnvironmentPreparationListener listener) {
+    final CompletableFuture<Environment> future = new CompletableFuture<>();
+    this.getPreparationExecutor().execute(() -> {
+      try {
+        final IMap map = mapSupplier.get();
+        if (map == null || map.getName() == null || map.getName().isEmpty()) {
+          future.complete(null);
+          return;
+        }
+
+        final Environment env = new Environment(map, false);
+        final String mapName = getMapName(env);
+        this.addListeners(env, mapName);
+
+        final EnvironmentPreparationListener progress = listener != null ? listener : (e, p) -> {
+        };
+        progress.progressChanged(env, 0);
+        Resources.prefetch(map).join();
+        progress.progressChanged(env, 0.2);
+
+        env.init(p -> progress.progressChanged(env, 0.2 + 0.8 * p), future::isDone);
+
+        // replace any previous environment of the map so that it can be retrieved by its name
+        this.environments.put(mapName, env);
+        if (!future.complete(env)) {
+          this.environments.remove(mapName, env);
+        }
+      } catch (CancellationException e) {
+        // the caller cancelled the future, so the environment is just discarded
+      } catch (RuntimeException e) {
+        future.completeExceptionally(e);
+      }
+    });
+
+    return future;
+  }
+
+  private synchronized ExecutorService getPreparationExecutor() {
+    if (this.preparationExecutor == null) {
+      this.preparationExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "Environment Preparation");
+        thread.setDaemon(true);
+        return thread;
+      });
+    }
+
+    return this.preparationExecutor;
+  }
+
   private static String getMapName(Environment env) {
     if (env.getMap() != null && env.getMap().getName() != null) {
       return env.getMap().getName().toLowerCase();
@@ -609,7 +736,10 @@ public final class GameWorld implements IUpdateable {
     }
 
     this.environments.put(mapName, env);
+    this.addListeners(env, mapName);
+  }
 
+  private void addListeners(Environment env, String mapName) {
     // wire up all previously registered listeners
     if (this.environmentListeners.containsKey(mapName)) {
       for (EnvironmentListener listener : this.environmentListeners.get(mapName)) {
@@ -1,9 +1,5 @@
 package de.gurkenlabs.litiengine.environment;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -12,9 +8,7 @@ import de.gurkenlabs.litiengine.entities.IEntity;
 import de.gurkenlabs.litiengine.environment.tilemap.IMapObject;
 import de.gurkenlabs.litiengine.environment.tilemap.MapObjectProperty;
 import de.gurkenlabs.litiengine.environment.tilemap.MapObjectType;
-import de.gurkenlabs.litiengine.environment.tilemap.TmxProperty;
 import de.gurkenlabs.litiengine.graphics.RenderType;
-import de.gurkenlabs.litiengine.util.ReflectionUtilities;
 
 public abstract class MapObjectLoader implements IMapObjectLoader {
   private static final Logger log = Logger.getLogger(MapObjectLoader.class.getName());
@@ -102,22 +96,7 @@ public abstract class MapObjectLoader implements IMapObjectLoader {
   }
 
   private static void loadCustomMapObjectProperties(IEntity entity, IMapObject mapObject) {
-    for (final Field field : ReflectionUtilities.getAllFields(new ArrayList<Field>(), entity.getClass())) {
-      TmxProperty property = field.getAnnotation(TmxProperty.class);
-
-      if (property == null) {
-        continue;
-      }
-
-      String value = mapObject.getStringValue(property.name(), null);
-      if (value == null) {
-        continue;
-      }
-
-      if (!ReflectionUtilities.setFieldValue(field.getDeclaringClass(), entity, field.getName(), value)) {
-        log.warning("entity #" + entity.getMapId() + ": value \"" + value + "\" for custom property " + property.name() + " could not be set.");
-      }
-    }
+    TmxPropertyBinder.get(entity.getClass()).bind(entity, mapObject);
   }
 
   /**
@@ -133,16 +112,6 @@ public abstract class MapObjectLoader implements IMapObjectLoader {
    * @param mapObject The map object to pass to the entity instance when invoking the "afterTmxUnmarshal" method.
    */
   private void callAfterTmxUnmarshal(IEntity entity, IMapObject mapObject) {
-    Method afterTmxUnmarshal = ReflectionUtilities.getMethod("afterTmxUnmarshal", entity.getClass(), IMapObject.class);
-    if (afterTmxUnmarshal == null) {
-      return;
-    }
-
-    afterTmxUnmarshal.setAccessible(true);
-    try {
-      afterTmxUnmarshal.invoke(entity, mapObject);
-    } catch (IllegalAccessException | InvocationTargetException e) {
-      log.log(Level.SEVERE, "Could not invoke afterTmxUnmarshal method on type [{0}]: {1}", new Object[]{entity.getClass().getName(), e.getMessage()});
-    }
+    TmxPropertyBinder.get(entity.getClass()).afterTmxUnmarshal(entity, mapObject);
   }
 }
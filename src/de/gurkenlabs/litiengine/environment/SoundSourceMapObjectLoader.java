@@ -36,6 +36,7 @@ public class SoundSourceMapObjectLoader extends MapObjectLoader {
     sound.setVolume(mapObject.getFloatValue(MapObjectProperty.SOUND_VOLUME));
     sound.setLoop(mapObject.getBoolValue(MapObjectProperty.SOUND_LOOP));
     sound.setRange(mapObject.getIntValue(MapObjectProperty.SOUND_RANGE));
+    sound.setPriority(mapObject.getIntValue(MapObjectProperty.SOUND_PRIORITY));
 
     return sound;
   }
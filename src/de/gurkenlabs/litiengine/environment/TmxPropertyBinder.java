@@ -0,0 +1,295 @@
+package de.gurkenlabs.litiengine.environment;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import de.gurkenlabs.litiengine.attributes.Attribute;
+import de.gurkenlabs.litiengine.entities.IEntity;
+import de.gurkenlabs.litiengine.entities.Material;
+import de.gurkenlabs.litiengine.environment.tilemap.IMapObject;
+import de.gurkenlabs.litiengine.environment.tilemap.TmxProperty;
+import de.gurkenlabs.litiengine.util.ReflectionUtilities;
+
+/**
+ * Binds the custom properties of an {@code IMapObject} to the {@link TmxProperty} annotated fields of an entity.
+ * <p>
+ * Fields of the type {@code Attribute} (or {@code RangeAttribute}) are not replaced. Instead, the property value is set as the base value of the
+ * attribute instance that is assigned to the field.
+ * </p>
+ * <p>
+ * The reflective lookup of the annotated fields, their setters, the value converters and the {@code afterTmxUnmarshal} method is only performed once per
+ * entity class. Loading an entity afterwards only requires to convert the property values and to invoke the pre-resolved method handles.
+ * </p>
+ *
+ * @see MapObjectLoader#loadDefaultProperties(IEntity, IMapObject)
+ */
+final class TmxPropertyBinder {
+  private static final Logger log = Logger.getLogger(TmxPropertyBinder.class.getName());
+  private static final Map<Class<?>, TmxPropertyBinder> binders = new ConcurrentHashMap<>();
+
+  private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+  private static final MethodType AFTER_UNMARSHAL_TYPE = MethodType.methodType(void.class, Object.class, IMapObject.class);
+  private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+  private final Class<?> type;
+  private final Binding[] bindings;
+  private final MethodHandle afterTmxUnmarshal;
+
+  private TmxPropertyBinder(Class<?> type) {
+    this.type = type;
+
+    final MethodHandles.Lookup lookup = MethodHandles.lookup();
+    final List<Binding> resolved = new ArrayList<>();
+    for (final Field field : ReflectionUtilities.getAllFields(new ArrayList<Field>(), type)) {
+      TmxProperty property = field.getAnnotation(TmxProperty.class);
+      if (property != null) {
+        resolved.add(new Binding(lookup, property.name(), field));
+      }
+    }
+
+    this.bindings = resolved.toArray(new Binding[resolved.size()]);
+    this.afterTmxUnmarshal = resolveAfterTmxUnmarshal(lookup, type);
+  }
+
+  /**
+   * Gets the binder for the specified entity type, creating it on the first request.
+   *
+   * @param type
+   *          The entity type.
+   * @return The cached binder for the specified type.
+   */
+  static TmxPropertyBinder get(Class<?> type) {
+    return binders.computeIfAbsent(type, TmxPropertyBinder::new);
+  }
+
+  /**
+   * Sets the values of all {@link TmxProperty} annotated fields of the entity from the custom properties of the specified map object.
+   *
+   * @param entity
+   *          The entity to set the values on.
+   * @param mapObject
+   *          The map object that provides the property values.
+   */
+  void bind(IEntity entity, IMapObject mapObject) {
+    for (Binding binding : this.bindings) {
+      String value = mapObject.getStringValue(binding.propertyName, null);
+      if (value == null) {
+        continue;
+      }
+
+      if (!binding.set(entity, value)) {
+        log.warning("entity #" + entity.getMapId() + ": value \"" + value + "\" for custom property " + binding.propertyName + " could not be set.");
+      }
+    }
+  }
+
+  /**
+   * Calls the {@code afterTmxUnmarshal(IMapObject)} method on the specified entity if it is declared by the entity type.
+   *
+   * @param entity
+   *          The entity instance to call the "afterTmxUnmarshal" method on.
+   * @param mapObject
+   *          The map object to pass to the entity instance.
+   */
+  void afterTmxUnmarshal(IEntity entity, IMapObject mapObject) {
+    if (this.afterTmxUnmarshal == null) {
+      return;
+    }
+
+    try {
+      this.afterTmxUnmarshal.invokeExact((Object) entity, mapObject);
+    } catch (Throwable e) {
+      log.log(Level.SEVERE, "Could not invoke afterTmxUnmarshal method on type [{0}]: {1}", new Object[] { this.type.getName(), e.getMessage() });
+    }
+  }
+
+  private static MethodHandle resolveAfterTmxUnmarshal(MethodHandles.Lookup lookup, Class<?> type) {
+    Method method = ReflectionUtilities.getMethod("afterTmxUnmarshal", type, IMapObject.class);
+    if (method == null) {
+      return null;
+    }
+
+    try {
+      method.setAccessible(true);
+      return lookup.unreflect(method).asType(AFTER_UNMARSHAL_TYPE);
+    } catch (IllegalAccessException | SecurityException e) {
+      log.log(Level.SEVERE, "Could not access afterTmxUnmarshal method on type [{0}]: {1}", new Object[] { type.getName(), e.getMessage() });
+      return null;
+    }
+  }
+
+  /**
+   * Returns a converter for the specified field type or null if values of the type cannot be parsed from a string. Converters return null if the value is not
+   * valid for the type.
+   */
+  private static Function<String, Object> getConverter(Class<?> fieldType) {
+    if (fieldType == boolean.class) {
+      return Boolean::valueOf;
+    } else if (fieldType == int.class) {
+      return Integer::valueOf;
+    } else if (fieldType == float.class) {
+      return Float::valueOf;
+    } else if (fieldType == double.class) {
+      return Double::valueOf;
+    } else if (fieldType == short.class) {
+      return Short::valueOf;
+    } else if (fieldType == byte.class) {
+      return Byte::valueOf;
+    } else if (fieldType == long.class) {
+      return Long::valueOf;
+    } else if (fieldType == String.class) {
+      return value -> value;
+    } else if (fieldType == String[].class) {
+      return value -> value.split(",");
+    } else if (fieldType.isEnum()) {
+      final Object[] constants = fieldType.getEnumConstants();
+      return value -> {
+        for (Object constant : constants) {
+          if (constant != null && constant.toString().equalsIgnoreCase(value)) {
+            return constant;
+          }
+        }
+
+        return null;
+      };
+    } else if (fieldType == Material.class) {
+      return Material::get;
+    }
+
+    return null;
+  }
+
+  /**
+   * Gets the primitive type of the values of the specified {@code Attribute} field, e.g. {@code float} for an {@code Attribute<Float>}, or null if the
+   * type argument of the field is not a concrete number type.
+   */
+  private static Class<?> getAttributeValueType(Field field) {
+    final Type genericType = field.getGenericType();
+    if (!(genericType instanceof ParameterizedType)) {
+      return null;
+    }
+
+    final Type valueType = ((ParameterizedType) genericType).getActualTypeArguments()[0];
+    if (!(valueType instanceof Class)) {
+      return null;
+    }
+
+    final Class<?> primitiveType = MethodType.methodType((Class<?>) valueType).unwrap().returnType();
+    return primitiveType.isPrimitive() ? primitiveType : null;
+  }
+
+  /**
+   * Resolves the setter for the specified field. A public setter method "set[FieldName]" is preferred over setting the field directly.
+   */
+  private static MethodHandle getSetter(MethodHandles.Lookup lookup, Field field) throws IllegalAccessException {
+    for (Method method : field.getDeclaringClass().getMethods()) {
+      if (method.getName().equalsIgnoreCase("set" + field.getName()) && method.getParameterCount() == 1 && method.getParameterTypes()[0] == field.getType()) {
+        method.setAccessible(true);
+        return lookup.unreflect(method).asType(SETTER_TYPE);
+      }
+    }
+
+    field.setAccessible(true);
+    return lookup.unreflectSetter(field).asType(SETTER_TYPE);
+  }
+
+  private static final class Binding {
+    private final String propertyName;
+    private final String fieldName;
+    private final Function<String, Object> converter;
+    private final MethodHandle setter;
+    private final MethodHandle attributeGetter;
+
+    private Binding(MethodHandles.Lookup lookup, String propertyName, Field field) {
+      this.propertyName = propertyName;
+      this.fieldName = field.getName();
+
+      Function<String, Object> resolvedConverter = null;
+      MethodHandle resolvedSetter = null;
+      MethodHandle resolvedAttributeGetter = null;
+
+      if (Attribute.class.isAssignableFrom(field.getType())) {
+        // the value is set on the attribute instance, so the field itself may be final
+        final Class<?> valueType = getAttributeValueType(field);
+        resolvedConverter = valueType != null ? getConverter(valueType) : null;
+        if (resolvedConverter != null) {
+          try {
+            field.setAccessible(true);
+            resolvedAttributeGetter = lookup.unreflectGetter(field).asType(GETTER_TYPE);
+          } catch (IllegalAccessException | SecurityException e) {
+            log.log(Level.SEVERE, String.format("%s (%s)", e.getMessage(), field.getName()), e);
+          }
+        }
+      } else if (!Modifier.isFinal(field.getModifiers())) {
+        // final fields cannot be set
+        resolvedConverter = getConverter(field.getType());
+        if (resolvedConverter != null) {
+          try {
+            resolvedSetter = getSetter(lookup, field);
+          } catch (IllegalAccessException | SecurityException e) {
+            log.log(Level.SEVERE, String.format("%s (%s)", e.getMessage(), field.getName()), e);
+          }
+        }
+      }
+
+      this.converter = resolvedConverter;
+      this.setter = resolvedSetter;
+      this.attributeGetter = resolvedAttributeGetter;
+    }
+
+    private boolean set(Object instance, String value) {
+      if (this.setter == null && this.attributeGetter == null) {
+        return false;
+      }
+
+      final Object converted;
+      try {
+        converted = this.converter.apply(value);
+      } catch (NumberFormatException e) {
+        log.log(Level.SEVERE, e.getMessage(), e);
+        return false;
+      }
+
+      if (converted == null) {
+        return false;
+      }
+
+      try {
+        if (this.attributeGetter != null) {
+          final Object attribute = this.attributeGetter.invokeExact(instance);
+          return setBaseValue((Attribute<?>) attribute, (Number) converted);
+        }
+
+        this.setter.invokeExact(instance, converted);
+        return true;
+      } catch (Throwable e) {
+        log.log(Level.SEVERE, String.format("%s (%s-%s)", e.getMessage(), this.fieldName, value), e);
+        return false;
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static boolean setBaseValue(Attribute<?> attribute, Number value) {
+      if (attribute == null) {
+        return false;
+      }
+
+      // the converter produces values of the attribute's type argument
+      ((Attribute<Number>) attribute).setBaseValue(value);
+      return true;
+    }
+  }
+}
@@ -61,6 +61,7 @@ public final class MapObjectProperty {
   public static final String SOUND_LOOP = "soundLoop";
   public static final String SOUND_NAME = "soundName";
   public static final String SOUND_RANGE = "soundRange";
+  public static final String SOUND_PRIORITY = "soundPriority";
 
   // static shadow
   public static final String SHADOW_TYPE = "shadowType";
@@ -16,6 +16,7 @@ import de.gurkenlabs.litiengine.entities.IEntity;
 import de.gurkenlabs.litiengine.environment.Environment;
 import de.gurkenlabs.litiengine.graphics.ImageRenderer;
 import de.gurkenlabs.litiengine.graphics.RenderType;
+import de.gurkenlabs.litiengine.graphics.SpriteRegion;
 import de.gurkenlabs.litiengine.graphics.Spritesheet;
 import de.gurkenlabs.litiengine.resources.Resources;
 
@@ -151,11 +152,37 @@ public class MapRenderer {
         p.y += offset.getY();
       }
       if (viewport.intersects(p.x, p.y, image.getWidth(), image.getHeight())) {
-        ImageRenderer.render(g, image, p.x - viewport.getX(), p.y - viewport.getY());
+        SpriteRegion region = getRegion(tile, image);
+        if (region != null) {
+          ImageRenderer.render(g, region, p.x - viewport.getX(), p.y - viewport.getY());
+        } else {
+          ImageRenderer.render(g, image, p.x - viewport.getX(), p.y - viewport.getY());
+        }
       }
     }
   }
 
+  /**
+   * Gets the sprite atlas region of the tile image if the spritesheet of its tileset has been packed.
+   */
+  private static SpriteRegion getRegion(ITile tile, BufferedImage image) {
+    if (tile.isFlipped()) {
+      return null;
+    }
+
+    ITilesetEntry entry = tile.getTilesetEntry();
+    Spritesheet spritesheet = entry.getTileset().getSpritesheet();
+    if (spritesheet == null) {
+      return null;
+    }
+
+    int id = entry.getAnimation() != null ? entry.getAnimation().getCurrentFrame().getTileId() : entry.getId();
+    SpriteRegion region = spritesheet.getRegion(id);
+
+    // the region is only valid if it has been packed from the very same sprite image
+    return region != null && region.getSource() == image ? region : null;
+  }
+
   protected static boolean shouldBeRendered(final Graphics2D g, final IMap map, ILayer layer, RenderType[] renderTypes) {
     final LayerRenderEvent event = new LayerRenderEvent(g, map, layer);
     for (LayerRenderCondition condition : layerRenderConditions) {
@@ -103,9 +103,24 @@ public class Blueprint extends MapObject {
   }
 
   public List<IMapObject> build(float x, float y) {
+    return this.build(x, y, Game.world().environment().getNextMapId());
+  }
+
+  /**
+   * Builds new map objects from the items of this blueprint at the specified location.
+   * 
+   * @param x
+   *          The x-coordinate of the location at which to build the map objects.
+   * @param y
+   *          The y-coordinate of the location at which to build the map objects.
+   * @param baseId
+   *          The map ID of the first built map object. Subsequent map objects get consecutive IDs. This is ignored if the IDs of the
+   *          items are kept.
+   * @return The built map objects.
+   */
+  public List<IMapObject> build(float x, float y, int baseId) {
     List<IMapObject> builtObjects = new ArrayList<>();
 
-    int baseId = Game.world().environment().getNextMapId();
     for (MapObject item : this.getItems()) {
       MapObject newObject = new MapObject(item, this.keepIds());
       if (!this.keepIds()) {
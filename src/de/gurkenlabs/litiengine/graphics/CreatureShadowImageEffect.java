@@ -7,6 +7,7 @@ import java.awt.Graphics2D;
 import java.awt.RenderingHints;
 import java.awt.geom.Ellipse2D;
 import java.awt.image.BufferedImage;
+import java.util.Arrays;
 
 public class CreatureShadowImageEffect extends ImageEffect {
   private static final Color DEFAULT_SHADOW_COLOR = new Color(124, 164, 174, 120);
@@ -60,6 +61,12 @@ public class CreatureShadowImageEffect extends ImageEffect {
     return this;
   }
 
+  @Override
+  public Object getCacheKey() {
+    return Arrays.asList(
+        this.shadowColor, this.offsetX, this.offsetY, this.getCreature().isDead());
+  }
+
   @Override
   public BufferedImage apply(BufferedImage image) {
     if (this.getCreature().isDead()) {
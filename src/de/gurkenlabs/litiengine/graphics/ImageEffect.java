@@ -52,6 +52,19 @@ public abstract class ImageEffect implements ITimeToLive, Comparable<ImageEffect
     this.name = name;
   }
 
+  /**
+   * Gets the parameters that determine the result of this effect, e.g. its color or angle. Chains
+   * of effects that all provide a cache key are memoized by the {@code ImageEffectPipeline}.
+   *
+   * <p>Effects that depend on any additional state must include it in their key or return null.
+   *
+   * @return The cache key of this effect or null if the results of this effect must not be cached.
+   * @see ImageEffectPipeline
+   */
+  public Object getCacheKey() {
+    return null;
+  }
+
   @Override
   public int compareTo(ImageEffect other) {
     return Integer.compare(this.getPriority(), other.getPriority());
@@ -0,0 +1,249 @@
+package de.gurkenlabs.litiengine.graphics;
+
+import de.gurkenlabs.litiengine.util.Imaging;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Applies chains of {@code ImageEffects} to images.
+ *
+ * <p>Consecutive {@link PixelImageEffect}s are fused into a single pass over the pixels of the
+ * image, so only one intermediate image is created for them. The results of chains that only
+ * consist of effects that provide a {@link ImageEffect#getCacheKey() cache key} are memoized for
+ * every source image. A memoized result is discarded once any of its effects with a limited time to
+ * live has reached it, unless the result has been requested again by another chain with equal
+ * effects in the meantime.
+ */
+public final class ImageEffectPipeline {
+  /** The maximum number of memoized results per source image. */
+  static final int MAX_RESULTS_PER_IMAGE = 32;
+
+  /** Scratch buffers that are larger than this number of pixels are not kept for reuse. */
+  private static final int MAX_SCRATCH_SIZE = 512 * 512;
+
+  private static final ThreadLocal<int[]> scratch = new ThreadLocal<>();
+
+  private final Map<BufferedImage, Map<List<Object>, Result>> results = new WeakHashMap<>();
+
+  /**
+   * Applies the specified effects in the order of the list to the specified image.
+   *
+   * @param image The source image.
+   * @param effects The effects to apply.
+   * @return The resulting image, which might be a memoized result of a previous call.
+   */
+  public BufferedImage apply(final BufferedImage image, final List<ImageEffect> effects) {
+    if (image == null || effects.isEmpty()) {
+      return image;
+    }
+
+    final List<Object> key = getKey(effects);
+    if (key == null) {
+      return process(image, effects);
+    }
+
+    synchronized (this.results) {
+      final Map<List<Object>, Result> imageResults = this.results.get(image);
+      if (imageResults != null) {
+        removeExpiredResults(imageResults);
+        final Result result = imageResults.get(key);
+        if (result != null) {
+          result.timeLimitedEffects = getTimeLimitedEffects(effects);
+          return result.image;
+        }
+      }
+    }
+
+    final BufferedImage processed = process(image, effects);
+    if (processed == null || processed == image) {
+      // nothing to memoize and the source must not be referenced by the weakly held results
+      return processed;
+    }
+
+    synchronized (this.results) {
+      this.results
+          .computeIfAbsent(image, i -> new ResultCache())
+          .put(key, new Result(processed, getTimeLimitedEffects(effects)));
+    }
+
+    return processed;
+  }
+
+  /** Removes all memoized results. */
+  public void clear() {
+    synchronized (this.results) {
+      this.results.clear();
+    }
+  }
+
+  /**
+   * Gets the number of memoized results.
+   *
+   * @return The number of memoized results of all source images.
+   */
+  public int size() {
+    synchronized (this.results) {
+      return this.results.values().stream().mapToInt(Map::size).sum();
+    }
+  }
+
+  /**
+   * Applies the specified pixel effects in a single pass over the pixels of the image.
+   *
+   * @param image The source image.
+   * @param effects The pixel effects to apply in the order of the list.
+   * @return A new image with the filtered pixels.
+   */
+  static BufferedImage filter(final BufferedImage image, final List<PixelImageEffect> effects) {
+    final int width = image.getWidth();
+    final int height = image.getHeight();
+    final BufferedImage filtered = Imaging.getCompatibleImage(width, height);
+    if (filtered == null) {
+      return image;
+    }
+
+    final int[] pixels = borrowScratch(width * height);
+    if (image.getType() == BufferedImage.TYPE_INT_ARGB) {
+      image.getRaster().getDataElements(0, 0, width, height, pixels);
+    } else {
+      image.getRGB(0, 0, width, height, pixels, 0, width);
+    }
+
+    final PixelImageEffect[] filters = effects.toArray(new PixelImageEffect[0]);
+    for (int i = 0; i < width * height; i++) {
+      int pixel = pixels[i];
+      for (final PixelImageEffect effect : filters) {
+        pixel = effect.filter(pixel);
+      }
+
+      pixels[i] = pixel;
+    }
+
+    if (filtered.getType() == BufferedImage.TYPE_INT_ARGB) {
+      filtered.getRaster().setDataElements(0, 0, width, height, pixels);
+    } else {
+      filtered.setRGB(0, 0, width, height, pixels, 0, width);
+    }
+
+    releaseScratch(pixels);
+    return filtered;
+  }
+
+  private static BufferedImage process(final BufferedImage image, final List<ImageEffect> effects) {
+    BufferedImage current = image;
+    final List<PixelImageEffect> pixelEffects = new ArrayList<>();
+    for (final ImageEffect effect : effects) {
+      if (effect instanceof PixelImageEffect) {
+        pixelEffects.add((PixelImageEffect) effect);
+        continue;
+      }
+
+      current = filterPending(current, pixelEffects);
+      current = effect.apply(current);
+      if (current == null) {
+        return null;
+      }
+    }
+
+    return filterPending(current, pixelEffects);
+  }
+
+  private static BufferedImage filterPending(
+      final BufferedImage image, final List<PixelImageEffect> pixelEffects) {
+    if (pixelEffects.isEmpty()) {
+      return image;
+    }
+
+    final BufferedImage filtered = filter(image, pixelEffects);
+    pixelEffects.clear();
+    return filtered;
+  }
+
+  /**
+   * Gets the key that identifies the result of the specified effects or null if any of the effects
+   * doesn't support caching.
+   */
+  private static List<Object> getKey(final List<ImageEffect> effects) {
+    final Object[] key = new Object[effects.size() * 2];
+    for (int i = 0; i < effects.size(); i++) {
+      final ImageEffect effect = effects.get(i);
+      final Object effectKey = effect.getCacheKey();
+      if (effectKey == null) {
+        return null;
+      }
+
+      key[i * 2] = effect.getClass();
+      key[i * 2 + 1] = effectKey;
+    }
+
+    return Arrays.asList(key);
+  }
+
+  private static ImageEffect[] getTimeLimitedEffects(final List<ImageEffect> effects) {
+    return effects.stream().filter(e -> e.getTimeToLive() > 0).toArray(ImageEffect[]::new);
+  }
+
+  private static void removeExpiredResults(final Map<List<Object>, Result> imageResults) {
+    final Iterator<Result> iterator = imageResults.values().iterator();
+    while (iterator.hasNext()) {
+      if (iterator.next().isExpired()) {
+        iterator.remove();
+      }
+    }
+  }
+
+  private static int[] borrowScratch(final int size) {
+    final int[] buffer = scratch.get();
+    if (buffer != null && buffer.length >= size) {
+      scratch.remove();
+      return buffer;
+    }
+
+    return new int[size];
+  }
+
+  private static void releaseScratch(final int[] buffer) {
+    if (buffer.length <= MAX_SCRATCH_SIZE) {
+      scratch.set(buffer);
+    }
+  }
+
+  private static final class Result {
+    private final BufferedImage image;
+    private ImageEffect[] timeLimitedEffects;
+
+    private Result(final BufferedImage image, final ImageEffect[] timeLimitedEffects) {
+      this.image = image;
+      this.timeLimitedEffects = timeLimitedEffects;
+    }
+
+    private boolean isExpired() {
+      for (final ImageEffect effect : this.timeLimitedEffects) {
+        if (effect.timeToLiveReached()) {
+          return true;
+        }
+      }
+
+      return false;
+    }
+  }
+
+  private static final class ResultCache extends LinkedHashMap<List<Object>, Result> {
+    private static final long serialVersionUID = 1L;
+
+    private ResultCache() {
+      super(16, 0.75f, true);
+    }
+
+    @Override
+    protected boolean removeEldestEntry(final Map.Entry<List<Object>, Result> eldest) {
+      return this.size() > MAX_RESULTS_PER_IMAGE;
+    }
+  }
+}
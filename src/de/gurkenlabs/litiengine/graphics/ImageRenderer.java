@@ -32,6 +32,38 @@ public final class ImageRenderer {
     render(g, image, renderLocation.getX(), renderLocation.getY());
   }
 
+  /**
+   * Renders the specified region of a {@code SpriteAtlas} at the location where the original
+   * sprite would have been rendered, i.e. the trimmed borders of the sprite are taken into account.
+   *
+   * @param g The graphics object to draw on.
+   * @param region The atlas region to be drawn.
+   * @param x The x-coordinate of the original sprite.
+   * @param y The y-coordinate of the original sprite.
+   * @see SpriteAtlas
+   */
+  public static void render(
+      final Graphics2D g, final SpriteRegion region, final double x, final double y) {
+    if (region == null) {
+      return;
+    }
+
+    final AffineTransform oldTransform = g.getTransform();
+    g.translate(x + region.getTrimX(), y + region.getTrimY());
+    g.drawImage(
+        region.getPage(),
+        0,
+        0,
+        region.getWidth(),
+        region.getHeight(),
+        region.getX(),
+        region.getY(),
+        region.getX() + region.getWidth(),
+        region.getY() + region.getHeight(),
+        null);
+    g.setTransform(oldTransform);
+  }
+
   /***
    * Note that rotating an image with 90/180/270 degree is way more performant.
    * than rotating with in other degrees.
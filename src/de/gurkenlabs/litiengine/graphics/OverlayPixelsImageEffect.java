@@ -1,12 +1,10 @@
 package de.gurkenlabs.litiengine.graphics;
 
-import de.gurkenlabs.litiengine.util.Imaging;
 import java.awt.Color;
-import java.awt.Graphics2D;
-import java.awt.image.BufferedImage;
 
-public class OverlayPixelsImageEffect extends ImageEffect {
+public class OverlayPixelsImageEffect extends PixelImageEffect {
   private final Color color;
+  private final int alpha;
 
   /**
    * Initializes a new instance of the {@code OverlayPixelsImageEffect}.
@@ -17,23 +15,44 @@ public class OverlayPixelsImageEffect extends ImageEffect {
   public OverlayPixelsImageEffect(final int ttl, final Color color) {
     super(ttl, "OverlayPixels" + color.getRed() + "" + color.getGreen() + "" + color.getBlue());
     this.color = color;
+    this.alpha = color.getAlpha();
   }
 
   @Override
-  public BufferedImage apply(final BufferedImage image) {
-    final BufferedImage bimage =
-        Imaging.getCompatibleImage(image.getWidth(null), image.getHeight(null));
+  public int filter(final int argb) {
+    final int pixelAlpha = argb >>> 24;
+    if (pixelAlpha == 0) {
+      return 0;
+    }
 
-    // Draw the image on to the buffered image
-    final Graphics2D bGr = bimage.createGraphics();
-    bGr.drawImage(image, 0, 0, null);
-    bGr.drawImage(Imaging.flashVisiblePixels(image, this.color), 0, 0, null);
-    bGr.dispose();
+    if (this.alpha == 0xFF) {
+      return this.color.getRGB();
+    }
 
-    return bimage;
+    // draw the color over the visible pixel; the weights are scaled by 255
+    final int colorWeight = this.alpha * 0xFF;
+    final int pixelWeight = pixelAlpha * (0xFF - this.alpha);
+    final int red = blend(this.color.getRed(), (argb >> 16) & 0xFF, colorWeight, pixelWeight);
+    final int green = blend(this.color.getGreen(), (argb >> 8) & 0xFF, colorWeight, pixelWeight);
+    final int blue = blend(this.color.getBlue(), argb & 0xFF, colorWeight, pixelWeight);
+    return (colorWeight + pixelWeight + 0x7F) / 0xFF << 24 | red << 16 | green << 8 | blue;
+  }
+
+  @Override
+  public Object getCacheKey() {
+    return this.color;
   }
 
   public Color getColor() {
     return this.color;
   }
+
+  private static int blend(
+      final int colorComponent,
+      final int pixelComponent,
+      final int colorWeight,
+      final int pixelWeight) {
+    return (colorComponent * colorWeight + pixelComponent * pixelWeight)
+        / (colorWeight + pixelWeight);
+  }
 }
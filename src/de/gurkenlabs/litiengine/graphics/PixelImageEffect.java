@@ -0,0 +1,40 @@
+package de.gurkenlabs.litiengine.graphics;
+
+import java.awt.image.BufferedImage;
+import java.util.Collections;
+
+/**
+ * An {@code ImageEffect} that maps every pixel of an image independently of all other pixels and
+ * doesn't change the size of the image.
+ *
+ * <p>Consecutive pixel effects are fused into a single pass over the pixels of the image by the
+ * {@code ImageEffectPipeline}.
+ *
+ * @see ImageEffectPipeline
+ */
+public abstract class PixelImageEffect extends ImageEffect {
+  protected PixelImageEffect(final String name) {
+    super(name);
+  }
+
+  protected PixelImageEffect(final int ttl, final String name) {
+    super(ttl, name);
+  }
+
+  @Override
+  public BufferedImage apply(final BufferedImage image) {
+    if (image == null) {
+      return null;
+    }
+
+    return ImageEffectPipeline.filter(image, Collections.singletonList(this));
+  }
+
+  /**
+   * Maps a single pixel of an image.
+   *
+   * @param argb The pixel in the default (non-premultiplied) ARGB format.
+   * @return The mapped pixel in the default ARGB format.
+   */
+  public abstract int filter(int argb);
+}
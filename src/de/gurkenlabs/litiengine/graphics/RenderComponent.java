@@ -10,10 +10,12 @@ import java.awt.Canvas;
 import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Font;
+import java.awt.GraphicsConfiguration;
 import java.awt.Graphics2D;
 import java.awt.Rectangle;
 import java.awt.RenderingHints;
 import java.awt.Toolkit;
+import java.awt.geom.Rectangle2D;
 import java.awt.image.BufferStrategy;
 import java.awt.image.BufferedImage;
 import java.io.File;
@@ -34,6 +36,10 @@ public class RenderComponent extends Canvas {
 
   private transient BufferStrategy currentBufferStrategy;
 
+  // retains the rendered screen if it supports dirty region tracking
+  private transient BufferedImage screenBuffer;
+  private transient Screen bufferedScreen;
+
   private float currentAlpha;
 
   private long fadeInStart;
@@ -127,7 +133,7 @@ public class RenderComponent extends Canvas {
         final Screen currentScreen = Game.screens().current();
         if (currentScreen != null) {
           long renderStart = System.nanoTime();
-          currentScreen.render(g);
+          this.renderScreen(g, currentScreen, bounds);
 
           if (Game.config().debug().trackRenderTimes()) {
             final double totalRenderTime = TimeUtilities.nanoToMs(System.nanoTime() - renderStart);
@@ -176,6 +182,51 @@ public class RenderComponent extends Canvas {
     this.takeScreenShot = true;
   }
 
+  private void renderScreen(final Graphics2D g, final Screen screen, final Rectangle bounds) {
+    final Rectangle2D dirtyRegion = screen.getDirtyRegion();
+    if (dirtyRegion == null) {
+      this.screenBuffer = null;
+      this.bufferedScreen = null;
+      screen.render(g);
+      return;
+    }
+
+    Rectangle region = dirtyRegion.getBounds().intersection(bounds);
+    if (this.screenBuffer == null
+        || this.bufferedScreen != screen
+        || this.screenBuffer.getWidth() != bounds.width
+        || this.screenBuffer.getHeight() != bounds.height) {
+      this.screenBuffer = this.createScreenBuffer(bounds.width, bounds.height);
+      this.bufferedScreen = screen;
+      region = bounds;
+    }
+
+    // only render the regions of the screen that changed since the last frame
+    if (!region.isEmpty()) {
+      final Graphics2D bufferGraphics = this.screenBuffer.createGraphics();
+      try {
+        bufferGraphics.setRenderingHints(g.getRenderingHints());
+        bufferGraphics.setClip(region);
+        bufferGraphics.setColor(this.getBackground());
+        bufferGraphics.fill(region);
+        screen.render(bufferGraphics);
+      } finally {
+        bufferGraphics.dispose();
+      }
+    }
+
+    g.drawImage(this.screenBuffer, 0, 0, null);
+  }
+
+  private BufferedImage createScreenBuffer(final int width, final int height) {
+    final GraphicsConfiguration config = this.getGraphicsConfiguration();
+    if (config != null) {
+      return config.createCompatibleImage(width, height);
+    }
+
+    return new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+  }
+
   private void handleFade() {
     if (this.fadeOutStart != -1) {
       final long timePassed = Game.time().since(this.fadeOutStart);
@@ -9,7 +9,9 @@ public class RotationImageEffect extends ImageEffect {
   private final float angle;
 
   /**
-   * Initializes a new instance of the {@code RotationImageEffect}.
+   * Initializes a new instance of the {@code RotationImageEffect}. The base image is rotated in steps
+   * of whole degrees so that continuously changing angles only produce a bounded number of distinct
+   * results.
    *
    * @param ttl The time to live of this effect.
    * @param angle The angle by which this effect rotates the base image.
@@ -28,7 +30,7 @@ public class RotationImageEffect extends ImageEffect {
     final int size = Math.max(image.getWidth(), image.getHeight()) * 2;
     final BufferedImage img = Imaging.getCompatibleImage(size, size);
     final Graphics2D g = img.createGraphics();
-    ImageRenderer.renderRotated(g, image, new Point2D.Double(0, 0), this.getAngle());
+    ImageRenderer.renderRotated(g, image, new Point2D.Double(0, 0), this.getRoundedAngle());
     g.dispose();
 
     return img;
@@ -37,4 +39,14 @@ public class RotationImageEffect extends ImageEffect {
   public double getAngle() {
     return this.angle;
   }
+
+  @Override
+  public Object getCacheKey() {
+    return this.getRoundedAngle();
+  }
+
+  /** Gets the angle of this effect, rounded to whole degrees within the range [0, 360). */
+  private int getRoundedAngle() {
+    return (int) Math.floorMod(Math.round(this.getAngle()), 360L);
+  }
 }
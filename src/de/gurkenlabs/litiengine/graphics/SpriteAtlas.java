@@ -0,0 +1,359 @@
+package de.gurkenlabs.litiengine.graphics;
+
+import de.gurkenlabs.litiengine.entities.Rotation;
+import de.gurkenlabs.litiengine.resources.Resources;
+import de.gurkenlabs.litiengine.resources.TextureAtlas;
+import de.gurkenlabs.litiengine.util.Imaging;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+/**
+ * Packs the sprites of {@code Spritesheets} and {@code TextureAtlases} into a small number of large
+ * compatible images (pages) that can be accelerated by Java2D.
+ *
+ * <p>Transparent borders of every sprite are trimmed before it is packed and fully transparent
+ * sprites are not packed at all. The packed sprites are described by {@code SpriteRegion}s, which
+ * can be rendered with {@link ImageRenderer#render(Graphics2D, SpriteRegion, double, double)}. The
+ * regions of a packed {@code Spritesheet} are also provided by {@link Spritesheet#getRegion(int)}
+ * until the atlas is released or the images are cleared from the {@code Resources}.
+ *
+ * <p>The sprites of a {@code Spritesheet} are packed as returned by {@link
+ * Spritesheet#getSprite(int)}, i.e. sprites that have already been accessed with a margin and
+ * spacing (e.g. the tiles of a tileset) are packed as they have been cropped.
+ *
+ * @see SpriteRegion
+ */
+public final class SpriteAtlas {
+  public static final int DEFAULT_MAX_PAGE_SIZE = 2048;
+
+  private static final Logger log = Logger.getLogger(SpriteAtlas.class.getName());
+  private static final int PADDING = 1;
+
+  private final List<BufferedImage> pages = new ArrayList<>();
+  private final Map<String, SpriteRegion> regions = new HashMap<>();
+  private final Map<Spritesheet, SpriteRegion[]> spritesheetRegions = new HashMap<>();
+
+  private SpriteAtlas() {}
+
+  /**
+   * Packs all currently loaded spritesheets into a new sprite atlas.
+   *
+   * @return The packed sprite atlas.
+   * @see Resources#spritesheets()
+   */
+  public static SpriteAtlas pack() {
+    return pack(Resources.spritesheets().getAll(), Collections.emptyList());
+  }
+
+  /**
+   * Packs the specified spritesheets and texture atlases into a new sprite atlas.
+   *
+   * @param spritesheets The spritesheets to pack.
+   * @param textureAtlases The texture atlases to pack.
+   * @return The packed sprite atlas.
+   */
+  public static SpriteAtlas pack(
+      final Collection<Spritesheet> spritesheets, final Collection<TextureAtlas> textureAtlases) {
+    return pack(spritesheets, textureAtlases, DEFAULT_MAX_PAGE_SIZE);
+  }
+
+  /**
+   * Packs the specified spritesheets and texture atlases into a new sprite atlas.
+   *
+   * @param spritesheets The spritesheets to pack.
+   * @param textureAtlases The texture atlases to pack.
+   * @param maxPageSize The maximum width and height of a single page. Sprites that exceed this size
+   *     are not packed.
+   * @return The packed sprite atlas.
+   */
+  public static SpriteAtlas pack(
+      final Collection<Spritesheet> spritesheets,
+      final Collection<TextureAtlas> textureAtlases,
+      final int maxPageSize) {
+    if (maxPageSize <= 0) {
+      throw new IllegalArgumentException("The maximum page size must be greater than 0.");
+    }
+
+    final SpriteAtlas atlas = new SpriteAtlas();
+    final Map<BufferedImage, Entry> entries = new IdentityHashMap<>();
+    final Map<Spritesheet, Entry[]> sheetEntries = new HashMap<>();
+    final Map<String, Entry> namedEntries = new HashMap<>();
+
+    for (final Spritesheet spritesheet : spritesheets) {
+      final Entry[] sprites = new Entry[spritesheet.getTotalNumberOfSprites()];
+      for (int i = 0; i < sprites.length; i++) {
+        sprites[i] = getEntry(entries, spritesheet.getSprite(i), maxPageSize);
+      }
+
+      sheetEntries.put(spritesheet, sprites);
+    }
+
+    for (final TextureAtlas textureAtlas : textureAtlases) {
+      final BufferedImage atlasImage = Resources.images().get(textureAtlas.getAbsoluteImagePath());
+      if (atlasImage == null || atlasImage.getWidth() == 0 || atlasImage.getHeight() == 0) {
+        continue;
+      }
+
+      for (final TextureAtlas.Sprite sprite : textureAtlas.getSprites()) {
+        final BufferedImage image =
+            Resources.images().tryGet(sprite.getName()).orElseGet(() -> extract(atlasImage, sprite));
+        namedEntries.put(sprite.getName(), getEntry(entries, image, maxPageSize));
+      }
+    }
+
+    atlas.layout(new ArrayList<>(entries.values()), maxPageSize);
+
+    for (final Map.Entry<Spritesheet, Entry[]> sheet : sheetEntries.entrySet()) {
+      final SpriteRegion[] sheetRegions = new SpriteRegion[sheet.getValue().length];
+      for (int i = 0; i < sheetRegions.length; i++) {
+        final Entry entry = sheet.getValue()[i];
+        sheetRegions[i] = entry != null ? entry.region : null;
+      }
+
+      atlas.spritesheetRegions.put(sheet.getKey(), sheetRegions);
+      sheet.getKey().setRegions(sheetRegions);
+    }
+
+    for (final Map.Entry<String, Entry> named : namedEntries.entrySet()) {
+      if (named.getValue() != null && named.getValue().region != null) {
+        atlas.regions.put(named.getKey(), named.getValue().region);
+      }
+    }
+
+    return atlas;
+  }
+
+  /**
+   * Gets the pages of this atlas.
+   *
+   * @return An unmodifiable list of the page images.
+   */
+  public List<BufferedImage> getPages() {
+    return Collections.unmodifiableList(this.pages);
+  }
+
+  /**
+   * Gets the region of the texture atlas sprite with the specified name.
+   *
+   * @param name The name of the texture atlas sprite.
+   * @return The region of the sprite or null if it has not been packed.
+   */
+  public SpriteRegion getRegion(final String name) {
+    return this.regions.get(name);
+  }
+
+  /**
+   * Gets the region of the sprite with the specified index of the specified spritesheet.
+   *
+   * @param spritesheet The spritesheet.
+   * @param index The index of the sprite.
+   * @return The region of the sprite or null if it has not been packed.
+   */
+  public SpriteRegion getRegion(final Spritesheet spritesheet, final int index) {
+    final SpriteRegion[] sheetRegions = this.spritesheetRegions.get(spritesheet);
+    if (sheetRegions == null || index < 0 || index >= sheetRegions.length) {
+      return null;
+    }
+
+    return sheetRegions[index];
+  }
+
+  /** Removes the regions of this atlas from the packed spritesheets. */
+  public void release() {
+    for (final Map.Entry<Spritesheet, SpriteRegion[]> sheet : this.spritesheetRegions.entrySet()) {
+      sheet.getKey().releaseRegions(sheet.getValue());
+    }
+  }
+
+  private static Entry getEntry(
+      final Map<BufferedImage, Entry> entries, final BufferedImage image, final int maxPageSize) {
+    if (image == null) {
+      return null;
+    }
+
+    final Entry existing = entries.get(image);
+    if (existing != null) {
+      return existing;
+    }
+
+    final Entry entry = trim(image);
+    if (entry == null) {
+      return null;
+    }
+
+    if (entry.width + PADDING > maxPageSize || entry.height + PADDING > maxPageSize) {
+      log.warning(
+          "sprite of size ["
+              + entry.width
+              + "x"
+              + entry.height
+              + "] exceeds the maximum page size of the sprite atlas ("
+              + maxPageSize
+              + ")");
+      return null;
+    }
+
+    entries.put(image, entry);
+    return entry;
+  }
+
+  private static Entry trim(final BufferedImage image) {
+    final int width = image.getWidth();
+    final int height = image.getHeight();
+    final int[] pixels = image.getRGB(0, 0, width, height, null, 0, width);
+
+    int minX = width;
+    int minY = height;
+    int maxX = -1;
+    int maxY = -1;
+    for (int y = 0; y < height; y++) {
+      final int row = y * width;
+      for (int x = 0; x < width; x++) {
+        if (pixels[row + x] >>> 24 != 0) {
+          minX = Math.min(minX, x);
+          maxX = Math.max(maxX, x);
+          minY = Math.min(minY, y);
+          maxY = y;
+        }
+      }
+    }
+
+    if (maxX < 0) {
+      return null;
+    }
+
+    return new Entry(image, minX, minY, maxX - minX + 1, maxY - minY + 1);
+  }
+
+  private static BufferedImage extract(
+      final BufferedImage atlasImage, final TextureAtlas.Sprite sprite) {
+    BufferedImage image =
+        atlasImage.getSubimage(sprite.getX(), sprite.getY(), sprite.getWidth(), sprite.getHeight());
+    if (sprite.isRotated()) {
+      image = Imaging.rotate(image, Rotation.ROTATE_270);
+    }
+
+    return image;
+  }
+
+  /**
+   * Distributes the entries on shelves of pages with the maximum size. Every page is shrunk to the
+   * smallest power of two dimensions that fit its content afterwards.
+   */
+  private void layout(final List<Entry> entries, final int maxPageSize) {
+    entries.sort(
+        Comparator.comparingInt((Entry e) -> e.height)
+            .thenComparingInt(e -> e.width)
+            .reversed());
+
+    final List<List<Entry>> pageEntries = new ArrayList<>();
+    final List<int[]> pageSizes = new ArrayList<>();
+    List<Entry> current = null;
+    int[] size = null;
+    int shelfX = 0;
+    int shelfY = 0;
+    int shelfHeight = 0;
+
+    for (final Entry entry : entries) {
+      final int width = entry.width + PADDING;
+      final int height = entry.height + PADDING;
+      if (current != null && shelfX + width > maxPageSize) {
+        shelfX = 0;
+        shelfY += shelfHeight;
+        shelfHeight = 0;
+      }
+
+      if (current == null || shelfY + height > maxPageSize) {
+        current = new ArrayList<>();
+        size = new int[2];
+        pageEntries.add(current);
+        pageSizes.add(size);
+        shelfX = 0;
+        shelfY = 0;
+        shelfHeight = 0;
+      }
+
+      entry.x = shelfX;
+      entry.y = shelfY;
+      current.add(entry);
+      shelfX += width;
+      shelfHeight = Math.max(shelfHeight, height);
+      size[0] = Math.max(size[0], entry.x + entry.width);
+      size[1] = Math.max(size[1], entry.y + entry.height);
+    }
+
+    for (int i = 0; i < pageEntries.size(); i++) {
+      final BufferedImage page =
+          Spritesheet.createImage(
+              Math.min(nextPowerOfTwo(pageSizes.get(i)[0]), maxPageSize),
+              Math.min(nextPowerOfTwo(pageSizes.get(i)[1]), maxPageSize));
+      final Graphics2D g = page.createGraphics();
+      try {
+        for (final Entry entry : pageEntries.get(i)) {
+          g.drawImage(
+              entry.source,
+              entry.x,
+              entry.y,
+              entry.x + entry.width,
+              entry.y + entry.height,
+              entry.trimX,
+              entry.trimY,
+              entry.trimX + entry.width,
+              entry.trimY + entry.height,
+              null);
+          entry.region =
+              new SpriteRegion(
+                  page,
+                  entry.source,
+                  entry.x,
+                  entry.y,
+                  entry.width,
+                  entry.height,
+                  entry.trimX,
+                  entry.trimY);
+        }
+      } finally {
+        g.dispose();
+      }
+
+      this.pages.add(page);
+    }
+  }
+
+  private static int nextPowerOfTwo(final int value) {
+    return value <= 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+  }
+
+  private static final class Entry {
+    private final BufferedImage source;
+    private final int trimX;
+    private final int trimY;
+    private final int width;
+    private final int height;
+    private int x;
+    private int y;
+    private SpriteRegion region;
+
+    private Entry(
+        final BufferedImage source,
+        final int trimX,
+        final int trimY,
+        final int width,
+        final int height) {
+      this.source = source;
+      this.trimX = trimX;
+      this.trimY = trimY;
+      this.width = width;
+      this.height = height;
+    }
+  }
+}
@@ -0,0 +1,133 @@
+package de.gurkenlabs.litiengine.graphics;
+
+import java.awt.image.BufferedImage;
+
+/**
+ * Describes the location of a single sprite on a page of a {@code SpriteAtlas}.
+ *
+ * <p>Transparent borders of the original sprite are trimmed when it is packed. The trim offset
+ * provides the location of the packed pixels relative to the original sprite bounds, so that the
+ * region can be rendered at the same location as the original sprite.
+ *
+ * @see SpriteAtlas
+ * @see ImageRenderer#render(java.awt.Graphics2D, SpriteRegion, double, double)
+ */
+public final class SpriteRegion {
+  private final BufferedImage page;
+  private final BufferedImage source;
+  private final int x;
+  private final int y;
+  private final int width;
+  private final int height;
+  private final int trimX;
+  private final int trimY;
+
+  SpriteRegion(
+      final BufferedImage page,
+      final BufferedImage source,
+      final int x,
+      final int y,
+      final int width,
+      final int height,
+      final int trimX,
+      final int trimY) {
+    this.page = page;
+    this.source = source;
+    this.x = x;
+    this.y = y;
+    this.width = width;
+    this.height = height;
+    this.trimX = trimX;
+    this.trimY = trimY;
+  }
+
+  /**
+   * Gets the atlas page that contains the pixels of this region.
+   *
+   * @return The page image of the atlas.
+   */
+  public BufferedImage getPage() {
+    return this.page;
+  }
+
+  /**
+   * Gets the original sprite image that has been packed into this region.
+   *
+   * @return The original sprite image.
+   */
+  public BufferedImage getSource() {
+    return this.source;
+  }
+
+  /**
+   * Gets the x-coordinate of this region on the atlas page.
+   *
+   * @return The x-coordinate on the page.
+   */
+  public int getX() {
+    return this.x;
+  }
+
+  /**
+   * Gets the y-coordinate of this region on the atlas page.
+   *
+   * @return The y-coordinate on the page.
+   */
+  public int getY() {
+    return this.y;
+  }
+
+  /**
+   * Gets the width of the trimmed pixels of this region.
+   *
+   * @return The trimmed width.
+   */
+  public int getWidth() {
+    return this.width;
+  }
+
+  /**
+   * Gets the height of the trimmed pixels of this region.
+   *
+   * @return The trimmed height.
+   */
+  public int getHeight() {
+    return this.height;
+  }
+
+  /**
+   * Gets the horizontal offset of the trimmed pixels relative to the original sprite.
+   *
+   * @return The horizontal trim offset.
+   */
+  public int getTrimX() {
+    return this.trimX;
+  }
+
+  /**
+   * Gets the vertical offset of the trimmed pixels relative to the original sprite.
+   *
+   * @return The vertical trim offset.
+   */
+  public int getTrimY() {
+    return this.trimY;
+  }
+
+  /**
+   * Gets the width of the original sprite, including its transparent borders.
+   *
+   * @return The original width.
+   */
+  public int getOriginalWidth() {
+    return this.source.getWidth();
+  }
+
+  /**
+   * Gets the height of the original sprite, including its transparent borders.
+   *
+   * @return The original height.
+   */
+  public int getOriginalHeight() {
+    return this.source.getHeight();
+  }
+}
@@ -6,24 +6,26 @@ import de.gurkenlabs.litiengine.resources.Resources;
 import de.gurkenlabs.litiengine.util.AlphanumComparator;
 import de.gurkenlabs.litiengine.util.Imaging;
 import de.gurkenlabs.litiengine.util.io.FileUtilities;
+import java.awt.Graphics2D;
+import java.awt.GraphicsEnvironment;
 import java.awt.Point;
 import java.awt.image.BufferedImage;
 import java.awt.image.RasterFormatException;
-import java.util.List;
+import java.util.BitSet;
 import java.util.Optional;
-import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.logging.Logger;
 
 public final class Spritesheet implements Comparable<Spritesheet> {
   private static final Logger log = Logger.getLogger(Spritesheet.class.getName());
 
-  private final List<Integer> emptySprites = new CopyOnWriteArrayList<>();
+  private final BitSet emptySprites = new BitSet();
 
   private final BufferedImage image;
   private final String name;
   private final ImageFormat imageFormat;
 
   private BufferedImage[] sprites;
+  private SpriteRegion[] regions;
   private int columns;
   private int rows;
   private int spriteHeight;
@@ -52,16 +54,10 @@ public final class Spritesheet implements Comparable<Spritesheet> {
     this.imageFormat = ImageFormat.get(FileUtilities.getExtension(path));
 
     this.updateRowsAndCols();
-    this.sprites = new BufferedImage[this.getTotalNumberOfSprites()];
 
     Resources.spritesheets().add(this.name, this);
 
-    Resources.images()
-        .addClearedListener(
-            () -> {
-              this.emptySprites.clear();
-              this.sprites = new BufferedImage[this.getTotalNumberOfSprites()];
-            });
+    Resources.images().addClearedListener(this::clearSprites);
   }
 
   @Override
@@ -130,7 +126,7 @@ public final class Spritesheet implements Comparable<Spritesheet> {
   }
 
   public BufferedImage getSprite(final int index, final int margin, final int spacing) {
-    if (this.emptySprites.contains(index) || this.sprites.length == 0) {
+    if (this.sprites.length == 0 || this.isEmpty(index)) {
       return null;
     }
 
@@ -145,13 +141,19 @@ public final class Spritesheet implements Comparable<Spritesheet> {
 
     final Point position = this.getLocation(index, margin, spacing);
     try {
-      final BufferedImage sprite =
+      final BufferedImage subImage =
           this.getImage().getSubimage(position.x, position.y, this.spriteWidth, this.spriteHeight);
-      if (Imaging.isEmpty(sprite)) {
-        emptySprites.add(index);
+      if (Imaging.isEmpty(subImage)) {
+        synchronized (this.emptySprites) {
+          this.emptySprites.set(index);
+        }
+
         return null;
       }
 
+      // copy the sprite to its own raster because sub-images that share the raster of the
+      // spritesheet cannot be accelerated
+      final BufferedImage sprite = copy(subImage);
       this.sprites[index] = sprite;
       return sprite;
     } catch (final RasterFormatException rfe) {
@@ -171,6 +173,23 @@ public final class Spritesheet implements Comparable<Spritesheet> {
     }
   }
 
+  /**
+   * Gets the region of the sprite with the specified index if this spritesheet has been packed into
+   * a {@code SpriteAtlas}.
+   *
+   * @param index the index of the sprite
+   * @return the region of the packed sprite or null if the sprite has not been packed
+   * @see SpriteAtlas#pack()
+   */
+  public SpriteRegion getRegion(final int index) {
+    final SpriteRegion[] packed = this.regions;
+    if (packed == null || index < 0 || index >= packed.length) {
+      return null;
+    }
+
+    return packed[index];
+  }
+
   /**
    * Gets the sprite height.
    *
@@ -217,6 +236,41 @@ public final class Spritesheet implements Comparable<Spritesheet> {
     this.updateRowsAndCols();
   }
 
+  void setRegions(final SpriteRegion[] regions) {
+    this.regions = regions.length == this.getTotalNumberOfSprites() ? regions : null;
+  }
+
+  void releaseRegions(final SpriteRegion[] regions) {
+    if (this.regions == regions) {
+      this.regions = null;
+    }
+  }
+
+  /**
+   * Creates an image for sprites or atlas pages that is compatible with the screen device. Without
+   * a display, there is no screen device, so an ARGB image is created instead.
+   */
+  static BufferedImage createImage(final int width, final int height) {
+    return GraphicsEnvironment.isHeadless()
+        ? new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB)
+        : Imaging.getCompatibleImage(width, height);
+  }
+
+  private boolean isEmpty(final int index) {
+    synchronized (this.emptySprites) {
+      return this.emptySprites.get(index);
+    }
+  }
+
+  private void clearSprites() {
+    synchronized (this.emptySprites) {
+      this.emptySprites.clear();
+    }
+
+    this.sprites = new BufferedImage[this.getTotalNumberOfSprites()];
+    this.regions = null;
+  }
+
   private void checkWidth(int value) {
     checkDimension(value, this.getImage().getWidth(), this.getName(), "width");
   }
@@ -266,6 +320,14 @@ public final class Spritesheet implements Comparable<Spritesheet> {
     }
   }
 
+  private static BufferedImage copy(final BufferedImage subImage) {
+    final BufferedImage copy = createImage(subImage.getWidth(), subImage.getHeight());
+    final Graphics2D g = copy.createGraphics();
+    g.drawImage(subImage, 0, 0, null);
+    g.dispose();
+    return copy;
+  }
+
   private Point getLocation(final int index, final int margin, final int spacing) {
     final int row = index / this.getColumns();
     final int column = index % this.getColumns();
@@ -279,5 +341,6 @@ public final class Spritesheet implements Comparable<Spritesheet> {
     final BufferedImage sprite = this.getImage();
     this.columns = sprite.getWidth() / this.spriteWidth;
     this.rows = sprite.getHeight() / this.spriteHeight;
+    this.clearSprites();
   }
 }
@@ -0,0 +1,489 @@
+package de.gurkenlabs.litiengine.graphics;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.Shape;
+import java.awt.font.FontRenderContext;
+import java.awt.font.GlyphVector;
+import java.awt.font.LineBreakMeasurer;
+import java.awt.font.TextAttribute;
+import java.awt.font.TextLayout;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.text.AttributedString;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A size-bounded cache for the measured and laid-out text of the {@code TextRenderer}. Entries are
+ * evicted in least recently used order once the capacity is exceeded.
+ *
+ * <p>Numeric strings that are rendered with an outline (e.g. damage numbers or counters) are
+ * composed from a pre-rasterized digit atlas instead, which doesn't require an entry for every
+ * single value.
+ */
+final class TextCache {
+  static final int DEFAULT_CAPACITY = 1024;
+
+  private static final int ATLAS_CAPACITY = 32;
+  private static final String ATLAS_CHARACTERS = "0123456789+-.,:%/ ";
+  private static final int BOUNDS = 0;
+  private static final int OUTLINE = 1;
+  private static final int WRAPPED = 2;
+
+  private final Map<Key, Object> entries;
+  private final Map<AtlasKey, DigitAtlas> atlases;
+  private int capacity;
+  private long hits;
+  private long misses;
+
+  TextCache() {
+    this.capacity = DEFAULT_CAPACITY;
+    this.entries =
+        new LinkedHashMap<Key, Object>(64, 0.75f, true) {
+          private static final long serialVersionUID = 1L;
+
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<Key, Object> eldest) {
+            return this.size() > TextCache.this.capacity;
+          }
+        };
+    this.atlases =
+        new LinkedHashMap<AtlasKey, DigitAtlas>(8, 0.75f, true) {
+          private static final long serialVersionUID = 1L;
+
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<AtlasKey, DigitAtlas> eldest) {
+            return this.size() > ATLAS_CAPACITY;
+          }
+        };
+  }
+
+  /**
+   * Determines whether the specified text can be rendered from a digit atlas.
+   *
+   * @param text the text to check
+   * @return true if the text only consists of digits and common numeric symbols
+   */
+  static boolean isNumeric(final String text) {
+    for (int i = 0; i < text.length(); i++) {
+      if (ATLAS_CHARACTERS.indexOf(text.charAt(i)) == -1) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  synchronized int getCapacity() {
+    return this.capacity;
+  }
+
+  synchronized void setCapacity(final int capacity) {
+    this.capacity = Math.max(0, capacity);
+    while (this.entries.size() > this.capacity) {
+      this.entries.remove(this.entries.keySet().iterator().next());
+    }
+  }
+
+  synchronized int size() {
+    return this.entries.size();
+  }
+
+  synchronized long getHits() {
+    return this.hits;
+  }
+
+  synchronized long getMisses() {
+    return this.misses;
+  }
+
+  synchronized void clear() {
+    this.entries.clear();
+    this.atlases.clear();
+    this.hits = 0;
+    this.misses = 0;
+  }
+
+  synchronized Rectangle2D getBounds(
+      final Font font, final FontRenderContext frc, final String text) {
+    final Key key = new Key(BOUNDS, text, font, frc, 0);
+    Rectangle2D bounds = (Rectangle2D) this.get(key);
+    if (bounds == null) {
+      bounds = font.getStringBounds(text, frc);
+      this.entries.put(key, bounds);
+    }
+
+    return (Rectangle2D) bounds.clone();
+  }
+
+  synchronized OutlinedText getOutline(
+      final Font font, final FontRenderContext frc, final String text) {
+    final Key key = new Key(OUTLINE, text, font, frc, 0);
+    OutlinedText outline = (OutlinedText) this.get(key);
+    if (outline == null) {
+      outline = new OutlinedText(font.createGlyphVector(frc, text));
+      this.entries.put(key, outline);
+    }
+
+    return outline;
+  }
+
+  synchronized WrappedText getWrapped(
+      final Font font, final FontRenderContext frc, final String text, final float width) {
+    final Key key = new Key(WRAPPED, text, font, frc, width);
+    WrappedText wrapped = (WrappedText) this.get(key);
+    if (wrapped == null) {
+      wrapped = new WrappedText(font, frc, text, width);
+      this.entries.put(key, wrapped);
+    }
+
+    return wrapped;
+  }
+
+  synchronized DigitAtlas getAtlas(
+      final Graphics2D g, final Color outlineColor, final float stroke) {
+    final AffineTransform transform = g.getTransform();
+    final AtlasKey key =
+        new AtlasKey(
+            g.getFont(),
+            g.getFontRenderContext(),
+            g.getColor(),
+            outlineColor,
+            stroke,
+            RenderingHints.VALUE_ANTIALIAS_ON.equals(
+                g.getRenderingHint(RenderingHints.KEY_ANTIALIASING)),
+            transform.getScaleX(),
+            transform.getScaleY());
+    DigitAtlas atlas = this.atlases.get(key);
+    if (atlas == null) {
+      atlas = new DigitAtlas(key);
+      this.atlases.put(key, atlas);
+    }
+
+    return atlas;
+  }
+
+  private Object get(final Key key) {
+    final Object entry = this.entries.get(key);
+    if (entry != null) {
+      this.hits++;
+    } else {
+      this.misses++;
+    }
+
+    return entry;
+  }
+
+  static final class OutlinedText {
+    private final Shape outline;
+    private final Rectangle2D visualBounds;
+
+    private OutlinedText(final GlyphVector glyphVector) {
+      this.outline = glyphVector.getOutline();
+      this.visualBounds = glyphVector.getVisualBounds();
+    }
+
+    Shape getOutline() {
+      return this.outline;
+    }
+
+    Rectangle2D getVisualBounds() {
+      return this.visualBounds;
+    }
+  }
+
+  static final class WrappedText {
+    private final TextLayout[] lines;
+    private final float height;
+
+    private WrappedText(
+        final Font font, final FontRenderContext frc, final String text, final float width) {
+      final List<TextLayout> layouts = new ArrayList<>();
+      float textHeight = 0f;
+      for (String s : text.split(System.lineSeparator())) {
+        if (s.isEmpty()) {
+          // empty lines can't be measured but still take up the height of a line
+          layouts.add(new TextLayout(" ", font, frc));
+          continue;
+        }
+
+        final AttributedString styledText = new AttributedString(s);
+        styledText.addAttribute(TextAttribute.FONT, font);
+        final LineBreakMeasurer measurer = new LineBreakMeasurer(styledText.getIterator(), frc);
+        while (measurer.getPosition() < s.length()) {
+          layouts.add(measurer.nextLayout(width));
+        }
+      }
+
+      for (int i = 0; i < layouts.size(); i++) {
+        final TextLayout layout = layouts.get(i);
+        textHeight += layout.getAscent() + layout.getDescent();
+        if (i < layouts.size() - 1) {
+          textHeight += layout.getLeading();
+        }
+      }
+
+      this.lines = layouts.toArray(new TextLayout[0]);
+      this.height = textHeight;
+    }
+
+    TextLayout[] getLines() {
+      return this.lines;
+    }
+
+    float getHeight() {
+      return this.height;
+    }
+  }
+
+  /**
+   * Pre-rasterized glyphs of the digits and common numeric symbols for a particular font, color,
+   * outline and scale. The glyphs are positioned by their advances, which is exactly how a {@code
+   * GlyphVector} of the whole string is laid out.
+   */
+  static final class DigitAtlas {
+    private final BufferedImage[] images;
+    private final double[] offsetX;
+    private final double[] offsetY;
+    private final double[] advances;
+    private final Rectangle2D[] visualBounds;
+    private final double scaleX;
+    private final double scaleY;
+
+    private DigitAtlas(final AtlasKey key) {
+      final int count = ATLAS_CHARACTERS.length();
+      this.images = new BufferedImage[count];
+      this.offsetX = new double[count];
+      this.offsetY = new double[count];
+      this.advances = new double[count];
+      this.visualBounds = new Rectangle2D[count];
+      this.scaleX = key.scaleX;
+      this.scaleY = key.scaleY;
+
+      final BasicStroke outlineStroke = key.outlineColor != null ? new BasicStroke(key.stroke) : null;
+      final double padding = (outlineStroke != null ? key.stroke / 2.0 : 0) + 1;
+      for (int i = 0; i < count; i++) {
+        final GlyphVector glyphVector =
+            key.font.createGlyphVector(key.frc, String.valueOf(ATLAS_CHARACTERS.charAt(i)));
+        this.advances[i] = glyphVector.getGlyphPosition(1).getX();
+        this.visualBounds[i] = glyphVector.getVisualBounds();
+        if (this.visualBounds[i].isEmpty()) {
+          continue;
+        }
+
+        // align the image with the device pixels so that the glyph origin stays on a pixel
+        final Rectangle2D area = this.visualBounds[i];
+        final double deviceMinX = Math.floor((area.getMinX() - padding) * this.scaleX);
+        final double deviceMinY = Math.floor((area.getMinY() - padding) * this.scaleY);
+        final double minX = deviceMinX / this.scaleX;
+        final double minY = deviceMinY / this.scaleY;
+        final int width =
+            (int) (Math.ceil((area.getMaxX() + padding) * this.scaleX) - deviceMinX) + 1;
+        final int height =
+            (int) (Math.ceil((area.getMaxY() + padding) * this.scaleY) - deviceMinY) + 1;
+
+        final BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        final Graphics2D g = image.createGraphics();
+        if (key.antiAliasing) {
+          TextRenderer.enableTextAntiAliasing(g);
+        }
+
+        g.scale(this.scaleX, this.scaleY);
+        g.translate(-minX, -minY);
+        final Shape outline = glyphVector.getOutline();
+        if (outlineStroke != null) {
+          g.setColor(key.outlineColor);
+          g.setStroke(outlineStroke);
+          g.draw(outline);
+        }
+
+        g.setColor(key.color);
+        g.fill(outline);
+        g.dispose();
+
+        this.images[i] = image;
+        this.offsetX[i] = minX;
+        this.offsetY[i] = minY;
+      }
+    }
+
+    /**
+     * Gets the visual bounds of the specified text relative to its baseline origin, equivalent to
+     * {@link GlyphVector#getVisualBounds()}.
+     *
+     * @param text the numeric text
+     * @return the visual bounds of the text
+     */
+    Rectangle2D getVisualBounds(final String text) {
+      double pen = 0;
+      double minX = Double.MAX_VALUE;
+      double minY = Double.MAX_VALUE;
+      double maxX = -Double.MAX_VALUE;
+      double maxY = -Double.MAX_VALUE;
+      for (int i = 0; i < text.length(); i++) {
+        final int index = ATLAS_CHARACTERS.indexOf(text.charAt(i));
+        final Rectangle2D bounds = this.visualBounds[index];
+        if (!bounds.isEmpty()) {
+          minX = Math.min(minX, pen + bounds.getMinX());
+          minY = Math.min(minY, bounds.getMinY());
+          maxX = Math.max(maxX, pen + bounds.getMaxX());
+          maxY = Math.max(maxY, bounds.getMaxY());
+        }
+
+        pen += this.advances[index];
+      }
+
+      if (minX > maxX) {
+        return new Rectangle2D.Double();
+      }
+
+      return new Rectangle2D.Double(minX, minY, maxX - minX, maxY - minY);
+    }
+
+    /**
+     * Renders the specified text with its baseline origin at the given location.
+     *
+     * @param g the graphics object to render on
+     * @param text the numeric text
+     * @param x the x-coordinate of the baseline origin
+     * @param y the y-coordinate of the baseline origin
+     */
+    void render(final Graphics2D g, final String text, final double x, final double y) {
+      final AffineTransform transform = g.getTransform();
+      final double translateX = transform.getTranslateX();
+      final double translateY = transform.getTranslateY();
+
+      // draw the glyphs in device space, snapped to pixels to keep them crisp
+      g.setTransform(new AffineTransform());
+      try {
+        double pen = x;
+        for (int i = 0; i < text.length(); i++) {
+          final int index = ATLAS_CHARACTERS.indexOf(text.charAt(i));
+          final BufferedImage image = this.images[index];
+          if (image != null) {
+            final double deviceX = (pen + this.offsetX[index]) * this.scaleX + translateX;
+            final double deviceY = (y + this.offsetY[index]) * this.scaleY + translateY;
+            g.drawImage(image, (int) Math.round(deviceX), (int) Math.round(deviceY), null);
+          }
+
+          pen += this.advances[index];
+        }
+      } finally {
+        g.setTransform(transform);
+      }
+    }
+  }
+
+  private static final class Key {
+    private final int type;
+    private final String text;
+    private final Font font;
+    private final FontRenderContext frc;
+    private final float width;
+    private final int hash;
+
+    private Key(
+        final int type,
+        final String text,
+        final Font font,
+        final FontRenderContext frc,
+        final float width) {
+      this.type = type;
+      this.text = text;
+      this.font = font;
+      this.frc = frc;
+      this.width = width;
+      this.hash = Objects.hash(type, text, font, frc, width);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+      if (this == obj) {
+        return true;
+      }
+
+      if (!(obj instanceof Key)) {
+        return false;
+      }
+
+      final Key other = (Key) obj;
+      return this.type == other.type
+          && Float.compare(this.width, other.width) == 0
+          && this.text.equals(other.text)
+          && this.font.equals(other.font)
+          && this.frc.equals(other.frc);
+    }
+
+    @Override
+    public int hashCode() {
+      return this.hash;
+    }
+  }
+
+  private static final class AtlasKey {
+    private final Font font;
+    private final FontRenderContext frc;
+    private final Color color;
+    private final Color outlineColor;
+    private final float stroke;
+    private final boolean antiAliasing;
+    private final double scaleX;
+    private final double scaleY;
+    private final int hash;
+
+    private AtlasKey(
+        final Font font,
+        final FontRenderContext frc,
+        final Color color,
+        final Color outlineColor,
+        final float stroke,
+        final boolean antiAliasing,
+        final double scaleX,
+        final double scaleY) {
+      this.font = font;
+      this.frc = frc;
+      this.color = color;
+      this.outlineColor = outlineColor;
+      this.stroke = stroke;
+      this.antiAliasing = antiAliasing;
+      this.scaleX = scaleX;
+      this.scaleY = scaleY;
+      this.hash =
+          Objects.hash(font, frc, color, outlineColor, stroke, antiAliasing, scaleX, scaleY);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+      if (this == obj) {
+        return true;
+      }
+
+      if (!(obj instanceof AtlasKey)) {
+        return false;
+      }
+
+      final AtlasKey other = (AtlasKey) obj;
+      return Float.compare(this.stroke, other.stroke) == 0
+          && this.antiAliasing == other.antiAliasing
+          && Double.compare(this.scaleX, other.scaleX) == 0
+          && Double.compare(this.scaleY, other.scaleY) == 0
+          && this.font.equals(other.font)
+          && this.frc.equals(other.frc)
+          && Objects.equals(this.color, other.color)
+          && Objects.equals(this.outlineColor, other.outlineColor);
+    }
+
+    @Override
+    public int hashCode() {
+      return this.hash;
+    }
+  }
+}
@@ -11,24 +11,62 @@ import java.awt.Graphics2D;
 import java.awt.RenderingHints;
 import java.awt.Shape;
 import java.awt.Stroke;
-import java.awt.font.FontRenderContext;
-import java.awt.font.GlyphVector;
-import java.awt.font.LineBreakMeasurer;
-import java.awt.font.TextAttribute;
 import java.awt.font.TextLayout;
 import java.awt.geom.AffineTransform;
 import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
-import java.text.AttributedCharacterIterator;
-import java.text.AttributedString;
-import java.util.ArrayList;
-import java.util.List;
 
+/**
+ * Renders text on a {@code Graphics2D} object.
+ *
+ * <p>Measured text, outlines and line breaks are kept in a size-bounded cache keyed by the string,
+ * font, font render context and line width, so rendering the same texts every frame doesn't lay
+ * them out again. Numeric strings that are rendered with an outline are composed from a
+ * pre-rasterized digit atlas per font.
+ *
+ * @see #setCacheCapacity(int)
+ */
 public final class TextRenderer {
+  private static final TextCache cache = new TextCache();
+
+  private static final int UNSUPPORTED_ATLAS_TRANSFORMS =
+      AffineTransform.TYPE_FLIP
+          | AffineTransform.TYPE_QUADRANT_ROTATION
+          | AffineTransform.TYPE_GENERAL_ROTATION
+          | AffineTransform.TYPE_GENERAL_TRANSFORM;
+
   private TextRenderer() {
     throw new UnsupportedOperationException();
   }
 
+  /**
+   * Gets the maximum number of measured and laid-out texts that are cached.
+   *
+   * @return the capacity of the text cache
+   */
+  public static int getCacheCapacity() {
+    return cache.getCapacity();
+  }
+
+  /**
+   * Sets the maximum number of measured and laid-out texts that are cached. Once the capacity is
+   * exceeded, the least recently used entries are evicted. A capacity of 0 disables the cache.
+   *
+   * @param capacity the capacity of the text cache
+   */
+  public static void setCacheCapacity(final int capacity) {
+    cache.setCapacity(capacity);
+  }
+
+  /** Removes all cached text layouts and digit atlases. */
+  public static void clearCache() {
+    cache.clear();
+  }
+
+  static TextCache getCache() {
+    return cache;
+  }
+
   /**
    * Draw text at the given coordinates. This variant of drawText() uses
    * RenderingHints.VALUE_TEXT_ANTIALIAS_OFF as Anti-Aliasing method by standard. For other
@@ -279,26 +317,10 @@ public final class TextRenderer {
       enableTextAntiAliasing(g);
     }
 
-    final FontRenderContext frc = g.getFontRenderContext();
-    List<TextLayout> lines = new ArrayList<>();
-    float textHeight = 0f;
-    for (String s : text.split(System.lineSeparator())) {
-      final AttributedString styledText = new AttributedString(s);
-      styledText.addAttribute(TextAttribute.FONT, g.getFont());
-      final AttributedCharacterIterator iterator = styledText.getIterator();
-      final LineBreakMeasurer measurer = new LineBreakMeasurer(iterator, frc);
-      while (true) {
-        TextLayout nextLayout = measurer.nextLayout((float) width);
-        lines.add(nextLayout);
-        textHeight += nextLayout.getAscent() + nextLayout.getDescent();
-        if (measurer.getPosition() >= text.length()) {
-          break;
-        }
-        textHeight += nextLayout.getLeading();
-      }
-    }
-    float textY = (float) (y + valign.getLocation(height, textHeight));
-    for (TextLayout layout : lines) {
+    final TextCache.WrappedText wrapped =
+        cache.getWrapped(g.getFont(), g.getFontRenderContext(), text, (float) width);
+    float textY = (float) (y + valign.getLocation(height, wrapped.getHeight()));
+    for (TextLayout layout : wrapped.getLines()) {
       textY += layout.getAscent();
       layout.draw(g, (float) (x + align.getLocation(width, layout.getAdvance())), textY);
       textY += layout.getDescent() + layout.getLeading();
@@ -423,27 +445,44 @@ public final class TextRenderer {
     Stroke originalStroke = g.getStroke();
     RenderingHints originalHints = g.getRenderingHints();
 
-    // create a glyph vector from your text
-    GlyphVector glyphVector = g.getFont().createGlyphVector(g.getFontRenderContext(), text);
-    Rectangle2D bounds = glyphVector.getVisualBounds();
-    // get the shape object
-    AffineTransform at = new AffineTransform();
-    at.translate(
-        x + align.getLocation(width, bounds.getWidth()),
-        y + valign.getLocation(height, bounds.getHeight()) + bounds.getHeight());
-    Shape textShape = at.createTransformedShape(glyphVector.getOutline());
-
     // activate anti aliasing for text rendering (if you want it to look nice)
-
     if (antiAliasing) {
       enableTextAntiAliasing(g);
     }
+
+    // numbers that change frequently are composed from pre-rasterized glyphs
+    if (TextCache.isNumeric(text)
+        && g.getPaint() instanceof Color
+        && !g.getFont().isTransformed()
+        && (g.getTransform().getType() & UNSUPPORTED_ATLAS_TRANSFORMS) == 0) {
+      final TextCache.DigitAtlas atlas = cache.getAtlas(g, outlineColor, stroke);
+      final Rectangle2D bounds = atlas.getVisualBounds(text);
+      atlas.render(
+          g,
+          text,
+          x + align.getLocation(width, bounds.getWidth()),
+          y + valign.getLocation(height, bounds.getHeight()) + bounds.getHeight());
+      g.setRenderingHints(originalHints);
+      return;
+    }
+
+    // get the cached outline of the text
+    final TextCache.OutlinedText outline =
+        cache.getOutline(g.getFont(), g.getFontRenderContext(), text);
+    final Rectangle2D bounds = outline.getVisualBounds();
+    final double translateX = x + align.getLocation(width, bounds.getWidth());
+    final double translateY =
+        y + valign.getLocation(height, bounds.getHeight()) + bounds.getHeight();
+    final Shape textShape = outline.getOutline();
+
+    g.translate(translateX, translateY);
     g.setColor(outlineColor);
     g.setStroke(outlineStroke);
     g.draw(textShape); // draw outline
 
     g.setColor(fillColor);
     g.fill(textShape); // fill the shape
+    g.translate(-translateX, -translateY);
 
     // reset to original settings after drawing
     g.setColor(originalColor);
@@ -469,7 +508,7 @@ public final class TextRenderer {
    * @see java.awt.FontMetrics#getStringBounds(String str, Graphics context)
    */
   public static Rectangle2D getBounds(final Graphics2D g, final String text) {
-    return g.getFontMetrics().getStringBounds(text, g);
+    return cache.getBounds(g.getFont(), g.getFontRenderContext(), text);
   }
 
   /**
@@ -3,6 +3,7 @@ package de.gurkenlabs.litiengine.graphics.animation;
 import de.gurkenlabs.litiengine.Game;
 import de.gurkenlabs.litiengine.ILoop;
 import de.gurkenlabs.litiengine.graphics.ImageEffect;
+import de.gurkenlabs.litiengine.graphics.ImageEffectPipeline;
 import de.gurkenlabs.litiengine.graphics.Spritesheet;
 import de.gurkenlabs.litiengine.resources.Resources;
 import de.gurkenlabs.litiengine.util.Imaging;
@@ -19,6 +20,8 @@ import java.util.concurrent.CopyOnWriteArrayList;
 
 public class AnimationController implements IAnimationController {
   private static final int MAX_IMAGE_EFFECTS = 20;
+  private static final ImageEffectPipeline imageEffectPipeline = new ImageEffectPipeline();
+
   private AffineTransform affineTransform;
   private final Map<String, Animation> animations;
   private Animation currentAnimation;
@@ -199,13 +202,9 @@ public class AnimationController implements IAnimationController {
       return opt.get();
     }
 
-    BufferedImage sprite =
+    final BufferedImage sprite =
         current.getSpritesheet().getSprite(current.getCurrentKeyFrame().getSpriteIndex());
-    for (final ImageEffect effect : this.getImageEffects()) {
-      sprite = effect.apply(sprite);
-    }
-
-    return sprite;
+    return imageEffectPipeline.apply(sprite, this.getImageEffects());
   }
 
   @Override
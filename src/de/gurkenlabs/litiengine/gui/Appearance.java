@@ -21,6 +21,10 @@ public class Appearance {
   private boolean horizontalBackgroundGradient;
   private boolean transparentBackground;
 
+  private Paint backgroundPaint;
+  private double backgroundPaintWidth;
+  private double backgroundPaintHeight;
+
   public Appearance() {
     this.changedConsumer = new CopyOnWriteArrayList<>();
   }
@@ -91,13 +95,25 @@ public class Appearance {
       return this.backgroundColor1;
     }
 
-    if (this.horizontalBackgroundGradient) {
-      return new GradientPaint(
-          0, 0, this.backgroundColor1, (float) (width / 2.0), 0, this.backgroundColor2);
-    } else {
-      return new GradientPaint(
-          0, 0, this.backgroundColor1, 0, (float) (height / 2.0), this.backgroundColor2);
+    // the gradient is cached until the appearance or the requested size changes
+    if (this.backgroundPaint == null
+        || this.backgroundPaintWidth != width
+        || this.backgroundPaintHeight != height) {
+      if (this.horizontalBackgroundGradient) {
+        this.backgroundPaint =
+            new GradientPaint(
+                0, 0, this.backgroundColor1, (float) (width / 2.0), 0, this.backgroundColor2);
+      } else {
+        this.backgroundPaint =
+            new GradientPaint(
+                0, 0, this.backgroundColor1, 0, (float) (height / 2.0), this.backgroundColor2);
+      }
+
+      this.backgroundPaintWidth = width;
+      this.backgroundPaintHeight = height;
     }
+
+    return this.backgroundPaint;
   }
 
   public Color getBorderColor() {
@@ -173,6 +189,7 @@ public class Appearance {
   }
 
   protected void fireOnChangeEvent() {
+    this.backgroundPaint = null;
     for (Consumer<Appearance> cons : this.changedConsumer) {
       cons.accept(this);
     }
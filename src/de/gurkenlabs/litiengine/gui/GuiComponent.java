@@ -12,6 +12,7 @@ import de.gurkenlabs.litiengine.sound.Sound;
 import de.gurkenlabs.litiengine.tweening.TweenType;
 import de.gurkenlabs.litiengine.tweening.Tweenable;
 import de.gurkenlabs.litiengine.util.ColorHelper;
+import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.Font;
 import java.awt.FontMetrics;
@@ -28,9 +29,15 @@ import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
 import java.awt.geom.RectangularShape;
 import java.awt.geom.RoundRectangle2D;
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 /**
  * The abstract Class GuiComponent provides all properties and methods needed for screens, built-in,
@@ -48,6 +55,7 @@ public abstract class GuiComponent
     ICON_FONT = icon != null ? icon.deriveFont(16f) : null;
   }
 
+  private final List<Consumer<ComponentMouseEvent>> captureConsumer;
   private final List<Consumer<ComponentMouseEvent>> clickConsumer;
   private final List<Consumer<ComponentMouseEvent>> mouseDraggedConsumer;
   private final List<Consumer<ComponentMouseEvent>> mouseEnterConsumer;
@@ -78,6 +86,13 @@ public abstract class GuiComponent
   private Color textShadowColor;
   private float textShadowRadius;
 
+  private MouseEventDispatcher mouseEventDispatcher;
+  private RenderCache renderCache;
+  private int renderRevision;
+  private long dirtyState;
+  private long dirtyStructure;
+  private Rectangle2D dirtyBounds;
+  private Rectangle2D dirtySubtreeBounds;
   private boolean isHovered;
   private boolean isPressed;
   private boolean isSelected;
@@ -116,7 +131,8 @@ public abstract class GuiComponent
    * @param height the height
    */
   protected GuiComponent(final double x, final double y, final double width, final double height) {
-    this.components = new CopyOnWriteArrayList<>();
+    this.components = new ComponentList();
+    this.captureConsumer = new CopyOnWriteArrayList<>();
     this.clickConsumer = new CopyOnWriteArrayList<>();
     this.hoverConsumer = new CopyOnWriteArrayList<>();
     this.mousePressedConsumer = new CopyOnWriteArrayList<>();
@@ -263,6 +279,15 @@ public abstract class GuiComponent
     return new Point2D.Double(this.getX(), this.getY());
   }
 
+  /**
+   * Gets the dispatcher that forwards the mouse events to this GuiComponent.
+   *
+   * @return the mouse event dispatcher or null if this component listens to the mouse directly
+   */
+  public MouseEventDispatcher getMouseEventDispatcher() {
+    return this.mouseEventDispatcher;
+  }
+
   /**
    * Gets the name of this GuiComponent.
    *
@@ -451,6 +476,16 @@ public abstract class GuiComponent
     return this.isHovered;
   }
 
+  /**
+   * Checks if this GuiComponent and its child components are rendered to a cached image.
+   *
+   * @return true, if the render cache is enabled
+   * @see #setRenderCacheEnabled(boolean)
+   */
+  public boolean isRenderCacheEnabled() {
+    return this.renderCache != null;
+  }
+
   /**
    * Checks if the mouse button is currently being pressed on this GuiComponent.
    *
@@ -592,6 +627,20 @@ public abstract class GuiComponent
         .forEach(consumer -> consumer.accept(new ComponentMouseWheelEvent(e, this)));
   }
 
+  /**
+   * Add a callback that is being executed in the capture phase of a mouse event that is dispatched
+   * by a {@link MouseEventDispatcher}, i.e. before the event is handled by the target component
+   * under the cursor. The callback is executed for the target and all its ancestors from the root
+   * down to the target and can stop the event from being propagated any further by consuming it.
+   *
+   * @param callback the callback
+   */
+  public void onMouseCapture(final Consumer<ComponentMouseEvent> callback) {
+    if (!this.captureConsumer.contains(callback)) {
+      this.captureConsumer.add(callback);
+    }
+  }
+
   /**
    * Add a callback that is being executed if this GuiComponent is clicked once.
    *
@@ -708,18 +757,36 @@ public abstract class GuiComponent
   /**
    * Prepare the GuiComponent and all its child Components (Makes the GuiComponent visible and adds
    * mouse listeners.). This is, for example, done right before switching to a new screen.
+   *
+   * <p>If the component is part of a tree that is handled by a {@link MouseEventDispatcher}, no
+   * mouse listeners are added because the dispatcher forwards the events to this component.
    */
   public void prepare() {
     this.suspended = false;
     this.visible = true;
-    Input.mouse().addMouseListener(this);
-    Input.mouse().onWheelMoved(this);
-    Input.mouse().addMouseMotionListener(this);
+    if (this.mouseEventDispatcher == null) {
+      Input.mouse().addMouseListener(this);
+      Input.mouse().onWheelMoved(this);
+      Input.mouse().addMouseMotionListener(this);
+    }
+
     for (final GuiComponent component : this.getComponents()) {
       component.prepare();
     }
   }
 
+  /**
+   * Marks the rendering of this GuiComponent as changed. This is only required for components whose
+   * appearance depends on state that is not tracked by the GuiComponent itself (e.g. custom fields
+   * of a subclass that are used in an overridden {@link #render(Graphics2D)} method) in order to
+   * refresh a render cache and the dirty region of the screen.
+   *
+   * @see #setRenderCacheEnabled(boolean)
+   */
+  public void invalidate() {
+    this.renderRevision++;
+  }
+
   /**
    * Note: If you override this and are modifying swing components, be sure you are in the AWT
    * thread when you do so!
@@ -757,7 +824,11 @@ public abstract class GuiComponent
         continue;
       }
 
-      component.render(g);
+      if (component.renderCache != null) {
+        component.renderCache.render(g, component);
+      } else {
+        component.render(g);
+      }
     }
 
     if (Game.config().debug().renderGuiComponentBoundingBoxes()) {
@@ -885,6 +956,7 @@ public abstract class GuiComponent
   public void setDimension(final double width, final double height) {
     this.width = width;
     this.height = height;
+    this.updateMouseEventDispatcher();
   }
 
   /**
@@ -936,6 +1008,7 @@ public abstract class GuiComponent
    */
   public void setHeight(final double height) {
     this.height = height;
+    this.updateMouseEventDispatcher();
   }
 
   /**
@@ -1098,6 +1171,28 @@ public abstract class GuiComponent
     }
   }
 
+  /**
+   * Enables or disables the render cache of this GuiComponent. If enabled, the component and all
+   * its child components are rendered into a cached image that its parent draws instead of
+   * rendering the subtree every frame. The cache is only updated if the properties, appearance,
+   * text, hover, pressed or selection state of a component in the subtree change or if child
+   * components are added, removed or moved. This is meant for static menus and HUD panels whose
+   * contents rarely change.
+   *
+   * <p>Components that render anything that changes over time (e.g. animations or a blinking text
+   * cursor) either must not be cached or need to call {@link #invalidate()} whenever their
+   * rendering changes.
+   *
+   * @param renderCacheEnabled true to render this component to a cached image
+   */
+  public void setRenderCacheEnabled(final boolean renderCacheEnabled) {
+    if (renderCacheEnabled == this.isRenderCacheEnabled()) {
+      return;
+    }
+
+    this.renderCache = renderCacheEnabled ? new RenderCache() : null;
+  }
+
   /**
    * Sets the GuiComponent's width.
    *
@@ -1105,6 +1200,7 @@ public abstract class GuiComponent
    */
   public void setWidth(final double width) {
     this.width = width;
+    this.updateMouseEventDispatcher();
   }
 
   /**
@@ -1115,6 +1211,7 @@ public abstract class GuiComponent
   public void setX(final double x) {
     final double delta = x - this.x;
     this.x = x;
+    this.updateMouseEventDispatcher();
 
     for (final GuiComponent component : this.getComponents()) {
       component.setX(component.getX() + delta);
@@ -1129,6 +1226,7 @@ public abstract class GuiComponent
   public void setY(final double y) {
     final double delta = y - this.y;
     this.y = y;
+    this.updateMouseEventDispatcher();
     for (final GuiComponent component : this.getComponents()) {
       component.setY(component.getY() + delta);
     }
@@ -1274,6 +1372,176 @@ public abstract class GuiComponent
         && this.getBoundingBox().contains(e.getPoint());
   }
 
+  /**
+   * Determines the region that has changed since the last call of this method by comparing the
+   * render state and bounds of all components in this subtree with the state at the last call.
+   *
+   * @return the region that needs to be rendered again or null if nothing has changed
+   */
+  protected Rectangle2D pollDirtyRegion() {
+    return this.pollDirtyRegion(null);
+  }
+
+  /**
+   * Gets the bounds of everything that is rendered by this GuiComponent and its visible child
+   * components, including borders.
+   *
+   * @return the render bounds
+   */
+  Rectangle2D getRenderBounds() {
+    final Rectangle2D bounds = this.getPaddedBounds();
+    for (final GuiComponent component : this.getComponents()) {
+      if (component.isVisible() && !component.isSuspended()) {
+        bounds.add(component.getRenderBounds());
+      }
+    }
+
+    return bounds;
+  }
+
+  /**
+   * Gets a hash over everything that affects the rendering of this GuiComponent and its visible
+   * child components, except for its absolute location.
+   *
+   * @return the render state of this subtree
+   */
+  long getRenderState() {
+    long state = this.getOwnRenderState();
+    for (final GuiComponent component : this.getComponents()) {
+      state = 31 * state + System.identityHashCode(component);
+      if (component.isVisible() && !component.isSuspended()) {
+        state = 31 * state + component.getRenderState();
+        state = 31 * state + Double.hashCode(component.getX() - this.getX());
+        state = 31 * state + Double.hashCode(component.getY() - this.getY());
+      }
+    }
+
+    return state;
+  }
+
+  RenderCache getRenderCache() {
+    return this.renderCache;
+  }
+
+  void setMouseEventDispatcher(final MouseEventDispatcher mouseEventDispatcher) {
+    this.mouseEventDispatcher = mouseEventDispatcher;
+  }
+
+  void captureMouseEvent(final MouseEvent e) {
+    if (this.captureConsumer.isEmpty()) {
+      return;
+    }
+
+    final ComponentMouseEvent event = new ComponentMouseEvent(e, this);
+    this.captureConsumer.forEach(consumer -> consumer.accept(event));
+  }
+
+  private long getOwnRenderState() {
+    long state = this.renderRevision;
+    state = 31 * state + (this.isHovered ? 1 : 0);
+    state = 31 * state + (this.isPressed ? 1 : 0);
+    state = 31 * state + (this.isSelected ? 1 : 0);
+    state = 31 * state + (this.enabled ? 1 : 0);
+    state = 31 * state + Double.hashCode(this.width);
+    state = 31 * state + Double.hashCode(this.height);
+    state = 31 * state + Objects.hashCode(this.text);
+    state = 31 * state + Objects.hashCode(this.font);
+    state = 31 * state + Objects.hashCode(this.textAlign);
+    state = 31 * state + Objects.hashCode(this.textValign);
+    state = 31 * state + this.textAngle;
+    state = 31 * state + Double.hashCode(this.textX);
+    state = 31 * state + Double.hashCode(this.textY);
+    state = 31 * state + (this.textShadow ? 1 : 0);
+    state = 31 * state + Objects.hashCode(this.textShadowColor);
+    state = 31 * state + Float.hashCode(this.textShadowRadius);
+    state = 31 * state + (this.textAntialiasing ? 1 : 0);
+    state = 31 * state + (this.automaticLineBreaks ? 1 : 0);
+    state = 31 * state + this.getCurrentAppearance().hashCode();
+    state = 31 * state + (Game.config().debug().renderGuiComponentBoundingBoxes() ? 1 : 0);
+    return state;
+  }
+
+  private Rectangle2D getPaddedBounds() {
+    // leave room for borders that are drawn on the edge of the component's shape
+    double padding = 2;
+    final Stroke border = this.getCurrentAppearance().getBorderStyle();
+    if (border instanceof BasicStroke) {
+      padding = Math.max(padding, Math.ceil(((BasicStroke) border).getLineWidth() / 2.0) + 1);
+    }
+
+    return new Rectangle2D.Double(
+        this.getX() - padding,
+        this.getY() - padding,
+        this.getWidth() + padding * 2,
+        this.getHeight() + padding * 2);
+  }
+
+  private Rectangle2D pollDirtyRegion(final Rectangle2D region) {
+    Rectangle2D dirty = region;
+    if (!this.isVisible() || this.isSuspended()) {
+      dirty = union(dirty, this.dirtySubtreeBounds);
+      this.dirtyState = 0;
+      this.dirtyStructure = 0;
+      this.dirtyBounds = null;
+      this.dirtySubtreeBounds = null;
+      return dirty;
+    }
+
+    final long state = this.getOwnRenderState();
+    final Rectangle2D bounds = this.getPaddedBounds();
+    final Rectangle2D subtreeBounds = (Rectangle2D) bounds.clone();
+    long structure = 1;
+    for (final GuiComponent component : this.getComponents()) {
+      structure = 31 * structure + System.identityHashCode(component);
+      dirty = component.pollDirtyRegion(dirty);
+      if (component.dirtySubtreeBounds != null) {
+        subtreeBounds.add(component.dirtySubtreeBounds);
+      }
+    }
+
+    if (this.dirtyBounds == null || structure != this.dirtyStructure) {
+      // the component has just been shown or child components have been added or removed
+      dirty = union(union(dirty, this.dirtySubtreeBounds), subtreeBounds);
+    } else if (state != this.dirtyState || !bounds.equals(this.dirtyBounds)) {
+      dirty = union(union(dirty, this.dirtyBounds), bounds);
+    }
+
+    this.dirtyState = state;
+    this.dirtyStructure = structure;
+    this.dirtyBounds = bounds;
+    this.dirtySubtreeBounds = subtreeBounds;
+    return dirty;
+  }
+
+  private static Rectangle2D union(final Rectangle2D region, final Rectangle2D bounds) {
+    if (bounds == null) {
+      return region;
+    }
+
+    if (region == null) {
+      return (Rectangle2D) bounds.clone();
+    }
+
+    region.add(bounds);
+    return region;
+  }
+
+  private void updateMouseEventDispatcher() {
+    if (this.mouseEventDispatcher != null) {
+      this.mouseEventDispatcher.update(this);
+    }
+  }
+
+  private void componentsChanged(final GuiComponent added) {
+    if (this.mouseEventDispatcher != null) {
+      if (added != null) {
+        this.mouseEventDispatcher.adopt(added);
+      }
+
+      this.mouseEventDispatcher.invalidate();
+    }
+  }
+
   /**
    * Render this GuiComponent's text.
    *
@@ -1341,4 +1609,87 @@ public abstract class GuiComponent
           this.hasTextAntialiasing());
     }
   }
+
+  /**
+   * The list of child components that hands added components over to the {@code
+   * MouseEventDispatcher} of this component, so that they are only adopted once.
+   */
+  private final class ComponentList extends AbstractList<GuiComponent> {
+    private final List<GuiComponent> delegate = new CopyOnWriteArrayList<>();
+
+    @Override
+    public GuiComponent get(final int index) {
+      return this.delegate.get(index);
+    }
+
+    @Override
+    public int size() {
+      return this.delegate.size();
+    }
+
+    @Override
+    public Iterator<GuiComponent> iterator() {
+      return this.delegate.iterator();
+    }
+
+    @Override
+    public GuiComponent set(final int index, final GuiComponent element) {
+      final GuiComponent previous = this.delegate.set(index, element);
+      componentsChanged(element);
+      return previous;
+    }
+
+    @Override
+    public void add(final int index, final GuiComponent element) {
+      this.delegate.add(index, element);
+      componentsChanged(element);
+    }
+
+    @Override
+    public GuiComponent remove(final int index) {
+      final GuiComponent removed = this.delegate.remove(index);
+      componentsChanged(null);
+      return removed;
+    }
+
+    @Override
+    public boolean remove(final Object o) {
+      final boolean changed = this.delegate.remove(o);
+      componentsChanged(null);
+      return changed;
+    }
+
+    @Override
+    public boolean removeAll(final Collection<?> c) {
+      final boolean changed = this.delegate.removeAll(c);
+      componentsChanged(null);
+      return changed;
+    }
+
+    @Override
+    public boolean retainAll(final Collection<?> c) {
+      final boolean changed = this.delegate.retainAll(c);
+      componentsChanged(null);
+      return changed;
+    }
+
+    @Override
+    public boolean removeIf(final Predicate<? super GuiComponent> filter) {
+      final boolean changed = this.delegate.removeIf(filter);
+      componentsChanged(null);
+      return changed;
+    }
+
+    @Override
+    public void sort(final Comparator<? super GuiComponent> c) {
+      this.delegate.sort(c);
+      componentsChanged(null);
+    }
+
+    @Override
+    public void clear() {
+      this.delegate.clear();
+      componentsChanged(null);
+    }
+  }
 }
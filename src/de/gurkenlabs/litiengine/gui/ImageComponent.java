@@ -189,23 +189,28 @@ public class ImageComponent extends GuiComponent {
   public void setImage(final Image image) {
     this.baseImage = (BufferedImage) image;
     this.rescaleImage();
+    this.invalidate();
   }
 
   public void setImageScaleMode(ImageScaleMode imageScaleMode) {
     this.imageScaleMode = imageScaleMode;
     this.rescaleImage();
+    this.invalidate();
   }
 
   public void setSpriteSheet(final Spritesheet spr) {
     this.spritesheet = spr;
+    this.invalidate();
   }
 
   public void setImageAlign(Align imageAlign) {
     this.imageAlign = imageAlign;
+    this.invalidate();
   }
 
   public void setImageValign(Valign imageValign) {
     this.imageValign = imageValign;
+    this.invalidate();
   }
 
   @Override
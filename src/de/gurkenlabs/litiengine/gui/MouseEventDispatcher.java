@@ -0,0 +1,468 @@
+package de.gurkenlabs.litiengine.gui;
+
+import de.gurkenlabs.litiengine.input.Input;
+import java.awt.event.MouseEvent;
+import java.awt.event.MouseListener;
+import java.awt.event.MouseMotionListener;
+import java.awt.event.MouseWheelEvent;
+import java.awt.event.MouseWheelListener;
+import java.awt.geom.Point2D;
+import java.awt.geom.Rectangle2D;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Dispatches the mouse events of the {@code Input.mouse()} to the components of a GUI tree (usually
+ * a {@code Screen}) instead of broadcasting them to every single component.
+ *
+ * <p>
+ * For every event, the component tree is hit-tested once to determine the target, which is the
+ * top-most (i.e. last rendered) component under the cursor that is visible, enabled and forwards
+ * mouse events. The event is then delivered in two phases:
+ * </p>
+ *
+ * <ol>
+ *   <li><b>Capture:</b> The capture callbacks of the target's ancestors and the target itself are
+ *       called from the root down to the target.
+ *   <li><b>Bubble:</b> The regular mouse handling of the target and then of its ancestors up to the
+ *       root is invoked (e.g. {@link GuiComponent#mousePressed(MouseEvent)}).
+ * </ol>
+ *
+ * <p>
+ * Any callback can stop the propagation by consuming the event (see {@link MouseEvent#consume()}).
+ * Components that are no longer on the path under the cursor receive a {@code mouseExited} event.
+ * </p>
+ *
+ * <p>
+ * Optionally, a spatial index of the component bounds can be used for the hit test. If the bounds
+ * of a component change through its setters, only the cells of that component are updated. Adding
+ * or removing child components invalidates the index, which is then rebuilt with the next event.
+ * </p>
+ *
+ * @see GuiComponent#onMouseCapture(java.util.function.Consumer)
+ */
+public final class MouseEventDispatcher
+    implements MouseListener, MouseMotionListener, MouseWheelListener {
+  private static final int INDEX_CELL_SIZE = 64;
+
+  private final GuiComponent root;
+  private List<GuiComponent> hoverPath = Collections.emptyList();
+
+  private boolean spatialIndexEnabled;
+  private volatile SpatialIndex index;
+  private boolean attached;
+
+  /**
+   * Initializes a new instance of the {@code MouseEventDispatcher} class.
+   *
+   * @param root The root component of the GUI tree whose events are dispatched.
+   */
+  public MouseEventDispatcher(final GuiComponent root) {
+    this.root = root;
+  }
+
+  /**
+   * Takes over the event handling of the component tree and starts receiving events from the
+   * {@code Input.mouse()}.
+   */
+  public void attach() {
+    this.adopt(this.root);
+    if (!this.attached) {
+      Input.mouse().addMouseListener(this);
+      Input.mouse().addMouseMotionListener(this);
+      Input.mouse().onWheelMoved(this);
+      this.attached = true;
+    }
+  }
+
+  /** Stops receiving events from the {@code Input.mouse()}. */
+  public void detach() {
+    Input.mouse().removeMouseListener(this);
+    Input.mouse().removeMouseMotionListener(this);
+    Input.mouse().removeMouseWheelListener(this);
+    this.attached = false;
+    this.hoverPath = Collections.emptyList();
+  }
+
+  /**
+   * Makes the specified component and all its descendants handled by this dispatcher, removing
+   * them from the listeners of the {@code Input.mouse()} if necessary. This is done automatically by
+   * {@link #attach()} and for child components that are added to an adopted component.
+   *
+   * @param component The component to adopt.
+   */
+  public void adopt(final GuiComponent component) {
+    if (component.getMouseEventDispatcher() != this) {
+      component.setMouseEventDispatcher(this);
+      Input.mouse().removeMouseListener(component);
+      Input.mouse().removeMouseMotionListener(component);
+      Input.mouse().removeMouseWheelListener(component);
+    }
+
+    for (final GuiComponent child : component.getComponents()) {
+      this.adopt(child);
+    }
+  }
+
+  /** Invalidates the spatial index, which is rebuilt on the next event. */
+  public void invalidate() {
+    this.index = null;
+  }
+
+  /**
+   * Updates the cells of the specified component in the spatial index after its bounds changed.
+   *
+   * @param component The component whose bounds changed.
+   */
+  void update(final GuiComponent component) {
+    final SpatialIndex current = this.index;
+    if (current != null) {
+      current.update(component);
+    }
+  }
+
+  public boolean isSpatialIndexEnabled() {
+    return this.spatialIndexEnabled;
+  }
+
+  /**
+   * Enables or disables the spatial index for the hit test. This is beneficial for large trees
+   * with many components whose bounds rarely change.
+   *
+   * @param spatialIndexEnabled True to use a spatial index; false to walk the tree for every event.
+   */
+  public void setSpatialIndexEnabled(final boolean spatialIndexEnabled) {
+    this.spatialIndexEnabled = spatialIndexEnabled;
+    this.invalidate();
+  }
+
+  /**
+   * Gets the path from the top-most component at the specified location up to the root.
+   *
+   * @param point The location to hit-test.
+   * @return The target component followed by its ancestors or an empty list if no component
+   *     accepts mouse events at the location.
+   */
+  public List<GuiComponent> getPath(final Point2D point) {
+    if (point == null) {
+      return Collections.emptyList();
+    }
+
+    if (this.spatialIndexEnabled) {
+      SpatialIndex current = this.index;
+      if (current == null) {
+        current = new SpatialIndex(this.root);
+        this.index = current;
+      }
+
+      return current.getPath(point);
+    }
+
+    final List<GuiComponent> path = new ArrayList<>();
+    this.hitTest(this.root, point, path);
+    return path;
+  }
+
+  /**
+   * Gets the top-most component at the specified location.
+   *
+   * @param point The location to hit-test.
+   * @return The target component or null if no component accepts mouse events at the location.
+   */
+  public GuiComponent getTarget(final Point2D point) {
+    final List<GuiComponent> path = this.getPath(point);
+    return path.isEmpty() ? null : path.get(0);
+  }
+
+  SpatialIndex getSpatialIndex() {
+    return this.index;
+  }
+
+  @Override
+  public void mouseClicked(final MouseEvent e) {
+    this.dispatch(e, GuiComponent::mouseClicked);
+  }
+
+  @Override
+  public void mousePressed(final MouseEvent e) {
+    this.dispatch(e, GuiComponent::mousePressed);
+  }
+
+  @Override
+  public void mouseReleased(final MouseEvent e) {
+    this.dispatch(e, GuiComponent::mouseReleased);
+  }
+
+  @Override
+  public void mouseEntered(final MouseEvent e) {
+    this.mouseMoved(e);
+  }
+
+  @Override
+  public void mouseExited(final MouseEvent e) {
+    final MouseEvent event = copy(e);
+    for (final GuiComponent component : this.hoverPath) {
+      if (component.isHovered()) {
+        component.mouseExited(event);
+      }
+    }
+
+    this.hoverPath = Collections.emptyList();
+  }
+
+  @Override
+  public void mouseDragged(final MouseEvent e) {
+    this.dispatch(e, GuiComponent::mouseDragged);
+  }
+
+  @Override
+  public void mouseMoved(final MouseEvent e) {
+    final MouseEvent event = copy(e);
+    final List<GuiComponent> path = this.getPath(event.getPoint());
+    for (final GuiComponent component : this.hoverPath) {
+      if (component.isHovered() && !path.contains(component)) {
+        component.mouseExited(event);
+      }
+    }
+
+    this.hoverPath = path;
+    this.deliver(path, event, GuiComponent::mouseMoved);
+  }
+
+  @Override
+  public void mouseWheelMoved(final MouseWheelEvent e) {
+    // wheel events are not translated by the Mouse and therefore contain the location on the
+    // screen component
+    final MouseWheelEvent event = copy(e);
+    final List<GuiComponent> path = this.getPath(Input.mouse().getLocation());
+    this.deliver(path, event, GuiComponent::mouseWheelMoved);
+  }
+
+  private void dispatch(final MouseEvent e, final Handler<MouseEvent> handler) {
+    final MouseEvent event = copy(e);
+    this.deliver(this.getPath(event.getPoint()), event, handler);
+  }
+
+  private <T extends MouseEvent> void deliver(
+      final List<GuiComponent> path, final T event, final Handler<T> handler) {
+    // capture phase: root -> target
+    for (int i = path.size() - 1; i >= 0; i--) {
+      path.get(i).captureMouseEvent(event);
+      if (event.isConsumed()) {
+        return;
+      }
+    }
+
+    // bubble phase: target -> root
+    for (final GuiComponent component : path) {
+      handler.handle(component, event);
+      if (event.isConsumed()) {
+        return;
+      }
+    }
+  }
+
+  private boolean hitTest(
+      final GuiComponent component, final Point2D point, final List<GuiComponent> path) {
+    if (!component.isVisible() || component.isSuspended()) {
+      return false;
+    }
+
+    // children are rendered on top of their parent and later children on top of earlier ones
+    final List<GuiComponent> children = component.getComponents();
+    for (int i = children.size() - 1; i >= 0; i--) {
+      if (this.hitTest(children.get(i), point, path)) {
+        path.add(component);
+        return true;
+      }
+    }
+
+    if (acceptsMouseEvents(component) && component.getBoundingBox().contains(point)) {
+      path.add(component);
+      return true;
+    }
+
+    return false;
+  }
+
+  private static boolean acceptsMouseEvents(final GuiComponent component) {
+    return component.isForwardMouseEvents()
+        && component.isVisible()
+        && component.isEnabled()
+        && !component.isSuspended();
+  }
+
+  private static MouseEvent copy(final MouseEvent e) {
+    return new MouseEvent(
+        e.getComponent(),
+        e.getID(),
+        e.getWhen(),
+        e.getModifiersEx(),
+        e.getX(),
+        e.getY(),
+        e.getXOnScreen(),
+        e.getYOnScreen(),
+        e.getClickCount(),
+        e.isPopupTrigger(),
+        e.getButton());
+  }
+
+  private static MouseWheelEvent copy(final MouseWheelEvent e) {
+    return new MouseWheelEvent(
+        e.getComponent(),
+        e.getID(),
+        e.getWhen(),
+        e.getModifiersEx(),
+        e.getX(),
+        e.getY(),
+        e.getXOnScreen(),
+        e.getYOnScreen(),
+        e.getClickCount(),
+        e.isPopupTrigger(),
+        e.getScrollType(),
+        e.getScrollAmount(),
+        e.getWheelRotation(),
+        e.getPreciseWheelRotation());
+  }
+
+  @FunctionalInterface
+  private interface Handler<T extends MouseEvent> {
+    void handle(GuiComponent component, T event);
+  }
+
+  /**
+   * A uniform grid over the bounds of all components of the tree. Each cell holds the indices of the
+   * components whose bounds intersect it in render order. Components of hidden or suspended
+   * subtrees are indexed as well and skipped by the hit test, so that their visibility can change
+   * without updating the index.
+   */
+  static final class SpatialIndex {
+    private final List<GuiComponent> components = new ArrayList<>();
+    private final List<Integer> parents = new ArrayList<>();
+    private final List<int[]> ranges = new ArrayList<>();
+    private final Map<GuiComponent, Integer> positions = new IdentityHashMap<>();
+    private final Map<Long, List<Integer>> cells = new HashMap<>();
+
+    private SpatialIndex(final GuiComponent root) {
+      this.add(root, -1);
+    }
+
+    private void add(final GuiComponent component, final int parent) {
+      final int index = this.components.size();
+      final int[] range = range(component.getBoundingBox());
+      this.components.add(component);
+      this.parents.add(parent);
+      this.ranges.add(range);
+      this.positions.put(component, index);
+      this.insert(index, range);
+
+      for (final GuiComponent child : component.getComponents()) {
+        this.add(child, index);
+      }
+    }
+
+    private synchronized void update(final GuiComponent component) {
+      final Integer index = this.positions.get(component);
+      if (index == null) {
+        // the component was not part of the tree when the index was built
+        return;
+      }
+
+      final int[] range = range(component.getBoundingBox());
+      final int[] previous = this.ranges.get(index);
+      if (Arrays.equals(range, previous)) {
+        return;
+      }
+
+      if (previous != null) {
+        for (int x = previous[0]; x <= previous[2]; x++) {
+          for (int y = previous[1]; y <= previous[3]; y++) {
+            final List<Integer> cell = this.cells.get(key(x, y));
+            cell.remove(index);
+            if (cell.isEmpty()) {
+              this.cells.remove(key(x, y));
+            }
+          }
+        }
+      }
+
+      this.ranges.set(index, range);
+      this.insert(index, range);
+    }
+
+    private synchronized List<GuiComponent> getPath(final Point2D point) {
+      final List<Integer> candidates =
+          this.cells.get(key(cell(point.getX()), cell(point.getY())));
+      if (candidates == null) {
+        return Collections.emptyList();
+      }
+
+      // candidates are ordered by render order, so the last match is the top-most component
+      for (int i = candidates.size() - 1; i >= 0; i--) {
+        final GuiComponent component = this.components.get(candidates.get(i));
+        if (acceptsMouseEvents(component) && component.getBoundingBox().contains(point)) {
+          final List<GuiComponent> path = this.getPath(candidates.get(i));
+          if (path != null) {
+            return path;
+          }
+        }
+      }
+
+      return Collections.emptyList();
+    }
+
+    private List<GuiComponent> getPath(final int index) {
+      final List<GuiComponent> path = new ArrayList<>();
+      for (int c = index; c >= 0; c = this.parents.get(c)) {
+        final GuiComponent component = this.components.get(c);
+        if (!component.isVisible() || component.isSuspended()) {
+          return null;
+        }
+
+        path.add(component);
+      }
+
+      return path;
+    }
+
+    private void insert(final int index, final int[] range) {
+      if (range == null) {
+        return;
+      }
+
+      for (int x = range[0]; x <= range[2]; x++) {
+        for (int y = range[1]; y <= range[3]; y++) {
+          final List<Integer> cell = this.cells.computeIfAbsent(key(x, y), k -> new ArrayList<>());
+          final int position = Collections.binarySearch(cell, index);
+          if (position < 0) {
+            cell.add(-position - 1, index);
+          }
+        }
+      }
+    }
+
+    private static int[] range(final Rectangle2D bounds) {
+      if (bounds.isEmpty()) {
+        return null;
+      }
+
+      return new int[] {
+        cell(bounds.getMinX()), cell(bounds.getMinY()),
+        cell(bounds.getMaxX()), cell(bounds.getMaxY())
+      };
+    }
+
+    private static int cell(final double coordinate) {
+      return (int) Math.floor(coordinate / INDEX_CELL_SIZE);
+    }
+
+    private static long key(final int x, final int y) {
+      return ((long) x << 32) | (y & 0xFFFFFFFFL);
+    }
+  }
+}
@@ -0,0 +1,130 @@
+package de.gurkenlabs.litiengine.gui;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Transparency;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+
+/**
+ * Holds the retained rendering of a {@code GuiComponent} and its child components. The cached
+ * image is only rendered again if the render state of the subtree or the scale of the target
+ * graphics change.
+ *
+ * @see GuiComponent#setRenderCacheEnabled(boolean)
+ */
+final class RenderCache {
+  private static final int UNSUPPORTED_TRANSFORMS =
+      AffineTransform.TYPE_FLIP
+          | AffineTransform.TYPE_QUADRANT_ROTATION
+          | AffineTransform.TYPE_GENERAL_ROTATION
+          | AffineTransform.TYPE_GENERAL_TRANSFORM;
+
+  private BufferedImage image;
+  private long state;
+  private double scaleX;
+  private double scaleY;
+  private double offsetX;
+  private double offsetY;
+  private int renderCount;
+
+  /**
+   * Renders the cached image of the specified component, updating the cache if necessary.
+   *
+   * @param g the graphics object to render on
+   * @param component the component whose cached rendering is drawn
+   */
+  void render(final Graphics2D g, final GuiComponent component) {
+    final AffineTransform transform = g.getTransform();
+    if ((transform.getType() & UNSUPPORTED_TRANSFORMS) != 0) {
+      // rotated or sheared graphics cannot be served by a pixel aligned cache
+      component.render(g);
+      return;
+    }
+
+    final Rectangle2D bounds = component.getRenderBounds();
+    final double minX = Math.floor(bounds.getMinX());
+    final double minY = Math.floor(bounds.getMinY());
+    final double sx = transform.getScaleX();
+    final double sy = transform.getScaleY();
+    final int width = (int) Math.ceil((Math.ceil(bounds.getMaxX()) - minX) * sx);
+    final int height = (int) Math.ceil((Math.ceil(bounds.getMaxY()) - minY) * sy);
+    if (width <= 0 || height <= 0) {
+      return;
+    }
+
+    final long currentState = component.getRenderState();
+    final double currentOffsetX = minX - component.getX();
+    final double currentOffsetY = minY - component.getY();
+    if (this.image == null
+        || this.image.getWidth() != width
+        || this.image.getHeight() != height
+        || this.state != currentState
+        || this.scaleX != sx
+        || this.scaleY != sy
+        || this.offsetX != currentOffsetX
+        || this.offsetY != currentOffsetY) {
+      this.update(g, component, width, height, minX, minY, sx, sy);
+      this.state = currentState;
+      this.scaleX = sx;
+      this.scaleY = sy;
+      this.offsetX = currentOffsetX;
+      this.offsetY = currentOffsetY;
+    }
+
+    g.drawImage(this.image, new AffineTransform(1 / sx, 0, 0, 1 / sy, minX, minY), null);
+  }
+
+  /**
+   * Gets the number of times the cached image had to be rendered.
+   *
+   * @return the number of cache updates
+   */
+  int getRenderCount() {
+    return this.renderCount;
+  }
+
+  void clear() {
+    this.image = null;
+  }
+
+  private void update(
+      final Graphics2D g,
+      final GuiComponent component,
+      final int width,
+      final int height,
+      final double minX,
+      final double minY,
+      final double sx,
+      final double sy) {
+    if (this.image == null || this.image.getWidth() != width || this.image.getHeight() != height) {
+      this.image = createImage(g, width, height);
+    }
+
+    final Graphics2D cacheGraphics = this.image.createGraphics();
+    try {
+      cacheGraphics.setComposite(AlphaComposite.Clear);
+      cacheGraphics.fillRect(0, 0, width, height);
+      cacheGraphics.setComposite(AlphaComposite.SrcOver);
+      cacheGraphics.setRenderingHints(g.getRenderingHints());
+      cacheGraphics.scale(sx, sy);
+      cacheGraphics.translate(-minX, -minY);
+      component.render(cacheGraphics);
+    } finally {
+      cacheGraphics.dispose();
+    }
+
+    this.renderCount++;
+  }
+
+  private static BufferedImage createImage(final Graphics2D g, final int width, final int height) {
+    final GraphicsConfiguration config = g.getDeviceConfiguration();
+    if (config != null) {
+      return config.createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+    }
+
+    return new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+  }
+}
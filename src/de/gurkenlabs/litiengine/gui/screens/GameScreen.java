@@ -3,6 +3,7 @@ package de.gurkenlabs.litiengine.gui.screens;
 import de.gurkenlabs.litiengine.Game;
 import de.gurkenlabs.litiengine.environment.GameWorld;
 import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
 
 /**
  * A default screen implementation that renders the game's current environment.
@@ -18,6 +19,16 @@ public class GameScreen extends Screen {
     super(name);
   }
 
+  @Override
+  public Rectangle2D getDirtyRegion() {
+    // the environment is rendered entirely with every frame
+    if (Game.world().environment() != null) {
+      return null;
+    }
+
+    return super.getDirtyRegion();
+  }
+
   @Override
   public void render(final Graphics2D g) {
     if (Game.world().environment() != null) {
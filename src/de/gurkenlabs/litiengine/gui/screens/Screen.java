@@ -1,6 +1,8 @@
 package de.gurkenlabs.litiengine.gui.screens;
 
 import de.gurkenlabs.litiengine.gui.GuiComponent;
+import de.gurkenlabs.litiengine.gui.MouseEventDispatcher;
+import java.awt.geom.Rectangle2D;
 
 /**
  * Screens are the containers that allow you to organize the visible contents of your game. They
@@ -9,11 +11,87 @@ import de.gurkenlabs.litiengine.gui.GuiComponent;
  * thereby provides support to define an Appearance and listen to all kinds of Input events (e.g.
  * {@code onMouseMoved(…)}). Everything that should be visible to the player needs to be rendered to
  * the currently active screen.
+ *
+ * <p>The mouse events are dispatched to the components of a screen by a {@link
+ * MouseEventDispatcher} that only notifies the component under the cursor and its ancestors.
+ *
+ * <p>With dirty region tracking enabled, the {@code RenderComponent} retains the rendered screen
+ * and only renders the regions again that changed since the previous frame. In combination with
+ * {@link GuiComponent#setRenderCacheEnabled(boolean)}, this makes static menus and HUD panels
+ * almost free to render.
  */
 public abstract class Screen extends GuiComponent {
+  private final MouseEventDispatcher mouseEventDispatcher;
+  private boolean dirtyRegionTracking;
+  private boolean redraw = true;
+
   protected Screen(final String screenName) {
     super(0, 0);
     this.setName(screenName);
+    this.mouseEventDispatcher = new MouseEventDispatcher(this);
+  }
+
+  @Override
+  public MouseEventDispatcher getMouseEventDispatcher() {
+    return this.mouseEventDispatcher;
+  }
+
+  /**
+   * Gets the region of this screen that has changed since the previous call of this method and
+   * therefore needs to be rendered again.
+   *
+   * @return the changed region (which is empty if nothing changed) or null if the entire screen
+   *     needs to be rendered, which is always the case if dirty region tracking is disabled
+   * @see #setDirtyRegionTracking(boolean)
+   */
+  public Rectangle2D getDirtyRegion() {
+    if (!this.isDirtyRegionTracking()) {
+      return null;
+    }
+
+    final Rectangle2D region = this.pollDirtyRegion();
+    if (this.redraw) {
+      this.redraw = false;
+      return null;
+    }
+
+    return region != null ? region : new Rectangle2D.Double();
+  }
+
+  public boolean isDirtyRegionTracking() {
+    return this.dirtyRegionTracking;
+  }
+
+  /**
+   * Enables or disables the tracking of changed regions on this screen. This should only be enabled
+   * if everything that is rendered by the screen is either a {@code GuiComponent} or calls {@link
+   * #invalidate()} when it changes.
+   *
+   * @param dirtyRegionTracking true to only render changed regions of this screen
+   */
+  public void setDirtyRegionTracking(final boolean dirtyRegionTracking) {
+    this.dirtyRegionTracking = dirtyRegionTracking;
+    this.redraw = true;
+  }
+
+  /** Invalidates this screen, which causes the entire screen to be rendered with the next frame. */
+  @Override
+  public void invalidate() {
+    super.invalidate();
+    this.redraw = true;
+  }
+
+  @Override
+  public void prepare() {
+    this.redraw = true;
+    this.mouseEventDispatcher.attach();
+    super.prepare();
+  }
+
+  @Override
+  public void suspend() {
+    super.suspend();
+    this.mouseEventDispatcher.detach();
   }
 
   @Override
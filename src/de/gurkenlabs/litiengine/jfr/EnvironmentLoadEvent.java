@@ -0,0 +1,36 @@
+package de.gurkenlabs.litiengine.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("de.gurkenlabs.litiengine.EnvironmentLoad")
+@Label("Environment Load")
+@Category({ "LITIENGINE", "Environment" })
+@Description("A phase of initializing or loading an environment.")
+@Enabled(false)
+public class EnvironmentLoadEvent extends Event {
+  public static final String PHASE_MAP_OBJECTS = "map objects";
+  public static final String PHASE_STATIC_SHADOWS = "static shadows";
+  public static final String PHASE_AMBIENT_LIGHT = "ambient light";
+  public static final String PHASE_ENTITIES = "entities";
+  public static final String PHASE_STATIC_COLLISION = "static collision";
+  public static final String PHASE_LIGHTING = "lighting";
+
+  @Label("Map")
+  private String map;
+
+  @Label("Phase")
+  private String phase;
+
+  public void commit(String map, String phase) {
+    if (this.shouldCommit()) {
+      this.map = map;
+      this.phase = phase;
+      this.commit();
+    }
+  }
+}
@@ -0,0 +1,33 @@
+package de.gurkenlabs.litiengine.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("de.gurkenlabs.litiengine.MapObjectLoad")
+@Label("Map Object Load")
+@Category({ "LITIENGINE", "Environment" })
+@Description("Loading the entities of a single map object.")
+@Enabled(false)
+public class MapObjectLoadEvent extends Event {
+  @Label("Type")
+  private String type;
+
+  @Label("Map ID")
+  private int mapId;
+
+  @Label("Entities")
+  private int entities;
+
+  public void commit(String type, int mapId, int entities) {
+    if (this.shouldCommit()) {
+      this.type = type;
+      this.mapId = mapId;
+      this.entities = entities;
+      this.commit();
+    }
+  }
+}
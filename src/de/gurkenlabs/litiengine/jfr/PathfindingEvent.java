@@ -0,0 +1,29 @@
+package de.gurkenlabs.litiengine.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("de.gurkenlabs.litiengine.Pathfinding")
+@Label("A* Search")
+@Category({ "LITIENGINE", "Pathfinding" })
+@Description("An A* search on the grid of a path finder.")
+@Enabled(false)
+public class PathfindingEvent extends Event {
+  @Label("Nodes Expanded")
+  private int nodesExpanded;
+
+  @Label("Path Found")
+  private boolean found;
+
+  public void commit(int nodesExpanded, boolean found) {
+    if (this.shouldCommit()) {
+      this.nodesExpanded = nodesExpanded;
+      this.found = found;
+      this.commit();
+    }
+  }
+}
@@ -0,0 +1,29 @@
+package de.gurkenlabs.litiengine.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("de.gurkenlabs.litiengine.ResourceCacheMiss")
+@Label("Resource Cache Miss")
+@Category({ "LITIENGINE", "Resources" })
+@Description("A resource that was requested but not loaded yet and therefore had to be loaded synchronously.")
+@Enabled(false)
+public class ResourceCacheMissEvent extends Event {
+  @Label("Container")
+  private String container;
+
+  @Label("Resource")
+  private String resource;
+
+  public void commit(String container, String resource) {
+    if (this.shouldCommit()) {
+      this.container = container;
+      this.resource = resource;
+      this.commit();
+    }
+  }
+}
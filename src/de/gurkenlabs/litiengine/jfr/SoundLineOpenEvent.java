@@ -0,0 +1,27 @@
+package de.gurkenlabs.litiengine.jfr;
+
+import javax.sound.sampled.AudioFormat;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("de.gurkenlabs.litiengine.SoundLineOpen")
+@Label("Sound Line Open")
+@Category({ "LITIENGINE", "Audio" })
+@Description("Acquiring and opening a source data line for a sound playback.")
+@Enabled(false)
+public class SoundLineOpenEvent extends Event {
+  @Label("Format")
+  private String format;
+
+  public void commit(AudioFormat format) {
+    if (this.shouldCommit()) {
+      this.format = format.toString();
+      this.commit();
+    }
+  }
+}
@@ -0,0 +1,45 @@
+package de.gurkenlabs.litiengine.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+@Name("de.gurkenlabs.litiengine.Tick")
+@Label("Tick")
+@Category({ "LITIENGINE", "Loop" })
+@Description("A single tick of an update loop, including the delay that is applied to meet the tick rate.")
+@Enabled(false)
+public class TickEvent extends Event {
+  @Label("Loop")
+  private String loop;
+
+  @Label("Tick")
+  private long tick;
+
+  @Label("Process Time")
+  @Timespan(Timespan.NANOSECONDS)
+  private long processTime;
+
+  @Label("Delay")
+  @Description("The time in milliseconds that the loop was paused to meet the expected tick rate.")
+  private double delay;
+
+  @Label("Delay Error")
+  @Description("The aggregated rounding error in milliseconds of the delays that could not be slept.")
+  private double delayError;
+
+  public void commit(String loop, long tick, long processTime, double delay, double delayError) {
+    if (this.shouldCommit()) {
+      this.loop = loop;
+      this.tick = tick;
+      this.processTime = processTime;
+      this.delay = delay;
+      this.delayError = delayError;
+      this.commit();
+    }
+  }
+}
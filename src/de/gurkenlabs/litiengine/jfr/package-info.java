@@ -0,0 +1,9 @@
+/**
+ * Contains the Java Flight Recorder events that are emitted by the engine's hot paths (game loop ticks, environment loading,
+ * path finding, resource loading and audio).
+ * <p>
+ * All events are disabled by default and cause virtually no overhead unless they're enabled for a recording, e.g. by a custom
+ * JFR settings file that is passed to {@code -XX:StartFlightRecording} or by {@code Recording.enable(Class)}.
+ * </p>
+ */
+package de.gurkenlabs.litiengine.jfr;
@@ -0,0 +1,207 @@
+package de.gurkenlabs.litiengine.physics;
+
+import de.gurkenlabs.litiengine.entities.ICollisionEntity;
+import java.awt.geom.Rectangle2D;
+import java.util.Collection;
+
+/**
+ * A uniform grid over the collision boxes of a set of entities that is used as broad-phase by the
+ * {@code PhysicsEngine}.
+ *
+ * <p>The grid is immutable once it has been built and can therefore be queried concurrently. An
+ * entity that spans multiple cells is only reported once per query because it is only visited in
+ * the first cell that is covered by both, the entity and the queried area.
+ */
+final class CollisionGrid {
+  static final int DEFAULT_CELL_SIZE = 64;
+  private static final int MAX_CELLS = 1 << 18;
+  private static final int[] EMPTY_CELL = new int[0];
+
+  private final ICollisionEntity[] entities;
+  private final int[] entityCells;
+  private final int[][] cells;
+  private final double cellSize;
+  private final int minCellX;
+  private final int minCellY;
+  private final int columns;
+  private final int rows;
+
+  CollisionGrid(final Collection<ICollisionEntity> entities) {
+    this(entities, DEFAULT_CELL_SIZE);
+  }
+
+  CollisionGrid(final Collection<ICollisionEntity> entities, final double cellSize) {
+    this.entities = entities.toArray(new ICollisionEntity[0]);
+    this.entityCells = new int[this.entities.length * 4];
+
+    double minX = Double.MAX_VALUE;
+    double minY = Double.MAX_VALUE;
+    double maxX = -Double.MAX_VALUE;
+    double maxY = -Double.MAX_VALUE;
+    for (final ICollisionEntity entity : this.entities) {
+      final Rectangle2D box = entity.getCollisionBox();
+      minX = Math.min(minX, box.getMinX());
+      minY = Math.min(minY, box.getMinY());
+      maxX = Math.max(maxX, box.getMaxX());
+      maxY = Math.max(maxY, box.getMaxY());
+    }
+
+    if (this.entities.length == 0) {
+      this.cellSize = cellSize;
+      this.minCellX = 0;
+      this.minCellY = 0;
+      this.columns = 0;
+      this.rows = 0;
+      this.cells = new int[0][];
+      return;
+    }
+
+    // grow the cells if the entities are spread over a very large area
+    double size = cellSize;
+    while (((maxX - minX) / size + 1) * ((maxY - minY) / size + 1) > MAX_CELLS) {
+      size *= 2;
+    }
+
+    this.cellSize = size;
+    this.minCellX = cell(minX, size);
+    this.minCellY = cell(minY, size);
+    this.columns = cell(maxX, size) - this.minCellX + 1;
+    this.rows = cell(maxY, size) - this.minCellY + 1;
+
+    final int[] counts = new int[this.columns * this.rows];
+    for (int i = 0; i < this.entities.length; i++) {
+      final Rectangle2D box = this.entities[i].getCollisionBox();
+      final int offset = i * 4;
+      this.entityCells[offset] = this.getColumn(box.getMinX());
+      this.entityCells[offset + 1] = this.getRow(box.getMinY());
+      this.entityCells[offset + 2] = this.getColumn(box.getMaxX());
+      this.entityCells[offset + 3] = this.getRow(box.getMaxY());
+      for (int y = this.entityCells[offset + 1]; y <= this.entityCells[offset + 3]; y++) {
+        for (int x = this.entityCells[offset]; x <= this.entityCells[offset + 2]; x++) {
+          counts[y * this.columns + x]++;
+        }
+      }
+    }
+
+    this.cells = new int[counts.length][];
+    for (int i = 0; i < counts.length; i++) {
+      this.cells[i] = counts[i] == 0 ? EMPTY_CELL : new int[counts[i]];
+      counts[i] = 0;
+    }
+
+    for (int i = 0; i < this.entities.length; i++) {
+      final int offset = i * 4;
+      for (int y = this.entityCells[offset + 1]; y <= this.entityCells[offset + 3]; y++) {
+        for (int x = this.entityCells[offset]; x <= this.entityCells[offset + 2]; x++) {
+          final int cell = y * this.columns + x;
+          this.cells[cell][counts[cell]++] = i;
+        }
+      }
+    }
+  }
+
+  /**
+   * Visits all entities whose cells overlap the specified area. The visitor still has to check the
+   * actual collision box of the visited entities.
+   *
+   * @param minX The minimum x-coordinate of the area.
+   * @param minY The minimum y-coordinate of the area.
+   * @param maxX The maximum x-coordinate of the area.
+   * @param maxY The maximum y-coordinate of the area.
+   * @param visitor The visitor that is called for every candidate.
+   * @return True if the visitor stopped the query; otherwise false.
+   */
+  boolean visit(
+      final double minX,
+      final double minY,
+      final double maxX,
+      final double maxY,
+      final Visitor visitor) {
+    if (this.entities.length == 0) {
+      return false;
+    }
+
+    final int fromX = this.getColumn(minX);
+    final int fromY = this.getRow(minY);
+    final int toX = this.getColumn(maxX);
+    final int toY = this.getRow(maxY);
+    for (int y = fromY; y <= toY; y++) {
+      for (int x = fromX; x <= toX; x++) {
+        if (this.visitCell(x, y, fromX, fromY, visitor)) {
+          return true;
+        }
+      }
+    }
+
+    return false;
+  }
+
+  /**
+   * Visits the entities of a single cell that have not been visited in a previous cell of a query
+   * whose first cell is ({@code fromX}, {@code fromY}).
+   */
+  boolean visitCell(
+      final int x, final int y, final int fromX, final int fromY, final Visitor visitor) {
+    for (final int index : this.cells[y * this.columns + x]) {
+      final int offset = index * 4;
+      if (Math.max(this.entityCells[offset], fromX) == x
+          && Math.max(this.entityCells[offset + 1], fromY) == y
+          && visitor.visit(this.entities[index])) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  boolean isEmpty() {
+    return this.entities.length == 0;
+  }
+
+  double getCellSize() {
+    return this.cellSize;
+  }
+
+  int getColumns() {
+    return this.columns;
+  }
+
+  int getRows() {
+    return this.rows;
+  }
+
+  /**
+   * Gets the column of the specified x-coordinate, clamped to the grid. Entities and queries outside
+   * the grid are therefore mapped to the border cells.
+   */
+  int getColumn(final double x) {
+    return Math.max(0, Math.min(this.columns - 1, cell(x, this.cellSize) - this.minCellX));
+  }
+
+  int getRow(final double y) {
+    return Math.max(0, Math.min(this.rows - 1, cell(y, this.cellSize) - this.minCellY));
+  }
+
+  double getCellX(final int column) {
+    return (this.minCellX + column) * this.cellSize;
+  }
+
+  double getCellY(final int row) {
+    return (this.minCellY + row) * this.cellSize;
+  }
+
+  private static int cell(final double coordinate, final double size) {
+    return (int) Math.floor(coordinate / size);
+  }
+
+  @FunctionalInterface
+  interface Visitor {
+    /**
+     * Visits a candidate of a grid query.
+     *
+     * @param entity The candidate entity.
+     * @return True to stop the query; otherwise false.
+     */
+    boolean visit(ICollisionEntity entity);
+  }
+}
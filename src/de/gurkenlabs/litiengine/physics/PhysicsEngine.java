@@ -1,9 +1,12 @@
 package de.gurkenlabs.litiengine.physics;
 
 import de.gurkenlabs.litiengine.Direction;
+import de.gurkenlabs.litiengine.EnvironmentSimulation;
 import de.gurkenlabs.litiengine.Game;
 import de.gurkenlabs.litiengine.IUpdateable;
+import de.gurkenlabs.litiengine.entities.EntityTransformListener;
 import de.gurkenlabs.litiengine.entities.ICollisionEntity;
+import de.gurkenlabs.litiengine.entities.IEntity;
 import de.gurkenlabs.litiengine.entities.IMobileEntity;
 import de.gurkenlabs.litiengine.util.ArrayUtilities;
 import de.gurkenlabs.litiengine.util.MathUtilities;
@@ -12,14 +15,17 @@ import java.awt.Shape;
 import java.awt.geom.Line2D;
 import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.IntConsumer;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * This class is used to hold all collision aware instances and static collision boxes. It is
@@ -28,23 +34,56 @@ import java.util.stream.Collectors;
  * The <b>{@code collides}</b> method group can detect a collision at a certain location, for
  * rectangles, or collision aware entities. Also, there's an overload that takes a {@code Line2D} to
  * perform a basic raycast check.
+ * The <b>{@code raycast}</b> method group finds the closest hit along a line and also allows to
+ * evaluate many rays at once, e.g. for line-of-sight checks of many entities.
+ *
+ * <p>Static entities are organized in a uniform grid which serves as broad-phase for the collision
+ * checks. The grid is rebuilt lazily after static entities have been added, removed, relocated or
+ * resized.
+ *
+ * <p>Additionally, the static collision boxes can be compiled into a {@link StaticCollisionMap}
+ * which then answers point and rectangle queries for static geometry without any entity lookups.
  */
 public final class PhysicsEngine implements IUpdateable {
+  private static final String MANUAL_INITIALIZATION_ERROR =
+      "Never initialize a PhysicsEngine manually. Use Game.physics() instead.";
+
   private Rectangle2D environmentBounds;
 
   private final Map<Collision, List<ICollisionEntity>> collisionEntities =
       new ConcurrentHashMap<>();
   private final Map<Collision, List<Rectangle2D>> collisionBoxes = new ConcurrentHashMap<>();
 
+  private volatile CollisionGrid staticGrid;
+
+  // relocated or resized static entities invalidate the static grid
+  private final EntityTransformListener staticTransformListener =
+      new EntityTransformListener() {
+        @Override
+        public void locationChanged(IEntity entity) {
+          invalidateStaticGrid();
+        }
+
+        @Override
+        public void sizeChanged(IEntity entity) {
+          invalidateStaticGrid();
+        }
+      };
+  private volatile StaticCollisionMap staticCollisionMap;
+  private double staticCollisionMapCellSize;
+
   /**
    * <b>You should never call this manually! Instead use the {@code Game.physics()} instance.</b>
    *
    * @see Game#physics()
    */
   public PhysicsEngine() {
-    if (Game.physics() != null) {
-      throw new UnsupportedOperationException(
-          "Never initialize a PhysicsEngine manually. Use Game.physics() instead.");
+    this(true);
+  }
+
+  private PhysicsEngine(final boolean global) {
+    if (global && Game.physics() != null) {
+      throw new UnsupportedOperationException(MANUAL_INITIALIZATION_ERROR);
     }
 
     this.collisionEntities.put(Collision.DYNAMIC, new CopyOnWriteArrayList<>());
@@ -56,6 +95,25 @@ public final class PhysicsEngine implements IUpdateable {
     this.collisionBoxes.put(Collision.ANY, new CopyOnWriteArrayList<>());
   }
 
+  /**
+   * Creates the physics engine of the specified simulation.
+   *
+   * <p><b>You should never call this manually! Instead use the {@code getPhysics()} method of the
+   * simulation.</b>
+   *
+   * @param simulation The simulation that is being initialized and doesn't have a physics engine
+   *     yet.
+   * @return A new physics engine for the specified simulation.
+   * @see EnvironmentSimulation#getPhysics()
+   */
+  public static PhysicsEngine create(final EnvironmentSimulation simulation) {
+    if (simulation == null || simulation.getPhysics() != null) {
+      throw new UnsupportedOperationException(MANUAL_INITIALIZATION_ERROR);
+    }
+
+    return new PhysicsEngine(false);
+  }
+
   /**
    * Adds the specified collision aware entity to the physics engine which will make it respect the
    * entity's collision box for upcoming calls.
@@ -76,6 +134,10 @@ public final class PhysicsEngine implements IUpdateable {
       case DYNAMIC:
       case STATIC:
         this.collisionEntities.get(entity.getCollisionType()).add(entity);
+        if (entity.getCollisionType() == Collision.STATIC) {
+          entity.addTransformListener(this.staticTransformListener);
+          this.invalidateStaticGrid();
+        }
         break;
       default:
         return;
@@ -99,6 +161,10 @@ public final class PhysicsEngine implements IUpdateable {
       case DYNAMIC:
       case STATIC:
         this.collisionEntities.get(entity.getCollisionType()).remove(entity);
+        if (entity.getCollisionType() == Collision.STATIC) {
+          entity.removeListener(this.staticTransformListener);
+          this.invalidateStaticGrid();
+        }
         break;
       default:
         return;
@@ -112,6 +178,10 @@ public final class PhysicsEngine implements IUpdateable {
    * includes all entities, static collision boxes and the map boundaries.
    */
   public void clear() {
+    for (ICollisionEntity entity : this.collisionEntities.get(Collision.STATIC)) {
+      entity.removeListener(this.staticTransformListener);
+    }
+
     for (Collision type : Collision.values()) {
       if (type == Collision.NONE) {
         continue;
@@ -121,6 +191,8 @@ public final class PhysicsEngine implements IUpdateable {
       this.collisionBoxes.get(type).clear();
     }
 
+    this.staticGrid = null;
+    this.staticCollisionMapCellSize = 0;
     this.setBounds(null);
   }
 
@@ -193,6 +265,47 @@ public final class PhysicsEngine implements IUpdateable {
    */
   public void setBounds(final Rectangle2D environmentBounds) {
     this.environmentBounds = environmentBounds;
+    this.staticCollisionMap = null;
+  }
+
+  /**
+   * Compiles the collision boxes of all static entities within the environment bounds into a
+   * {@code StaticCollisionMap}. The map is used for point and rectangle checks against static
+   * geometry that don't provide an entity to check for.
+   *
+   * <p>The map is compiled again on demand after static entities have been added, removed,
+   * relocated or resized until the {@code PhysicsEngine} is cleared.
+   *
+   * @param cellSize The cell size of the map, typically the tile size of the environment.
+   * @return The compiled {@code StaticCollisionMap}.
+   * @see #getStaticCollisionMap()
+   */
+  public StaticCollisionMap compileStaticCollisionMap(final double cellSize) {
+    if (cellSize <= 0) {
+      throw new IllegalArgumentException("The cell size must be greater than 0.");
+    }
+
+    this.staticCollisionMapCellSize = cellSize;
+    final StaticCollisionMap map =
+        new StaticCollisionMap(this.environmentBounds, this.getStaticCollisionBoxes(), cellSize);
+    this.staticCollisionMap = map;
+    return map;
+  }
+
+  /**
+   * Gets the compiled {@code StaticCollisionMap} of this instance.
+   *
+   * @return The {@code StaticCollisionMap} or null if it has never been compiled since the {@code
+   *     PhysicsEngine} was cleared.
+   * @see #compileStaticCollisionMap(double)
+   */
+  public StaticCollisionMap getStaticCollisionMap() {
+    final StaticCollisionMap map = this.staticCollisionMap;
+    if (map != null || this.staticCollisionMapCellSize <= 0) {
+      return map;
+    }
+
+    return this.compileStaticCollisionMap(this.staticCollisionMapCellSize);
   }
 
   /**
@@ -249,6 +362,7 @@ public final class PhysicsEngine implements IUpdateable {
     return this.collides(
         entity,
         collision,
+        line.getBounds2D(),
         e -> GeometricUtilities.getIntersectionPoint(line, e.getCollisionBox()) != null);
   }
 
@@ -306,9 +420,24 @@ public final class PhysicsEngine implements IUpdateable {
       return true;
     }
 
+    if (entity == null && isStaticCollision(collision)) {
+      final StaticCollisionMap map = this.getStaticCollisionMap();
+      if (map != null) {
+        if (map.collides(rect)) {
+          return true;
+        }
+
+        // the map ignores geometry outside its bounds, so only a miss within its bounds is final
+        if (map.getBounds().contains(rect)) {
+          collision = collision == Collision.ANY ? Collision.DYNAMIC : Collision.NONE;
+        }
+      }
+    }
+
     return collides(
         entity,
         collision,
+        rect,
         otherEntity -> GeometricUtilities.intersects(otherEntity.getCollisionBox(), rect));
   }
 
@@ -366,8 +495,25 @@ public final class PhysicsEngine implements IUpdateable {
       return true;
     }
 
+    if (entity == null && isStaticCollision(collision)) {
+      final StaticCollisionMap map = this.getStaticCollisionMap();
+      if (map != null) {
+        if (map.collides(location)) {
+          return true;
+        }
+
+        // the map ignores geometry outside its bounds, so only a miss within its bounds is final
+        if (map.getBounds().contains(location)) {
+          collision = collision == Collision.ANY ? Collision.DYNAMIC : Collision.NONE;
+        }
+      }
+    }
+
     return collides(
-        entity, collision, otherEntity -> otherEntity.getCollisionBox().contains(location));
+        entity,
+        collision,
+        new Rectangle2D.Double(location.getX(), location.getY(), 0, 0),
+        otherEntity -> otherEntity.getCollisionBox().contains(location));
   }
 
   /**
@@ -528,30 +674,78 @@ public final class PhysicsEngine implements IUpdateable {
    *     ICollisionEntity}.
    */
   public RaycastHit raycast(Line2D line, Collision collision, ICollisionEntity entity) {
-    final Point2D rayCastSource = new Point2D.Double(line.getX1(), line.getY1());
-
-    for (final ICollisionEntity collisionEntity : this.collisionEntities.get(collision)) {
-      if (!canCollide(entity, collisionEntity)) {
-        continue;
-      }
+    final Ray ray = this.cast(line, collision, entity, null, false);
+    return ray.hasHit() ? ray.getHit() : null;
+  }
 
-      if (collisionEntity.getCollisionBox().intersectsLine(line)) {
-        double closestDist = -1;
-        Point2D closestPoint = null;
-        for (final Point2D intersection :
-            GeometricUtilities.getIntersectionPoints(line, collisionEntity.getCollisionBox())) {
-          final double dist = intersection.distance(rayCastSource);
-          if (closestPoint == null || dist < closestDist) {
-            closestPoint = intersection;
-            closestDist = dist;
-          }
-        }
+  /**
+   * Casts multiple rays at once and determines the closest hit of each ray with anything of a
+   * certain {@code Collision} type that collides with the given {@code ICollisionEntity}.
+   *
+   * @param lines The lines along which the rays are cast.
+   * @param collision The {@code Collision} type to check for collision.
+   * @param entity The {@code ICollisionEntity} type to check for collision.
+   * @param parallel {@code true} to evaluate the rays in parallel, {@code false} to evaluate them
+   *     on the calling thread.
+   * @return An array with the {@code RaycastHit} of each line at the index of the line or {@code
+   *     null} if the ray at that index didn't hit anything.
+   * @see #raycast(Line2D, Collision, ICollisionEntity)
+   */
+  public RaycastHit[] raycast(
+      List<? extends Line2D> lines,
+      Collision collision,
+      ICollisionEntity entity,
+      boolean parallel) {
+    final RaycastHit[] hits = new RaycastHit[lines.size()];
+    this.getStaticGrid();
+    forEachIndex(
+        hits.length, parallel, i -> hits[i] = this.raycast(lines.get(i), collision, entity));
+    return hits;
+  }
 
-        return new RaycastHit(closestPoint, collisionEntity, closestDist);
-      }
-    }
+  /**
+   * Checks if there is a line of sight between the centers of the collision boxes of the two
+   * entities, i.e. if there is nothing of the given {@code Collision} type between them.
+   *
+   * @param observer The observing entity.
+   * @param target The observed entity.
+   * @param collision The {@code Collision} type that blocks the line of sight.
+   * @return {@code true} if nothing blocks the line of sight, {@code false} otherwise.
+   */
+  public boolean hasLineOfSight(
+      ICollisionEntity observer, ICollisionEntity target, Collision collision) {
+    final Rectangle2D from = observer.getCollisionBox();
+    final Rectangle2D to = target.getCollisionBox();
+    final Line2D line =
+        new Line2D.Double(from.getCenterX(), from.getCenterY(), to.getCenterX(), to.getCenterY());
+    return !this.cast(line, collision, observer, target, true).hasHit();
+  }
 
-    return null;
+  /**
+   * Checks the line of sight of multiple observers to the same target at once, e.g. of all enemies
+   * to the player.
+   *
+   * @param observers The observing entities.
+   * @param target The observed entity.
+   * @param collision The {@code Collision} type that blocks the line of sight.
+   * @param parallel {@code true} to evaluate the observers in parallel, {@code false} to evaluate
+   *     them on the calling thread.
+   * @return An array that contains for each observer at its index whether it has a line of sight to
+   *     the target.
+   * @see #hasLineOfSight(ICollisionEntity, ICollisionEntity, Collision)
+   */
+  public boolean[] hasLineOfSight(
+      List<? extends ICollisionEntity> observers,
+      ICollisionEntity target,
+      Collision collision,
+      boolean parallel) {
+    final boolean[] visible = new boolean[observers.size()];
+    this.getStaticGrid();
+    forEachIndex(
+        visible.length,
+        parallel,
+        i -> visible[i] = this.hasLineOfSight(observers.get(i), target, collision));
+    return visible;
   }
 
   /**
@@ -615,6 +809,7 @@ public final class PhysicsEngine implements IUpdateable {
    * @param target The target point
    * @return {@code true}, if the entity can be moved without colliding, otherwise {@code false}.
    * @see #resolveCollisionForNewPosition
+   * @see #resolveCollisionForSweepToNewPosition
    */
   public boolean move(final IMobileEntity entity, Point2D target) {
     if (entity.turnOnMove()) {
@@ -632,15 +827,14 @@ public final class PhysicsEngine implements IUpdateable {
       return true;
     }
 
-    // check if there is any collision to resolve on the new location
-    if (this.resolveCollisionForNewPosition(entity, target)) {
+    // sweep the collision box towards the target to prevent glitching through collision boxes
+    // that are smaller than the movement step size
+    if (this.resolveCollisionForSweepToNewPosition(entity, target)) {
       return false;
     }
 
-    // This method provides a simplified approach for a multi-sampling algorithm
-    // to prevent glitching through collision boxes that are smaller than the
-    // movement step size
-    if (this.resolveCollisionForRaycastToNewPosition(entity, target)) {
+    // check if there is any collision to resolve on the new location
+    if (this.resolveCollisionForNewPosition(entity, target)) {
       return false;
     }
 
@@ -722,41 +916,139 @@ public final class PhysicsEngine implements IUpdateable {
    * @return The {@code Intersection} area.
    */
   private Intersection getIntersection(final ICollisionEntity entity, final Rectangle2D rect) {
-    Intersection result = null;
-    for (final ICollisionEntity otherEntity : this.getCollisionEntities()) {
-      if (!canCollide(entity, otherEntity)) {
-        continue;
-      }
+    final Intersection[] result = new Intersection[1];
+    this.visitCandidates(
+        Collision.ANY,
+        rect,
+        otherEntity -> {
+          if (canCollide(entity, otherEntity)
+              && GeometricUtilities.intersects(otherEntity.getCollisionBox(), rect)) {
+            Rectangle2D intersection = otherEntity.getCollisionBox().createIntersection(rect);
+            if (result[0] != null) {
+              result[0] =
+                  new Intersection(
+                      intersection.createUnion(result[0]),
+                      ArrayUtilities.append(result[0].involvedEntities, otherEntity));
+            } else {
+              result[0] = new Intersection(intersection, otherEntity);
+            }
+          }
 
-      if (GeometricUtilities.intersects(otherEntity.getCollisionBox(), rect)) {
-        Rectangle2D intersection = otherEntity.getCollisionBox().createIntersection(rect);
-        if (result != null) {
-          result =
-              new Intersection(
-                  intersection.createUnion(result),
-                  ArrayUtilities.append(result.involvedEntities, otherEntity));
-        } else {
-          result = new Intersection(intersection, otherEntity);
+          return false;
+        });
+
+    return result[0];
+  }
+
+  private boolean collides(
+      final ICollisionEntity entity,
+      Collision type,
+      Rectangle2D bounds,
+      Predicate<ICollisionEntity> check) {
+    return this.visitCandidates(
+        type, bounds, otherEntity -> canCollide(entity, otherEntity) && check.test(otherEntity));
+  }
+
+  /**
+   * Visits all entities of the given {@code Collision} type that might intersect the specified
+   * bounds. Static entities are retrieved from the grid while dynamic entities are always visited.
+   *
+   * @param type The {@code Collision} type of the visited entities.
+   * @param bounds The bounds to retrieve the candidates for.
+   * @param visitor The visitor that is called for every candidate.
+   * @return {@code true} if the visitor stopped the iteration, {@code false} otherwise.
+   */
+  private boolean visitCandidates(
+      Collision type, Rectangle2D bounds, CollisionGrid.Visitor visitor) {
+    if (type == Collision.NONE) {
+      return false;
+    }
+
+    if (type != Collision.DYNAMIC
+        && this.getStaticGrid()
+            .visit(
+                bounds.getMinX(), bounds.getMinY(), bounds.getMaxX(), bounds.getMaxY(), visitor)) {
+      return true;
+    }
+
+    if (type != Collision.STATIC) {
+      for (final ICollisionEntity otherEntity : this.collisionEntities.get(Collision.DYNAMIC)) {
+        if (visitor.visit(otherEntity)) {
+          return true;
         }
       }
     }
 
-    return result;
+    return false;
   }
 
-  private boolean collides(
-      final ICollisionEntity entity, Collision type, Predicate<ICollisionEntity> check) {
-    for (final ICollisionEntity otherEntity : this.getCollisionEntities(type)) {
-      if (!canCollide(entity, otherEntity)) {
-        continue;
-      }
+  /**
+   * Casts a ray along the given line. Dynamic entities are tested one by one while the static grid
+   * is traversed from near to far (DDA) until no closer hit is possible.
+   *
+   * @param line The line along which the ray is cast.
+   * @param collision The {@code Collision} type to check for collision.
+   * @param entity The {@code ICollisionEntity} type to check for collision.
+   * @param ignored An additional entity that is ignored by the ray.
+   * @param anyHit {@code true} to stop at any hit (e.g. for line of sight checks), {@code false} to
+   *     find the closest hit.
+   * @return The ray that holds the result of the cast.
+   */
+  private Ray cast(
+      Line2D line,
+      Collision collision,
+      ICollisionEntity entity,
+      ICollisionEntity ignored,
+      boolean anyHit) {
+    final Ray ray = new Ray(line, entity, ignored, anyHit);
+    if (collision == Collision.NONE) {
+      return ray;
+    }
 
-      if (check.test(otherEntity)) {
-        return true;
+    if (collision != Collision.STATIC) {
+      for (final ICollisionEntity otherEntity : this.collisionEntities.get(Collision.DYNAMIC)) {
+        if (ray.visit(otherEntity)) {
+          return ray;
+        }
       }
     }
 
-    return false;
+    if (collision != Collision.DYNAMIC) {
+      ray.traverse(this.getStaticGrid());
+    }
+
+    return ray;
+  }
+
+  private static void forEachIndex(int count, boolean parallel, IntConsumer action) {
+    final IntStream indices = IntStream.range(0, count);
+    (parallel ? indices.parallel() : indices).forEach(action);
+  }
+
+  CollisionGrid getStaticGrid() {
+    CollisionGrid grid = this.staticGrid;
+    if (grid == null) {
+      grid = new CollisionGrid(this.collisionEntities.get(Collision.STATIC));
+      this.staticGrid = grid;
+    }
+
+    return grid;
+  }
+
+  private void invalidateStaticGrid() {
+    this.staticGrid = null;
+    this.staticCollisionMap = null;
+  }
+
+  private List<Rectangle2D> getStaticCollisionBoxes() {
+    return this.collisionEntities.get(Collision.STATIC).stream()
+        .filter(ICollisionEntity::hasCollision)
+        .map(ICollisionEntity::getCollisionBox)
+        .collect(Collectors.toList());
+  }
+
+  private static boolean isStaticCollision(Collision collision) {
+    return collision == Collision.STATIC || collision == Collision.ANY;
   }
 
   /**
@@ -858,17 +1150,65 @@ public final class PhysicsEngine implements IUpdateable {
     return false;
   }
 
-  private boolean resolveCollisionForRaycastToNewPosition(
+  /**
+   * Sweeps the collision box of the entity towards the new position to prevent entities from
+   * glitching through collision boxes if they have a large enough step size. If the sweep hits
+   * anything, the entity is moved to the point of contact and slides along the contact normal for
+   * the remaining distance.
+   *
+   * <p>A sweep is only required if the step is larger than the collision box on any axis, because
+   * otherwise every collision box on the way intersects either the current or the target collision
+   * box and is resolved by the discrete check (except for the corners that are cut on diagonal
+   * movements, which the discrete check tolerates).
+   *
+   * @param entity The entity to resolve the collision for.
+   * @param newPosition The target position to which the entity should be moved to.
+   * @return {@code true} if the sweep hit anything and the entity has been moved to the resolved
+   *     position, {@code false} otherwise.
+   */
+  private boolean resolveCollisionForSweepToNewPosition(
       ICollisionEntity entity, Point2D newPosition) {
-    // special case to prevent entities to glitch through collision boxes if
-    // they have a large enough step size
-    final Line2D line =
-        new Line2D.Double(
-            entity.getCollisionBox().getCenterX(),
-            entity.getCollisionBox().getCenterY(),
-            entity.getCollisionBox(newPosition).getCenterX(),
-            entity.getCollisionBox(newPosition).getCenterY());
-    return this.collides(line, Collision.ANY, entity);
+    final Rectangle2D box = entity.getCollisionBox();
+    final double deltaX = newPosition.getX() - entity.getX();
+    final double deltaY = newPosition.getY() - entity.getY();
+    if (Math.abs(deltaX) <= box.getWidth() && Math.abs(deltaY) <= box.getHeight()) {
+      return false;
+    }
+
+    final Sweep sweep = new Sweep(entity);
+    sweep.cast(this, box.getMinX(), box.getMinY(), box.getMaxX(), box.getMaxY(), deltaX, deltaY);
+    if (!sweep.hasHit()) {
+      return false;
+    }
+
+    // move to the point of contact and slide along the contact normal for the remaining distance
+    final double time = sweep.getContactTime(deltaX, deltaY);
+    double moveX = deltaX * time;
+    double moveY = deltaY * time;
+    final double remainingX = sweep.normalX ? 0 : deltaX - moveX;
+    final double remainingY = sweep.normalX ? deltaY - moveY : 0;
+    ICollisionEntity[] contacts = sweep.getContacts();
+
+    sweep.cast(
+        this,
+        box.getMinX() + moveX,
+        box.getMinY() + moveY,
+        box.getMaxX() + moveX,
+        box.getMaxY() + moveY,
+        remainingX,
+        remainingY);
+    double slideTime = 1;
+    if (sweep.hasHit()) {
+      slideTime = sweep.getContactTime(remainingX, remainingY);
+      contacts = ArrayUtilities.distinct(contacts, sweep.getContacts());
+    }
+
+    moveX += remainingX * slideTime;
+    moveY += remainingY * slideTime;
+
+    entity.setLocation(entity.getX() + moveX, entity.getY() + moveY);
+    fireCollisionEvents(entity, contacts);
+    return true;
   }
 
   private static void fireCollisionEvents(
@@ -888,6 +1228,11 @@ public final class PhysicsEngine implements IUpdateable {
       involvedEntities = ArrayUtilities.distinct(involvedEntities, inter.involvedEntities);
     }
 
+    fireCollisionEvents(collider, involvedEntities);
+  }
+
+  private static void fireCollisionEvents(
+      ICollisionEntity collider, ICollisionEntity[] involvedEntities) {
     // 1. fire collision event on the collider with all the involved entities
     CollisionEvent event = new CollisionEvent(collider, involvedEntities);
     collider.fireCollisionEvent(event);
@@ -899,6 +1244,299 @@ public final class PhysicsEngine implements IUpdateable {
     }
   }
 
+  /**
+   * Computes the time of impact of a moving axis aligned box against the broad-phase candidates in
+   * a single pass. All entities that are hit at the earliest time of impact form the contact set of
+   * the sweep.
+   */
+  private static final class Sweep implements CollisionGrid.Visitor {
+    private static final double CONTACT_EPSILON = 1e-7;
+
+    private final ICollisionEntity entity;
+    private ICollisionEntity[] contacts = new ICollisionEntity[4];
+    private int contactCount;
+    private double time;
+    private boolean normalX;
+
+    private double minX;
+    private double minY;
+    private double maxX;
+    private double maxY;
+    private double deltaX;
+    private double deltaY;
+
+    private Sweep(ICollisionEntity entity) {
+      this.entity = entity;
+    }
+
+    private void cast(
+        PhysicsEngine engine,
+        double minX,
+        double minY,
+        double maxX,
+        double maxY,
+        double deltaX,
+        double deltaY) {
+      this.minX = minX;
+      this.minY = minY;
+      this.maxX = maxX;
+      this.maxY = maxY;
+      this.deltaX = deltaX;
+      this.deltaY = deltaY;
+      this.time = 1;
+      this.contactCount = 0;
+      if (deltaX == 0 && deltaY == 0) {
+        return;
+      }
+
+      engine.visitCandidates(
+          Collision.ANY,
+          new Rectangle2D.Double(
+              Math.min(minX, minX + deltaX),
+              Math.min(minY, minY + deltaY),
+              maxX - minX + Math.abs(deltaX),
+              maxY - minY + Math.abs(deltaY)),
+          this);
+    }
+
+    @Override
+    public boolean visit(ICollisionEntity otherEntity) {
+      if (!canCollide(this.entity, otherEntity)) {
+        return false;
+      }
+
+      final Rectangle2D other = otherEntity.getCollisionBox();
+      double entryX = Double.NEGATIVE_INFINITY;
+      double exitX = Double.POSITIVE_INFINITY;
+      if (this.deltaX > 0) {
+        entryX = (other.getMinX() - this.maxX) / this.deltaX;
+        exitX = (other.getMaxX() - this.minX) / this.deltaX;
+      } else if (this.deltaX < 0) {
+        entryX = (other.getMaxX() - this.minX) / this.deltaX;
+        exitX = (other.getMinX() - this.maxX) / this.deltaX;
+      } else if (this.maxX <= other.getMinX() || this.minX >= other.getMaxX()) {
+        return false;
+      }
+
+      double entryY = Double.NEGATIVE_INFINITY;
+      double exitY = Double.POSITIVE_INFINITY;
+      if (this.deltaY > 0) {
+        entryY = (other.getMinY() - this.maxY) / this.deltaY;
+        exitY = (other.getMaxY() - this.minY) / this.deltaY;
+      } else if (this.deltaY < 0) {
+        entryY = (other.getMaxY() - this.minY) / this.deltaY;
+        exitY = (other.getMinY() - this.maxY) / this.deltaY;
+      } else if (this.maxY <= other.getMinY() || this.minY >= other.getMaxY()) {
+        return false;
+      }
+
+      final double entry = Math.max(entryX, entryY);
+      final double exit = Math.min(exitX, exitY);
+
+      // boxes that already overlap at the start are resolved by the discrete check
+      if (entry >= exit || entry < 0 || entry >= 1 || entry > this.time) {
+        return false;
+      }
+
+      if (entry < this.time) {
+        this.time = entry;
+        this.normalX = entryX > entryY;
+        this.contactCount = 0;
+      }
+
+      if (this.contactCount == this.contacts.length) {
+        this.contacts = Arrays.copyOf(this.contacts, this.contactCount * 2);
+      }
+
+      this.contacts[this.contactCount++] = otherEntity;
+      return false;
+    }
+
+    private boolean hasHit() {
+      return this.contactCount > 0;
+    }
+
+    /**
+     * Gets the time of the contact, backed off by a small distance to prevent the collision boxes
+     * from intersecting due to floating point imprecision.
+     */
+    private double getContactTime(double deltaX, double deltaY) {
+      final double length = Math.sqrt(deltaX * deltaX + deltaY * deltaY);
+      return Math.max(0, this.time - CONTACT_EPSILON / length);
+    }
+
+    private ICollisionEntity[] getContacts() {
+      return Arrays.copyOf(this.contacts, this.contactCount);
+    }
+  }
+
+  /**
+   * A ray along a line segment that keeps track of its closest hit. Positions along the ray are
+   * expressed by the parameter {@code t} in the range [0, 1] from the start to the end of the line.
+   */
+  private static final class Ray implements CollisionGrid.Visitor {
+    private final double x;
+    private final double y;
+    private final double deltaX;
+    private final double deltaY;
+    private final ICollisionEntity entity;
+    private final ICollisionEntity ignored;
+    private final boolean anyHit;
+
+    private ICollisionEntity hitEntity;
+    private double hitTime = Double.POSITIVE_INFINITY;
+
+    private Ray(
+        Line2D line, ICollisionEntity entity, ICollisionEntity ignored, boolean anyHit) {
+      this.x = line.getX1();
+      this.y = line.getY1();
+      this.deltaX = line.getX2() - line.getX1();
+      this.deltaY = line.getY2() - line.getY1();
+      this.entity = entity;
+      this.ignored = ignored;
+      this.anyHit = anyHit;
+    }
+
+    @Override
+    public boolean visit(ICollisionEntity otherEntity) {
+      if (otherEntity == this.ignored || !canCollide(this.entity, otherEntity)) {
+        return false;
+      }
+
+      final Rectangle2D box = otherEntity.getCollisionBox();
+      final double time =
+          this.intersect(box.getMinX(), box.getMinY(), box.getMaxX(), box.getMaxY());
+      if (time < this.hitTime) {
+        this.hitTime = time;
+        this.hitEntity = otherEntity;
+      }
+
+      return this.anyHit && this.hasHit();
+    }
+
+    /**
+     * Walks the cells of the grid that are crossed by the ray from near to far and stops as soon as
+     * the closest hit lies within the cells that have already been visited.
+     */
+    private void traverse(CollisionGrid grid) {
+      if (grid.isEmpty()) {
+        return;
+      }
+
+      final double cellSize = grid.getCellSize();
+      final double minX = grid.getCellX(0);
+      final double minY = grid.getCellY(0);
+      final double maxX = grid.getCellX(grid.getColumns());
+      final double maxY = grid.getCellY(grid.getRows());
+
+      // clip the ray to the grid
+      final double enter = Math.max(0, this.clip(minX, minY, maxX, maxY, true));
+      final double exit = Math.min(1, this.clip(minX, minY, maxX, maxY, false));
+      if (enter > exit) {
+        return;
+      }
+
+      int column = grid.getColumn(this.x + this.deltaX * enter);
+      int row = grid.getRow(this.y + this.deltaY * enter);
+      final int stepX = this.deltaX > 0 ? 1 : -1;
+      final int stepY = this.deltaY > 0 ? 1 : -1;
+      final double timeDeltaX =
+          this.deltaX != 0 ? cellSize / Math.abs(this.deltaX) : Double.POSITIVE_INFINITY;
+      final double timeDeltaY =
+          this.deltaY != 0 ? cellSize / Math.abs(this.deltaY) : Double.POSITIVE_INFINITY;
+      double nextX =
+          this.deltaX != 0
+              ? (grid.getCellX(column + (stepX > 0 ? 1 : 0)) - this.x) / this.deltaX
+              : Double.POSITIVE_INFINITY;
+      double nextY =
+          this.deltaY != 0
+              ? (grid.getCellY(row + (stepY > 0 ? 1 : 0)) - this.y) / this.deltaY
+              : Double.POSITIVE_INFINITY;
+
+      while (true) {
+        // entities that span multiple cells are tested once per cell, which doesn't change the hit
+        if (grid.visitCell(column, row, column, row, this)) {
+          return;
+        }
+
+        final double cellExit = Math.min(nextX, nextY);
+        if (this.hitTime <= cellExit || cellExit > exit) {
+          return;
+        }
+
+        if (nextX < nextY) {
+          column += stepX;
+          nextX += timeDeltaX;
+        } else {
+          row += stepY;
+          nextY += timeDeltaY;
+        }
+
+        if (column < 0 || column >= grid.getColumns() || row < 0 || row >= grid.getRows()) {
+          return;
+        }
+      }
+    }
+
+    /**
+     * Intersects the ray with the specified box.
+     *
+     * @return The parameter at which the ray enters the box. If the ray starts within the box, the
+     *     parameter at which it leaves the box or 0 if it doesn't leave the box. {@code
+     *     Double.POSITIVE_INFINITY} if the ray doesn't hit the box.
+     */
+    private double intersect(double minX, double minY, double maxX, double maxY) {
+      final double enter = this.clip(minX, minY, maxX, maxY, true);
+      final double exit = this.clip(minX, minY, maxX, maxY, false);
+      if (enter > exit || exit < 0 || enter > 1) {
+        return Double.POSITIVE_INFINITY;
+      }
+
+      if (enter >= 0) {
+        return enter;
+      }
+
+      return exit <= 1 ? exit : 0;
+    }
+
+    /** Gets the parameter at which the infinite ray enters or exits the box (slab test). */
+    private double clip(double minX, double minY, double maxX, double maxY, boolean enter) {
+      double near = Double.NEGATIVE_INFINITY;
+      double far = Double.POSITIVE_INFINITY;
+      if (this.deltaX != 0) {
+        final double t1 = (minX - this.x) / this.deltaX;
+        final double t2 = (maxX - this.x) / this.deltaX;
+        near = Math.max(near, Math.min(t1, t2));
+        far = Math.min(far, Math.max(t1, t2));
+      } else if (this.x < minX || this.x > maxX) {
+        return enter ? Double.POSITIVE_INFINITY : Double.NEGATIVE_INFINITY;
+      }
+
+      if (this.deltaY != 0) {
+        final double t1 = (minY - this.y) / this.deltaY;
+        final double t2 = (maxY - this.y) / this.deltaY;
+        near = Math.max(near, Math.min(t1, t2));
+        far = Math.min(far, Math.max(t1, t2));
+      } else if (this.y < minY || this.y > maxY) {
+        return enter ? Double.POSITIVE_INFINITY : Double.NEGATIVE_INFINITY;
+      }
+
+      return enter ? near : far;
+    }
+
+    private boolean hasHit() {
+      return this.hitEntity != null;
+    }
+
+    private RaycastHit getHit() {
+      final double length = Math.sqrt(this.deltaX * this.deltaX + this.deltaY * this.deltaY);
+      final Point2D point =
+          new Point2D.Double(
+              this.x + this.deltaX * this.hitTime, this.y + this.deltaY * this.hitTime);
+      return new RaycastHit(point, this.hitEntity, this.hitTime * length);
+    }
+  }
+
   /**
    * A helper class that contains the intersection of a collision event and the involved entities.
    * This is basically just a {@link Rectangle2D} with some additional information.
@@ -0,0 +1,410 @@
+package de.gurkenlabs.litiengine.physics;
+
+import de.gurkenlabs.litiengine.util.geom.GeometricUtilities;
+import java.awt.geom.Line2D;
+import java.awt.geom.Point2D;
+import java.awt.geom.Rectangle2D;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * A compiled occupancy grid of static collision geometry. The collision boxes are rasterized into
+ * two bit-packed layers: one that marks all cells that contain any static geometry and one that
+ * marks the cells which are completely covered by a single collision box.
+ *
+ * <p>Point, rectangle and line queries only touch the cells that are covered by the query. Cells
+ * that are completely covered answer a query immediately and only cells that are partially covered
+ * require an exact check against the collision boxes of that cell. Geometry outside the bounds of
+ * the map is ignored.
+ *
+ * @see PhysicsEngine#compileStaticCollisionMap(double)
+ */
+public final class StaticCollisionMap {
+  private final Rectangle2D bounds;
+  private final double cellSize;
+  private final int columns;
+  private final int rows;
+  private final long[] occupied;
+  private final long[] blocked;
+  private final Rectangle2D[] boxes;
+  private final int[][] cellBoxes;
+
+  /**
+   * Initializes a new instance of the {@code StaticCollisionMap} class.
+   *
+   * @param bounds The bounds of the map. If null, the union of all collision boxes is used.
+   * @param collisionBoxes The static collision boxes that are rasterized.
+   * @param cellSize The width and height of a single cell.
+   */
+  public StaticCollisionMap(
+      final Rectangle2D bounds,
+      final Collection<Rectangle2D> collisionBoxes,
+      final double cellSize) {
+    if (cellSize <= 0) {
+      throw new IllegalArgumentException("The cell size must be greater than 0.");
+    }
+
+    this.boxes = collisionBoxes.stream().map(Rectangle2D::getBounds2D).toArray(Rectangle2D[]::new);
+    this.bounds = bounds != null ? bounds.getBounds2D() : union(this.boxes);
+    this.cellSize = cellSize;
+    this.columns = Math.max(0, (int) Math.ceil(this.bounds.getWidth() / cellSize));
+    this.rows = Math.max(0, (int) Math.ceil(this.bounds.getHeight() / cellSize));
+
+    final int cells = this.columns * this.rows;
+    this.occupied = new long[(cells + 63) >> 6];
+    this.blocked = new long[(cells + 63) >> 6];
+
+    final List<List<Integer>> boxesPerCell = new ArrayList<>(cells);
+    for (int i = 0; i < cells; i++) {
+      boxesPerCell.add(null);
+    }
+
+    for (int i = 0; i < this.boxes.length; i++) {
+      this.rasterize(i, boxesPerCell);
+    }
+
+    this.cellBoxes = new int[cells][];
+    for (int i = 0; i < cells; i++) {
+      final List<Integer> indices = boxesPerCell.get(i);
+      if (indices != null) {
+        this.cellBoxes[i] = indices.stream().mapToInt(Integer::intValue).toArray();
+      }
+    }
+  }
+
+  public Rectangle2D getBounds() {
+    return this.bounds.getBounds2D();
+  }
+
+  public double getCellSize() {
+    return this.cellSize;
+  }
+
+  public int getColumns() {
+    return this.columns;
+  }
+
+  public int getRows() {
+    return this.rows;
+  }
+
+  /**
+   * Checks if the specified cell contains any static collision geometry.
+   *
+   * @param column The column of the cell.
+   * @param row The row of the cell.
+   * @return True if any static collision box intersects the cell; otherwise false.
+   */
+  public boolean isOccupied(final int column, final int row) {
+    return this.isInGrid(column, row) && get(this.occupied, this.getIndex(column, row));
+  }
+
+  /**
+   * Checks if the specified cell is completely covered by a static collision box.
+   *
+   * @param column The column of the cell.
+   * @param row The row of the cell.
+   * @return True if the cell is completely covered by a static collision box; otherwise false.
+   */
+  public boolean isBlocked(final int column, final int row) {
+    return this.isInGrid(column, row) && get(this.blocked, this.getIndex(column, row));
+  }
+
+  /**
+   * Checks if the specified point is contained by any static collision box.
+   *
+   * @param point The point to check.
+   * @return True if the point collides with static geometry; otherwise false.
+   */
+  public boolean collides(final Point2D point) {
+    return this.collides(point.getX(), point.getY());
+  }
+
+  /**
+   * Checks if the point at the specified coordinates is contained by any static collision box.
+   *
+   * @param x The x-coordinate of the point.
+   * @param y The y-coordinate of the point.
+   * @return True if the point collides with static geometry; otherwise false.
+   */
+  public boolean collides(final double x, final double y) {
+    final int column = this.getColumn(x);
+    final int row = this.getRow(y);
+    if (!this.isInGrid(column, row)) {
+      return false;
+    }
+
+    final int index = this.getIndex(column, row);
+    if (!get(this.occupied, index)) {
+      return false;
+    }
+
+    if (get(this.blocked, index)) {
+      return true;
+    }
+
+    for (final int box : this.cellBoxes[index]) {
+      if (this.boxes[box].contains(x, y)) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  /**
+   * Checks if the specified rectangle intersects any static collision box.
+   *
+   * @param rectangle The rectangle to check.
+   * @return True if the rectangle collides with static geometry; otherwise false.
+   * @see GeometricUtilities#intersects(Rectangle2D, Rectangle2D)
+   */
+  public boolean collides(final Rectangle2D rectangle) {
+    final int fromX = Math.max(0, this.getColumn(rectangle.getMinX()));
+    final int fromY = Math.max(0, this.getRow(rectangle.getMinY()));
+    final int toX = Math.min(this.columns - 1, this.getColumn(rectangle.getMaxX()));
+    final int toY = Math.min(this.rows - 1, this.getRow(rectangle.getMaxY()));
+
+    for (int row = fromY; row <= toY; row++) {
+      for (int column = fromX; column <= toX; column++) {
+        final int index = this.getIndex(column, row);
+        if (!get(this.occupied, index)) {
+          continue;
+        }
+
+        if (get(this.blocked, index)
+            && GeometricUtilities.intersects(this.getCell(column, row), rectangle)) {
+          return true;
+        }
+
+        for (final int box : this.cellBoxes[index]) {
+          if (GeometricUtilities.intersects(this.boxes[box], rectangle)) {
+            return true;
+          }
+        }
+      }
+    }
+
+    return false;
+  }
+
+  /**
+   * Checks if the specified line passes through any static collision box. Lines that only touch
+   * the edge of a collision box don't collide.
+   *
+   * @param line The line to check.
+   * @return True if the line collides with static geometry; otherwise false.
+   */
+  public boolean collides(final Line2D line) {
+    final double x = line.getX1();
+    final double y = line.getY1();
+    final double deltaX = line.getX2() - x;
+    final double deltaY = line.getY2() - y;
+    if (deltaX == 0 && deltaY == 0) {
+      return this.collides(x, y);
+    }
+
+    // clip the line to the map
+    final double[] range = {0, 1};
+    if (!clip(x, y, deltaX, deltaY, this.bounds, range, false)) {
+      return false;
+    }
+
+    // walk the cells along the line (DDA)
+    int column = clamp(this.getColumn(x + deltaX * range[0]), this.columns);
+    int row = clamp(this.getRow(y + deltaY * range[0]), this.rows);
+    final int stepX = deltaX > 0 ? 1 : -1;
+    final int stepY = deltaY > 0 ? 1 : -1;
+    final double timeDeltaX = deltaX != 0 ? this.cellSize / Math.abs(deltaX) : Double.MAX_VALUE;
+    final double timeDeltaY = deltaY != 0 ? this.cellSize / Math.abs(deltaY) : Double.MAX_VALUE;
+    double nextX =
+        deltaX != 0
+            ? (this.getCellX(column + (stepX > 0 ? 1 : 0)) - x) / deltaX
+            : Double.MAX_VALUE;
+    double nextY =
+        deltaY != 0
+            ? (this.getCellY(row + (stepY > 0 ? 1 : 0)) - y) / deltaY
+            : Double.MAX_VALUE;
+
+    final double[] segment = new double[2];
+    while (true) {
+      final int index = this.getIndex(column, row);
+      if (get(this.occupied, index)) {
+        segment[0] = range[0];
+        segment[1] = range[1];
+        if (get(this.blocked, index)
+            && clip(x, y, deltaX, deltaY, this.getCell(column, row), segment, true)) {
+          return true;
+        }
+
+        for (final int box : this.cellBoxes[index]) {
+          segment[0] = range[0];
+          segment[1] = range[1];
+          if (clip(x, y, deltaX, deltaY, this.boxes[box], segment, true)) {
+            return true;
+          }
+        }
+      }
+
+      if (Math.min(nextX, nextY) >= range[1]) {
+        return false;
+      }
+
+      if (nextX < nextY) {
+        column += stepX;
+        nextX += timeDeltaX;
+      } else {
+        row += stepY;
+        nextY += timeDeltaY;
+      }
+
+      if (!this.isInGrid(column, row)) {
+        return false;
+      }
+    }
+  }
+
+  private void rasterize(final int boxIndex, final List<List<Integer>> boxesPerCell) {
+    final Rectangle2D box = this.boxes[boxIndex];
+    final int fromX = Math.max(0, this.getColumn(box.getMinX()));
+    final int fromY = Math.max(0, this.getRow(box.getMinY()));
+    final int toX = Math.min(this.columns - 1, this.getColumn(box.getMaxX()));
+    final int toY = Math.min(this.rows - 1, this.getRow(box.getMaxY()));
+    for (int row = fromY; row <= toY; row++) {
+      for (int column = fromX; column <= toX; column++) {
+        final Rectangle2D cell = this.getCell(column, row);
+        final int index = this.getIndex(column, row);
+        if (!overlaps(box, cell)) {
+          continue;
+        }
+
+        if (box.contains(cell)) {
+          set(this.blocked, index);
+        }
+
+        // blocked cells keep their boxes for queries that only touch the edge of the cell
+        set(this.occupied, index);
+        List<Integer> indices = boxesPerCell.get(index);
+        if (indices == null) {
+          indices = new ArrayList<>(1);
+          boxesPerCell.set(index, indices);
+        }
+
+        indices.add(boxIndex);
+      }
+    }
+  }
+
+  /**
+   * Checks if the box overlaps the interior of the cell. Boxes without width or height are assigned
+   * to the cell that contains their location.
+   */
+  private static boolean overlaps(final Rectangle2D box, final Rectangle2D cell) {
+    return overlaps(box.getMinX(), box.getMaxX(), cell.getMinX(), cell.getMaxX())
+        && overlaps(box.getMinY(), box.getMaxY(), cell.getMinY(), cell.getMaxY());
+  }
+
+  private static boolean overlaps(
+      final double min, final double max, final double cellMin, final double cellMax) {
+    return max > min ? max > cellMin && min < cellMax : min >= cellMin && min < cellMax;
+  }
+
+  /**
+   * Clips the range of the line parameter to the specified rectangle (slab test).
+   *
+   * @param strict True if the line has to pass through the interior of the rectangle.
+   * @return True if the clipped range is not empty.
+   */
+  private static boolean clip(
+      final double x,
+      final double y,
+      final double deltaX,
+      final double deltaY,
+      final Rectangle2D rect,
+      final double[] range,
+      final boolean strict) {
+    double near = range[0];
+    double far = range[1];
+    if (deltaX != 0) {
+      final double t1 = (rect.getMinX() - x) / deltaX;
+      final double t2 = (rect.getMaxX() - x) / deltaX;
+      near = Math.max(near, Math.min(t1, t2));
+      far = Math.min(far, Math.max(t1, t2));
+    } else if (!within(x, rect.getMinX(), rect.getMaxX(), strict)) {
+      return false;
+    }
+
+    if (deltaY != 0) {
+      final double t1 = (rect.getMinY() - y) / deltaY;
+      final double t2 = (rect.getMaxY() - y) / deltaY;
+      near = Math.max(near, Math.min(t1, t2));
+      far = Math.min(far, Math.max(t1, t2));
+    } else if (!within(y, rect.getMinY(), rect.getMaxY(), strict)) {
+      return false;
+    }
+
+    range[0] = near;
+    range[1] = far;
+    return strict ? near < far : near <= far;
+  }
+
+  private static boolean within(
+      final double value, final double min, final double max, final boolean strict) {
+    return strict ? value > min && value < max : value >= min && value <= max;
+  }
+
+  private static Rectangle2D union(final Rectangle2D[] boxes) {
+    if (boxes.length == 0) {
+      return new Rectangle2D.Double();
+    }
+
+    final Rectangle2D union = boxes[0].getBounds2D();
+    for (final Rectangle2D box : boxes) {
+      union.add(box);
+    }
+
+    return union;
+  }
+
+  private Rectangle2D getCell(final int column, final int row) {
+    return new Rectangle2D.Double(
+        this.getCellX(column), this.getCellY(row), this.cellSize, this.cellSize);
+  }
+
+  private double getCellX(final int column) {
+    return this.bounds.getX() + column * this.cellSize;
+  }
+
+  private double getCellY(final int row) {
+    return this.bounds.getY() + row * this.cellSize;
+  }
+
+  private int getColumn(final double x) {
+    return (int) Math.floor((x - this.bounds.getX()) / this.cellSize);
+  }
+
+  private int getRow(final double y) {
+    return (int) Math.floor((y - this.bounds.getY()) / this.cellSize);
+  }
+
+  private int getIndex(final int column, final int row) {
+    return row * this.columns + column;
+  }
+
+  private boolean isInGrid(final int column, final int row) {
+    return column >= 0 && column < this.columns && row >= 0 && row < this.rows;
+  }
+
+  private static int clamp(final int value, final int count) {
+    return Math.max(0, Math.min(count - 1, value));
+  }
+
+  private static boolean get(final long[] bits, final int index) {
+    return (bits[index >> 6] & (1L << index)) != 0;
+  }
+
+  private static void set(final long[] bits, final int index) {
+    bits[index >> 6] |= 1L << index;
+  }
+}
@@ -0,0 +1,724 @@
+package de.gurkenlabs.litiengine.resources;
+
+import java.awt.GraphicsEnvironment;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.UnsupportedAudioFileException;
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+
+import de.gurkenlabs.litiengine.environment.tilemap.ITileset;
+import de.gurkenlabs.litiengine.environment.tilemap.xml.Blueprint;
+import de.gurkenlabs.litiengine.environment.tilemap.xml.Tileset;
+import de.gurkenlabs.litiengine.environment.tilemap.xml.TmxException;
+import de.gurkenlabs.litiengine.environment.tilemap.xml.TmxMap;
+import de.gurkenlabs.litiengine.graphics.Spritesheet;
+import de.gurkenlabs.litiengine.graphics.emitters.xml.EmitterData;
+import de.gurkenlabs.litiengine.sound.Sound;
+import de.gurkenlabs.litiengine.util.Imaging;
+import de.gurkenlabs.litiengine.util.io.Codec;
+import de.gurkenlabs.litiengine.util.io.CompressionUtilities;
+import de.gurkenlabs.litiengine.util.io.StreamUtilities;
+import de.gurkenlabs.litiengine.util.io.XmlUtilities;
+
+/**
+ * A compiled, binary representation of a {@link ResourceBundle}.
+ * <p>
+ * The file starts with a small header that points to a table of contents which lists every entry by its type and name. Images are stored as
+ * raw ARGB pixels and sounds as decoded PCM samples, so materializing them requires neither base64 nor image/audio decoding. Each entry
+ * can be deflated individually.
+ * </p>
+ * <p>
+ * Bundles that are located on the file system are accessed through a {@code MappedByteBuffer}, which means that only the table of
+ * contents is read when opening the bundle and the payload of an individual spritesheet or sound is only touched once it is requested by
+ * its name.
+ * </p>
+ *
+ * @see ResourceBundle#save(String, boolean, boolean)
+ * @see #open(URL)
+ */
+public final class BinaryResourceBundle {
+  private static final Logger log = Logger.getLogger(BinaryResourceBundle.class.getName());
+
+  /**
+   * The magic number that identifies a binary bundle ("LITB").
+   */
+  public static final int MAGIC = 0x4C495442;
+  public static final short FORMAT_VERSION = 1;
+
+  // magic (int) + version (short) + entry count (int) + toc offset (long)
+  private static final int HEADER_SIZE = 18;
+  private static final byte FLAG_COMPRESSED = 0x1;
+
+  private final URL location;
+  private final ByteBuffer buffer;
+  private final Map<EntryType, Map<String, Entry>> entries = new EnumMap<>(EntryType.class);
+
+  private List<Tileset> tilesets;
+
+  /**
+   * The type of an entry in the table of contents of a {@code BinaryResourceBundle}.
+   */
+  public enum EntryType {
+    MAP, TILESET, BLUEPRINT, EMITTER, SPRITESHEET, SOUND
+  }
+
+  private static final class Entry {
+    private final String name;
+    private final boolean compressed;
+    private final long offset;
+    private final int storedLength;
+    private final int length;
+
+    private Entry(String name, boolean compressed, long offset, int storedLength, int length) {
+      this.name = name;
+      this.compressed = compressed;
+      this.offset = offset;
+      this.storedLength = storedLength;
+      this.length = length;
+    }
+  }
+
+  private static final class SpritesheetData {
+    private final int spriteWidth;
+    private final int spriteHeight;
+    private final ImageFormat format;
+    private final int[] keyframes;
+    private final BufferedImage image;
+
+    private SpritesheetData(int spriteWidth, int spriteHeight, ImageFormat format, int[] keyframes, BufferedImage image) {
+      this.spriteWidth = spriteWidth;
+      this.spriteHeight = spriteHeight;
+      this.format = format;
+      this.keyframes = keyframes;
+      this.image = image;
+    }
+  }
+
+  private BinaryResourceBundle(URL location, ByteBuffer buffer) throws IOException {
+    this.location = location;
+    this.buffer = buffer;
+    for (EntryType type : EntryType.values()) {
+      this.entries.put(type, new LinkedHashMap<>());
+    }
+
+    this.readTableOfContents();
+  }
+
+  /**
+   * Determines whether the specified file is a binary resource bundle by checking its header.
+   *
+   * @param file
+   *          The URL to the file.
+   * @return True if the file starts with the binary bundle {@link #MAGIC}; otherwise false.
+   */
+  public static boolean isBinary(URL file) {
+    if (file == null) {
+      return false;
+    }
+
+    try (InputStream stream = Resources.get(file)) {
+      if (stream == null) {
+        return false;
+      }
+
+      return new DataInputStream(stream).readInt() == MAGIC;
+    } catch (IOException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Opens the binary resource bundle at the specified location. Only the table of contents is read by this method.
+   * <p>
+   * Files on the local file system are memory-mapped; bundles from any other location (e.g. from within a jar) are read to the heap.
+   * </p>
+   *
+   * @param file
+   *          The URL to the binary bundle.
+   * @return The opened bundle.
+   * @throws IOException
+   *           If the file could not be read or is not a valid binary bundle.
+   */
+  public static BinaryResourceBundle open(URL file) throws IOException {
+    if ("file".equals(file.getProtocol())) {
+      try (FileChannel channel = FileChannel.open(Paths.get(file.toURI()), StandardOpenOption.READ)) {
+        if (channel.size() > Integer.MAX_VALUE) {
+          throw new IOException("The binary resource bundle " + file + " exceeds the maximum size of 2 GB.");
+        }
+
+        // the mapping stays valid after the channel has been closed
+        return new BinaryResourceBundle(file, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+      } catch (URISyntaxException | IllegalArgumentException e) {
+        log.log(Level.FINE, "Could not map " + file + ", reading it to the heap instead.", e);
+      }
+    }
+
+    try (InputStream stream = Resources.get(file)) {
+      if (stream == null) {
+        throw new IOException("Could not open " + file);
+      }
+
+      return new BinaryResourceBundle(file, ByteBuffer.wrap(StreamUtilities.getBytes(stream)));
+    }
+  }
+
+  /**
+   * Writes the specified resource bundle to the specified file in the binary format.
+   *
+   * @param bundle
+   *          The bundle to write.
+   * @param file
+   *          The target file; an existing file will be overwritten.
+   * @param compress
+   *          True if the entries should be deflated; entries that don't benefit from the compression are always stored uncompressed.
+   * @throws IOException
+   *           If the file could not be written or a resource could not be converted.
+   */
+  public static void write(ResourceBundle bundle, File file, boolean compress) throws IOException {
+    try (RandomAccessFile out = new RandomAccessFile(file, "rw")) {
+      out.setLength(0);
+      out.write(new byte[HEADER_SIZE]);
+
+      final ByteArrayOutputStream tocBytes = new ByteArrayOutputStream();
+      final DataOutputStream toc = new DataOutputStream(tocBytes);
+      final Map<EntryType, Set<String>> written = new EnumMap<>(EntryType.class);
+      int count = 0;
+
+      count += writeXmlEntries(out, toc, written, EntryType.MAP, bundle.getMaps(), TmxMap::getName, compress);
+      count += writeXmlEntries(out, toc, written, EntryType.TILESET, bundle.getTilesets(), Tileset::getName, compress);
+      count += writeXmlEntries(out, toc, written, EntryType.BLUEPRINT, bundle.getBluePrints(), Blueprint::getName, compress);
+      count += writeXmlEntries(out, toc, written, EntryType.EMITTER, bundle.getEmitters(), EmitterData::getName, compress);
+
+      for (SpritesheetResource sprite : bundle.getSpriteSheets()) {
+        if (add(written, EntryType.SPRITESHEET, sprite.getName())) {
+          writeEntry(out, toc, EntryType.SPRITESHEET, sprite.getName(), encodeSpritesheet(sprite), compress);
+          count++;
+        }
+      }
+
+      for (SoundResource sound : bundle.getSounds()) {
+        if (add(written, EntryType.SOUND, sound.getName())) {
+          writeEntry(out, toc, EntryType.SOUND, sound.getName(), encodeSound(sound), compress);
+          count++;
+        }
+      }
+
+      toc.flush();
+      final long tocOffset = out.getFilePointer();
+      out.write(tocBytes.toByteArray());
+
+      out.seek(0);
+      out.writeInt(MAGIC);
+      out.writeShort(FORMAT_VERSION);
+      out.writeInt(count);
+      out.writeLong(tocOffset);
+    }
+  }
+
+  /**
+   * Gets the location from which this bundle was opened.
+   *
+   * @return The URL of this bundle.
+   */
+  public URL getLocation() {
+    return this.location;
+  }
+
+  /**
+   * Gets the names of all entries of the specified type in the order they were written.
+   *
+   * @param type
+   *          The type of the entries.
+   * @return An unmodifiable collection with the names of the entries.
+   */
+  public Collection<String> getNames(EntryType type) {
+    return Collections.unmodifiableCollection(this.entries.get(type).keySet());
+  }
+
+  /**
+   * Determines whether this bundle contains an entry of the specified type and name.
+   *
+   * @param type
+   *          The type of the entry.
+   * @param name
+   *          The name of the entry.
+   * @return True if such an entry exists; otherwise false.
+   */
+  public boolean contains(EntryType type, String name) {
+    return this.entries.get(type).containsKey(name);
+  }
+
+  /**
+   * Gets all tilesets of this bundle. The tilesets are only read once and shared by all maps of this bundle.
+   *
+   * @return The tilesets of this bundle.
+   * @throws IOException
+   *           If an entry could not be read.
+   */
+  public synchronized List<Tileset> getTilesets() throws IOException {
+    if (this.tilesets == null) {
+      final List<Tileset> loaded = new ArrayList<>();
+      for (Entry entry : this.entries.get(EntryType.TILESET).values()) {
+        final Tileset tileset = this.readXml(Tileset.class, entry);
+        try {
+          tileset.finish(this.location);
+        } catch (TmxException e) {
+          throw new IOException(e);
+        }
+
+        loaded.add(tileset);
+      }
+
+      this.tilesets = loaded;
+    }
+
+    return this.tilesets;
+  }
+
+  /**
+   * Materializes the map with the specified name.
+   *
+   * @param name
+   *          The name of the map.
+   * @return The map or null if this bundle doesn't contain a map with the specified name.
+   * @throws IOException
+   *           If the entry could not be read.
+   */
+  public TmxMap getMap(String name) throws IOException {
+    final Entry entry = this.entries.get(EntryType.MAP).get(name);
+    if (entry == null) {
+      return null;
+    }
+
+    final TmxMap map = this.readXml(TmxMap.class, entry);
+    final List<Tileset> rawTilesets = this.getTilesets();
+    for (final ITileset tileset : map.getTilesets()) {
+      if (tileset instanceof Tileset) {
+        ((Tileset) tileset).load(rawTilesets);
+      }
+    }
+
+    try {
+      map.finish(this.location);
+    } catch (TmxException e) {
+      throw new IOException(e);
+    }
+
+    return map;
+  }
+
+  /**
+   * Materializes the blueprint with the specified name.
+   *
+   * @param name
+   *          The name of the blueprint.
+   * @return The blueprint or null if this bundle doesn't contain a blueprint with the specified name.
+   * @throws IOException
+   *           If the entry could not be read.
+   */
+  public Blueprint getBlueprint(String name) throws IOException {
+    final Entry entry = this.entries.get(EntryType.BLUEPRINT).get(name);
+    return entry == null ? null : this.readXml(Blueprint.class, entry);
+  }
+
+  /**
+   * Materializes the emitter with the specified name.
+   *
+   * @param name
+   *          The name of the emitter.
+   * @return The emitter data or null if this bundle doesn't contain an emitter with the specified name.
+   * @throws IOException
+   *           If the entry could not be read.
+   */
+  public EmitterData getEmitter(String name) throws IOException {
+    final Entry entry = this.entries.get(EntryType.EMITTER).get(name);
+    return entry == null ? null : this.readXml(EmitterData.class, entry);
+  }
+
+  /**
+   * Reads the spritesheet with the specified name into a new {@code SpritesheetResource} without registering it anywhere.
+   *
+   * @param name
+   *          The name of the spritesheet.
+   * @return The spritesheet resource or null if this bundle doesn't contain a spritesheet with the specified name.
+   * @throws IOException
+   *           If the entry could not be read.
+   */
+  public SpritesheetResource getSpritesheetResource(String name) throws IOException {
+    final SpritesheetData data = this.readSpritesheet(name);
+    if (data == null) {
+      return null;
+    }
+
+    final SpritesheetResource resource = new SpritesheetResource();
+    resource.setName(name);
+    resource.setWidth(data.spriteWidth);
+    resource.setHeight(data.spriteHeight);
+    resource.setImageFormat(data.format);
+    resource.setImage(Codec.encode(data.image, data.format));
+    resource.setKeyframes(data.keyframes);
+    return resource;
+  }
+
+  /**
+   * Materializes the spritesheet with the specified name by copying its raw pixels into a new image and loads it into
+   * {@code Resources.spritesheets()}, including its custom keyframe durations.
+   *
+   * @param name
+   *          The name of the spritesheet.
+   * @return The loaded spritesheet or null if this bundle doesn't contain a spritesheet with the specified name.
+   * @throws IOException
+   *           If the entry could not be read.
+   * @see #getSpritesheetResource(String)
+   */
+  public Spritesheet loadSpritesheet(String name) throws IOException {
+    final SpritesheetData data = this.readSpritesheet(name);
+    if (data == null) {
+      return null;
+    }
+
+    final Spritesheet sprite = Resources.spritesheets().load(data.image, name + data.format.toFileExtension(), data.spriteWidth, data.spriteHeight);
+    if (data.keyframes.length > 0) {
+      Resources.spritesheets().setCustomKeyFrameDurations(sprite.getName(), data.keyframes);
+    }
+
+    return sprite;
+  }
+
+  /**
+   * Materializes the sound with the specified name from its decoded PCM samples.
+   *
+   * @param name
+   *          The name of the sound.
+   * @return The sound or null if this bundle doesn't contain a sound with the specified name.
+   * @throws IOException
+   *           If the entry could not be read.
+   */
+  public Sound getSound(String name) throws IOException {
+    final Entry entry = this.entries.get(EntryType.SOUND).get(name);
+    if (entry == null) {
+      return null;
+    }
+
+    final ByteBuffer data = this.getPayload(entry);
+    final AudioFormat.Encoding encoding = new AudioFormat.Encoding(readString(data));
+    final float sampleRate = data.getFloat();
+    final int sampleSizeInBits = data.getInt();
+    final int channels = data.getInt();
+    final int frameSize = data.getInt();
+    final float frameRate = data.getFloat();
+    final boolean bigEndian = data.get() != 0;
+    final AudioFormat format = new AudioFormat(encoding, sampleRate, sampleSizeInBits, channels, frameSize, frameRate, bigEndian);
+
+    final byte[] pcm = new byte[data.getInt()];
+    data.get(pcm);
+    return new Sound(entry.name, format, pcm);
+  }
+
+  /**
+   * Converts this bundle to a regular {@code ResourceBundle}, e.g. to edit or re-save it in the XML format.
+   * This materializes and re-encodes every entry of this bundle, but doesn't load any of them into {@code Resources}.
+   *
+   * @return A new {@code ResourceBundle} with the contents of this bundle.
+   * @throws IOException
+   *           If an entry could not be read.
+   */
+  public ResourceBundle toResourceBundle() throws IOException {
+    final ResourceBundle bundle = new ResourceBundle();
+    bundle.getTilesets().addAll(this.getTilesets());
+    for (String name : this.getNames(EntryType.MAP)) {
+      bundle.getMaps().add(this.getMap(name));
+    }
+
+    for (String name : this.getNames(EntryType.BLUEPRINT)) {
+      bundle.getBluePrints().add(this.getBlueprint(name));
+    }
+
+    for (String name : this.getNames(EntryType.EMITTER)) {
+      bundle.getEmitters().add(this.getEmitter(name));
+    }
+
+    for (String name : this.getNames(EntryType.SPRITESHEET)) {
+      bundle.getSpriteSheets().add(this.getSpritesheetResource(name));
+    }
+
+    for (String name : this.getNames(EntryType.SOUND)) {
+      // the raw data of a sound that was created from PCM samples is a WAV file
+      bundle.getSounds().add(new SoundResource(this.getSound(name), SoundFormat.WAV));
+    }
+
+    return bundle;
+  }
+
+  private void readTableOfContents() throws IOException {
+    final ByteBuffer header = this.buffer.duplicate();
+    if (header.remaining() < HEADER_SIZE || header.getInt() != MAGIC) {
+      throw new IOException(this.location + " is not a binary resource bundle.");
+    }
+
+    final short version = header.getShort();
+    if (version > FORMAT_VERSION) {
+      throw new IOException("Unsupported binary resource bundle version " + version + " in " + this.location);
+    }
+
+    final int count = header.getInt();
+    final long tocOffset = header.getLong();
+    if (count < 0) {
+      throw this.corrupted("invalid entry count " + count);
+    }
+
+    if (tocOffset < HEADER_SIZE || tocOffset > this.buffer.limit()) {
+      throw this.corrupted("table of contents offset " + tocOffset + " is out of range");
+    }
+
+    final ByteBuffer toc = this.buffer.duplicate();
+    toc.position((int) tocOffset);
+    final EntryType[] types = EntryType.values();
+    try {
+      for (int i = 0; i < count; i++) {
+        final int type = toc.get();
+        if (type < 0 || type >= types.length) {
+          throw this.corrupted("unknown entry type " + type);
+        }
+
+        final String name = readString(toc);
+        final byte flags = toc.get();
+        final long offset = toc.getLong();
+        final int storedLength = toc.getInt();
+        final int length = toc.getInt();
+
+        // the payload of every entry lies between the header and the table of contents
+        if (offset < HEADER_SIZE || storedLength < 0 || length < 0 || offset + storedLength > tocOffset) {
+          throw this.corrupted("entry " + name + " is out of range");
+        }
+
+        this.entries.get(types[type]).put(name, new Entry(name, (flags & FLAG_COMPRESSED) != 0, offset, storedLength, length));
+      }
+    } catch (BufferUnderflowException e) {
+      throw this.corrupted("the table of contents is truncated");
+    }
+  }
+
+  private IOException corrupted(String reason) {
+    return new IOException("The binary resource bundle " + this.location + " is corrupted: " + reason + ".");
+  }
+
+  private SpritesheetData readSpritesheet(String name) throws IOException {
+    final Entry entry = this.entries.get(EntryType.SPRITESHEET).get(name);
+    if (entry == null) {
+      return null;
+    }
+
+    final ByteBuffer data = this.getPayload(entry);
+    final int spriteWidth = data.getInt();
+    final int spriteHeight = data.getInt();
+    final int width = data.getInt();
+    final int height = data.getInt();
+    final ImageFormat format = ImageFormat.values()[data.get()];
+    final int[] keyframes = new int[data.getInt()];
+    data.asIntBuffer().get(keyframes);
+    data.position(data.position() + keyframes.length * Integer.BYTES);
+
+    return new SpritesheetData(spriteWidth, spriteHeight, format, keyframes, readPixels(data, width, height));
+  }
+
+  private ByteBuffer getPayload(Entry entry) {
+    final ByteBuffer payload = this.buffer.duplicate();
+    payload.position((int) entry.offset);
+    payload.limit((int) entry.offset + entry.storedLength);
+    if (!entry.compressed) {
+      return payload.slice();
+    }
+
+    final byte[] stored = new byte[entry.storedLength];
+    payload.get(stored);
+    final byte[] data = CompressionUtilities.decompress(stored);
+    if (data.length != entry.length) {
+      log.log(Level.WARNING, "Entry {0} in {1} has an unexpected length.", new Object[] { entry.name, this.location });
+    }
+
+    return ByteBuffer.wrap(data);
+  }
+
+  private <T> T readXml(Class<T> cls, Entry entry) throws IOException {
+    final ByteBuffer payload = this.getPayload(entry);
+    final byte[] xml = new byte[payload.remaining()];
+    payload.get(xml);
+    try {
+      return XmlUtilities.read(cls, new ByteArrayInputStream(xml), this.location);
+    } catch (JAXBException e) {
+      throw new IOException(e);
+    }
+  }
+
+  private static BufferedImage readPixels(ByteBuffer data, int width, int height) {
+    if (width == 0 || height == 0) {
+      return null;
+    }
+
+    // without a display, there is no screen device to create a compatible image for
+    final BufferedImage image = GraphicsEnvironment.isHeadless() ? new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB)
+        : Imaging.getCompatibleImage(width, height);
+
+    if (image.getType() == BufferedImage.TYPE_INT_ARGB) {
+      // copy the pixels straight from the (mapped) buffer into the raster
+      data.asIntBuffer().get(((DataBufferInt) image.getRaster().getDataBuffer()).getData(), 0, width * height);
+    } else {
+      final int[] pixels = new int[width * height];
+      data.asIntBuffer().get(pixels);
+      image.setRGB(0, 0, width, height, pixels, 0, width);
+    }
+
+    return image;
+  }
+
+  private static String readString(ByteBuffer buffer) throws IOException {
+    // strings are written with DataOutput.writeUTF, i.e. as modified UTF-8 with a two byte length prefix
+    final int length = buffer.getShort() & 0xFFFF;
+    final byte[] bytes = new byte[length + 2];
+    bytes[0] = (byte) (length >>> 8);
+    bytes[1] = (byte) length;
+    buffer.get(bytes, 2, length);
+    return new DataInputStream(new ByteArrayInputStream(bytes)).readUTF();
+  }
+
+  private static boolean add(Map<EntryType, Set<String>> written, EntryType type, String name) {
+    // same as the XML bundle, only the first resource with a given name is written
+    return written.computeIfAbsent(type, t -> new HashSet<>()).add(name);
+  }
+
+  private static <T> int writeXmlEntries(RandomAccessFile out, DataOutputStream toc, Map<EntryType, Set<String>> written, EntryType type, List<T> resources,
+      Function<T, String> nameFunction, boolean compress) throws IOException {
+    if (resources.isEmpty()) {
+      return 0;
+    }
+
+    int count = 0;
+    try {
+      final JAXBContext context = XmlUtilities.getContext(resources.get(0).getClass());
+      if (context == null) {
+        throw new IOException("No JAXB context for " + type);
+      }
+
+      final Marshaller marshaller = context.createMarshaller();
+      marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, false);
+      for (T resource : resources) {
+        final String name = nameFunction.apply(resource);
+        if (!add(written, type, name)) {
+          continue;
+        }
+
+        final ByteArrayOutputStream xml = new ByteArrayOutputStream();
+        marshaller.marshal(resource, xml);
+        writeEntry(out, toc, type, name, xml.toByteArray(), compress);
+        count++;
+      }
+    } catch (JAXBException e) {
+      throw new IOException(e);
+    }
+
+    return count;
+  }
+
+  private static void writeEntry(RandomAccessFile out, DataOutputStream toc, EntryType type, String name, byte[] data, boolean compress) throws IOException {
+    byte[] stored = data;
+    byte flags = 0;
+    if (compress) {
+      final byte[] compressed = CompressionUtilities.compress(data);
+      if (compressed.length < data.length) {
+        stored = compressed;
+        flags |= FLAG_COMPRESSED;
+      }
+    }
+
+    final long offset = out.getFilePointer();
+    out.write(stored);
+
+    toc.writeByte(type.ordinal());
+    toc.writeUTF(name);
+    toc.writeByte(flags);
+    toc.writeLong(offset);
+    toc.writeInt(stored.length);
+    toc.writeInt(data.length);
+  }
+
+  private static byte[] encodeSpritesheet(SpritesheetResource sprite) throws IOException {
+    final BufferedImage image = Codec.decodeImage(sprite.getImage());
+    if (image == null) {
+      throw new IOException("The image of spritesheet " + sprite.getName() + " could not be decoded.");
+    }
+
+    final int width = image.getWidth();
+    final int height = image.getHeight();
+    final int[] keyframes = sprite.getKeyframes();
+    final int[] pixels = image.getRGB(0, 0, width, height, null, 0, width);
+
+    final ByteBuffer data = ByteBuffer.allocate(21 + (keyframes.length + pixels.length) * Integer.BYTES);
+    data.putInt(sprite.getWidth());
+    data.putInt(sprite.getHeight());
+    data.putInt(width);
+    data.putInt(height);
+    data.put((byte) (sprite.getImageFormat() == null ? ImageFormat.UNSUPPORTED : sprite.getImageFormat()).ordinal());
+    data.putInt(keyframes.length);
+    data.asIntBuffer().put(keyframes);
+    data.position(data.position() + keyframes.length * Integer.BYTES);
+    data.asIntBuffer().put(pixels);
+    return data.array();
+  }
+
+  private static byte[] encodeSound(SoundResource resource) throws IOException {
+    final Sound sound;
+    try {
+      sound = new Sound(new ByteArrayInputStream(Codec.decode(resource.getData())), resource.getName());
+    } catch (UnsupportedAudioFileException e) {
+      throw new IOException("The sound " + resource.getName() + " could not be decoded.", e);
+    }
+
+    final AudioFormat format = sound.getFormat();
+    final byte[] pcm = sound.getStreamData();
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream(pcm.length + 64);
+    final DataOutputStream data = new DataOutputStream(bytes);
+    data.writeUTF(format.getEncoding().toString());
+    data.writeFloat(format.getSampleRate());
+    data.writeInt(format.getSampleSizeInBits());
+    data.writeInt(format.getChannels());
+    data.writeInt(format.getFrameSize());
+    data.writeFloat(format.getFrameRate());
+    data.writeBoolean(format.isBigEndian());
+    data.writeInt(pcm.length);
+    data.write(pcm);
+    data.flush();
+    return bytes.toByteArray();
+  }
+}
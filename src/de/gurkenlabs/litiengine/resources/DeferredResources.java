@@ -0,0 +1,90 @@
+package de.gurkenlabs.litiengine.resources;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Keeps track of resources that have been registered by their name but are only loaded once they're requested for the first time.
+ * <p>
+ * Loading is single-flight: if multiple threads request the same resource concurrently, only one of them invokes the load callback and
+ * all others wait for its result.
+ * </p>
+ *
+ * @param <T>
+ *          The type of the deferred resources.
+ */
+final class DeferredResources<T> {
+  private final Map<String, Supplier<? extends T>> loaders = new ConcurrentHashMap<>();
+  private final Map<String, CompletableFuture<T>> loading = new ConcurrentHashMap<>();
+
+  void register(String name, Supplier<? extends T> loadCallback) {
+    this.loaders.put(name, loadCallback);
+  }
+
+  boolean contains(String name) {
+    return name != null && this.loaders.containsKey(name);
+  }
+
+  Collection<String> getNames() {
+    return Collections.unmodifiableCollection(this.loaders.keySet());
+  }
+
+  void remove(String name) {
+    this.loaders.remove(name);
+  }
+
+  void clear() {
+    this.loaders.clear();
+  }
+
+  /**
+   * Loads the deferred resource with the specified name.
+   *
+   * @param name
+   *          The name of the resource.
+   * @param lookup
+   *          Looks up the resource in case another thread already loaded it.
+   * @param add
+   *          Adds a freshly loaded resource to the owning container.
+   * @return The loaded resource or null if no resource with this name was registered or it couldn't be loaded.
+   */
+  T load(String name, Function<String, T> lookup, BiConsumer<String, T> add) {
+    final CompletableFuture<T> future = new CompletableFuture<>();
+    final CompletableFuture<T> pending = this.loading.putIfAbsent(name, future);
+    if (pending != null) {
+      try {
+        return pending.join();
+      } catch (CompletionException e) {
+        throw new ResourceLoadException(e.getCause());
+      }
+    }
+
+    try {
+      // another thread might have finished loading the resource in the meantime
+      T resource = lookup.apply(name);
+      final Supplier<? extends T> loader = this.loaders.get(name);
+      if (resource == null && loader != null) {
+        resource = loader.get();
+        if (resource != null) {
+          add.accept(name, resource);
+        }
+      }
+
+      this.loaders.remove(name);
+      future.complete(resource);
+      return resource;
+    } catch (RuntimeException e) {
+      future.completeExceptionally(e);
+      throw e;
+    } finally {
+      this.loading.remove(name, future);
+    }
+  }
+}
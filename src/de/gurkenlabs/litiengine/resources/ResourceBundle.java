@@ -21,7 +21,6 @@ import java.util.zip.ZipException;
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Marshaller;
-import javax.xml.bind.Unmarshaller;
 import javax.xml.bind.annotation.XmlAttribute;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlElementWrapper;
@@ -85,6 +84,10 @@ public class ResourceBundle implements Serializable {
 
   public static ResourceBundle load(final URL file) {
     try {
+      if (BinaryResourceBundle.isBinary(file)) {
+        return BinaryResourceBundle.open(file).toResourceBundle();
+      }
+
       ResourceBundle gameFile = getResourceBundle(file);
       if (gameFile == null) {
         return null;
@@ -142,6 +145,22 @@ public class ResourceBundle implements Serializable {
   }
 
   public String save(final String fileName, final boolean compress) {
+    return this.save(fileName, compress, false);
+  }
+
+  /**
+   * Saves this bundle to the specified file.
+   * 
+   * @param fileName
+   *          The name of the file; the {@link #FILE_EXTENSION} is appended if necessary.
+   * @param compress
+   *          True if the file should be compressed.
+   * @param binary
+   *          True if the bundle should be written in the binary format of the {@link BinaryResourceBundle} with pre-decoded images and
+   *          sounds; false to write it as XML.
+   * @return The path of the saved file.
+   */
+  public String save(final String fileName, final boolean compress, final boolean binary) {
     String fileNameWithExtension = fileName;
     if (!fileNameWithExtension.endsWith("." + FILE_EXTENSION)) {
       fileNameWithExtension += "." + FILE_EXTENSION;
@@ -163,6 +182,16 @@ public class ResourceBundle implements Serializable {
     Collections.sort(this.getBluePrints());
     Collections.sort(this.getSounds());
 
+    if (binary) {
+      try {
+        BinaryResourceBundle.write(this, newFile, compress);
+      } catch (final IOException e) {
+        log.log(Level.SEVERE, e.getMessage(), e);
+      }
+
+      return newFile.toString();
+    }
+
     try (FileOutputStream fileOut = new FileOutputStream(newFile, false)) {
       final JAXBContext jaxbContext = XmlUtilities.getContext(ResourceBundle.class);
       final Marshaller jaxbMarshaller = jaxbContext.createMarshaller();
@@ -222,13 +251,11 @@ public class ResourceBundle implements Serializable {
   }
 
   private static ResourceBundle getResourceBundle(URL file) throws JAXBException, IOException {
-    final JAXBContext jaxbContext = XmlUtilities.getContext(ResourceBundle.class);
-    final Unmarshaller um = jaxbContext.createUnmarshaller();
     try (InputStream inputStream = Resources.get(file)) {
 
       // try to get compressed game file
       final GZIPInputStream zipStream = new GZIPInputStream(inputStream);
-      return (ResourceBundle) um.unmarshal(zipStream);
+      return XmlUtilities.read(ResourceBundle.class, zipStream, file);
     } catch (final ZipException e) {
 
       // if it fails to load the compressed file, get it from plain XML
@@ -0,0 +1,140 @@
+package de.gurkenlabs.litiengine.resources;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import de.gurkenlabs.litiengine.environment.tilemap.ICustomProperty;
+import de.gurkenlabs.litiengine.environment.tilemap.ICustomPropertyProvider;
+import de.gurkenlabs.litiengine.environment.tilemap.IImageLayer;
+import de.gurkenlabs.litiengine.environment.tilemap.ILayer;
+import de.gurkenlabs.litiengine.environment.tilemap.IMap;
+import de.gurkenlabs.litiengine.environment.tilemap.IMapImage;
+import de.gurkenlabs.litiengine.environment.tilemap.IMapObject;
+import de.gurkenlabs.litiengine.environment.tilemap.ITileset;
+import de.gurkenlabs.litiengine.environment.tilemap.xml.Blueprint;
+import de.gurkenlabs.litiengine.graphics.Spritesheet;
+import de.gurkenlabs.litiengine.graphics.animation.PropAnimationController;
+import de.gurkenlabs.litiengine.util.io.FileUtilities;
+
+/**
+ * The resources that a map depends on, i.e. the spritesheets, sounds and blueprints that are required to render and populate the
+ * environment of the map.
+ * <p>
+ * The dependencies are resolved against the resources that are known to the {@code Resources} containers (loaded or deferred):
+ * </p>
+ * <ul>
+ * <li>the images of tilesets and image layers</li>
+ * <li>custom property values of map objects that name a sound, a blueprint or a spritesheet (including the spritesheets of props and
+ * creature animations that use the value as prefix)</li>
+ * <li>the dependencies of all referenced blueprints</li>
+ * </ul>
+ *
+ * @see Resources#getDependencies(IMap)
+ * @see Resources#prefetch(IMap)
+ */
+public final class ResourceDependencies {
+  private final Set<String> spritesheets = new LinkedHashSet<>();
+  private final Set<String> sounds = new LinkedHashSet<>();
+  private final Set<String> blueprints = new LinkedHashSet<>();
+
+  private final List<String> knownSpritesheets = new ArrayList<>();
+
+  ResourceDependencies(IMap map) {
+    for (Spritesheet sprite : Resources.spritesheets().getAll()) {
+      this.knownSpritesheets.add(sprite.getName());
+    }
+
+    this.knownSpritesheets.addAll(Resources.spritesheets().getDeferred());
+
+    for (ITileset tileset : map.getTilesets()) {
+      this.addImage(tileset.getImage());
+    }
+
+    for (ILayer layer : map.getRenderLayers()) {
+      if (layer instanceof IImageLayer) {
+        this.addImage(((IImageLayer) layer).getImage());
+      }
+    }
+
+    for (IMapObject mapObject : map.getMapObjects()) {
+      this.addReferences(mapObject);
+    }
+  }
+
+  /**
+   * Gets the names of the spritesheets that the map depends on.
+   *
+   * @return The names of the required spritesheets.
+   */
+  public Collection<String> getSpritesheets() {
+    return Collections.unmodifiableSet(this.spritesheets);
+  }
+
+  /**
+   * Gets the names of the sounds that the map depends on.
+   *
+   * @return The names of the required sounds.
+   */
+  public Collection<String> getSounds() {
+    return Collections.unmodifiableSet(this.sounds);
+  }
+
+  /**
+   * Gets the names of the blueprints that the map depends on.
+   *
+   * @return The names of the required blueprints.
+   */
+  public Collection<String> getBlueprints() {
+    return Collections.unmodifiableSet(this.blueprints);
+  }
+
+  private void addImage(IMapImage image) {
+    if (image != null && image.getSource() != null) {
+      final String name = FileUtilities.getFileName(image.getSource());
+      if (Resources.spritesheets().contains(name)) {
+        this.spritesheets.add(name);
+      }
+    }
+  }
+
+  private void addReferences(ICustomPropertyProvider provider) {
+    final Set<String> values = new HashSet<>();
+    for (ICustomProperty property : provider.getProperties().values()) {
+      final String value = property.getAsString();
+      if (value == null) {
+        continue;
+      }
+
+      for (String part : value.split(",")) {
+        if (!part.trim().isEmpty()) {
+          values.add(part.trim());
+        }
+      }
+    }
+
+    for (String value : values) {
+      if (Resources.sounds().contains(value)) {
+        this.sounds.add(value);
+      }
+
+      if (Resources.blueprints().contains(value) && this.blueprints.add(value)) {
+        final Blueprint blueprint = Resources.blueprints().get(value);
+        if (blueprint != null) {
+          this.addReferences(blueprint);
+        }
+      }
+
+      final String propSprite = PropAnimationController.PROP_IDENTIFIER + value;
+      for (String sprite : this.knownSpritesheets) {
+        if (sprite.equals(value) || sprite.startsWith(value + "-") || sprite.startsWith(propSprite)) {
+          this.spritesheets.add(sprite);
+        }
+      }
+    }
+  }
+}
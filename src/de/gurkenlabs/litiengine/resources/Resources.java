@@ -13,7 +13,11 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Scanner;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -55,6 +59,8 @@ public final class Resources {
   private static Images images = new Images();
   private static Spritesheets spritesheets = new Spritesheets();
   private static Blueprints blueprints = new Blueprints();
+  private static final Map<String, ResourceDependencies> dependencies = new ConcurrentHashMap<>();
+  private static boolean lazyLoading;
 
   private Resources() {
     throw new UnsupportedOperationException();
@@ -149,12 +155,105 @@ public final class Resources {
     return blueprints;
   }
 
+  /**
+   * Determines whether {@link #load(URL)} only registers the resources of a game resource file instead of loading all of them up front.
+   * <p>
+   * In this mode, spritesheets and sounds (and for binary bundles also maps, tilesets and blueprints) are loaded by the first call to the
+   * {@code get} method of their container. Use {@link #prefetch(IMap)} to load everything that a map depends on in advance.
+   * </p>
+   * 
+   * @param lazy
+   *          True if resources should be loaded on demand; false to load all resources when the game resource file is loaded.
+   * 
+   * @see ResourcesContainer#addDeferred(String, Supplier)
+   */
+  public static void setLazyLoading(boolean lazy) {
+    lazyLoading = lazy;
+  }
+
+  /**
+   * Indicates whether resources of game resource files are loaded on demand.
+   * 
+   * @return True if resources are loaded on demand; otherwise false.
+   * 
+   * @see #setLazyLoading(boolean)
+   */
+  public static boolean isLazyLoading() {
+    return lazyLoading;
+  }
+
+  /**
+   * Gets the resources that the specified map depends on. The dependencies are determined once per map name.
+   * 
+   * @param map
+   *          The map for which to get the dependencies.
+   * @return The dependencies of the specified map.
+   */
+  public static ResourceDependencies getDependencies(IMap map) {
+    final ResourceDependencies existing = dependencies.get(map.getName());
+    if (existing != null) {
+      return existing;
+    }
+
+    final ResourceDependencies resolved = new ResourceDependencies(map);
+    dependencies.putIfAbsent(map.getName(), resolved);
+    return resolved;
+  }
+
+  /**
+   * Loads all deferred resources that the specified map depends on in parallel.
+   * 
+   * @param map
+   *          The map for which the resources should be loaded.
+   * @return A future that is completed once all dependencies are loaded.
+   * 
+   * @see #getDependencies(IMap)
+   * @see #setLazyLoading(boolean)
+   */
+  public static CompletableFuture<Void> prefetch(IMap map) {
+    if (map == null) {
+      return CompletableFuture.completedFuture(null);
+    }
+
+    final ResourceDependencies dependency = getDependencies(map);
+    final List<CompletableFuture<?>> loads = new ArrayList<>();
+    for (String sprite : dependency.getSpritesheets()) {
+      if (spritesheets().getDeferred().contains(sprite)) {
+        loads.add(prefetch(sprite, () -> spritesheets().get(sprite)));
+      }
+    }
+
+    for (String sound : dependency.getSounds()) {
+      if (!sounds().isLoaded(sound)) {
+        loads.add(prefetch(sound, () -> sounds().get(sound)));
+      }
+    }
+
+    return CompletableFuture.allOf(loads.toArray(new CompletableFuture<?>[0]));
+  }
+
+  /**
+   * Loads the map with the specified name and all deferred resources that it depends on in the background, e.g. to prepare the next
+   * level while the current one is still being played.
+   * 
+   * @param mapName
+   *          The name of the map.
+   * @return A future that is completed once the map and all its dependencies are loaded.
+   * 
+   * @see #prefetch(IMap)
+   */
+  public static CompletableFuture<Void> prefetch(String mapName) {
+    return CompletableFuture.supplyAsync(() -> maps().get(mapName), ResourcesContainer.ASYNC_POOL).thenCompose(Resources::prefetch);
+  }
+
   /**
    * Load {@code Spritesheets}, {@code Tilesets} and {@code Maps} from a game resource file created with the utiLITI editor.
    * After loading, these resources can be accessed via this API (e.g. {@code Resources.maps().get("mapname")}.
    * 
    * @param gameResourceFile
    *          The file name of the game resource file
+   * 
+   * @see #setLazyLoading(boolean)
    */
   public static void load(final String gameResourceFile) {
     load(getLocation(gameResourceFile));
@@ -166,8 +265,15 @@ public final class Resources {
    * 
    * @param gameResourceFile
    *          The URL to the game resource file
+   * 
+   * @see #setLazyLoading(boolean)
    */
   public static void load(final URL gameResourceFile) {
+    if (BinaryResourceBundle.isBinary(gameResourceFile)) {
+      loadBinary(gameResourceFile);
+      return;
+    }
+
     final long loadStart = System.nanoTime();
 
     final ResourceBundle file = ResourceBundle.load(gameResourceFile);
@@ -195,6 +301,24 @@ public final class Resources {
 
     log.log(Level.INFO, "{0} tilesets loaded from {1}", new Object[] { tileCnt, gameResourceFile });
 
+    for (final EmitterData emitter : file.getEmitters()) {
+      EmitterLoader.load(emitter);
+    }
+
+    if (isLazyLoading()) {
+      for (final SpritesheetResource spriteSheetInfo : file.getSpriteSheets()) {
+        Resources.spritesheets().addDeferred(spriteSheetInfo.getName(), () -> Resources.spritesheets().load(spriteSheetInfo));
+      }
+
+      for (final SoundResource soundResource : file.getSounds()) {
+        Resources.sounds().addDeferred(soundResource.getName(), () -> Resources.sounds().decode(soundResource));
+      }
+
+      log.log(Level.INFO, "{0} spritesheets and {1} sounds registered from {2}", new Object[] { file.getSpriteSheets().size(), file.getSounds().size(), gameResourceFile });
+      logLoadTime(gameResourceFile, loadStart);
+      return;
+    }
+
     final List<Spritesheet> loadedSprites = Collections.synchronizedList(new ArrayList<>());
     file.getSpriteSheets().parallelStream().forEach(spriteSheetInfo -> {
       final Spritesheet sprite = Resources.spritesheets().load(spriteSheetInfo);
@@ -223,13 +347,7 @@ public final class Resources {
 
     log.log(Level.INFO, "{0} sprites loaded to memory", new Object[] { spriteload });
 
-    for (final EmitterData emitter : file.getEmitters()) {
-      EmitterLoader.load(emitter);
-    }
-
-    final double loadTime = TimeUtilities.nanoToMs(System.nanoTime() - loadStart);
-
-    log.log(Level.INFO, "loading game resources from {0} took {1} ms", new Object[] { gameResourceFile, loadTime });
+    logLoadTime(gameResourceFile, loadStart);
   }
 
   /**
@@ -332,6 +450,7 @@ public final class Resources {
     tilesets().clear();
     images().clear();
     spritesheets().clear();
+    dependencies.clear();
   }
 
   public static URL getLocation(String name) {
@@ -350,6 +469,117 @@ public final class Resources {
     }
   }
 
+  private static void loadBinary(final URL gameResourceFile) {
+    final long loadStart = System.nanoTime();
+
+    final BinaryResourceBundle file;
+    try {
+      file = BinaryResourceBundle.open(gameResourceFile);
+
+      for (final String name : file.getNames(BinaryResourceBundle.EntryType.EMITTER)) {
+        EmitterLoader.load(file.getEmitter(name));
+      }
+
+      if (isLazyLoading()) {
+        registerBinary(file);
+        logLoadTime(gameResourceFile, loadStart);
+        return;
+      }
+
+      for (final Tileset tileset : file.getTilesets()) {
+        if (!Resources.tilesets().contains(tileset.getName())) {
+          Resources.tilesets().add(tileset.getName(), tileset);
+        }
+      }
+
+      for (final String name : file.getNames(BinaryResourceBundle.EntryType.MAP)) {
+        Resources.maps().add(name, file.getMap(name));
+      }
+
+      for (final String name : file.getNames(BinaryResourceBundle.EntryType.BLUEPRINT)) {
+        Resources.blueprints().add(name, file.getBlueprint(name));
+      }
+    } catch (final IOException e) {
+      log.log(Level.SEVERE, gameResourceFile + " - " + e.getMessage(), e);
+      return;
+    }
+
+    // images and sounds are copied from the mapped file without any further decoding
+    file.getNames(BinaryResourceBundle.EntryType.SPRITESHEET).parallelStream().forEach(name -> {
+      try {
+        file.loadSpritesheet(name);
+      } catch (final IOException e) {
+        log.log(Level.SEVERE, "Spritesheet " + name + " could not be loaded: " + e.getMessage(), e);
+      }
+    });
+
+    file.getNames(BinaryResourceBundle.EntryType.SOUND).parallelStream().forEach(name -> {
+      try {
+        Resources.sounds().add(name, Resources.sounds().normalize(file.getSound(name)));
+      } catch (final IOException e) {
+        log.log(Level.SEVERE, "Sound " + name + " could not be loaded: " + e.getMessage(), e);
+      }
+    });
+
+    logLoadTime(gameResourceFile, loadStart);
+  }
+
+  private static void registerBinary(final BinaryResourceBundle file) {
+    for (final String name : file.getNames(BinaryResourceBundle.EntryType.TILESET)) {
+      if (!Resources.tilesets().contains(name)) {
+        Resources.tilesets().addDeferred(name, deferred(name, n -> file.getTilesets().stream().filter(t -> n.equals(t.getName())).findFirst().orElse(null)));
+      }
+    }
+
+    for (final String name : file.getNames(BinaryResourceBundle.EntryType.MAP)) {
+      Resources.maps().addDeferred(name, deferred(name, file::getMap));
+    }
+
+    for (final String name : file.getNames(BinaryResourceBundle.EntryType.BLUEPRINT)) {
+      Resources.blueprints().addDeferred(name, deferred(name, file::getBlueprint));
+    }
+
+    for (final String name : file.getNames(BinaryResourceBundle.EntryType.SPRITESHEET)) {
+      Resources.spritesheets().addDeferred(name, deferred(name, file::loadSpritesheet));
+    }
+
+    for (final String name : file.getNames(BinaryResourceBundle.EntryType.SOUND)) {
+      Resources.sounds().addDeferred(name, deferred(name, n -> Resources.sounds().normalize(file.getSound(n))));
+    }
+
+    log.log(Level.INFO, "{0} maps, {1} spritesheets and {2} sounds registered from {3}",
+        new Object[] { file.getNames(BinaryResourceBundle.EntryType.MAP).size(), file.getNames(BinaryResourceBundle.EntryType.SPRITESHEET).size(),
+            file.getNames(BinaryResourceBundle.EntryType.SOUND).size(), file.getLocation() });
+  }
+
+  private static <T> Supplier<T> deferred(final String name, final BundleEntryLoader<T> loader) {
+    return () -> {
+      try {
+        return loader.load(name);
+      } catch (final IOException e) {
+        throw new ResourceLoadException(name + " could not be loaded from the resource bundle.", e);
+      }
+    };
+  }
+
+  private static CompletableFuture<Void> prefetch(final String name, final Runnable load) {
+    return CompletableFuture.runAsync(load, ResourcesContainer.ASYNC_POOL).exceptionally(e -> {
+      log.log(Level.WARNING, "Prefetching " + name + " failed: " + e.getMessage(), e);
+      return null;
+    });
+  }
+
+  private static void logLoadTime(final URL gameResourceFile, final long loadStart) {
+    final double loadTime = TimeUtilities.nanoToMs(System.nanoTime() - loadStart);
+
+    log.log(Level.INFO, "loading game resources from {0} took {1} ms", new Object[] { gameResourceFile, loadTime });
+  }
+
+  @FunctionalInterface
+  private interface BundleEntryLoader<T> {
+    T load(String name) throws IOException;
+  }
+
   private static InputStream getResource(final URL file) {
     try {
       return file.openStream();
@@ -16,7 +16,9 @@ import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import de.gurkenlabs.litiengine.Game;
+import de.gurkenlabs.litiengine.GameMetrics;
 import de.gurkenlabs.litiengine.GameListener;
+import de.gurkenlabs.litiengine.jfr.ResourceCacheMissEvent;
 
 /**
  * An abstract implementation for all classes that provide a certain type of resources.
@@ -29,10 +31,11 @@ import de.gurkenlabs.litiengine.GameListener;
  */
 public abstract class ResourcesContainer<T> {
   // use a work-stealing pool to maximize resource load speed while minimizing the number of resources in use
-  private static final ExecutorService ASYNC_POOL = Executors.newWorkStealingPool();
+  static final ExecutorService ASYNC_POOL = Executors.newWorkStealingPool();
 
   private final Map<String, T> resources = new ConcurrentHashMap<>();
   private final Map<String, String> aliases = new ConcurrentHashMap<>();
+  private final DeferredResources<T> deferred = new DeferredResources<>();
   private final List<ResourcesContainerListener<? super T>> listeners = new CopyOnWriteArrayList<>();
   private final List<ResourcesContainerClearedListener> clearedListeners = new CopyOnWriteArrayList<>();
 
@@ -124,11 +127,54 @@ public abstract class ResourcesContainer<T> {
     this.add(resourceName.toString(), resource);
   }
 
+  /**
+   * Registers a resource with the specified name that is only loaded once it is requested for the first time.
+   * <p>
+   * The first call to {@code get(resourceName)} invokes the {@code loadCallback} and adds the result to this container. Concurrent
+   * requests for the same resource wait for this single load instead of loading the resource again.
+   * </p>
+   * 
+   * @param resourceName
+   *          The name that the resource is managed by.
+   * @param loadCallback
+   *          The callback that loads the resource on demand.
+   * 
+   * @see #isLoaded(String)
+   * @see Resources#setLazyLoading(boolean)
+   */
+  public void addDeferred(String resourceName, Supplier<? extends T> loadCallback) {
+    if (!this.resources.containsKey(resourceName)) {
+      this.deferred.register(resourceName, loadCallback);
+    }
+  }
+
+  /**
+   * Checks if the resource with the specified name has already been loaded by this container.
+   * 
+   * @param resourceName
+   *          The resource's name.
+   * @return True if the resource is loaded; false if it is unknown or has only been registered with
+   *         {@link #addDeferred(String, Supplier)} so far.
+   */
+  public boolean isLoaded(String resourceName) {
+    return this.resources.containsKey(this.getIdentifier(resourceName));
+  }
+
+  /**
+   * Gets the names of all resources that have been registered with {@link #addDeferred(String, Supplier)} and haven't been loaded yet.
+   * 
+   * @return The names of the deferred resources.
+   */
+  public Collection<String> getDeferred() {
+    return this.deferred.getNames();
+  }
+
   /**
    * Clears the resource container by removing all previously loaded resources.
    */
   public void clear() {
     this.resources.clear();
+    this.deferred.clear();
 
     for (ResourcesContainerListener<? super T> listener : this.listeners) {
       listener.cleared();
@@ -148,7 +194,8 @@ public abstract class ResourcesContainer<T> {
    * @see ResourcesContainer#contains(Object)
    */
   public boolean contains(String resourceName) {
-    return this.resources.containsKey(this.getIdentifier(resourceName));
+    final String identifier = this.getIdentifier(resourceName);
+    return this.resources.containsKey(identifier) || this.deferred.contains(identifier);
   }
 
   public boolean contains(URL resourceName) {
@@ -167,7 +214,8 @@ public abstract class ResourcesContainer<T> {
   }
 
   /**
-   * Gets the amount of resources that this container holds.
+   * Gets the amount of resources that this container holds. Resources that are registered for deferred loading are not counted until
+   * they are loaded.
    * 
    * @return The amount of resources in this container.
    */
@@ -176,7 +224,7 @@ public abstract class ResourcesContainer<T> {
   }
 
   /**
-   * Gets all resources that match the specified condition.
+   * Gets all loaded resources that match the specified condition.
    * 
    * @param pred
    *          The condition that a resource must fulfill in order to be returned.
@@ -269,9 +317,18 @@ public abstract class ResourcesContainer<T> {
       this.resources.put(resourceName, resource);
 
       return resource;
-    } else {
-      return this.resources.computeIfAbsent(resourceName, this::loadResource);
     }
+
+    final T resource = this.resources.get(resourceName);
+    if (resource != null) {
+      return resource;
+    }
+
+    if (this.deferred.contains(resourceName)) {
+      return this.deferred.load(resourceName, this.resources::get, this::add);
+    }
+
+    return this.resources.computeIfAbsent(resourceName, this::loadResource);
   }
 
   public T get(URL resourceName, boolean forceLoad) {
@@ -319,6 +376,7 @@ public abstract class ResourcesContainer<T> {
    * @return The removed resource.
    */
   public T remove(String resourceName) {
+    this.deferred.remove(resourceName);
     T removedResource = this.resources.remove(resourceName);
 
     if (removedResource != null) {
@@ -385,12 +443,18 @@ public abstract class ResourcesContainer<T> {
 
   private T loadResource(String identifier) {
     T newResource;
+    final ResourceCacheMissEvent event = new ResourceCacheMissEvent();
+    event.begin();
+    final long loadStart = System.nanoTime();
     try {
       newResource = this.load(Resources.getLocation(identifier));
     } catch (Exception e) {
       throw new ResourceLoadException(e);
     }
 
+    Game.metrics().record(GameMetrics.SCOPE_LOAD + this.getClass().getSimpleName().toLowerCase(), System.nanoTime() - loadStart);
+    event.commit(this.getClass().getSimpleName(), identifier);
+
     for (ResourcesContainerListener<? super T> listener : this.listeners) {
       listener.added(identifier, newResource);
     }
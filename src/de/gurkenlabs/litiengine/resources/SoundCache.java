@@ -0,0 +1,174 @@
+package de.gurkenlabs.litiengine.resources;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.sound.sampled.AudioFormat;
+
+import de.gurkenlabs.litiengine.sound.Sound;
+
+/**
+ * A cache of decoded and converted PCM samples on the file system which avoids decoding compressed audio files on every launch.
+ * <p>
+ * The samples are stored in one file per sound that is named by a hash of the raw data of the sound file and the output format that the
+ * samples have been converted to. Hence, a changed sound file or output format never yields stale samples.
+ * </p>
+ *
+ * @see Sounds#setCacheDirectory(Path)
+ */
+final class SoundCache {
+  private static final Logger log = Logger.getLogger(SoundCache.class.getName());
+
+  /**
+   * The magic number that identifies a cached sound ("LITS").
+   */
+  static final int MAGIC = 0x4C495453;
+  static final int VERSION = 1;
+  static final String FILE_EXTENSION = ".pcm";
+
+  private final Path directory;
+
+  SoundCache(Path directory) {
+    this.directory = directory;
+  }
+
+  Path getDirectory() {
+    return this.directory;
+  }
+
+  /**
+   * Gets the cached samples of the specified sound file.
+   *
+   * @param name
+   *          The name of the sound.
+   * @param rawData
+   *          The raw data of the sound file.
+   * @param outputFormat
+   *          The format that the samples have been converted to or null if they have not been converted.
+   * @return The sound with the cached samples or null if there are no cached samples for the sound file.
+   */
+  Sound get(String name, byte[] rawData, AudioFormat outputFormat) {
+    final Path file = this.getFile(rawData, outputFormat);
+    if (!Files.isRegularFile(file)) {
+      return null;
+    }
+
+    try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+      if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+        return null;
+      }
+
+      final AudioFormat.Encoding encoding = new AudioFormat.Encoding(in.readUTF());
+      final float sampleRate = in.readFloat();
+      final int sampleSizeInBits = in.readInt();
+      final int channels = in.readInt();
+      final int frameSize = in.readInt();
+      final float frameRate = in.readFloat();
+      final boolean bigEndian = in.readBoolean();
+      final AudioFormat format = new AudioFormat(encoding, sampleRate, sampleSizeInBits, channels, frameSize, frameRate, bigEndian);
+
+      final byte[] pcm = new byte[in.readInt()];
+      in.readFully(pcm);
+      return new Sound(name, rawData, format, pcm);
+    } catch (IOException e) {
+      log.log(Level.WARNING, "The cached samples of the sound " + name + " could not be read: " + e.getMessage(), e);
+      return null;
+    }
+  }
+
+  /**
+   * Stores the samples of the specified sound in this cache.
+   *
+   * @param rawData
+   *          The raw data of the sound file that the samples have been decoded from.
+   * @param outputFormat
+   *          The format that the samples have been converted to or null if they have not been converted.
+   * @param sound
+   *          The sound whose samples are stored.
+   */
+  void put(byte[] rawData, AudioFormat outputFormat, Sound sound) {
+    final AudioFormat format = sound.getFormat();
+    if (format == null) {
+      return;
+    }
+
+    final Path file = this.getFile(rawData, outputFormat);
+    Path temp = null;
+    try {
+      Files.createDirectories(this.directory);
+      // write to a temporary file first, so that concurrent loads never read a partially written file
+      temp = Files.createTempFile(this.directory, file.getFileName().toString(), ".tmp");
+      try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+        final byte[] pcm = sound.getStreamData();
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeUTF(format.getEncoding().toString());
+        out.writeFloat(format.getSampleRate());
+        out.writeInt(format.getSampleSizeInBits());
+        out.writeInt(format.getChannels());
+        out.writeInt(format.getFrameSize());
+        out.writeFloat(format.getFrameRate());
+        out.writeBoolean(format.isBigEndian());
+        out.writeInt(pcm.length);
+        out.write(pcm);
+      }
+
+      try {
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+      }
+    } catch (IOException e) {
+      log.log(Level.WARNING, "The samples of the sound " + sound.getName() + " could not be cached: " + e.getMessage(), e);
+      deleteQuietly(temp);
+    }
+  }
+
+  Path getFile(byte[] rawData, AudioFormat outputFormat) {
+    return this.directory.resolve(getKey(rawData, outputFormat) + FILE_EXTENSION);
+  }
+
+  static String getKey(byte[] rawData, AudioFormat outputFormat) {
+    final MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      // every Java platform is required to support SHA-256
+      throw new IllegalStateException(e);
+    }
+
+    digest.update(rawData);
+    digest.update(String.valueOf(outputFormat).getBytes(StandardCharsets.UTF_8));
+
+    final StringBuilder key = new StringBuilder();
+    for (byte b : digest.digest()) {
+      key.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+    }
+
+    return key.toString();
+  }
+
+  private static void deleteQuietly(Path file) {
+    if (file == null) {
+      return;
+    }
+
+    try {
+      Files.deleteIfExists(file);
+    } catch (IOException e) {
+      log.log(Level.FINE, e.getMessage(), e);
+    }
+  }
+}
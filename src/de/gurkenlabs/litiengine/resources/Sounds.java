@@ -4,21 +4,83 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
+import java.nio.file.Path;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import javax.sound.sampled.AudioFormat;
 import javax.sound.sampled.UnsupportedAudioFileException;
 
 import de.gurkenlabs.litiengine.sound.Sound;
 import de.gurkenlabs.litiengine.util.io.Codec;
 import de.gurkenlabs.litiengine.util.io.FileUtilities;
+import de.gurkenlabs.litiengine.util.io.StreamUtilities;
 
+/**
+ * The container that manages {@code Sound} resources.
+ * <p>
+ * Optionally, all sounds can be converted to a common output format when they are loaded, so that their playbacks don't need lines of
+ * different formats or any conversion at playback time. The decoded and converted samples can further be cached on the file system, which
+ * avoids decoding compressed audio files on every launch.
+ * </p>
+ *
+ * @see #setOutputFormat(AudioFormat)
+ * @see #setCacheDirectory(Path)
+ */
 public final class Sounds extends ResourcesContainer<Sound> {
   private static final Logger log = Logger.getLogger(Sounds.class.getName());
 
+  /**
+   * An output format that is supported by most audio devices: 16 bit signed little-endian PCM samples in stereo at 48 kHz.
+   */
+  public static final AudioFormat DEFAULT_OUTPUT_FORMAT = new AudioFormat(48000f, 16, 2, true, false);
+
+  private volatile AudioFormat outputFormat;
+  private volatile SoundCache cache;
+
   Sounds() {
   }
 
+  /**
+   * Gets the format that all sounds are converted to when they are loaded.
+   *
+   * @return The output format or null if the sounds keep the format of their source.
+   */
+  public AudioFormat getOutputFormat() {
+    return this.outputFormat;
+  }
+
+  /**
+   * Sets the format that all sounds are converted to when they are loaded. Sounds that have already been loaded are not affected.
+   * 
+   * @param outputFormat
+   *          The output format, e.g. {@link #DEFAULT_OUTPUT_FORMAT}, or null to keep the format of the source of every sound.
+   */
+  public void setOutputFormat(AudioFormat outputFormat) {
+    this.outputFormat = outputFormat;
+  }
+
+  /**
+   * Gets the directory in which the decoded and converted samples of sound files are cached.
+   *
+   * @return The cache directory or null if samples are not cached.
+   */
+  public Path getCacheDirectory() {
+    final SoundCache soundCache = this.cache;
+    return soundCache != null ? soundCache.getDirectory() : null;
+  }
+
+  /**
+   * Sets the directory in which the decoded and converted samples of sound files are cached. The cached samples are identified by a hash
+   * of the sound file and the output format, so the cache never needs to be invalidated manually.
+   * 
+   * @param directory
+   *          The cache directory or null to disable caching.
+   */
+  public void setCacheDirectory(Path directory) {
+    this.cache = directory != null ? new SoundCache(directory) : null;
+  }
+
   /**
    * Loads a sound from the specified XML resource.
    * 
@@ -30,13 +92,18 @@ public final class Sounds extends ResourcesContainer<Sound> {
    * @see Codec#decode(String)
    */
   public Sound load(final SoundResource resource) {
+    Sound sound = decode(resource);
+    if (sound != null) {
+      this.add(resource.getName(), sound);
+    }
+
+    return sound;
+  }
+
+  Sound decode(final SoundResource resource) {
     byte[] data = Codec.decode(resource.getData());
-    ByteArrayInputStream input = new ByteArrayInputStream(data);
-    Sound sound;
     try {
-      sound = new Sound(input, resource.getName());
-      this.add(resource.getName(), sound);
-      return sound;
+      return this.decode(data, resource.getName());
     } catch (IOException | UnsupportedAudioFileException e) {
       log.log(Level.SEVERE, "The audio file {0} could not be loaded.", new Object[] { resource.getName() });
     }
@@ -44,6 +111,47 @@ public final class Sounds extends ResourcesContainer<Sound> {
     return null;
   }
 
+  /**
+   * Converts the specified sound to the output format if one is set.
+   * 
+   * @param sound
+   *          The sound to convert.
+   * @return The converted sound or the specified sound if there is no output format or the conversion is not supported.
+   * 
+   * @see #setOutputFormat(AudioFormat)
+   */
+  Sound normalize(final Sound sound) {
+    final AudioFormat format = this.outputFormat;
+    if (sound == null || format == null) {
+      return sound;
+    }
+
+    try {
+      return sound.convert(format);
+    } catch (IOException | IllegalArgumentException e) {
+      log.log(Level.WARNING, "The audio file {0} could not be converted to {1}: {2}", new Object[] { sound.getName(), format, e.getMessage() });
+      return sound;
+    }
+  }
+
+  private Sound decode(final byte[] data, final String name) throws IOException, UnsupportedAudioFileException {
+    final SoundCache soundCache = this.cache;
+    final AudioFormat format = this.outputFormat;
+    if (soundCache != null) {
+      final Sound cached = soundCache.get(name, data, format);
+      if (cached != null) {
+        return cached;
+      }
+    }
+
+    final Sound sound = this.normalize(new Sound(new ByteArrayInputStream(data), name));
+    if (soundCache != null) {
+      soundCache.put(data, format, sound);
+    }
+
+    return sound;
+  }
+
   /**
    * Loads the sound from the specified path and returns it.
    * 
@@ -58,7 +166,7 @@ public final class Sounds extends ResourcesContainer<Sound> {
         log.log(Level.SEVERE, "The audio file {0} could not be loaded.", new Object[] { resourceName });
         return null;
       }
-      return new Sound(is, FileUtilities.getFileName(resourceName));
+      return this.decode(StreamUtilities.getBytes(is), FileUtilities.getFileName(resourceName));
     }
   }
 }
@@ -12,10 +12,13 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
+import de.gurkenlabs.litiengine.Game;
+import de.gurkenlabs.litiengine.GameMetrics;
 import de.gurkenlabs.litiengine.environment.tilemap.ITileset;
 import de.gurkenlabs.litiengine.graphics.Spritesheet;
 import de.gurkenlabs.litiengine.util.io.Codec;
@@ -24,6 +27,7 @@ import de.gurkenlabs.litiengine.util.io.FileUtilities;
 public final class Spritesheets {
   private final Map<String, int[]> customKeyFrameDurations = new ConcurrentHashMap<>();
   private final Map<String, Spritesheet> loadedSpritesheets = new ConcurrentHashMap<>();
+  private final DeferredResources<Spritesheet> deferredSpritesheets = new DeferredResources<>();
   private final Collection<ResourcesContainerClearedListener> listeners = ConcurrentHashMap.newKeySet();
   private static final Logger log = Logger.getLogger(Spritesheets.class.getName());
   private static final String SPRITE_INFO_COMMENT_CHAR = "#";
@@ -35,6 +39,31 @@ public final class Spritesheets {
     this.loadedSpritesheets.put(name, spritesheet);
   }
 
+  /**
+   * Registers a spritesheet with the specified name that is only loaded once it is requested for the first time.
+   * 
+   * @param name
+   *          The name of the spritesheet.
+   * @param loadCallback
+   *          The callback that loads the spritesheet on demand.
+   * 
+   * @see ResourcesContainer#addDeferred(String, Supplier)
+   */
+  public void addDeferred(String name, Supplier<Spritesheet> loadCallback) {
+    if (!this.loadedSpritesheets.containsKey(name)) {
+      this.deferredSpritesheets.register(name, loadCallback);
+    }
+  }
+
+  /**
+   * Gets the names of all spritesheets that have been registered with {@link #addDeferred(String, Supplier)} and haven't been loaded yet.
+   * 
+   * @return The names of the deferred spritesheets.
+   */
+  public Collection<String> getDeferred() {
+    return this.deferredSpritesheets.getNames();
+  }
+
   public void addClearedListener(ResourcesContainerClearedListener listener) {
     this.listeners.add(listener);
   }
@@ -45,15 +74,17 @@ public final class Spritesheets {
 
   public void clear() {
     this.loadedSpritesheets.clear();
+    this.deferredSpritesheets.clear();
   }
 
   public boolean contains(String name) {
-    return this.loadedSpritesheets.containsKey(name);
+    return this.loadedSpritesheets.containsKey(name) || this.deferredSpritesheets.contains(name);
   }
 
   /**
    * Finds Spritesheets that were previously loaded by any load method or by the
-   * sprites.info file.
+   * sprites.info file. Spritesheets that were registered for deferred loading are
+   * loaded by this call.
    * 
    * @param path
    *          The path of the spritesheet.
@@ -67,7 +98,12 @@ public final class Spritesheets {
 
     final String name = FileUtilities.getFileName(path);
 
-    return this.loadedSpritesheets.get(name); // this already returns null if absent
+    final Spritesheet sprite = this.loadedSpritesheets.get(name); // this already returns null if absent
+    if (sprite == null && this.deferredSpritesheets.contains(name)) {
+      return this.deferredSpritesheets.load(name, this.loadedSpritesheets::get, this::add);
+    }
+
+    return sprite;
   }
 
   public Collection<Spritesheet> get(Predicate<? super Spritesheet> pred) {
@@ -90,6 +126,10 @@ public final class Spritesheets {
     return getCustomKeyFrameDurations(sprite.getName());
   }
 
+  void setCustomKeyFrameDurations(final String name, final int[] keyFrames) {
+    this.customKeyFrameDurations.put(name, keyFrames);
+  }
+
   public Spritesheet load(final BufferedImage image, final String path, final int spriteWidth, final int spriteHeight) {
     return new Spritesheet(image, path, spriteWidth, spriteHeight);
   }
@@ -112,8 +152,10 @@ public final class Spritesheets {
       log.log(Level.SEVERE, "Sprite {0} could not be loaded because no image is defined.", new Object[] { info.getName() });
       return null;
     } else {
+      final long loadStart = System.nanoTime();
       String fileExtension = info.getImageFormat() == null ? "" : info.getImageFormat().toFileExtension();
       sprite = load(Codec.decodeImage(info.getImage()), info.getName() + fileExtension, info.getWidth(), info.getHeight());
+      Game.metrics().record(GameMetrics.SCOPE_LOAD + "spritesheets", System.nanoTime() - loadStart);
     }
 
     if (info.getKeyframes() != null && info.getKeyframes().length > 0) {
@@ -173,6 +215,7 @@ public final class Spritesheets {
   }
 
   public Spritesheet remove(final String path) {
+    this.deferredSpritesheets.remove(path);
     Spritesheet spriteToRemove = this.loadedSpritesheets.remove(path);
     customKeyFrameDurations.remove(path);
     return spriteToRemove;
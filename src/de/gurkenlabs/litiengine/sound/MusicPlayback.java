@@ -10,6 +10,8 @@ public class MusicPlayback extends SoundPlayback {
 
   MusicPlayback(Track track) throws LineUnavailableException {
     super(track.getFormat());
+    // acquire resources in the constructor so that they can be used before the task is started
+    this.openLine();
     this.track = track;
     this.musicVolume = this.createVolumeControl();
     this.musicVolume.set(Game.config().sound().getMusicVolume());
@@ -5,50 +5,175 @@ import java.awt.geom.Point2D;
 import java.util.function.Supplier;
 import javax.sound.sampled.FloatControl;
 import javax.sound.sampled.LineUnavailableException;
+import javax.sound.sampled.SourceDataLine;
 
-/** A {@code SoundPlayback} implementation for the playback of sound effects. */
+/**
+ * A {@code SoundPlayback} implementation for the playback of sound effects.
+ *
+ * <p>A sound effect is played as a voice that is either real or virtual. A real voice outputs its
+ * audio to a line on a playback thread. A virtual voice holds neither a line nor a thread and
+ * only advances its playback position. The {@code SoundEngine} makes a voice real while it is
+ * audible and within the budget of real voices, and virtual otherwise.
+ *
+ * @see SoundEngine#setMaxVoices(int)
+ */
 public class SFXPlayback extends SoundPlayback {
   private Sound sound;
-  private FloatControl panControl;
+  private volatile FloatControl panControl;
   private Supplier<Point2D> source;
   private int range;
   private float volumeModifier;
   private VolumeControl volume;
   private boolean loop;
+  private volatile int priority;
+  private int scheduledPriority;
+  private float audibility;
 
-  SFXPlayback(Sound sound, Supplier<Point2D> source, boolean loop, int range, float volumeModifier)
-      throws LineUnavailableException {
+  private final long frameLength;
+  private volatile Point2D location;
+  private volatile boolean pollSource = true;
+  private volatile boolean sourceMoved = true;
+
+  // the position of a virtual voice is the cursor plus the frames elapsed since the cursor time
+  private boolean started;
+  private boolean advancing;
+  private long cursor;
+  private long cursorTime;
+
+  // the position in the sound at which the output to the current line started
+  private long lineStart;
+  private SourceDataLine pendingLine;
+
+  SFXPlayback(
+      Sound sound, Supplier<Point2D> source, boolean loop, int range, float volumeModifier) {
     super(sound.getFormat());
     this.loop = loop;
     this.sound = sound;
-    this.panControl =
-        this.line.isControlSupported(FloatControl.Type.PAN)
-            ? (FloatControl) this.line.getControl(FloatControl.Type.PAN)
-            : null;
     this.source = source;
     this.range = range;
     this.volumeModifier = volumeModifier;
     this.volume = this.createVolumeControl();
+    this.frameLength = sound.getFrameLength();
   }
 
   @Override
   public void run() {
-    do {
-      if (this.play(this.sound)) {
-        return;
+    final SourceDataLine output;
+    final int offset;
+    synchronized (this) {
+      output = this.pendingLine;
+      this.pendingLine = null;
+      offset = (int) (this.lineStart * this.getFormat().getFrameSize());
+    }
+
+    if (output == null) {
+      return;
+    }
+
+    final byte[] data = this.sound.getSamples();
+    boolean stopped = this.write(output, data, offset);
+    while (!stopped && this.loop && data.length > 0) {
+      stopped = this.write(output, data, 0);
+    }
+
+    if (!stopped) {
+      this.finish(output);
+    }
+  }
+
+  /**
+   * Gets the priority of this playback. If there are more audible sounds than real voices, sounds
+   * with a higher priority are preferred over louder sounds with a lower priority.
+   *
+   * @return The priority of this playback.
+   */
+  public int getPriority() {
+    return this.priority;
+  }
+
+  /**
+   * Sets the priority of this playback.
+   *
+   * @param priority The new priority; the default is 0.
+   * @see #getPriority()
+   */
+  public void setPriority(int priority) {
+    this.priority = priority;
+  }
+
+  /**
+   * Determines whether this playback is currently a virtual voice, which doesn't output any audio
+   * but keeps track of its playback position.
+   *
+   * @return Whether this playback is a virtual voice.
+   */
+  public boolean isVirtual() {
+    return this.line == null;
+  }
+
+  /**
+   * Gets the current playback position within the sound.
+   *
+   * @return The position in sample frames.
+   */
+  public long getFramePosition() {
+    return this.getFramePosition(System.nanoTime());
+  }
+
+  synchronized long getFramePosition(long time) {
+    if (this.frameLength == 0) {
+      return 0;
+    }
+
+    final SourceDataLine output = this.line;
+    long position;
+    if (output != null) {
+      position = this.lineStart + output.getLongFramePosition();
+    } else {
+      position = this.cursor;
+      if (this.advancing) {
+        position += (long) ((time - this.cursorTime) / 1e9 * this.getFormat().getFrameRate());
       }
-    } while (this.loop);
-    this.finish();
+    }
+
+    return this.loop ? position % this.frameLength : Math.min(position, this.frameLength);
+  }
+
+  @Override
+  public synchronized void pausePlayback() {
+    if (this.isVirtual() && this.advancing) {
+      this.cursor = this.getFramePosition(System.nanoTime());
+      this.advancing = false;
+    }
+
+    super.pausePlayback();
+  }
+
+  @Override
+  public synchronized void resumePlayback() {
+    if (this.isVirtual() && this.started && !this.advancing) {
+      this.cursorTime = System.nanoTime();
+      this.advancing = true;
+    }
+
+    super.resumePlayback();
   }
 
+  /**
+   * Updates the pan and the volume of this playback by the last sampled location of the source in
+   * relation to the specified listener location.
+   *
+   * @see #sampleLocation()
+   */
   void updateLocation(Point2D listenerLocation) {
-    Point2D location = source.get();
+    Point2D location = this.location;
     if (location != null) {
       double dx = location.getX() - listenerLocation.getX();
       double dy = location.getY() - listenerLocation.getY();
       double dist = Math.sqrt(dx * dx + dy * dy);
-      if (this.panControl != null) {
-        this.panControl.setValue(dist > 0 ? (float) (dx / dist) : 0f);
+      final FloatControl pan = this.panControl;
+      if (pan != null) {
+        pan.setValue(dist > 0 ? (float) (dx / dist) : 0f);
       }
       this.volume.set(
           Game.config().sound().getSoundVolume()
@@ -57,12 +182,138 @@ public class SFXPlayback extends SoundPlayback {
     } else {
       this.volume.set(Game.config().sound().getSoundVolume() * this.volumeModifier);
     }
+
+    // snapshot the values that the voices are ordered by
+    this.scheduledPriority = this.priority;
+    this.audibility = this.isPauseRequested() ? 0f : this.getEffectiveVolume();
+  }
+
+  /**
+   * Gets the volume at which this playback would be heard, as determined by the last location
+   * update. A paused playback cannot be heard.
+   */
+  float getAudibility() {
+    return this.audibility;
+  }
+
+  /** Gets the priority of this playback at the time of the last location update. */
+  int getScheduledPriority() {
+    return this.scheduledPriority;
+  }
+
+  /**
+   * Samples the current location of the source.
+   *
+   * @return The location of the source or {@code null} if the sound is not positioned.
+   */
+  Point2D sampleLocation() {
+    this.sourceMoved = false;
+    this.location = this.source.get();
+    return this.location;
+  }
+
+  Point2D getLocation() {
+    return this.location;
+  }
+
+  int getRange() {
+    return this.range;
+  }
+
+  /**
+   * Determines whether the location of the source has to be sampled again, either because it has
+   * been reported to have moved or because its changes are not reported at all.
+   */
+  boolean isSourceMoved() {
+    return this.pollSource || this.sourceMoved;
+  }
+
+  void setSourceMoved() {
+    this.sourceMoved = true;
+  }
+
+  /**
+   * Sets whether the location of the source has to be sampled on every update. Otherwise, it is
+   * only sampled after {@link #setSourceMoved()} has been called.
+   */
+  void setPollSource(boolean pollSource) {
+    this.pollSource = pollSource;
+  }
+
+  /**
+   * Makes this voice real by acquiring a line and continuing the output at the current playback
+   * position.
+   *
+   * @return Whether the voice has become real.
+   * @throws LineUnavailableException If the line cannot be opened
+   */
+  synchronized boolean realize() throws LineUnavailableException {
+    if (!this.isVirtual() || !this.started || !this.isPlaying()) {
+      return false;
+    }
+
+    final long position = this.getFramePosition(System.nanoTime());
+    if (!this.loop && position >= this.frameLength) {
+      return false;
+    }
+
+    this.lineStart = position;
+    final SourceDataLine output = this.openLine();
+    this.panControl =
+        output.isControlSupported(FloatControl.Type.PAN)
+            ? (FloatControl) output.getControl(FloatControl.Type.PAN)
+            : null;
+    this.pendingLine = output;
+    SoundEngine.EXECUTOR.submit(this);
+    return true;
+  }
+
+  /**
+   * Makes this voice virtual by releasing its line and remembering the current playback position.
+   *
+   * @return Whether the voice has become virtual.
+   */
+  synchronized boolean virtualize() {
+    if (this.isVirtual()) {
+      return false;
+    }
+
+    this.panControl = null;
+    this.pendingLine = null;
+    this.cursor = this.lineStart + this.closeLine();
+    this.cursorTime = System.nanoTime();
+    this.advancing = !this.isPauseRequested();
+    return true;
+  }
+
+  /**
+   * Finishes this playback if it is a virtual voice that has reached the end of its sound.
+   *
+   * @param time The current time in nanoseconds.
+   */
+  void updateCursor(long time) {
+    final boolean ended;
+    synchronized (this) {
+      ended =
+          this.isVirtual()
+              && this.started
+              && !this.loop
+              && this.getFramePosition(time) >= this.frameLength;
+    }
+
+    if (ended) {
+      this.finish(null);
+    }
   }
 
   @Override
   protected void play() {
-    this.updateLocation(Game.audio().getListenerLocation());
-    super.play();
+    synchronized (this) {
+      this.started = true;
+      this.cursorTime = System.nanoTime();
+      this.advancing = !this.isPauseRequested();
+    }
+
     Game.audio().addSound(this);
   }
 }
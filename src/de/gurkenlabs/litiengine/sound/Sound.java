@@ -1,8 +1,13 @@
 package de.gurkenlabs.litiengine.sound;
 
 import de.gurkenlabs.litiengine.util.io.StreamUtilities;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.sound.sampled.AudioFileFormat;
 import javax.sound.sampled.AudioFormat;
 import javax.sound.sampled.AudioInputStream;
 import javax.sound.sampled.AudioSystem;
@@ -13,6 +18,7 @@ import javax.sound.sampled.UnsupportedAudioFileException;
  * a stream that can later on be used for the sound playback.
  */
 public final class Sound {
+  private static final Logger log = Logger.getLogger(Sound.class.getName());
 
   private AudioFormat format;
 
@@ -53,6 +59,34 @@ public final class Sound {
     }
   }
 
+  /**
+   * Creates a new Sound instance from already decoded PCM samples, e.g. from a binary resource
+   * bundle.
+   *
+   * @param name The name of this sound file.
+   * @param format The format of the specified samples.
+   * @param pcm The decoded samples of the sound.
+   */
+  public Sound(String name, AudioFormat format, byte[] pcm) {
+    this.name = name;
+    this.format = format;
+    this.streamData = pcm;
+  }
+
+  /**
+   * Creates a new Sound instance from already decoded PCM samples and the raw data that they have
+   * been decoded from, e.g. from a cache of converted samples.
+   *
+   * @param name The name of this sound file.
+   * @param rawData The raw data of the sound file.
+   * @param format The format of the specified samples.
+   * @param pcm The decoded samples of the sound.
+   */
+  public Sound(String name, byte[] rawData, AudioFormat format, byte[] pcm) {
+    this(name, format, pcm);
+    this.data = rawData;
+  }
+
   /**
    * Gets the audio format of this sound instance.
    *
@@ -76,13 +110,26 @@ public final class Sound {
    *
    * <p>This is used during resource serialization.
    *
+   * <p>If this instance was created from decoded PCM samples, the raw data is a WAV file that
+   * contains these samples.
+   *
    * @return The raw data of this sound as byte array.
    */
   public byte[] getRawData() {
+    if (this.data == null && this.streamData != null) {
+      this.data = toWav(this.format, this.streamData);
+    }
+
     return this.data;
   }
 
-  byte[] getStreamData() {
+  /**
+   * Gets a copy of the decoded PCM samples of this sound that are used for the playback.
+   *
+   * @return The decoded samples of this sound.
+   * @see #getFormat()
+   */
+  public byte[] getStreamData() {
     if (this.streamData == null) {
       return new byte[0];
     }
@@ -90,6 +137,67 @@ public final class Sound {
     return this.streamData.clone();
   }
 
+  /**
+   * Converts the decoded PCM samples of this sound to the specified format. This allows all sounds
+   * to be played back on lines of the same format, which avoids conversions at playback time.
+   *
+   * @param targetFormat The format to convert to.
+   * @return A sound with the same name and raw data as this instance whose samples have the
+   *     specified format or this instance if its samples already have the specified format.
+   * @throws IllegalArgumentException If the conversion is not supported.
+   * @throws IOException If the samples could not be converted.
+   */
+  public Sound convert(AudioFormat targetFormat) throws IOException {
+    if (this.format == null || this.streamData == null || this.format.matches(targetFormat)) {
+      return this;
+    }
+
+    try (AudioInputStream in =
+            new AudioInputStream(
+                new ByteArrayInputStream(this.streamData), this.format, this.getFrameLength());
+        AudioInputStream converted = AudioSystem.getAudioInputStream(targetFormat, in)) {
+      final ByteArrayOutputStream samples = new ByteArrayOutputStream();
+      StreamUtilities.copy(converted, samples);
+      return new Sound(this.name, this.data, converted.getFormat(), samples.toByteArray());
+    }
+  }
+
+  /**
+   * Gets the decoded PCM samples of this sound without copying them. They are shared by all
+   * playbacks of this sound and must not be modified.
+   *
+   * @return The decoded samples of this sound.
+   */
+  byte[] getSamples() {
+    return this.streamData == null ? new byte[0] : this.streamData;
+  }
+
+  /**
+   * Gets the number of sample frames of the decoded PCM samples of this sound.
+   *
+   * @return The length of this sound in sample frames.
+   */
+  long getFrameLength() {
+    if (this.streamData == null || this.format == null) {
+      return 0;
+    }
+
+    return this.streamData.length / this.format.getFrameSize();
+  }
+
+  private static byte[] toWav(AudioFormat format, byte[] pcm) {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream(pcm.length + 44);
+    try (AudioInputStream in =
+        new AudioInputStream(
+            new ByteArrayInputStream(pcm), format, pcm.length / format.getFrameSize())) {
+      AudioSystem.write(in, AudioFileFormat.Type.WAVE, out);
+    } catch (IOException e) {
+      log.log(Level.SEVERE, e.getMessage(), e);
+    }
+
+    return out.toByteArray();
+  }
+
   private static AudioFormat getOutFormat(final AudioFormat inFormat) {
     final int ch = inFormat.getChannels();
     final float rate = inFormat.getSampleRate();
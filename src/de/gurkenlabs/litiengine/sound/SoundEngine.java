@@ -3,17 +3,22 @@ package de.gurkenlabs.litiengine.sound;
 import de.gurkenlabs.litiengine.Game;
 import de.gurkenlabs.litiengine.ILaunchable;
 import de.gurkenlabs.litiengine.IUpdateable;
+import de.gurkenlabs.litiengine.entities.EntityTransformListener;
 import de.gurkenlabs.litiengine.entities.IEntity;
 import de.gurkenlabs.litiengine.resources.Resources;
 import de.gurkenlabs.litiengine.tweening.TweenFunction;
 import java.awt.geom.Point2D;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Iterator;
+import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
@@ -28,9 +33,18 @@ import javax.sound.sampled.LineUnavailableException;
  *
  * <p>The sound engine supports .wav, .mp3 and .ogg by default. If you need other file extensions,
  * you have to write an own SPI implementation and inject it in your project.
+ *
+ * <p>Sound effects are played as voices. Only the voices that are audible from the listener
+ * location are real voices that hold a line and a playback thread, up to a maximum number of real
+ * voices. All other voices are virtual: they only keep track of their playback position and become
+ * real as soon as they are audible again. If there are more audible voices than real voices, the
+ * voices with the highest priority and then the loudest voices are preferred.
+ *
+ * @see SFXPlayback#setPriority(int)
  */
 public final class SoundEngine implements IUpdateable, ILaunchable {
   public static final int DEFAULT_MAX_DISTANCE = 150;
+  public static final int DEFAULT_MAX_VOICES = 32;
 
   static final ExecutorService EXECUTOR =
       Executors.newCachedThreadPool(
@@ -44,12 +58,23 @@ public final class SoundEngine implements IUpdateable, ILaunchable {
           });
 
   private static final Logger log = Logger.getLogger(SoundEngine.class.getName());
+
+  // audible voices first, then by priority and loudness
+  private static final Comparator<SFXPlayback> VOICE_ORDER =
+      Comparator.comparing((SFXPlayback s) -> s.getAudibility() <= 0)
+          .thenComparing(SFXPlayback::getScheduledPriority, Comparator.reverseOrder())
+          .thenComparing(SFXPlayback::getAudibility, Comparator.reverseOrder());
+
   private Point2D listenerLocation;
   private UnaryOperator<Point2D> listenerLocationCallback = old -> Game.world().camera().getFocus();
   private int maxDist = DEFAULT_MAX_DISTANCE;
   private MusicPlayback music;
   private final Collection<MusicPlayback> allMusic = ConcurrentHashMap.newKeySet();
   private final Collection<SFXPlayback> sounds = ConcurrentHashMap.newKeySet();
+  private final SoundSourceGrid soundSources = new SoundSourceGrid();
+  private final List<SFXPlayback> voiceCandidates = new ArrayList<>();
+  private final AtomicInteger realVoices = new AtomicInteger();
+  private int maxVoices = DEFAULT_MAX_VOICES;
 
   /**
    * <b>You should never call this manually! Instead use the {@code Game.audio()} instance.</b>
@@ -72,6 +97,28 @@ public final class SoundEngine implements IUpdateable, ILaunchable {
     return maxDist;
   }
 
+  /**
+   * Gets the maximum number of sound effects that are played back on a line at the same time.
+   *
+   * @return The maximum number of real voices.
+   */
+  public int getMaxVoices() {
+    return this.maxVoices;
+  }
+
+  /**
+   * Sets the maximum number of sound effects that are played back on a line at the same time. Any
+   * further sound effects are played as virtual voices until a real voice becomes available.
+   *
+   * @param maxVoices The maximum number of real voices.
+   */
+  public void setMaxVoices(final int maxVoices) {
+    if (maxVoices < 0) {
+      throw new IllegalArgumentException("negative number of voices");
+    }
+    this.maxVoices = maxVoices;
+  }
+
   /**
    * Sets the currently playing track to a {@code LoopedTrack} with the sound defined by the
    * specified music name. This has no effect if the specified track is already playing.
@@ -255,7 +302,7 @@ public final class SoundEngine implements IUpdateable, ILaunchable {
    *     sound.
    */
   public SFXPlayback playSound(final Sound sound, final IEntity entity, boolean loop, int range) {
-    return playSound(sound, entity::getCenter, loop, range, 1f);
+    return playSound(sound, entity, loop, range, 1f);
   }
 
   /**
@@ -272,7 +319,40 @@ public final class SoundEngine implements IUpdateable, ILaunchable {
    */
   public SFXPlayback playSound(
       final Sound sound, final IEntity entity, boolean loop, int range, float volume) {
-    return playSound(sound, entity::getCenter, loop, range, volume);
+    if (sound == null) {
+      return null;
+    }
+
+    final SFXPlayback playback = createSound(sound, entity::getCenter, loop, range, volume);
+    // the location of the entity is only sampled again after it has been transformed
+    playback.setPollSource(false);
+    final EntityTransformListener transformListener =
+        new EntityTransformListener() {
+          @Override
+          public void locationChanged(IEntity entity) {
+            playback.setSourceMoved();
+          }
+
+          @Override
+          public void sizeChanged(IEntity entity) {
+            playback.setSourceMoved();
+          }
+        };
+    entity.addTransformListener(transformListener);
+    playback.addSoundPlaybackListener(
+        new SoundPlaybackListener() {
+          @Override
+          public void cancelled(SoundEvent event) {
+            entity.removeListener(transformListener);
+          }
+
+          @Override
+          public void finished(SoundEvent event) {
+            entity.removeListener(transformListener);
+          }
+        });
+    playback.start();
+    return playback;
   }
 
   /**
@@ -532,9 +612,9 @@ public final class SoundEngine implements IUpdateable, ILaunchable {
    * a custom source supplier.
    *
    * <p>Unlike the {@code playSound} methods, the {@code SFXPlayback} objects returned by this
-   * method must be started using the {@link SoundPlayback#start()} method. However, necessary
-   * resources are acquired <em>immediately</em> upon calling this method, and will remain in use
-   * until the playback is either cancelled or finalized.
+   * method must be started using the {@link SoundPlayback#start()} method. The playback starts as a
+   * virtual voice; a line is only acquired while the sound is audible and there are less than
+   * {@link #getMaxVoices()} real voices. The location of the source is sampled on every update.
    *
    * @param sound The sound to play
    * @param supplier A function to get the sound's current source location (the sound is statically
@@ -547,12 +627,7 @@ public final class SoundEngine implements IUpdateable, ILaunchable {
    */
   public SFXPlayback createSound(
       Sound sound, Supplier<Point2D> supplier, boolean loop, int range, float volume) {
-    try {
-      return new SFXPlayback(sound, supplier, loop, range, volume);
-    } catch (LineUnavailableException | IllegalArgumentException e) {
-      resourceFailure(e);
-      return null;
-    }
+    return new SFXPlayback(sound, supplier, loop, range, volume);
   }
 
   /**
@@ -593,20 +668,11 @@ public final class SoundEngine implements IUpdateable, ILaunchable {
   @Override
   public void update() {
     listenerLocation = listenerLocationCallback.apply(listenerLocation);
+    this.updateVoices(this.getListenerLocation());
 
-    Iterator<SFXPlayback> iter = sounds.iterator();
-    while (iter.hasNext()) {
-      SFXPlayback s = iter.next();
-      if (s.isPlaying()) {
-        s.updateLocation(listenerLocation);
-      } else {
-        iter.remove();
-      }
-    }
-
-    Iterator<MusicPlayback> iter2 = allMusic.iterator();
+    Iterator<MusicPlayback> iter = allMusic.iterator();
     while (iter.hasNext()) {
-      MusicPlayback s = iter2.next();
+      MusicPlayback s = iter.next();
       if (s.isPlaying()) {
         s.setMusicVolume(Game.config().sound().getMusicVolume());
       } else {
@@ -631,6 +697,92 @@ public final class SoundEngine implements IUpdateable, ILaunchable {
 
   void addSound(SFXPlayback playback) {
     this.sounds.add(playback);
+    final Point2D listener = this.getListenerLocation();
+    playback.sampleLocation();
+    // index the playback by its location on the next update
+    playback.setSourceMoved();
+    playback.updateLocation(listener);
+    if (playback.getAudibility() > 0 && this.realVoices.get() < this.maxVoices) {
+      this.realize(playback, listener);
+    }
+  }
+
+  /**
+   * Decides which sound effects are played as real voices. Only the real voices, the voices without
+   * a location and the voices in whose range the listener is are considered, the locations of all
+   * other voices are only sampled when their source has moved.
+   */
+  private void updateVoices(Point2D listener) {
+    final long time = System.nanoTime();
+    final List<SFXPlayback> candidates = this.voiceCandidates;
+    candidates.clear();
+
+    Iterator<SFXPlayback> iter = sounds.iterator();
+    while (iter.hasNext()) {
+      SFXPlayback s = iter.next();
+      s.updateCursor(time);
+      if (!s.isPlaying()) {
+        iter.remove();
+        this.soundSources.remove(s);
+        if (!s.isVirtual()) {
+          this.realVoices.decrementAndGet();
+        }
+        continue;
+      }
+
+      if (s.isSourceMoved()) {
+        s.sampleLocation();
+        this.soundSources.update(s);
+      }
+
+      if (!s.isVirtual() || s.getLocation() == null) {
+        candidates.add(s);
+      }
+    }
+
+    this.soundSources.query(
+        listener,
+        s -> {
+          if (s.isVirtual()) {
+            candidates.add(s);
+          }
+        });
+
+    for (SFXPlayback s : candidates) {
+      s.updateLocation(listener);
+    }
+
+    candidates.sort(VOICE_ORDER);
+
+    // release the lines of the voices that are no longer real first, so they can be reused
+    for (int i = 0; i < candidates.size(); i++) {
+      SFXPlayback s = candidates.get(i);
+      if ((i >= this.maxVoices || s.getAudibility() <= 0) && s.virtualize()) {
+        this.realVoices.decrementAndGet();
+      }
+    }
+
+    for (int i = 0; i < Math.min(candidates.size(), this.maxVoices); i++) {
+      SFXPlayback s = candidates.get(i);
+      if (s.getAudibility() > 0) {
+        this.realize(s, listener);
+      }
+    }
+
+    candidates.clear();
+  }
+
+  private void realize(SFXPlayback playback, Point2D listener) {
+    try {
+      if (playback.realize()) {
+        this.realVoices.incrementAndGet();
+        // applies the pan to the new line
+        playback.updateLocation(listener);
+      }
+    } catch (LineUnavailableException | IllegalArgumentException e) {
+      resourceFailure(e);
+      playback.cancel();
+    }
   }
 
   private SFXPlayback playSound(
@@ -640,9 +792,8 @@ public final class SoundEngine implements IUpdateable, ILaunchable {
     }
 
     SFXPlayback playback = createSound(sound, supplier, loop, range, volume);
-    if (playback == null) {
-      return null;
-    }
+    // the location is either fixed or not present at all
+    playback.setPollSource(false);
     playback.start();
     return playback;
   }
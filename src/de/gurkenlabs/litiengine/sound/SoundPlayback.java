@@ -1,6 +1,7 @@
 package de.gurkenlabs.litiengine.sound;
 
 import de.gurkenlabs.litiengine.Game;
+import de.gurkenlabs.litiengine.jfr.SoundLineOpenEvent;
 import de.gurkenlabs.litiengine.tweening.TweenFunction;
 import de.gurkenlabs.litiengine.tweening.TweenType;
 import de.gurkenlabs.litiengine.tweening.Tweenable;
@@ -23,12 +24,15 @@ import javax.sound.sampled.SourceDataLine;
  * @see #play(Sound)
  */
 public abstract class SoundPlayback implements Runnable {
-  protected final SourceDataLine line;
+  protected volatile SourceDataLine line;
+  private final AudioFormat format;
   private FloatControl gainControl;
   private BooleanControl muteControl;
 
   private boolean started = false;
   private volatile boolean cancelled = false;
+  private volatile boolean finished = false;
+  private volatile boolean paused = false;
 
   private final Collection<SoundPlaybackListener> listeners = ConcurrentHashMap.newKeySet();
 
@@ -37,13 +41,14 @@ public abstract class SoundPlayback implements Runnable {
   private VolumeControl masterVolume;
   private AtomicInteger miscVolume = new AtomicInteger(0x3f800000); // floatToIntBits(1f)
 
-  SoundPlayback(AudioFormat format) throws LineUnavailableException {
-    // acquire resources in the constructor so that they can be used before the task is started
-    this.line = AudioSystem.getSourceDataLine(format);
-    this.line.open();
-    this.line.start();
-    this.gainControl = (FloatControl) this.line.getControl(FloatControl.Type.MASTER_GAIN);
-    this.muteControl = (BooleanControl) this.line.getControl(BooleanControl.Type.MUTE);
+  /**
+   * Creates a playback that doesn't acquire a line yet.
+   *
+   * @param format The format of the audio data of this playback.
+   * @see #openLine()
+   */
+  SoundPlayback(AudioFormat format) {
+    this.format = format;
     this.masterVolume = this.createVolumeControl();
   }
 
@@ -56,8 +61,8 @@ public abstract class SoundPlayback implements Runnable {
     if (this.started) {
       throw new IllegalStateException("already started");
     }
-    this.play();
     this.started = true;
+    this.play();
   }
 
   /**
@@ -93,15 +98,19 @@ public abstract class SoundPlayback implements Runnable {
 
   /** Pauses this playback. If this playback is already paused, this call has no effect. */
   public void pausePlayback() {
-    if (this.line.isOpen()) {
-      this.line.stop();
+    this.paused = true;
+    final SourceDataLine output = this.line;
+    if (output != null && output.isOpen()) {
+      output.stop();
     }
   }
 
   /** Resumes this playback. If this playback is already playing, this call has no effect. */
   public void resumePlayback() {
-    if (this.line.isOpen()) {
-      this.line.start();
+    this.paused = false;
+    final SourceDataLine output = this.line;
+    if (output != null && output.isOpen()) {
+      output.start();
     }
   }
 
@@ -134,7 +143,8 @@ public abstract class SoundPlayback implements Runnable {
    * @return Whether this playback is paused
    */
   public boolean isPaused() {
-    return !this.line.isActive();
+    final SourceDataLine output = this.line;
+    return output != null ? !output.isActive() : this.paused;
   }
 
   /**
@@ -145,7 +155,7 @@ public abstract class SoundPlayback implements Runnable {
    * @return Whether this playback has sound to play
    */
   public boolean isPlaying() {
-    return this.line.isOpen();
+    return !this.cancelled && !this.finished;
   }
 
   /**
@@ -156,11 +166,14 @@ public abstract class SoundPlayback implements Runnable {
     if (!this.started) {
       throw new IllegalStateException("not started");
     }
-    if (!this.cancelled && this.line.isOpen()) {
-      this.line.stop();
+    if (!this.cancelled && !this.finished) {
       this.cancelled = true;
-      this.line.flush();
-      this.line.close();
+      final SourceDataLine output = this.line;
+      if (output != null && output.isOpen()) {
+        output.stop();
+        output.flush();
+        output.close();
+      }
       SoundEvent event = new SoundEvent(this, null);
       for (SoundPlaybackListener listener : this.listeners) {
         listener.cancelled(event);
@@ -175,10 +188,15 @@ public abstract class SoundPlayback implements Runnable {
    * @return The current volume.
    */
   public float getMasterVolume() {
-    if (this.muteControl.getValue()) {
-      return 0f;
+    synchronized (this.volumeControls) {
+      if (this.gainControl == null) {
+        return this.getEffectiveVolume();
+      }
+      if (this.muteControl.getValue()) {
+        return 0f;
+      }
+      return (float) Math.pow(10.0, this.gainControl.getValue() / 20.0);
     }
-    return (float) Math.pow(10.0, this.gainControl.getValue() / 20.0);
   }
 
   /**
@@ -221,19 +239,31 @@ public abstract class SoundPlayback implements Runnable {
    * @return Whether the sound was cancelled while playing
    */
   boolean play(Sound sound) {
-    byte[] data = sound.getStreamData();
-    int len = this.line.getFormat().getFrameSize();
+    return this.write(this.line, sound.getSamples(), 0);
+  }
+
+  /**
+   * Writes audio data to the specified line until all data has been written or the line is no
+   * longer the line of this playback.
+   *
+   * @param output The line to write to
+   * @param data The audio data
+   * @param offset The offset in bytes at which to start writing
+   * @return Whether the playback was cancelled or the line was released while writing
+   */
+  boolean write(SourceDataLine output, byte[] data, int offset) {
+    int len = output.getFormat().getFrameSize();
     // math hacks here: we're getting just over half the buffer size, but it needs to be an integral
     // number of sample frames
-    len = (this.line.getBufferSize() / len / 2 + 1) * len;
-    for (int i = 0;
+    len = (output.getBufferSize() / len / 2 + 1) * len;
+    for (int i = offset;
         i < data.length;
-        i += this.line.write(data, i, Math.min(len, data.length - i))) {
-      if (this.cancelled) {
+        i += output.write(data, i, Math.min(len, data.length - i))) {
+      if (this.cancelled || output != this.line) {
         return true;
       }
     }
-    return this.cancelled;
+    return this.cancelled || output != this.line;
   }
 
   /**
@@ -241,10 +271,29 @@ public abstract class SoundPlayback implements Runnable {
    * listeners.
    */
   void finish() {
-    this.line.drain();
+    this.finish(this.line);
+  }
+
+  /**
+   * Finishes the playback on the specified line. This has no effect if the line has been released
+   * in the meantime.
+   *
+   * @param output The line that has been played to or {@code null} if the playback has no line.
+   */
+  void finish(SourceDataLine output) {
+    if (output != null) {
+      output.drain();
+    }
     synchronized (this) {
-      this.line.close();
-      if (!this.cancelled) {
+      if (output != this.line) {
+        return;
+      }
+      if (output != null) {
+        output.close();
+      }
+      final boolean notify = !this.cancelled && !this.finished;
+      this.finished = true;
+      if (notify) {
         SoundEvent event = new SoundEvent(this, null);
         for (SoundPlaybackListener listener : this.listeners) {
           listener.finished(event);
@@ -253,12 +302,88 @@ public abstract class SoundPlayback implements Runnable {
     }
   }
 
-  void updateVolume() {
+  /**
+   * Acquires and starts a new line for this playback and applies the current volume to it.
+   *
+   * @return The new line.
+   * @throws LineUnavailableException If the line cannot be opened
+   */
+  SourceDataLine openLine() throws LineUnavailableException {
+    final SoundLineOpenEvent event = new SoundLineOpenEvent();
+    event.begin();
+    final SourceDataLine output = AudioSystem.getSourceDataLine(this.format);
+    output.open();
+    event.commit(this.format);
+    output.start();
+    synchronized (this.volumeControls) {
+      this.gainControl = (FloatControl) output.getControl(FloatControl.Type.MASTER_GAIN);
+      this.muteControl = (BooleanControl) output.getControl(BooleanControl.Type.MUTE);
+      this.line = output;
+    }
+    this.updateVolume();
+    return output;
+  }
+
+  /**
+   * Stops and releases the line of this playback. A thread that is still writing to the line will
+   * stop doing so.
+   *
+   * @return The number of sample frames that have been played on the released line.
+   */
+  long closeLine() {
+    final SourceDataLine output;
+    synchronized (this.volumeControls) {
+      output = this.line;
+      this.line = null;
+      this.gainControl = null;
+      this.muteControl = null;
+    }
+    if (output == null) {
+      return 0;
+    }
+    final long frames = output.getLongFramePosition();
+    output.stop();
+    output.flush();
+    output.close();
+    return frames;
+  }
+
+  AudioFormat getFormat() {
+    return this.format;
+  }
+
+  /**
+   * Determines whether this playback has been paused more recently than it has been resumed. Unlike
+   * {@link #isPaused()}, this doesn't depend on the state of the line.
+   *
+   * @return Whether this playback has been paused.
+   */
+  boolean isPauseRequested() {
+    return this.paused;
+  }
+
+  /**
+   * Gets the product of all volume controls of this playback, regardless of whether it has a line.
+   *
+   * @return The effective volume of this playback.
+   */
+  float getEffectiveVolume() {
     synchronized (this.volumeControls) {
       float volume = Float.intBitsToFloat(this.miscVolume.get());
       for (VolumeControl control : this.volumeControls) {
         volume *= control.get();
       }
+      return volume;
+    }
+  }
+
+  void updateVolume() {
+    synchronized (this.volumeControls) {
+      if (this.gainControl == null) {
+        // the volume is applied once a line is opened
+        return;
+      }
+      float volume = this.getEffectiveVolume();
       float dbGain = (float) (20.0 * Math.log10(volume));
       if (dbGain < this.gainControl.getMinimum()) {
         this.muteControl.setValue(true);
@@ -273,8 +398,9 @@ public abstract class SoundPlayback implements Runnable {
   @Deprecated
   protected void finalize() {
     // resources will not be released if the start method is never called
-    if (this.line != null && this.line.isOpen()) {
-      this.line.close();
+    final SourceDataLine output = this.line;
+    if (output != null && output.isOpen()) {
+      output.close();
     }
   }
 
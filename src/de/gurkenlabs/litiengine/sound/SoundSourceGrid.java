@@ -0,0 +1,139 @@
+package de.gurkenlabs.litiengine.sound;
+
+import java.awt.geom.Point2D;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * A sparse uniform grid over the locations of sound effect playbacks that is used by the {@code
+ * SoundEngine} to find the playbacks that are within range of the listener without visiting all of
+ * them.
+ *
+ * <p>The grid is not thread-safe; it is only accessed by the update of the sound engine.
+ */
+final class SoundSourceGrid {
+  static final double DEFAULT_CELL_SIZE = 256;
+
+  private final double cellSize;
+  private final Map<Long, List<SFXPlayback>> cells = new HashMap<>();
+  private final Map<SFXPlayback, Long> playbackCells = new HashMap<>();
+  private int maxRange;
+
+  SoundSourceGrid() {
+    this(DEFAULT_CELL_SIZE);
+  }
+
+  SoundSourceGrid(final double cellSize) {
+    this.cellSize = cellSize;
+  }
+
+  /**
+   * Moves the specified playback to the cell of its current location or removes it from the grid if
+   * it has no location.
+   *
+   * @param playback The playback to update.
+   */
+  void update(final SFXPlayback playback) {
+    final Point2D location = playback.getLocation();
+    if (location == null) {
+      this.remove(playback);
+      return;
+    }
+
+    final Long key = key(this.cell(location.getX()), this.cell(location.getY()));
+    final Long previous = this.playbackCells.put(playback, key);
+    if (key.equals(previous)) {
+      return;
+    }
+
+    if (previous != null) {
+      this.removeFromCell(previous, playback);
+    }
+
+    this.cells.computeIfAbsent(key, k -> new ArrayList<>()).add(playback);
+    this.maxRange = Math.max(this.maxRange, playback.getRange());
+  }
+
+  /**
+   * Removes the specified playback from the grid.
+   *
+   * @param playback The playback to remove.
+   */
+  void remove(final SFXPlayback playback) {
+    final Long previous = this.playbackCells.remove(playback);
+    if (previous != null) {
+      this.removeFromCell(previous, playback);
+    }
+
+    if (this.playbackCells.isEmpty()) {
+      this.maxRange = 0;
+    }
+  }
+
+  /**
+   * Visits all playbacks whose range contains the specified location.
+   *
+   * @param location The location, usually the location of the listener.
+   * @param visitor The visitor that is called for every playback in range.
+   */
+  void query(final Point2D location, final Consumer<SFXPlayback> visitor) {
+    if (this.playbackCells.isEmpty()) {
+      return;
+    }
+
+    final int fromX = this.cell(location.getX() - this.maxRange);
+    final int fromY = this.cell(location.getY() - this.maxRange);
+    final int toX = this.cell(location.getX() + this.maxRange);
+    final int toY = this.cell(location.getY() + this.maxRange);
+    if ((long) (toX - fromX + 1) * (toY - fromY + 1) > this.cells.size()) {
+      // the queried area covers more cells than are occupied
+      for (final List<SFXPlayback> cell : this.cells.values()) {
+        visitInRange(cell, location, visitor);
+      }
+
+      return;
+    }
+
+    for (int y = fromY; y <= toY; y++) {
+      for (int x = fromX; x <= toX; x++) {
+        final List<SFXPlayback> cell = this.cells.get(key(x, y));
+        if (cell != null) {
+          visitInRange(cell, location, visitor);
+        }
+      }
+    }
+  }
+
+  int size() {
+    return this.playbackCells.size();
+  }
+
+  private void removeFromCell(final Long key, final SFXPlayback playback) {
+    final List<SFXPlayback> cell = this.cells.get(key);
+    cell.remove(playback);
+    if (cell.isEmpty()) {
+      this.cells.remove(key);
+    }
+  }
+
+  private int cell(final double coordinate) {
+    return (int) Math.floor(coordinate / this.cellSize);
+  }
+
+  private static void visitInRange(
+      final List<SFXPlayback> cell, final Point2D location, final Consumer<SFXPlayback> visitor) {
+    for (final SFXPlayback playback : cell) {
+      final double range = playback.getRange();
+      if (playback.getLocation().distanceSq(location) < range * range) {
+        visitor.accept(playback);
+      }
+    }
+  }
+
+  private static Long key(final int x, final int y) {
+    return ((long) x << 32) | (y & 0xffffffffL);
+  }
+}
@@ -12,11 +12,15 @@ public class Tween {
   private TweenEquation equation;
   private long started;
   private final float[] startValues;
-  private boolean stopped;
+  private volatile boolean stopped;
   private final Tweenable target;
   private float[] targetValues;
+  private float[] values;
   private final TweenType type;
 
+  private volatile TweenEngine engine;
+  private boolean scheduled;
+
   /**
    * Instantiates a new tween.
    *
@@ -31,6 +35,7 @@ public class Tween {
     this.duration = duration;
     this.startValues = this.target.getTweenValues(type);
     this.targetValues = new float[this.startValues.length];
+    this.values = new float[this.startValues.length];
   }
 
   /**
@@ -41,6 +46,7 @@ public class Tween {
   public Tween begin() {
     this.started = Game.time().now();
     this.stopped = false;
+    this.activate();
     return this;
   }
 
@@ -155,6 +161,7 @@ public class Tween {
    */
   public Tween resume() {
     this.stopped = false;
+    this.activate();
     return this;
   }
 
@@ -188,6 +195,7 @@ public class Tween {
       return this;
     }
     this.targetValues = Arrays.copyOf(targetValues, targetValues.length);
+    this.ensureValuesCapacity();
     return this;
   }
 
@@ -205,6 +213,45 @@ public class Tween {
     for (int i = 0; i < targetValues.length; i++) {
       this.targetValues[i] = this.getStartValues()[i] + targetValues[i];
     }
+    this.ensureValuesCapacity();
     return this;
   }
+
+  /**
+   * Gets the buffer that the current values are interpolated into by the {@code TweenEngine}.
+   *
+   * @return the current values
+   */
+  float[] getValues() {
+    return this.values;
+  }
+
+  TweenEngine getEngine() {
+    return this.engine;
+  }
+
+  void setEngine(final TweenEngine engine) {
+    this.engine = engine;
+  }
+
+  boolean isScheduled() {
+    return this.scheduled;
+  }
+
+  void setScheduled(final boolean scheduled) {
+    this.scheduled = scheduled;
+  }
+
+  private void activate() {
+    final TweenEngine tweenEngine = this.engine;
+    if (tweenEngine != null) {
+      tweenEngine.activate(this);
+    }
+  }
+
+  private void ensureValuesCapacity() {
+    if (this.values.length != this.targetValues.length) {
+      this.values = new float[this.targetValues.length];
+    }
+  }
 }
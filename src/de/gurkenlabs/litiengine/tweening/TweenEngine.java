@@ -1,18 +1,37 @@
 package de.gurkenlabs.litiengine.tweening;
 
 import de.gurkenlabs.litiengine.Game;
+import de.gurkenlabs.litiengine.GameTime;
 import de.gurkenlabs.litiengine.ILaunchable;
 import de.gurkenlabs.litiengine.IUpdateable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * The TweenEngine is the central manager for Tweens. It tracks all current Tween instances and
  * applies their {@code TweenEquation} with every {@code GameLoop} update.
+ *
+ * <p>Running tweens are kept in a flat array that is compacted while it is updated, so stopped
+ * tweens don't cost anything and no memory is allocated per tick. Tweens that have finished are
+ * removed from the engine automatically; stopped tweens stay registered until they are resumed,
+ * restarted or removed.
  */
 public class TweenEngine implements IUpdateable, ILaunchable {
+  private static final int INITIAL_CAPACITY = 16;
+
   private final Map<Tweenable, Map<TweenType, Tween>> tweens;
 
+  // guards the pending tweens and the scheduled state of all tweens
+  private final Object lock = new Object();
+  private final List<Tween> pending = new ArrayList<>();
+
+  // only accessed by the update
+  private Tween[] active = new Tween[INITIAL_CAPACITY];
+  private int activeCount;
+
   /** Instantiates a new {@code TweenEngine}. */
   public TweenEngine() {
     this.tweens = new ConcurrentHashMap<>();
@@ -32,7 +51,8 @@ public class TweenEngine implements IUpdateable, ILaunchable {
     Tween tween = this.getTween(target, type);
     if (tween == null) {
       tween = new Tween(target, type, duration).ease(TweenFunction.QUAD_INOUT);
-      this.getTweens().get(target).put(type, tween);
+      tween.setEngine(this);
+      this.getTweens().computeIfAbsent(target, t -> new ConcurrentHashMap<>()).put(type, tween);
     } else {
       tween.setDuration(duration);
     }
@@ -41,19 +61,16 @@ public class TweenEngine implements IUpdateable, ILaunchable {
   }
 
   /**
-   * Attempts to get a previously registered {@code Tween} or registers a new one.
+   * Attempts to get a previously registered {@code Tween}.
    *
    * @param target the {@code Tweenable} target object
    * @param type the {@code TweenType} determining which values of the target object will be
    *     modified.
-   * @return the Tween instance
+   * @return the Tween instance or null if no Tween is registered for the target and type
    */
   public Tween getTween(final Tweenable target, final TweenType type) {
-    if (this.getTweens().get(target) == null) {
-      this.getTweens().put(target, new ConcurrentHashMap<>());
-    }
-
-    return this.getTweens().get(target).get(type);
+    final Map<TweenType, Tween> targetTweens = this.getTweens().get(target);
+    return targetTweens != null ? targetTweens.get(type) : null;
   }
 
   /**
@@ -117,7 +134,7 @@ public class TweenEngine implements IUpdateable, ILaunchable {
   public void remove(final Tweenable target, final TweenType type) {
     final Tween tween = this.getTween(target, type);
     if (tween != null) {
-      this.getTweens().get(target).remove(type);
+      this.unregister(tween, true);
     }
   }
 
@@ -147,25 +164,149 @@ public class TweenEngine implements IUpdateable, ILaunchable {
   /** Updates all registered Tweens by applying the {@code TweenEquation}. */
   @Override
   public void update() {
-    for (final Tweenable target : this.getTweens().keySet()) {
-      for (final Tween tween : this.getTweens().get(target).values()) {
-        if (tween.hasStopped()) {
-          continue;
-        }
-        final long elapsed = Game.time().since(tween.getStartTime());
-        if (elapsed >= tween.getDuration()) {
-          tween.stop();
-          continue;
-        }
-        final float[] currentValues = new float[tween.getTargetValues().length];
-        for (int i = 0; i < tween.getTargetValues().length; i++) {
-          currentValues[i] =
-              tween.getStartValues()[i]
-                  + tween.getEquation().compute(elapsed / (float) tween.getDuration())
-                      * (tween.getTargetValues()[i] - tween.getStartValues()[i]);
-        }
-        tween.getTarget().setTweenValues(tween.getType(), currentValues);
+    this.schedulePending();
+
+    final Tween[] tweens = this.active;
+    final int count = this.activeCount;
+    final GameTime time = Game.time();
+    final long now = time.now();
+
+    int kept = 0;
+    for (int i = 0; i < count; i++) {
+      final Tween tween = tweens[i];
+      tweens[i] = null;
+      if (this.apply(tween, time, now) || !this.unschedule(tween)) {
+        tweens[kept++] = tween;
       }
     }
+
+    this.activeCount = kept;
+  }
+
+  /**
+   * Gets the number of tweens that are currently updated by this engine.
+   *
+   * @return the number of running tweens
+   */
+  public int getActiveCount() {
+    return this.activeCount;
+  }
+
+  /**
+   * Schedules the specified tween for being updated by this engine, re-registering it if it has
+   * finished in the meantime.
+   *
+   * @param tween the tween that has been started or resumed
+   */
+  void activate(final Tween tween) {
+    synchronized (this.lock) {
+      final Tween previous =
+          this.getTweens()
+              .computeIfAbsent(tween.getTarget(), t -> new ConcurrentHashMap<>())
+              .put(tween.getType(), tween);
+      if (previous != null && previous != tween) {
+        previous.setEngine(null);
+      }
+
+      if (!tween.isScheduled()) {
+        tween.setScheduled(true);
+        this.pending.add(tween);
+      }
+    }
+  }
+
+  /**
+   * Removes the specified tween from the registered tweens.
+   *
+   * @param tween the tween to remove
+   * @param detach true if the tween must not be re-registered when it is started again
+   */
+  private void unregister(final Tween tween, final boolean detach) {
+    synchronized (this.lock) {
+      if (detach) {
+        tween.setEngine(null);
+      }
+
+      this.getTweens()
+          .computeIfPresent(
+              tween.getTarget(),
+              (target, targetTweens) -> {
+                targetTweens.remove(tween.getType(), tween);
+                return targetTweens.isEmpty() ? null : targetTweens;
+              });
+    }
+  }
+
+  private void schedulePending() {
+    synchronized (this.lock) {
+      final int count = this.pending.size();
+      if (count == 0) {
+        return;
+      }
+
+      if (this.activeCount + count > this.active.length) {
+        this.active =
+            Arrays.copyOf(this.active, Math.max(this.activeCount + count, this.active.length * 2));
+      }
+
+      for (int i = 0; i < count; i++) {
+        this.active[this.activeCount++] = this.pending.get(i);
+      }
+
+      this.pending.clear();
+    }
+  }
+
+  /**
+   * Removes the specified tween from the running tweens, unless it has been resumed concurrently.
+   *
+   * @param tween the tween that was not applied by the update
+   * @return true if the tween was removed
+   */
+  private boolean unschedule(final Tween tween) {
+    synchronized (this.lock) {
+      if (!tween.hasStopped() && tween.getEngine() == this) {
+        return false;
+      }
+
+      tween.setScheduled(false);
+      return true;
+    }
+  }
+
+  /**
+   * Applies the equation of the specified tween to its target.
+   *
+   * @return true if the tween is still running
+   */
+  private boolean apply(final Tween tween, final GameTime time, final long now) {
+    if (tween.hasStopped() || tween.getEngine() != this) {
+      return false;
+    }
+
+    final long elapsed = time.toMilliseconds(now - tween.getStartTime());
+    if (elapsed >= tween.getDuration()) {
+      // finished tweens are removed but remember their engine, so they can be started again
+      tween.stop();
+      this.unregister(tween, false);
+      return false;
+    }
+
+    final float[] values = tween.getValues();
+    interpolate(
+        tween.getStartValues(),
+        tween.getTargetValues(),
+        values,
+        tween.getEquation().compute(elapsed / (float) tween.getDuration()));
+    tween.getTarget().setTweenValues(tween.getType(), values);
+    return true;
+  }
+
+  private static void interpolate(
+      final float[] start, final float[] target, final float[] values, final float progress) {
+    // a plain counted loop over the value buffers that the JIT can unroll and vectorize
+    for (int i = 0; i < values.length; i++) {
+      values[i] = start[i] + progress * (target[i] - start[i]);
+    }
   }
 }
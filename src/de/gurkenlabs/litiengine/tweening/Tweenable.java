@@ -30,6 +30,9 @@ public interface Tweenable {
   /**
    * This method is called in a Tween's update() method to set the new interpolated values.
    *
+   * <p>The array of new values is reused by the Tween Engine for every update, so implementations
+   * must copy the values that they need to keep.
+   *
    * @param tweenType The tween type of this interpolation, determining which values are modified.
    * @param newValues The new values determined by the tween equation.
    */
@@ -5,27 +5,25 @@ import de.gurkenlabs.litiengine.graphics.Spritesheet;
 import de.gurkenlabs.litiengine.util.geom.GeometricUtilities;
 import java.awt.AlphaComposite;
 import java.awt.Color;
-import java.awt.Composite;
 import java.awt.Graphics2D;
 import java.awt.GraphicsConfiguration;
 import java.awt.GraphicsDevice;
 import java.awt.GraphicsEnvironment;
 import java.awt.Image;
-import java.awt.Toolkit;
 import java.awt.Transparency;
 import java.awt.geom.AffineTransform;
 import java.awt.geom.Dimension2D;
 import java.awt.image.AffineTransformOp;
 import java.awt.image.BufferedImage;
 import java.awt.image.ColorModel;
-import java.awt.image.FilteredImageSource;
-import java.awt.image.ImageFilter;
-import java.awt.image.ImageProducer;
-import java.awt.image.RGBImageFilter;
 import java.awt.image.WritableRaster;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
 import java.util.function.UnaryOperator;
+import java.util.stream.IntStream;
 
 public final class Imaging {
   public static final int CROP_ALIGN_CENTER = 0;
@@ -37,6 +35,9 @@ public final class Imaging {
   public static final int CROP_VALIGN_TOP = 1;
   public static final int CROP_VALIGN_TOPCENTER = 2;
 
+  /** The number of pixels from which on the rows of an image are processed in parallel. */
+  private static final int PARALLEL_PIXEL_THRESHOLD = 256 * 256;
+
   private static GraphicsConfiguration graphicsConfig;
 
   private Imaging() {
@@ -106,26 +107,35 @@ public final class Imaging {
       return img;
     }
 
-    final ImageFilter filter =
-        new RGBImageFilter() {
-
-          // the color we are looking for... Alpha bits are set to opaque
-          public final int markerRGB = color.getRGB() | 0xFF000000;
+    final int width = img.getWidth();
+    final int height = img.getHeight();
+    final BufferedImage bimage = getCompatibleImage(width, height);
+    if (bimage == null) {
+      return null;
+    }
 
-          @Override
-          public final int filterRGB(final int x, final int y, final int rgb) {
-            if ((rgb | 0xFF000000) == this.markerRGB) {
+    // the color we are looking for... Alpha bits are set to opaque
+    final int markerRGB = color.getRGB() | 0xFF000000;
+    final int[] pixels = getPixels(img);
+    forEachRow(
+        width,
+        height,
+        y -> {
+          for (int i = y * width; i < (y + 1) * width; i++) {
+            if ((pixels[i] | 0xFF000000) == markerRGB) {
               // Mark the alpha bits as zero - transparent
-              return 0x00FFFFFF & rgb;
-            } else {
-              // nothing to do
-              return rgb;
+              pixels[i] &= 0x00FFFFFF;
             }
           }
-        };
+        });
+
+    final BufferedImage filtered = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+    setPixels(filtered, pixels);
 
-    final ImageProducer ip = new FilteredImageSource(img.getSource(), filter);
-    return toBufferedImage(Toolkit.getDefaultToolkit().createImage(ip));
+    final Graphics2D g = bimage.createGraphics();
+    g.drawImage(filtered, 0, 0, null);
+    g.dispose();
+    return bimage;
   }
 
   public static BufferedImage borderAlpha(
@@ -143,39 +153,50 @@ public final class Imaging {
     graphics.drawImage(strokeImg, 2, 1, null);
     graphics.drawImage(strokeImg, 1, 0, null);
     graphics.drawImage(strokeImg, 1, 2, null);
+    graphics.dispose();
 
-    Composite old = graphics.getComposite();
-    graphics.setComposite(AlphaComposite.Clear);
-    for (int y = 0; y < image.getHeight(); y++) {
-      for (int x = 0; x < image.getWidth(); x++) {
-        final int pixel = image.getRGB(x, y);
-        if (pixel >> 24 != 0x00) {
-          graphics.fillRect(x + 1, y + 1, 1, 1);
-        }
-      }
-    }
+    // clear all pixels that are covered by the visible pixels of the image
+    final int width = image.getWidth();
+    final int borderWidth = bimage.getWidth();
+    final int[] pixels = getPixels(image);
+    final int[] borderPixels = getPixels(bimage);
+    forEachRow(
+        width,
+        image.getHeight(),
+        y -> {
+          for (int x = 0; x < width; x++) {
+            if (pixels[y * width + x] >>> 24 != 0x00) {
+              borderPixels[(y + 1) * borderWidth + x + 1] = 0;
+            }
+          }
+        });
+
+    setPixels(bimage, borderPixels);
 
     if (!borderOnly) {
-      graphics.setComposite(old);
-      graphics.drawImage(image, 1, 1, null);
+      final Graphics2D imageGraphics = bimage.createGraphics();
+      imageGraphics.drawImage(image, 1, 1, null);
+      imageGraphics.dispose();
     }
 
-    graphics.dispose();
-
     return bimage;
   }
 
   public static boolean isEmpty(final BufferedImage image) {
-    for (int y = 0; y < image.getHeight(); y++) {
-      for (int x = 0; x < image.getWidth(); x++) {
-        final int pixel = image.getRGB(x, y);
-        if (pixel >> 24 != 0x00) {
-          return false;
-        }
-      }
-    }
+    final int width = image.getWidth();
+    final int[] pixels = getPixels(image);
+    return noneMatch(
+        width,
+        image.getHeight(),
+        y -> {
+          for (int i = y * width; i < (y + 1) * width; i++) {
+            if (pixels[i] >>> 24 != 0x00) {
+              return true;
+            }
+          }
 
-    return true;
+          return false;
+        });
   }
 
   public static boolean areEqual(final BufferedImage image1, final BufferedImage image2) {
@@ -183,15 +204,7 @@ public final class Imaging {
       return false;
     }
 
-    for (int x = 1; x < image2.getWidth(); x++) {
-      for (int y = 1; y < image2.getHeight(); y++) {
-        if (image1.getRGB(x, y) != image2.getRGB(x, y)) {
-          return false;
-        }
-      }
-    }
-
-    return true;
+    return Arrays.equals(getPixels(image1), getPixels(image2));
   }
 
   /**
@@ -280,15 +293,21 @@ public final class Imaging {
     bGr.drawImage(image, 0, 0, null);
     bGr.dispose();
 
-    for (int y = 0; y < bimage.getHeight(); y++) {
-      for (int x = 0; x < bimage.getWidth(); x++) {
-        final int pixel = bimage.getRGB(x, y);
-        if (pixel >> 24 != 0x00) {
-          bimage.setRGB(x, y, flashColor.getRGB());
-        }
-      }
-    }
+    final int width = bimage.getWidth();
+    final int flashRGB = flashColor.getRGB();
+    final int[] pixels = getPixels(bimage);
+    forEachRow(
+        width,
+        bimage.getHeight(),
+        y -> {
+          for (int i = y * width; i < (y + 1) * width; i++) {
+            if (pixels[i] >>> 24 != 0x00) {
+              pixels[i] = flashRGB;
+            }
+          }
+        });
 
+    setPixels(bimage, pixels);
     return bimage;
   }
 
@@ -395,7 +414,8 @@ public final class Imaging {
 
   /**
    * Replace colors in an image according to a Map containing source colors and target colors, then
-   * return the result.
+   * return the result. All colors are replaced in a single pass, i.e. a target color is not
+   * replaced again if it is also the source color of another mapping.
    *
    * @param bufferedImage the original image
    * @param colorMappings a Map with source colors as keys and target colors as values
@@ -405,16 +425,47 @@ public final class Imaging {
   public static BufferedImage replaceColors(
       final BufferedImage bufferedImage, Map<Color, Color> colorMappings) {
     BufferedImage recoloredImage = copy(bufferedImage);
+    if (colorMappings.isEmpty()) {
+      return recoloredImage;
+    }
+
+    // sorted lookup table of the source colors and the corresponding target colors
+    final int[] sourceColors = new int[colorMappings.size()];
+    final int[] targetColors = new int[colorMappings.size()];
+    int index = 0;
     for (Entry<Color, Color> c : colorMappings.entrySet()) {
-      for (int y = 0; y < recoloredImage.getHeight(); y++) {
-        for (int x = 0; x < recoloredImage.getWidth(); x++) {
-          if (recoloredImage.getRGB(x, y) == c.getKey().getRGB()) {
-            int newColor = c.getValue().getRGB();
-            recoloredImage.setRGB(x, y, newColor);
-          }
-        }
-      }
+      sourceColors[index++] = c.getKey().getRGB();
     }
+
+    Arrays.sort(sourceColors);
+    for (Entry<Color, Color> c : colorMappings.entrySet()) {
+      targetColors[Arrays.binarySearch(sourceColors, c.getKey().getRGB())] =
+          c.getValue().getRGB();
+    }
+
+    final int width = recoloredImage.getWidth();
+    final int[] pixels = getPixels(recoloredImage);
+    forEachRow(
+        width,
+        recoloredImage.getHeight(),
+        y -> {
+          // most images consist of runs of the same color
+          int lastPixel = ~pixels[y * width];
+          int lastIndex = -1;
+          for (int i = y * width; i < (y + 1) * width; i++) {
+            final int pixel = pixels[i];
+            if (pixel != lastPixel) {
+              lastPixel = pixel;
+              lastIndex = Arrays.binarySearch(sourceColors, pixel);
+            }
+
+            if (lastIndex >= 0) {
+              pixels[i] = targetColors[lastIndex];
+            }
+          }
+        });
+
+    setPixels(recoloredImage, pixels);
     return recoloredImage;
   }
 
@@ -594,6 +645,44 @@ public final class Imaging {
     return compatibleImg;
   }
 
+  /**
+   * Gets the pixels of the specified image in the default (non-premultiplied) ARGB format. Images
+   * with an integer ARGB raster are copied directly from the raster, without a color conversion per
+   * pixel and without preventing the acceleration of the image.
+   */
+  private static int[] getPixels(final BufferedImage image) {
+    final int width = image.getWidth();
+    final int height = image.getHeight();
+    if (image.getType() == BufferedImage.TYPE_INT_ARGB) {
+      return (int[]) image.getRaster().getDataElements(0, 0, width, height, null);
+    }
+
+    return image.getRGB(0, 0, width, height, null, 0, width);
+  }
+
+  private static void setPixels(final BufferedImage image, final int[] pixels) {
+    final int width = image.getWidth();
+    final int height = image.getHeight();
+    if (image.getType() == BufferedImage.TYPE_INT_ARGB) {
+      image.getRaster().setDataElements(0, 0, width, height, pixels);
+    } else {
+      image.setRGB(0, 0, width, height, pixels, 0, width);
+    }
+  }
+
+  private static IntStream rows(final int width, final int height) {
+    final IntStream rows = IntStream.range(0, height);
+    return (long) width * height >= PARALLEL_PIXEL_THRESHOLD ? rows.parallel() : rows;
+  }
+
+  private static void forEachRow(final int width, final int height, final IntConsumer action) {
+    rows(width, height).forEach(action);
+  }
+
+  private static boolean noneMatch(final int width, final int height, final IntPredicate row) {
+    return rows(width, height).noneMatch(row);
+  }
+
   private static BufferedImage flipSprites(
       final Spritesheet sprite, UnaryOperator<BufferedImage> flipFunction) {
     final BufferedImage flippedSprite =
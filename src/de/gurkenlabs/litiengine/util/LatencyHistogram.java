@@ -0,0 +1,137 @@
+package de.gurkenlabs.litiengine.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free histogram for durations in nanoseconds that uses logarithmic buckets with linear sub-buckets (similar to an HDR
+ * histogram). The relative error of the reported percentiles is bounded by roughly 3% over the whole trackable range while the
+ * memory footprint stays constant.
+ *
+ * <p>
+ * Values can be recorded concurrently by any number of threads without locking. Queries that are performed while values are
+ * being recorded might not reflect the most recent values.
+ * </p>
+ */
+public final class LatencyHistogram {
+  private static final int SUB_BUCKET_BITS = 5;
+  private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+  /** Values above 2^40 ns (about 18 minutes) are recorded as the maximum trackable value. */
+  private static final int MAX_VALUE_BITS = 40;
+  private static final long MAX_TRACKABLE_VALUE = (1L << MAX_VALUE_BITS) - 1;
+
+  private final AtomicLongArray counts = new AtomicLongArray(getIndex(MAX_TRACKABLE_VALUE) + 1);
+  private final LongAdder totalCount = new LongAdder();
+  private final LongAdder totalValue = new LongAdder();
+  private final AtomicLong maxValue = new AtomicLong();
+
+  /**
+   * Records the specified duration.
+   *
+   * @param nanos
+   *          The duration in nanoseconds. Negative values are recorded as 0.
+   */
+  public void record(long nanos) {
+    final long value = MathUtilities.clamp(nanos, 0, MAX_TRACKABLE_VALUE);
+    this.counts.incrementAndGet(getIndex(value));
+    this.totalCount.increment();
+    this.totalValue.add(value);
+
+    long max = this.maxValue.get();
+    while (value > max && !this.maxValue.compareAndSet(max, value)) {
+      max = this.maxValue.get();
+    }
+  }
+
+  /**
+   * Gets the number of recorded values.
+   *
+   * @return The number of recorded values.
+   */
+  public long getCount() {
+    return this.totalCount.sum();
+  }
+
+  /**
+   * Gets the sum of all recorded durations.
+   *
+   * @return The sum of all recorded durations in nanoseconds.
+   */
+  public long getTotal() {
+    return this.totalValue.sum();
+  }
+
+  /**
+   * Gets the largest recorded duration.
+   *
+   * @return The largest recorded duration in nanoseconds.
+   */
+  public long getMax() {
+    return this.maxValue.get();
+  }
+
+  /**
+   * Gets the mean of all recorded durations.
+   *
+   * @return The mean duration in nanoseconds or 0 if no values have been recorded.
+   */
+  public double getMean() {
+    final long count = this.getCount();
+    return count == 0 ? 0 : this.getTotal() / (double) count;
+  }
+
+  /**
+   * Gets the duration below which the specified percentage of the recorded values fall.
+   *
+   * @param percentile
+   *          The percentile in the range [0, 100] (e.g. 99 for the p99 value).
+   * @return The approximated duration in nanoseconds or 0 if no values have been recorded.
+   */
+  public long getPercentile(double percentile) {
+    long count = 0;
+    for (int i = 0; i < this.counts.length(); i++) {
+      count += this.counts.get(i);
+    }
+
+    if (count == 0) {
+      return 0;
+    }
+
+    final long rank = Math.max(1, (long) Math.ceil(MathUtilities.clamp(percentile, 0, 100) / 100.0 * count));
+    long current = 0;
+    for (int i = 0; i < this.counts.length(); i++) {
+      current += this.counts.get(i);
+      if (current >= rank) {
+        return Math.min(getHighestEquivalentValue(i), this.getMax());
+      }
+    }
+
+    return this.getMax();
+  }
+
+  /**
+   * Removes all recorded values from this histogram.
+   */
+  public void reset() {
+    for (int i = 0; i < this.counts.length(); i++) {
+      this.counts.set(i, 0);
+    }
+
+    this.totalCount.reset();
+    this.totalValue.reset();
+    this.maxValue.set(0);
+  }
+
+  static int getIndex(long value) {
+    final int bucket = Math.max(0, 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS);
+    return (bucket << SUB_BUCKET_BITS) + (int) (value >>> bucket);
+  }
+
+  static long getHighestEquivalentValue(int index) {
+    final int bucket = Math.max(0, (index >> SUB_BUCKET_BITS) - 1);
+    final long subBucket = index - ((long) bucket << SUB_BUCKET_BITS);
+    return ((subBucket + 1) << bucket) - 1;
+  }
+}
@@ -0,0 +1,693 @@
+package de.gurkenlabs.litiengine.util.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Proxy;
+import java.lang.reflect.Type;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlElementRef;
+import javax.xml.bind.annotation.XmlElementWrapper;
+import javax.xml.bind.annotation.XmlElements;
+import javax.xml.bind.annotation.XmlEnumValue;
+import javax.xml.bind.annotation.XmlMixed;
+import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.XmlTransient;
+import javax.xml.bind.annotation.XmlValue;
+import javax.xml.bind.annotation.adapters.XmlAdapter;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * A streaming (StAX) alternative to JAXB unmarshalling for the engine's XML formats (e.g. {@code
+ * TmxMap}, {@code Tileset} or {@code ResourceBundle}).
+ *
+ * <p>The JAXB annotations of the model classes remain the single source of truth for the XML
+ * format. The binding of a class is computed once from its annotations and then cached, so reading
+ * a file neither requires a {@code JAXBContext} nor any per-file reflection lookups. {@code
+ * XmlAdapter}s and {@code afterUnmarshal(Unmarshaller, Object)} callbacks are honored the same way
+ * JAXB does, which means that both readers produce equal models.
+ *
+ * @see XmlUtilities#setStreamingReaderEnabled(boolean)
+ */
+public final class StaxReader {
+  private static final String DEFAULT_NAME = "##default";
+  private static final String AFTER_UNMARSHAL = "afterUnmarshal";
+
+  private static final XMLInputFactory inputFactory;
+  private static final Map<Class<?>, Binding> bindings = new ConcurrentHashMap<>();
+  private static final Map<Class<?>, Map<String, Object>> enumConstants = new ConcurrentHashMap<>();
+
+  static {
+    inputFactory = XMLInputFactory.newInstance();
+    inputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    inputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    inputFactory.setProperty(XMLInputFactory.IS_COALESCING, true);
+  }
+
+  private StaxReader() {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Reads an instance of the specified type from the XML file at the specified location.
+   *
+   * @param <T> The type of the root element.
+   * @param cls The class of the root element.
+   * @param path The location of the XML file; also used as base for relative URLs.
+   * @return The unmarshalled instance.
+   * @throws JAXBException If the file cannot be read or doesn't match the expected format.
+   */
+  public static <T> T read(Class<T> cls, URL path) throws JAXBException {
+    try (InputStream stream = path.openStream()) {
+      return read(cls, stream, path);
+    } catch (IOException e) {
+      throw new JAXBException(e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Reads an instance of the specified type from the specified stream.
+   *
+   * @param <T> The type of the root element.
+   * @param cls The class of the root element.
+   * @param stream The stream that provides the XML contents.
+   * @param base The base URL for relative URLs within the XML; may be null.
+   * @return The unmarshalled instance.
+   * @throws JAXBException If the stream cannot be read or doesn't match the expected format.
+   */
+  public static <T> T read(Class<T> cls, InputStream stream, URL base) throws JAXBException {
+    XMLStreamReader reader = null;
+    try {
+      reader = inputFactory.createXMLStreamReader(stream);
+      while (reader.getEventType() != XMLStreamConstants.START_ELEMENT) {
+        if (!reader.hasNext()) {
+          throw new JAXBException("The XML document does not contain a root element.");
+        }
+
+        reader.next();
+      }
+
+      XmlRootElement root = cls.getAnnotation(XmlRootElement.class);
+      if (root != null
+          && !DEFAULT_NAME.equals(root.name())
+          && !root.name().equals(reader.getLocalName())) {
+        throw new JAXBException(
+            String.format(
+                "Unexpected root element <%s>; expected <%s>.",
+                reader.getLocalName(), root.name()));
+      }
+
+      return cls.cast(new Context(base).readBean(reader, cls, null));
+    } catch (XMLStreamException e) {
+      throw new JAXBException(e.getMessage(), e);
+    } finally {
+      if (reader != null) {
+        try {
+          reader.close();
+        } catch (XMLStreamException e) {
+          // nothing to do here; the stream is closed by the caller
+        }
+      }
+    }
+  }
+
+  private static Binding getBinding(Class<?> cls) {
+    return bindings.computeIfAbsent(cls, Binding::new);
+  }
+
+  private static boolean isSimpleType(Class<?> type) {
+    return type.isPrimitive()
+        || type == String.class
+        || Number.class.isAssignableFrom(type)
+        || type == Boolean.class
+        || type.isEnum();
+  }
+
+  private static Object parseSimpleValue(String value, Class<?> type) {
+    if (value == null || type == String.class) {
+      return value;
+    }
+
+    if (type.isEnum()) {
+      return enumConstants.computeIfAbsent(type, StaxReader::getEnumConstants).get(value.trim());
+    }
+
+    String trimmed = value.trim();
+    if (type == int.class || type == Integer.class) {
+      return Integer.parseInt(trimmed);
+    } else if (type == float.class || type == Float.class) {
+      return Float.parseFloat(trimmed);
+    } else if (type == double.class || type == Double.class) {
+      return Double.parseDouble(trimmed);
+    } else if (type == boolean.class || type == Boolean.class) {
+      return trimmed.equals("true") || trimmed.equals("1");
+    } else if (type == long.class || type == Long.class) {
+      return Long.parseLong(trimmed);
+    } else if (type == short.class || type == Short.class) {
+      return Short.parseShort(trimmed);
+    } else if (type == byte.class || type == Byte.class) {
+      return Byte.parseByte(trimmed);
+    }
+
+    throw new IllegalArgumentException("Unsupported XML value type " + type.getName());
+  }
+
+  private static Map<String, Object> getEnumConstants(Class<?> type) {
+    Map<String, Object> constants = new HashMap<>();
+    for (Field field : type.getFields()) {
+      if (!field.isEnumConstant()) {
+        continue;
+      }
+
+      try {
+        XmlEnumValue enumValue = field.getAnnotation(XmlEnumValue.class);
+        constants.put(enumValue != null ? enumValue.value() : field.getName(), field.get(null));
+      } catch (IllegalAccessException e) {
+        throw new IllegalStateException(e);
+      }
+    }
+
+    return constants;
+  }
+
+  private static Class<?> getAdapterValueType(Class<?> adapterType) {
+    Class<?> cls = adapterType;
+    while (cls != null && cls != Object.class) {
+      Type superType = cls.getGenericSuperclass();
+      if (superType instanceof ParameterizedType
+          && ((ParameterizedType) superType).getRawType() == XmlAdapter.class) {
+        return getRawType(((ParameterizedType) superType).getActualTypeArguments()[0]);
+      }
+
+      cls = cls.getSuperclass();
+    }
+
+    return String.class;
+  }
+
+  private static Class<?> getRawType(Type type) {
+    if (type instanceof Class<?>) {
+      return (Class<?>) type;
+    }
+
+    if (type instanceof ParameterizedType) {
+      return getRawType(((ParameterizedType) type).getRawType());
+    }
+
+    return Object.class;
+  }
+
+  private static String getName(String annotatedName, Field field) {
+    return annotatedName == null || annotatedName.isEmpty() || DEFAULT_NAME.equals(annotatedName)
+        ? field.getName()
+        : annotatedName;
+  }
+
+  private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+    int depth = 1;
+    while (depth > 0) {
+      int event = reader.next();
+      if (event == XMLStreamConstants.START_ELEMENT) {
+        depth++;
+      } else if (event == XMLStreamConstants.END_ELEMENT) {
+        depth--;
+      }
+    }
+  }
+
+  /** The state of a single read operation, i.e. the configured adapters. */
+  private static final class Context {
+    private final URL base;
+    private final Map<Class<?>, XmlAdapter<?, ?>> adapters = new HashMap<>();
+    private Unmarshaller unmarshaller;
+
+    private Context(URL base) {
+      this.base = base;
+    }
+
+    private Object readBean(XMLStreamReader reader, Class<?> cls, Object parent)
+        throws XMLStreamException, JAXBException {
+      final Binding binding = getBinding(cls);
+      final Object bean = binding.newInstance();
+
+      for (int i = 0; i < reader.getAttributeCount(); i++) {
+        Property attribute = binding.attributes.get(reader.getAttributeLocalName(i));
+        if (attribute != null) {
+          attribute.set(bean, this.convert(attribute, reader.getAttributeValue(i)));
+        }
+      }
+
+      StringBuilder text = null;
+      Map<Field, Collection<Object>> collections = null;
+
+      while (true) {
+        int event = reader.next();
+        if (event == XMLStreamConstants.START_ELEMENT) {
+          if (collections == null) {
+            collections = new IdentityHashMap<>();
+          }
+
+          if (binding.mixed != null && text != null && text.length() > 0) {
+            binding.mixed.getCollection(bean, collections).add(text.toString());
+            text.setLength(0);
+          }
+
+          String name = reader.getLocalName();
+          Property element = binding.elements.get(name);
+          if (element != null) {
+            element.add(bean, this.readElement(reader, element, bean), collections);
+            continue;
+          }
+
+          Property wrapped = binding.wrappers.get(name);
+          if (wrapped != null) {
+            this.readWrapper(reader, wrapped, bean, collections);
+            continue;
+          }
+
+          skipElement(reader);
+        } else if (event == XMLStreamConstants.CHARACTERS
+            || event == XMLStreamConstants.CDATA
+            || event == XMLStreamConstants.SPACE) {
+          if (binding.value != null || binding.mixed != null) {
+            if (text == null) {
+              text = new StringBuilder();
+            }
+
+            text.append(reader.getText());
+          }
+        } else if (event == XMLStreamConstants.END_ELEMENT) {
+          break;
+        }
+      }
+
+      if (binding.value != null) {
+        binding.value.set(bean, this.convert(binding.value, text != null ? text.toString() : ""));
+      } else if (binding.mixed != null && text != null && text.length() > 0) {
+        if (collections == null) {
+          collections = new IdentityHashMap<>();
+        }
+
+        binding.mixed.getCollection(bean, collections).add(text.toString());
+      }
+
+      if (collections != null) {
+        for (Map.Entry<Field, Collection<Object>> entry : collections.entrySet()) {
+          binding.finish(bean, entry.getKey(), entry.getValue());
+        }
+      }
+
+      binding.afterUnmarshal(bean, this.getUnmarshaller(), parent);
+      return bean;
+    }
+
+    private void readWrapper(
+        XMLStreamReader reader,
+        Property property,
+        Object bean,
+        Map<Field, Collection<Object>> collections)
+        throws XMLStreamException, JAXBException {
+      // an existing wrapper always results in a (possibly empty) collection
+      property.getCollection(bean, collections);
+
+      while (true) {
+        int event = reader.next();
+        if (event == XMLStreamConstants.START_ELEMENT) {
+          if (property.name.equals(reader.getLocalName())) {
+            property.add(bean, this.readElement(reader, property, bean), collections);
+          } else {
+            skipElement(reader);
+          }
+        } else if (event == XMLStreamConstants.END_ELEMENT) {
+          return;
+        }
+      }
+    }
+
+    private Object readElement(XMLStreamReader reader, Property property, Object parent)
+        throws XMLStreamException, JAXBException {
+      Class<?> valueType = property.adapter != null ? property.adapterValueType : property.type;
+      Object value =
+          isSimpleType(valueType)
+              ? reader.getElementText()
+              : this.readBean(reader, valueType, parent);
+
+      return this.convert(property, value);
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private Object convert(Property property, Object raw) throws JAXBException {
+      try {
+        if (property.adapter == null) {
+          return raw instanceof String ? parseSimpleValue((String) raw, property.type) : raw;
+        }
+
+        Object value =
+            raw instanceof String ? parseSimpleValue((String) raw, property.adapterValueType) : raw;
+        return ((XmlAdapter) this.getAdapter(property.adapter)).unmarshal(value);
+      } catch (JAXBException e) {
+        throw e;
+      } catch (Exception e) {
+        throw new JAXBException(
+            String.format("Could not read value '%s' of '%s'", raw, property.field), e);
+      }
+    }
+
+    private XmlAdapter<?, ?> getAdapter(Class<?> adapterType) throws JAXBException {
+      XmlAdapter<?, ?> adapter = this.adapters.get(adapterType);
+      if (adapter != null) {
+        return adapter;
+      }
+
+      if (adapterType == URLAdapter.class) {
+        adapter = new URLAdapter(this.base);
+      } else {
+        try {
+          Constructor<?> constructor = adapterType.getDeclaredConstructor();
+          constructor.setAccessible(true);
+          adapter = (XmlAdapter<?, ?>) constructor.newInstance();
+        } catch (ReflectiveOperationException e) {
+          throw new JAXBException("Could not instantiate adapter " + adapterType.getName(), e);
+        }
+      }
+
+      this.adapters.put(adapterType, adapter);
+      return adapter;
+    }
+
+    /**
+     * Model classes expect an {@code Unmarshaller} in their {@code afterUnmarshal} callbacks, e.g.
+     * to access the configured {@code URLAdapter}. This provides a lightweight stand-in that only
+     * supports adapter lookups.
+     */
+    private Unmarshaller getUnmarshaller() {
+      if (this.unmarshaller == null) {
+        this.unmarshaller =
+            (Unmarshaller)
+                Proxy.newProxyInstance(
+                    Unmarshaller.class.getClassLoader(),
+                    new Class<?>[] {Unmarshaller.class},
+                    (proxy, method, args) -> {
+                      if (method.getName().equals("getAdapter")
+                          && args != null
+                          && args.length == 1) {
+                        return this.getAdapter((Class<?>) args[0]);
+                      }
+
+                      throw new UnsupportedOperationException(
+                          "The streaming reader does not support Unmarshaller." + method.getName());
+                    });
+      }
+
+      return this.unmarshaller;
+    }
+  }
+
+  /** The cached XML binding of a class, derived from its JAXB annotations. */
+  private static final class Binding {
+    private final Constructor<?> constructor;
+    private final Map<String, Property> attributes = new HashMap<>();
+    private final Map<String, Property> elements = new HashMap<>();
+    private final Map<String, Property> wrappers = new HashMap<>();
+    private Property value;
+    private Property mixed;
+    private Method afterUnmarshal;
+
+    private Binding(Class<?> cls) {
+      try {
+        this.constructor = cls.getDeclaredConstructor();
+        this.constructor.setAccessible(true);
+      } catch (NoSuchMethodException e) {
+        throw new IllegalArgumentException(
+            cls.getName() + " does not have a default constructor", e);
+      }
+
+      List<Class<?>> hierarchy = new ArrayList<>();
+      for (Class<?> c = cls; c != null && c != Object.class; c = c.getSuperclass()) {
+        hierarchy.add(0, c);
+      }
+
+      for (Class<?> c : hierarchy) {
+        for (Field field : c.getDeclaredFields()) {
+          this.bind(field, isFieldAccess(c));
+        }
+      }
+
+      // JAXB only invokes the most specific callback; overrides call their super implementation
+      for (int i = hierarchy.size() - 1; i >= 0 && this.afterUnmarshal == null; i--) {
+        try {
+          this.afterUnmarshal =
+              hierarchy.get(i).getDeclaredMethod(AFTER_UNMARSHAL, Unmarshaller.class, Object.class);
+          this.afterUnmarshal.setAccessible(true);
+        } catch (NoSuchMethodException e) {
+          // continue with the parent class
+        }
+      }
+    }
+
+    private static boolean isFieldAccess(Class<?> cls) {
+      XmlAccessorType accessorType = cls.getAnnotation(XmlAccessorType.class);
+      return accessorType != null && accessorType.value() == XmlAccessType.FIELD;
+    }
+
+    private static boolean isAnnotated(Field field) {
+      return field.isAnnotationPresent(XmlAttribute.class)
+          || field.isAnnotationPresent(XmlElement.class)
+          || field.isAnnotationPresent(XmlElements.class)
+          || field.isAnnotationPresent(XmlElementRef.class)
+          || field.isAnnotationPresent(XmlElementWrapper.class)
+          || field.isAnnotationPresent(XmlValue.class)
+          || field.isAnnotationPresent(XmlJavaTypeAdapter.class);
+    }
+
+    private void bind(Field field, boolean fieldAccess) {
+      int modifiers = field.getModifiers();
+      if (Modifier.isStatic(modifiers)
+          || Modifier.isTransient(modifiers)
+          || field.isSynthetic()
+          || field.isAnnotationPresent(XmlTransient.class)
+          || !(isAnnotated(field) || fieldAccess)) {
+        return;
+      }
+
+      field.setAccessible(true);
+
+      XmlAttribute attribute = field.getAnnotation(XmlAttribute.class);
+      if (attribute != null) {
+        String name = getName(attribute.name(), field);
+        this.attributes.put(name, new Property(field, name, null));
+        return;
+      }
+
+      if (field.isAnnotationPresent(XmlValue.class)) {
+        this.value = new Property(field, null, null);
+        return;
+      }
+
+      XmlElementRef elementRef = field.getAnnotation(XmlElementRef.class);
+      if (elementRef != null) {
+        Class<?> type = elementRef.type();
+        XmlRootElement root = type.getAnnotation(XmlRootElement.class);
+        String name =
+            !DEFAULT_NAME.equals(elementRef.name())
+                ? elementRef.name()
+                : root != null ? root.name() : type.getSimpleName();
+        Property property = new Property(field, name, type);
+        this.elements.put(name, property);
+        if (field.isAnnotationPresent(XmlMixed.class)) {
+          this.mixed = property;
+        }
+        return;
+      }
+
+      XmlElements choices = field.getAnnotation(XmlElements.class);
+      if (choices != null) {
+        for (XmlElement choice : choices.value()) {
+          String name = getName(choice.name(), field);
+          this.elements.put(name, new Property(field, name, choice.type()));
+        }
+        return;
+      }
+
+      XmlElement element = field.getAnnotation(XmlElement.class);
+      String name = getName(element != null ? element.name() : null, field);
+      Property property = new Property(field, name, element != null ? element.type() : null);
+
+      XmlElementWrapper wrapper = field.getAnnotation(XmlElementWrapper.class);
+      if (wrapper != null) {
+        this.wrappers.put(getName(wrapper.name(), field), property);
+      } else {
+        this.elements.put(name, property);
+      }
+    }
+
+    private Object newInstance() throws JAXBException {
+      try {
+        return this.constructor.newInstance();
+      } catch (ReflectiveOperationException e) {
+        throw new JAXBException(
+            "Could not instantiate " + this.constructor.getDeclaringClass().getName(), e);
+      }
+    }
+
+    private void finish(Object bean, Field field, Collection<Object> items) throws JAXBException {
+      if (!field.getType().isArray()) {
+        return;
+      }
+
+      Object array = Array.newInstance(field.getType().getComponentType(), items.size());
+      int i = 0;
+      for (Object item : items) {
+        Array.set(array, i++, item);
+      }
+
+      try {
+        field.set(bean, array);
+      } catch (IllegalAccessException e) {
+        throw new JAXBException(e.getMessage(), e);
+      }
+    }
+
+    private void afterUnmarshal(Object bean, Unmarshaller unmarshaller, Object parent)
+        throws JAXBException {
+      if (this.afterUnmarshal == null) {
+        return;
+      }
+
+      try {
+        this.afterUnmarshal.invoke(bean, unmarshaller, parent);
+      } catch (InvocationTargetException e) {
+        throw new JAXBException(e.getCause().getMessage(), e.getCause());
+      } catch (IllegalAccessException e) {
+        throw new JAXBException(e.getMessage(), e);
+      }
+    }
+  }
+
+  /** A bound field and the XML name and item type it is read from. */
+  private static final class Property {
+    private final Field field;
+    private final String name;
+    private final Class<?> type;
+    private final boolean multiple;
+    private final Class<?> adapter;
+    private final Class<?> adapterValueType;
+
+    private Property(Field field, String name, Class<?> declaredType) {
+      this.field = field;
+      this.name = name;
+
+      Class<?> fieldType = field.getType();
+      this.multiple = fieldType.isArray() || Collection.class.isAssignableFrom(fieldType);
+
+      XmlJavaTypeAdapter typeAdapter = field.getAnnotation(XmlJavaTypeAdapter.class);
+      this.adapter = typeAdapter != null ? typeAdapter.value() : null;
+      this.adapterValueType = this.adapter != null ? getAdapterValueType(this.adapter) : null;
+
+      if (declaredType != null
+          && declaredType != XmlElement.DEFAULT.class
+          && declaredType != XmlElementRef.DEFAULT.class) {
+        this.type = declaredType;
+      } else if (fieldType.isArray()) {
+        this.type = fieldType.getComponentType();
+      } else if (this.multiple && this.adapter == null) {
+        Type generic = field.getGenericType();
+        this.type =
+            generic instanceof ParameterizedType
+                ? getRawType(((ParameterizedType) generic).getActualTypeArguments()[0])
+                : Object.class;
+      } else {
+        this.type = fieldType;
+      }
+    }
+
+    private void set(Object bean, Object value) throws JAXBException {
+      if (value == null && this.field.getType().isPrimitive()) {
+        return;
+      }
+
+      try {
+        this.field.set(bean, value);
+      } catch (IllegalAccessException | IllegalArgumentException e) {
+        throw new JAXBException(e.getMessage(), e);
+      }
+    }
+
+    private void add(Object bean, Object value, Map<Field, Collection<Object>> collections)
+        throws JAXBException {
+      if (!this.multiple || this.adapter != null) {
+        this.set(bean, value);
+        return;
+      }
+
+      this.getCollection(bean, collections).add(value);
+    }
+
+    /**
+     * Like JAXB, the first item of a collection reuses (and clears) the collection instance of the
+     * bean or creates a new one if none was initialized.
+     */
+    @SuppressWarnings("unchecked")
+    private Collection<Object> getCollection(Object bean, Map<Field, Collection<Object>> collections)
+        throws JAXBException {
+      Collection<Object> collection = collections.get(this.field);
+      if (collection != null) {
+        return collection;
+      }
+
+      try {
+        if (this.field.getType().isArray()) {
+          collection = new ArrayList<>();
+        } else {
+          collection = (Collection<Object>) this.field.get(bean);
+          if (collection == null) {
+            collection = this.createCollection();
+            this.field.set(bean, collection);
+          }
+
+          collection.clear();
+        }
+      } catch (ReflectiveOperationException e) {
+        throw new JAXBException(e.getMessage(), e);
+      }
+
+      collections.put(this.field, collection);
+      return collection;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Collection<Object> createCollection() throws ReflectiveOperationException {
+      Class<?> fieldType = this.field.getType();
+      if (!fieldType.isInterface() && !Modifier.isAbstract(fieldType.getModifiers())) {
+        return (Collection<Object>) fieldType.getDeclaredConstructor().newInstance();
+      }
+
+      return Set.class.isAssignableFrom(fieldType) ? new HashSet<>() : new ArrayList<>();
+    }
+  }
+}
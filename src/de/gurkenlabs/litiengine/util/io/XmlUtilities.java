@@ -5,6 +5,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -29,6 +30,8 @@ public final class XmlUtilities {
 
   private static final Map<Class<?>, JAXBContext> jaxbContexts;
 
+  private static volatile boolean streamingReaderEnabled;
+
   private XmlUtilities() {
     throw new UnsupportedOperationException();
   }
@@ -84,7 +87,33 @@ public final class XmlUtilities {
     return null;
   }
 
+  /**
+   * Determines whether {@link #read(Class, URL)} uses the {@link StaxReader} instead of JAXB
+   * unmarshalling. The streaming reader avoids the creation of {@code JAXBContext}s and the
+   * associated class loading, which considerably reduces the time required to load maps, tilesets
+   * and resource bundles.
+   *
+   * @param enabled True if XML files should be read with the streaming reader; false to use JAXB.
+   */
+  public static void setStreamingReaderEnabled(boolean enabled) {
+    streamingReaderEnabled = enabled;
+  }
+
+  /**
+   * Indicates whether XML files are read with the {@link StaxReader} instead of JAXB.
+   *
+   * @return True if the streaming reader is used; otherwise false.
+   * @see #setStreamingReaderEnabled(boolean)
+   */
+  public static boolean isStreamingReaderEnabled() {
+    return streamingReaderEnabled;
+  }
+
   public static <T> T read(Class<T> cls, URL path) throws JAXBException {
+    if (streamingReaderEnabled) {
+      return StaxReader.read(cls, path);
+    }
+
     final JAXBContext jaxbContext = getContext(cls);
     if (jaxbContext == null) {
       return null;
@@ -96,6 +125,22 @@ public final class XmlUtilities {
     return cls.cast(um.unmarshal(path));
   }
 
+  public static <T> T read(Class<T> cls, InputStream stream, URL base) throws JAXBException {
+    if (streamingReaderEnabled) {
+      return StaxReader.read(cls, stream, base);
+    }
+
+    final JAXBContext jaxbContext = getContext(cls);
+    if (jaxbContext == null) {
+      return null;
+    }
+
+    final Unmarshaller um = jaxbContext.createUnmarshaller();
+    um.setAdapter(new URLAdapter(base));
+
+    return cls.cast(um.unmarshal(stream));
+  }
+
   public static File save(Object object, String fileName) {
     if (fileName == null || fileName.isEmpty()) {
       return null;
@@ -0,0 +1,104 @@
+package de.gurkenlabs.litiengine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.awt.geom.Point2D;
+import java.awt.geom.Rectangle2D;
+
+import org.junit.jupiter.api.Test;
+
+import de.gurkenlabs.litiengine.entities.Creature;
+import de.gurkenlabs.litiengine.environment.Environment;
+import de.gurkenlabs.litiengine.environment.tilemap.MapOrientations;
+import de.gurkenlabs.litiengine.environment.tilemap.xml.TmxMap;
+import de.gurkenlabs.litiengine.physics.PhysicsEngine;
+
+public class EnvironmentSimulationTests {
+  // test-only helper methods for tests that need an isolated environment with a 10x10 map
+  public static TmxMap createMap(String name) {
+    TmxMap map = new TmxMap(MapOrientations.ORTHOGONAL);
+    map.setName(name);
+    map.setWidth(10);
+    map.setHeight(10);
+    map.setTileWidth(16);
+    map.setTileHeight(16);
+    return map;
+  }
+
+  public static EnvironmentSimulation createSimulation(String name, int updateRate) {
+    return new EnvironmentSimulation(new Environment(createMap(name)), updateRate);
+  }
+
+  @Test
+  public void testStaticAccessorsResolveToSimulation() {
+    EnvironmentSimulation simulation = createSimulation("room", 60);
+
+    simulation.run(() -> {
+      assertSame(simulation, EnvironmentSimulation.current());
+      assertSame(simulation.getLoop(), Game.loop());
+      assertSame(simulation.getPhysics(), Game.physics());
+      assertSame(simulation.getTime(), Game.time());
+      assertSame(simulation.getEnvironment(), Game.world().environment());
+    });
+
+    assertNull(EnvironmentSimulation.current());
+    assertNotSame(simulation.getPhysics(), Game.physics());
+    assertNotSame(simulation.getTime(), Game.time());
+  }
+
+  @Test
+  public void testSimulationsTickIndependently() {
+    EnvironmentSimulation first = createSimulation("first", 60);
+    EnvironmentSimulation second = createSimulation("second", 60);
+
+    Creature creature = new Creature();
+    first.run(() -> {
+      Game.physics().setBounds(new Rectangle2D.Double(0, 0, 160, 160));
+      Game.physics().add(creature);
+      Game.loop().perform(50, () -> creature.setLocation(20, 20));
+    });
+
+    for (int i = 0; i < 10; i++) {
+      first.step();
+    }
+
+    second.step();
+
+    assertEquals(10, first.getLoop().getTicks());
+    assertEquals(1, second.getLoop().getTicks());
+    assertEquals(new Point2D.Double(20, 20), creature.getLocation());
+    assertEquals(1, first.getPhysics().getCollisionEntities().size());
+    assertEquals(0, second.getPhysics().getCollisionEntities().size());
+    assertEquals(0, Game.physics().getCollisionEntities().size());
+  }
+
+  @Test
+  public void testGameWorldUpdatablesAreNotProcessed() {
+    EnvironmentSimulation simulation = createSimulation("world", 60);
+    int[] updates = new int[1];
+    IUpdateable updatable = () -> updates[0]++;
+    Game.world().attach("world", updatable);
+
+    try {
+      simulation.load();
+      simulation.step();
+    } finally {
+      Game.world().detach("world", updatable);
+    }
+
+    assertEquals(1, simulation.getLoop().getTicks());
+    assertEquals(0, updates[0]);
+  }
+
+  @Test
+  public void testPhysicsEngineCanOnlyBeCreatedBySimulation() {
+    EnvironmentSimulation simulation = createSimulation("physics", 60);
+
+    assertThrows(UnsupportedOperationException.class, () -> PhysicsEngine.create(simulation));
+    assertThrows(UnsupportedOperationException.class, () -> PhysicsEngine.create(null));
+  }
+}
@@ -0,0 +1,86 @@
+package de.gurkenlabs.litiengine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class ReplayTests {
+  @Test
+  public void testReadAndWrite() throws IOException {
+    // arrange
+    String text = "# comment\n"
+        + "12 key_pressed 87\n"
+        + "\n"
+        + "40 key_released 87\n"
+        + "50 mouse_moved 100 120\n"
+        + "51 mouse_pressed 100 120 1\n"
+        + "60 command spawn enemy 3 4\n";
+
+    // act
+    Replay replay = Replay.read(new StringReader(text));
+    StringWriter writer = new StringWriter();
+    replay.write(writer);
+    Replay reread = Replay.read(new StringReader(writer.toString()));
+
+    // assert
+    List<Replay.Event> events = replay.getEvents();
+    assertEquals(5, events.size());
+    assertEquals(60, replay.getLength());
+    assertEquals(Replay.EventType.KEY_PRESSED, events.get(0).getType());
+    assertEquals(87, events.get(0).getCode());
+    assertEquals(120, events.get(2).getY());
+    assertEquals(1, events.get(3).getCode());
+    assertEquals("spawn enemy 3 4", events.get(4).getCommand());
+
+    assertEquals(events.size(), reread.getEvents().size());
+    for (int i = 0; i < events.size(); i++) {
+      assertEquals(events.get(i).toString(), reread.getEvents().get(i).toString());
+    }
+  }
+
+  @Test
+  public void testEventsAreOrderedByTick() {
+    // arrange
+    Replay replay = new Replay();
+
+    // act
+    replay.add(Replay.Event.command(10, "first"));
+    replay.add(Replay.Event.command(5, "early"));
+    replay.add(Replay.Event.command(10, "second"));
+
+    // assert
+    assertEquals("early", replay.getEvents().get(0).getCommand());
+    assertEquals("first", replay.getEvents().get(1).getCommand());
+    assertEquals("second", replay.getEvents().get(2).getCommand());
+  }
+
+  @Test
+  public void testInvalidEvent() {
+    assertThrows(IOException.class, () -> Replay.read(new StringReader("10 jump 1")));
+    assertThrows(IOException.class, () -> Replay.read(new StringReader("x key_pressed 1")));
+    assertThrows(IOException.class, () -> Replay.read(new StringReader("10 mouse_pressed 1 2")));
+  }
+
+  @Test
+  public void testStepUsesExpectedDelta() {
+    // arrange
+    UpdateLoop loop = new UpdateLoop("test", 50);
+    int[] updates = new int[1];
+    loop.attach(() -> updates[0]++);
+
+    // act
+    loop.step();
+    loop.step();
+
+    // assert
+    assertEquals(2, loop.getTicks());
+    assertEquals(2, updates[0]);
+    assertEquals(20, loop.getDeltaTime());
+  }
+}
@@ -0,0 +1,96 @@
+package de.gurkenlabs.litiengine;
+
+import static de.gurkenlabs.litiengine.EnvironmentSimulationTests.createSimulation;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class SimulationSchedulerTests {
+  private SimulationScheduler scheduler;
+
+  @BeforeEach
+  public void setup() {
+    this.scheduler = new SimulationScheduler(2);
+  }
+
+  @AfterEach
+  public void teardown() {
+    this.scheduler.terminate();
+  }
+
+  @Test
+  public void testSimulationsAreLoadedAndTickedOnWorkers() {
+    EnvironmentSimulation first = createSimulation("first", 100);
+    EnvironmentSimulation second = createSimulation("second", 100);
+    Set<String> threads = ConcurrentHashMap.newKeySet();
+    first.getLoop().attach(() -> threads.add(Thread.currentThread().getName()));
+
+    this.scheduler.add(first);
+    this.scheduler.add(second);
+    this.scheduler.add(first);
+    assertEquals(2, this.scheduler.getSimulations().size());
+
+    waitFor(() -> first.getEnvironment().isLoaded() && second.getEnvironment().isLoaded());
+    assertEquals(0, first.getLoop().getTicks());
+
+    this.scheduler.start();
+    waitFor(() -> first.getLoop().getTicks() >= 5 && second.getLoop().getTicks() >= 5);
+
+    assertFalse(threads.isEmpty());
+    for (String thread : threads) {
+      assertTrue(thread.startsWith("Simulation Worker #"));
+    }
+  }
+
+  @Test
+  public void testRemovedSimulationsAreUnloaded() throws InterruptedException {
+    EnvironmentSimulation simulation = createSimulation("removed", 100);
+    this.scheduler.add(simulation);
+    this.scheduler.start();
+    waitFor(() -> simulation.getLoop().getTicks() >= 2);
+
+    this.scheduler.remove(simulation);
+    waitFor(() -> !simulation.getEnvironment().isLoaded());
+    assertEquals(Collections.emptySet(), this.scheduler.getSimulations());
+
+    // no further ticks are processed once a tick that was in progress has finished
+    Thread.sleep(50);
+    long ticks = simulation.getLoop().getTicks();
+    Thread.sleep(100);
+    assertEquals(ticks, simulation.getLoop().getTicks());
+  }
+
+  @Test
+  public void testTerminateStopsTicks() throws InterruptedException {
+    EnvironmentSimulation simulation = createSimulation("terminated", 100);
+    this.scheduler.add(simulation);
+    this.scheduler.start();
+    waitFor(() -> simulation.getLoop().getTicks() >= 2);
+
+    this.scheduler.terminate();
+    Thread.sleep(50);
+    long ticks = simulation.getLoop().getTicks();
+    Thread.sleep(100);
+
+    assertEquals(ticks, simulation.getLoop().getTicks());
+    assertTrue(simulation.getEnvironment().isLoaded());
+  }
+
+  private static void waitFor(BooleanSupplier condition) {
+    final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+    while (!condition.getAsBoolean()) {
+      assertTrue(System.nanoTime() < deadline, "The condition wasn't met in time.");
+      Thread.yield();
+    }
+  }
+}
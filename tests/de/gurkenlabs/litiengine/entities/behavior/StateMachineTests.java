@@ -0,0 +1,120 @@
+package de.gurkenlabs.litiengine.entities.behavior;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class StateMachineTests {
+
+  @Test
+  public void testTransitionsAreEvaluatedByPriority() {
+    List<Transition> evaluated = new ArrayList<>();
+    TestState idle = new TestState("idle");
+    TestState walk = new TestState("walk");
+    TestTransition low = new TestTransition(2, walk, evaluated);
+    TestTransition high = new TestTransition(1, walk, evaluated);
+    idle.getTransitions().add(low);
+    idle.getTransitions().add(high);
+
+    StateMachine machine = new StateMachine();
+    machine.setState(idle);
+    machine.update();
+
+    assertEquals(Arrays.asList(high, low), evaluated);
+    assertEquals(2, idle.getEvaluations());
+
+    // the transition table is sorted again when a priority changes
+    evaluated.clear();
+    low.setPriority(0);
+    machine.update();
+    assertEquals(Arrays.asList(low, high), evaluated);
+
+    // and when the transitions of the state change
+    evaluated.clear();
+    idle.getTransitions().remove(low);
+    machine.update();
+    assertEquals(Arrays.asList(high), evaluated);
+
+    high.fulfilled = true;
+    machine.update();
+    assertSame(walk, machine.getCurrentState());
+  }
+
+  @Test
+  public void testEventDrivenMachineOnlyEvaluatesSignaledTransitions() {
+    List<Transition> evaluated = new ArrayList<>();
+    TestState idle = new TestState("idle");
+    TestState walk = new TestState("walk");
+    TestTransition signaled = new TestTransition(1, walk, evaluated);
+    signaled.eventDriven = true;
+    TestTransition polled = new TestTransition(2, walk, evaluated);
+    idle.getTransitions().add(signaled);
+    idle.getTransitions().add(polled);
+
+    StateMachine machine = new StateMachine();
+    machine.setEventDriven(true);
+    machine.setState(idle);
+
+    // all transitions are evaluated once after the state has been entered
+    machine.update();
+    assertEquals(Arrays.asList(signaled, polled), evaluated);
+    assertEquals(1, signaled.subscriptions);
+
+    evaluated.clear();
+    machine.update();
+    assertEquals(Arrays.asList(polled), evaluated);
+    assertEquals(1, idle.getSkippedEvaluations());
+
+    evaluated.clear();
+    signaled.fulfilled = true;
+    signaled.signal();
+    machine.update();
+    assertEquals(Arrays.asList(signaled), evaluated);
+    assertSame(walk, machine.getCurrentState());
+    assertEquals(1, signaled.subscriptions);
+    assertEquals(4, idle.getEvaluations());
+
+    idle.resetEvaluations();
+    assertEquals(0, idle.getEvaluations());
+    assertEquals(0, idle.getSkippedEvaluations());
+  }
+
+  private static class TestState extends State {
+    private TestState(String name) {
+      super(name);
+    }
+
+    @Override
+    protected void perform() {
+      // nothing to perform
+    }
+  }
+
+  private static class TestTransition extends Transition {
+    private final List<Transition> evaluated;
+    private boolean fulfilled;
+    private boolean eventDriven;
+    private int subscriptions;
+
+    private TestTransition(int priority, State state, List<Transition> evaluated) {
+      super(priority, state);
+      this.evaluated = evaluated;
+    }
+
+    @Override
+    protected boolean conditionsFullfilled() {
+      this.evaluated.add(this);
+      return this.fulfilled;
+    }
+
+    @Override
+    protected boolean subscribe() {
+      this.subscriptions++;
+      return this.eventDriven;
+    }
+  }
+}
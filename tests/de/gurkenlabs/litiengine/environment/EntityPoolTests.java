@@ -0,0 +1,103 @@
+package de.gurkenlabs.litiengine.environment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.geom.Point2D;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import de.gurkenlabs.litiengine.EnvironmentSimulation;
+import de.gurkenlabs.litiengine.EnvironmentSimulationTests;
+import de.gurkenlabs.litiengine.entities.CollisionBox;
+import de.gurkenlabs.litiengine.entities.IEntity;
+import de.gurkenlabs.litiengine.environment.tilemap.MapObjectType;
+import de.gurkenlabs.litiengine.environment.tilemap.xml.Blueprint;
+import de.gurkenlabs.litiengine.environment.tilemap.xml.MapObject;
+
+public class EntityPoolTests {
+  private EnvironmentSimulation simulation;
+
+  @BeforeEach
+  public void initEnvironment() {
+    // the simulation makes the environment accessible via Game.world().environment() which is required to build blueprints
+    this.simulation = EnvironmentSimulationTests.createSimulation("pool", 60);
+  }
+
+  @Test
+  public void testReleasedEntitiesAreRecycled() {
+    this.simulation.run(() -> {
+      Environment environment = this.simulation.getEnvironment();
+      EntityPool pool = environment.getEntityPool();
+      Blueprint blueprint = createBlueprint();
+
+      IEntity first = pool.spawn(blueprint, 10, 10).iterator().next();
+      assertTrue(first instanceof CollisionBox);
+      assertTrue(pool.isPooled(first));
+      assertTrue(environment.contains(first));
+
+      pool.release(first);
+      assertFalse(environment.contains(first));
+      assertEquals(1, pool.getAvailable(blueprint));
+
+      IEntity second = pool.spawn(blueprint, 100, 50).iterator().next();
+      assertSame(first, second);
+      assertEquals(new Point2D.Double(100, 50), second.getLocation());
+      assertTrue(environment.contains(second));
+      assertEquals(0, pool.getAvailable(blueprint));
+
+      assertEquals(1, pool.getHits());
+      assertEquals(1, pool.getMisses());
+      assertEquals(0.5, pool.getHitRate(blueprint), 0.0001);
+    });
+  }
+
+  @Test
+  public void testCapacity() {
+    this.simulation.run(() -> {
+      EntityPool pool = this.simulation.getEnvironment().getEntityPool();
+      Blueprint blueprint = createBlueprint();
+      pool.setCapacity(1);
+
+      IEntity first = pool.spawn(blueprint, 0, 0).iterator().next();
+      IEntity second = pool.spawn(blueprint, 0, 0).iterator().next();
+      pool.release(first);
+      pool.release(second);
+
+      assertEquals(1, pool.getAvailable(blueprint));
+      assertEquals(1, pool.getDiscarded());
+      assertFalse(pool.isPooled(second));
+    });
+  }
+
+  @Test
+  public void testRemovedEntitiesAreNotTracked() {
+    this.simulation.run(() -> {
+      Environment environment = this.simulation.getEnvironment();
+      EntityPool pool = environment.getEntityPool();
+      Blueprint blueprint = createBlueprint();
+
+      IEntity entity = pool.spawn(blueprint, 0, 0).iterator().next();
+      environment.remove(entity);
+      assertFalse(pool.isPooled(entity));
+
+      // the entity isn't returned to the pool if it is released afterwards
+      pool.release(entity);
+      assertEquals(0, pool.getAvailable(blueprint));
+      assertNotSame(entity, pool.spawn(blueprint, 0, 0).iterator().next());
+      assertEquals(2, pool.getMisses());
+    });
+  }
+
+  private static Blueprint createBlueprint() {
+    MapObject box = new MapObject();
+    box.setType(MapObjectType.COLLISIONBOX.toString());
+    box.setWidth(8);
+    box.setHeight(8);
+    return new Blueprint("bullet", box);
+  }
+}
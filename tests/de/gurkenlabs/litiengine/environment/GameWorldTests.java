@@ -1,5 +1,8 @@
 package de.gurkenlabs.litiengine.environment;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -7,6 +10,9 @@ import de.gurkenlabs.litiengine.Game;
 import de.gurkenlabs.litiengine.GameTest;
 import de.gurkenlabs.litiengine.environment.tilemap.IMap;
 import de.gurkenlabs.litiengine.resources.Resources;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -163,6 +169,43 @@ public class GameWorldTests {
     assertTrue(mapUnloaded.wasCalled);
   }
 
+  @Test
+  public void testPrepareEnvironment() throws Exception {
+    // arrange
+    Status mapInitialized = new Status();
+    Game.world()
+        .addListener(
+            "test-mapobject",
+            new EnvironmentListener() {
+              @Override
+              public void initialized(Environment environment) {
+                mapInitialized.wasCalled = true;
+              }
+            });
+    IMap map =
+        Resources.maps()
+            .get("tests/de/gurkenlabs/litiengine/environment/tilemap/xml/test-mapobject.tmx");
+    List<Double> progress = new CopyOnWriteArrayList<>();
+
+    // act
+    Environment env =
+        Game.world().prepareEnvironment(map, (e, p) -> progress.add(p)).get(10, TimeUnit.SECONDS);
+
+    // assert
+    assertNotNull(env);
+    assertTrue(mapInitialized.wasCalled);
+    assertFalse(env.isLoaded());
+    assertNotEquals(env, Game.world().environment());
+    assertFalse(env.getEntities().isEmpty());
+    assertEquals(env, Game.world().getEnvironment("test-mapobject"));
+    assertEquals(0.0, progress.get(0), 0.0001);
+    assertEquals(1.0, progress.get(progress.size() - 1), 0.0001);
+
+    Game.world().loadEnvironment(env);
+    assertTrue(env.isLoaded());
+    assertEquals(env, Game.world().environment());
+  }
+
   private class Status {
     boolean wasCalled = false;
   }
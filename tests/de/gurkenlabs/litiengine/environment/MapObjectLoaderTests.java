@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -13,6 +14,8 @@ import de.gurkenlabs.litiengine.Align;
 import de.gurkenlabs.litiengine.Game;
 import de.gurkenlabs.litiengine.GameTest;
 import de.gurkenlabs.litiengine.Valign;
+import de.gurkenlabs.litiengine.attributes.Attribute;
+import de.gurkenlabs.litiengine.attributes.RangeAttribute;
 import de.gurkenlabs.litiengine.entities.CollisionBox;
 import de.gurkenlabs.litiengine.entities.Creature;
 import de.gurkenlabs.litiengine.entities.Entity;
@@ -395,6 +398,106 @@ public class MapObjectLoaderTests {
     }
   }
 
+  @Test
+  public void testTmxPropertyBinder() {
+    IMapObject mapObject = mock(IMapObject.class);
+    when(mapObject.getStringValue("foo", null)).thenReturn("foovalue");
+    when(mapObject.getStringValue("bar", null)).thenReturn("invalid");
+    when(mapObject.getStringValue("speed", null)).thenReturn("1.5");
+    when(mapObject.getStringValue("align", null)).thenReturn("right");
+    when(mapObject.getStringValue("names", null)).thenReturn("a,b");
+    when(mapObject.getStringValue("material", null)).thenReturn("wood");
+    when(mapObject.getStringValue("velocity", null)).thenReturn("2.5");
+    when(mapObject.getStringValue("health", null)).thenReturn("50");
+
+    BoundEntity entity = new BoundEntity(mapObject);
+    TmxPropertyBinder binder = TmxPropertyBinder.get(BoundEntity.class);
+    binder.bind(entity, mapObject);
+    binder.afterTmxUnmarshal(entity, mapObject);
+
+    assertSame(binder, TmxPropertyBinder.get(BoundEntity.class));
+    assertEquals("foovalue", entity.getFoo());
+    assertEquals(0, entity.getBar());
+    assertEquals(1.5f, entity.getSpeed());
+    assertTrue(entity.isSpeedSetterCalled());
+    assertEquals(Align.RIGHT, entity.getAlign());
+    assertArrayEquals(new String[] {"a", "b"}, entity.getNames());
+    assertEquals(Material.WOOD, entity.getMaterial());
+    assertEquals(2.5f, entity.getVelocity().getBase().floatValue());
+    assertEquals(50, entity.getHealth().get().intValue());
+    assertEquals(100, entity.getHealth().getMax().intValue());
+    assertTrue(entity.isUnmarshalled());
+  }
+
+  static class BoundEntity extends CustomEntity {
+    @TmxProperty(name = "speed")
+    private float speed;
+
+    @TmxProperty(name = "align")
+    private Align align;
+
+    @TmxProperty(name = "names")
+    private String[] names;
+
+    @TmxProperty(name = "material")
+    private Material material;
+
+    @TmxProperty(name = "velocity")
+    private final Attribute<Float> velocity = new Attribute<>(1f);
+
+    @TmxProperty(name = "health")
+    private final RangeAttribute<Integer> health = new RangeAttribute<>(100, 0, 10);
+
+    private boolean speedSetterCalled;
+    private boolean unmarshalled;
+
+    public BoundEntity(IMapObject mo) {
+      super(mo);
+    }
+
+    public float getSpeed() {
+      return this.speed;
+    }
+
+    public void setSpeed(float speed) {
+      this.speed = speed;
+      this.speedSetterCalled = true;
+    }
+
+    public boolean isSpeedSetterCalled() {
+      return this.speedSetterCalled;
+    }
+
+    public Align getAlign() {
+      return this.align;
+    }
+
+    public String[] getNames() {
+      return this.names;
+    }
+
+    public Material getMaterial() {
+      return this.material;
+    }
+
+    public Attribute<Float> getVelocity() {
+      return this.velocity;
+    }
+
+    public RangeAttribute<Integer> getHealth() {
+      return this.health;
+    }
+
+    public boolean isUnmarshalled() {
+      return this.unmarshalled;
+    }
+
+    @SuppressWarnings("unused")
+    private void afterTmxUnmarshal(IMapObject mapObject) {
+      this.unmarshalled = true;
+    }
+  }
+
   @Test
   public void testMapObjectType() {
     String mapObject1 = null;
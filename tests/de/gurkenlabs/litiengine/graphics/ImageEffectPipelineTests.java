@@ -0,0 +1,166 @@
+package de.gurkenlabs.litiengine.graphics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import de.gurkenlabs.litiengine.Game;
+import de.gurkenlabs.litiengine.GameTest;
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class ImageEffectPipelineTests {
+  @BeforeAll
+  public static void setup() {
+    Game.init(Game.COMMANDLINE_ARG_NOGUI);
+  }
+
+  @AfterAll
+  public static void terminateGame() {
+    GameTest.terminateGame();
+  }
+
+  @Test
+  public void testPixelEffectsAreAppliedInOrder() {
+    BufferedImage image = createImage();
+    ImageEffectPipeline pipeline = new ImageEffectPipeline();
+
+    BufferedImage result =
+        pipeline.apply(
+            image,
+            Arrays.asList(
+                new OverlayPixelsImageEffect(0, Color.RED),
+                new OverlayPixelsImageEffect(0, new Color(0, 0, 255, 0))));
+
+    assertEquals(Color.RED.getRGB(), result.getRGB(0, 0));
+    assertEquals(0, result.getRGB(1, 0));
+    assertEquals(0xFF000000, image.getRGB(0, 0));
+  }
+
+  @Test
+  public void testOverlayBlendsTranslucentColor() {
+    OverlayPixelsImageEffect effect = new OverlayPixelsImageEffect(0, new Color(255, 0, 0, 128));
+
+    int result = effect.filter(0xFF0000FF);
+    assertEquals(0xFF, result >>> 24);
+    assertEquals(128, (result >> 16) & 0xFF, 1);
+    assertEquals(0, (result >> 8) & 0xFF);
+    assertEquals(127, result & 0xFF, 1);
+    assertEquals(0, effect.filter(0x00FFFFFF));
+  }
+
+  @Test
+  public void testResultsAreMemoized() {
+    BufferedImage image = createImage();
+    ImageEffectPipeline pipeline = new ImageEffectPipeline();
+
+    BufferedImage first = pipeline.apply(image, overlay(Color.RED));
+    BufferedImage second = pipeline.apply(image, overlay(Color.RED));
+    BufferedImage other = pipeline.apply(image, overlay(Color.GREEN));
+
+    assertSame(first, second);
+    assertNotSame(first, other);
+    assertEquals(2, pipeline.size());
+
+    pipeline.clear();
+    assertEquals(0, pipeline.size());
+  }
+
+  @Test
+  public void testEffectsWithoutCacheKeyAreNotMemoized() {
+    BufferedImage image = createImage();
+    ImageEffectPipeline pipeline = new ImageEffectPipeline();
+    ImageEffect effect =
+        new ImageEffect("custom") {
+          @Override
+          public BufferedImage apply(BufferedImage image) {
+            return new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
+          }
+        };
+
+    BufferedImage first = pipeline.apply(image, Collections.singletonList(effect));
+    BufferedImage second = pipeline.apply(image, Collections.singletonList(effect));
+
+    assertNotSame(first, second);
+    assertEquals(0, pipeline.size());
+  }
+
+  @Test
+  public void testExpiredResultsAreDiscarded() {
+    BufferedImage image = createImage();
+    ImageEffectPipeline pipeline = new ImageEffectPipeline();
+    ExpiringOverlay expiring = new ExpiringOverlay();
+
+    BufferedImage first = pipeline.apply(image, Collections.singletonList(expiring));
+    assertSame(first, pipeline.apply(image, Collections.singletonList(expiring)));
+    assertEquals(1, pipeline.size());
+
+    // the result is processed again once the time to live of its effect has been reached
+    expiring.expired = true;
+    ExpiringOverlay renewed = new ExpiringOverlay();
+    BufferedImage second = pipeline.apply(image, Collections.singletonList(renewed));
+    assertNotSame(first, second);
+    assertEquals(Color.RED.getRGB(), second.getRGB(0, 0));
+    assertEquals(1, pipeline.size());
+
+    // effects without a time to live never expire their results
+    BufferedImage permanent = pipeline.apply(image, overlay(Color.GREEN));
+    renewed.expired = true;
+    assertSame(permanent, pipeline.apply(image, overlay(Color.GREEN)));
+    assertEquals(1, pipeline.size());
+  }
+
+  @Test
+  public void testRotationsAreMemoizedInWholeDegrees() {
+    assertEquals(
+        new RotationImageEffect(0, 10).getCacheKey(),
+        new RotationImageEffect(0, 10.3f).getCacheKey());
+    assertEquals(
+        new RotationImageEffect(0, 10).getCacheKey(),
+        new RotationImageEffect(0, 370).getCacheKey());
+    assertEquals(
+        new RotationImageEffect(0, 359.7f).getCacheKey(),
+        new RotationImageEffect(0, -0.2f).getCacheKey());
+    assertNotEquals(
+        new RotationImageEffect(0, 10).getCacheKey(),
+        new RotationImageEffect(0, 11).getCacheKey());
+
+    BufferedImage image = createImage();
+    ImageEffectPipeline pipeline = new ImageEffectPipeline();
+    for (float angle = 45; angle < 46; angle += 0.1f) {
+      pipeline.apply(image, Collections.singletonList(new RotationImageEffect(0, angle)));
+    }
+
+    assertEquals(2, pipeline.size());
+  }
+
+  private static List<ImageEffect> overlay(Color color) {
+    return Collections.singletonList(new OverlayPixelsImageEffect(0, color));
+  }
+
+  private static class ExpiringOverlay extends OverlayPixelsImageEffect {
+    private boolean expired;
+
+    private ExpiringOverlay() {
+      super(1000, Color.RED);
+    }
+
+    @Override
+    public boolean timeToLiveReached() {
+      return this.expired;
+    }
+  }
+
+  private static BufferedImage createImage() {
+    BufferedImage image = new BufferedImage(2, 1, BufferedImage.TYPE_INT_ARGB);
+    image.setRGB(0, 0, 0xFF000000);
+    return image;
+  }
+}
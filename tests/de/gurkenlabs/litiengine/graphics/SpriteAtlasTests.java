@@ -0,0 +1,136 @@
+package de.gurkenlabs.litiengine.graphics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+
+public class SpriteAtlasTests {
+
+  @Test
+  public void testSpritesAreTrimmedAndPacked() {
+    Spritesheet spritesheet = new Spritesheet(createSpritesheetImage(), "atlas-trim.png", 8, 8);
+    SpriteAtlas atlas = SpriteAtlas.pack(Arrays.asList(spritesheet), Collections.emptyList());
+
+    assertEquals(1, atlas.getPages().size());
+    BufferedImage page = atlas.getPages().get(0);
+    assertEquals(16, page.getWidth());
+    assertEquals(4, page.getHeight());
+
+    // the second sprite only has a 2x3 opaque area at (3, 4)
+    SpriteRegion region = spritesheet.getRegion(1);
+    assertNotNull(region);
+    assertSame(spritesheet.getSprite(1), region.getSource());
+    assertEquals(2, region.getWidth());
+    assertEquals(3, region.getHeight());
+    assertEquals(3, region.getTrimX());
+    assertEquals(4, region.getTrimY());
+    assertEquals(8, region.getOriginalWidth());
+    assertEquals(8, region.getOriginalHeight());
+    assertSame(region, atlas.getRegion(spritesheet, 1));
+
+    // the third sprite is fully transparent
+    assertNull(spritesheet.getSprite(2));
+    assertNull(spritesheet.getRegion(2));
+
+    atlas.release();
+    assertNull(spritesheet.getRegion(1));
+  }
+
+  @Test
+  public void testRegionRendersLikeSprite() {
+    Spritesheet spritesheet = new Spritesheet(createSpritesheetImage(), "atlas-render.png", 8, 8);
+    SpriteAtlas.pack(Arrays.asList(spritesheet), Collections.emptyList());
+
+    for (int i = 0; i < 2; i++) {
+      BufferedImage expected = new BufferedImage(20, 20, BufferedImage.TYPE_INT_ARGB);
+      Graphics2D g = expected.createGraphics();
+      ImageRenderer.render(g, spritesheet.getSprite(i), 5, 7);
+      g.dispose();
+
+      BufferedImage actual = new BufferedImage(20, 20, BufferedImage.TYPE_INT_ARGB);
+      g = actual.createGraphics();
+      ImageRenderer.render(g, spritesheet.getRegion(i), 5, 7);
+      g.dispose();
+
+      assertPixelsEqual(expected, actual);
+    }
+  }
+
+  @Test
+  public void testPagesDoNotExceedMaximumSize() {
+    BufferedImage image = new BufferedImage(120, 120, BufferedImage.TYPE_INT_ARGB);
+    Graphics2D g = image.createGraphics();
+    g.setColor(Color.RED);
+    g.fillRect(0, 0, 120, 120);
+    g.dispose();
+
+    Spritesheet spritesheet = new Spritesheet(image, "atlas-pages.png", 30, 30);
+    SpriteAtlas atlas = SpriteAtlas.pack(Arrays.asList(spritesheet), Collections.emptyList(), 64);
+
+    // 2x2 sprites (including their padding) fit on a single page
+    assertEquals(4, atlas.getPages().size());
+    for (BufferedImage page : atlas.getPages()) {
+      assertEquals(64, page.getWidth());
+      assertEquals(64, page.getHeight());
+    }
+
+    for (int i = 0; i < spritesheet.getTotalNumberOfSprites(); i++) {
+      assertNotNull(spritesheet.getRegion(i));
+    }
+  }
+
+  @Test
+  public void testChangingSpriteSizeResetsSprites() {
+    Spritesheet spritesheet = new Spritesheet(createSpritesheetImage(), "atlas-resize.png", 8, 8);
+    SpriteAtlas.pack(Arrays.asList(spritesheet), Collections.emptyList());
+    assertNull(spritesheet.getSprite(2));
+
+    spritesheet.setSpriteWidth(12);
+
+    assertEquals(2, spritesheet.getTotalNumberOfSprites());
+    assertNull(spritesheet.getRegion(0));
+    assertEquals(12, spritesheet.getSprite(1).getWidth());
+  }
+
+  @Test
+  public void testSpritesAreCopiedFromSpritesheet() {
+    BufferedImage image = createSpritesheetImage();
+    Spritesheet spritesheet = new Spritesheet(image, "atlas-copy.png", 8, 8);
+
+    BufferedImage sprite = spritesheet.getSprite(1);
+    assertNotNull(sprite);
+    assertSame(sprite, spritesheet.getSprite(1));
+    assertPixelsEqual(image.getSubimage(8, 0, 8, 8), sprite);
+
+    // the sprite doesn't share the raster of the spritesheet
+    image.setRGB(11, 4, 0);
+    assertEquals(Color.BLUE.getRGB(), sprite.getRGB(3, 4));
+  }
+
+  private static BufferedImage createSpritesheetImage() {
+    BufferedImage image = new BufferedImage(24, 8, BufferedImage.TYPE_INT_ARGB);
+    Graphics2D g = image.createGraphics();
+    g.setColor(Color.RED);
+    g.fillRect(0, 0, 8, 4);
+    g.setColor(Color.BLUE);
+    g.fillRect(11, 4, 2, 3);
+    g.dispose();
+    return image;
+  }
+
+  private static void assertPixelsEqual(BufferedImage expected, BufferedImage actual) {
+    for (int y = 0; y < expected.getHeight(); y++) {
+      for (int x = 0; x < expected.getWidth(); x++) {
+        assertEquals(expected.getRGB(x, y), actual.getRGB(x, y));
+      }
+    }
+  }
+}
@@ -0,0 +1,133 @@
+package de.gurkenlabs.litiengine.graphics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.gurkenlabs.litiengine.Align;
+import de.gurkenlabs.litiengine.Valign;
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.Shape;
+import java.awt.font.GlyphVector;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class TextRendererTests {
+  private static final Font FONT = new Font(Font.SANS_SERIF, Font.PLAIN, 16);
+
+  @AfterEach
+  public void resetCache() {
+    TextRenderer.setCacheCapacity(TextCache.DEFAULT_CAPACITY);
+    TextRenderer.clearCache();
+  }
+
+  @Test
+  public void testOutlinesAreCached() {
+    BufferedImage image = new BufferedImage(100, 50, BufferedImage.TYPE_INT_ARGB);
+    Graphics2D g = createGraphics(image);
+
+    TextRenderer.renderWithOutline(g, "abc", 10, 10, Color.BLACK, 2f, false);
+    TextRenderer.renderWithOutline(g, "abc", 20, 20, Color.BLACK, 2f, false);
+    g.dispose();
+
+    TextCache cache = TextRenderer.getCache();
+    assertEquals(1, cache.getMisses());
+    assertEquals(1, cache.getHits());
+  }
+
+  @Test
+  public void testCacheIsBounded() {
+    TextRenderer.setCacheCapacity(2);
+    BufferedImage image = new BufferedImage(10, 10, BufferedImage.TYPE_INT_ARGB);
+    Graphics2D g = createGraphics(image);
+
+    TextRenderer.getBounds(g, "a");
+    TextRenderer.getBounds(g, "b");
+    TextRenderer.getBounds(g, "c");
+    TextRenderer.getBounds(g, "c");
+    g.dispose();
+
+    assertEquals(2, TextRenderer.getCache().size());
+    assertEquals(1, TextRenderer.getCache().getHits());
+  }
+
+  @Test
+  public void testLinebreaksWithMultipleLines() {
+    BufferedImage image = new BufferedImage(100, 100, BufferedImage.TYPE_INT_ARGB);
+    Graphics2D g = createGraphics(image);
+
+    String text = "first line" + System.lineSeparator() + System.lineSeparator() + "third line";
+    TextRenderer.renderWithLinebreaks(g, text, 0, 0, 50);
+    g.dispose();
+
+    TextCache.WrappedText wrapped =
+        TextRenderer.getCache().getWrapped(FONT, g.getFontRenderContext(), text, 50);
+    assertTrue(wrapped.getLines().length >= 3);
+  }
+
+  @Test
+  public void testNumbersAreRenderedFromAtlas() {
+    BufferedImage atlas = new BufferedImage(100, 50, BufferedImage.TYPE_INT_ARGB);
+    Graphics2D g = createGraphics(atlas);
+    TextRenderer.renderWithOutline(
+        g, "1024", 10, 10, 80, 40, Color.BLACK, 2f, Align.LEFT, Valign.TOP, false);
+    g.dispose();
+
+    // the numeric text doesn't need an entry in the layout cache
+    assertEquals(0, TextRenderer.getCache().size());
+
+    // compare with the outline of a glyph vector of the whole string
+    BufferedImage vector = new BufferedImage(100, 50, BufferedImage.TYPE_INT_ARGB);
+    g = createGraphics(vector);
+    GlyphVector glyphVector = FONT.createGlyphVector(g.getFontRenderContext(), "1024");
+    Rectangle2D bounds = glyphVector.getVisualBounds();
+    Shape outline =
+        AffineTransform.getTranslateInstance(10, 10 + bounds.getHeight())
+            .createTransformedShape(glyphVector.getOutline());
+    g.setColor(Color.BLACK);
+    g.setStroke(new BasicStroke(2f));
+    g.draw(outline);
+    g.setColor(Color.WHITE);
+    g.fill(outline);
+    g.dispose();
+
+    // glyphs from the atlas are snapped to device pixels, so they may be off by a pixel
+    Rectangle2D atlasArea = getOpaqueArea(atlas);
+    Rectangle2D vectorArea = getOpaqueArea(vector);
+    assertTrue(Math.abs(atlasArea.getMinX() - vectorArea.getMinX()) <= 1);
+    assertTrue(Math.abs(atlasArea.getMinY() - vectorArea.getMinY()) <= 1);
+    assertTrue(Math.abs(atlasArea.getMaxX() - vectorArea.getMaxX()) <= 1);
+    assertTrue(Math.abs(atlasArea.getMaxY() - vectorArea.getMaxY()) <= 1);
+  }
+
+  private static Rectangle2D getOpaqueArea(BufferedImage image) {
+    Rectangle2D area = null;
+    for (int x = 0; x < image.getWidth(); x++) {
+      for (int y = 0; y < image.getHeight(); y++) {
+        if (image.getRGB(x, y) != 0) {
+          Rectangle2D pixel = new Rectangle2D.Double(x, y, 1, 1);
+          if (area == null) {
+            area = pixel;
+          } else {
+            area.add(pixel);
+          }
+        }
+      }
+    }
+
+    assertTrue(area != null);
+    return area;
+  }
+
+  private static Graphics2D createGraphics(BufferedImage image) {
+    Graphics2D g = image.createGraphics();
+    g.setFont(FONT);
+    g.setColor(Color.WHITE);
+    return g;
+  }
+}
@@ -0,0 +1,206 @@
+package de.gurkenlabs.litiengine.gui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.gurkenlabs.litiengine.Game;
+import de.gurkenlabs.litiengine.input.Input;
+import java.awt.event.InputEvent;
+import java.awt.event.MouseEvent;
+import java.awt.geom.Point2D;
+import java.util.ArrayList;
+import java.util.List;
+import javax.swing.JLabel;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class MouseEventDispatcherTests {
+  private TestComponent root;
+  private TestComponent panel;
+  private TestComponent button;
+  private TestComponent overlay;
+  private MouseEventDispatcher dispatcher;
+
+  @BeforeAll
+  public static void initialize() {
+    // init required Game environment
+    Game.init(Game.COMMANDLINE_ARG_NOGUI);
+
+    // init Mouse
+    Input.InputGameAdapter adapter = new Input.InputGameAdapter();
+    adapter.initialized();
+  }
+
+  @BeforeEach
+  public void initComponents() {
+    this.root = new TestComponent(0, 0, 0, 0);
+    this.panel = new TestComponent(0, 0, 200, 200);
+    this.button = new TestComponent(10, 10, 50, 20);
+    this.overlay = new TestComponent(150, 150, 100, 100);
+
+    this.panel.getComponents().add(this.button);
+    this.root.getComponents().add(this.panel);
+    this.root.getComponents().add(this.overlay);
+
+    this.dispatcher = new MouseEventDispatcher(this.root);
+    this.dispatcher.adopt(this.root);
+    this.root.prepare();
+  }
+
+  @Test
+  public void testHitTestFindsTopMostComponent() {
+    assertSame(this.button, this.dispatcher.getTarget(new Point2D.Double(20, 20)));
+    assertSame(this.panel, this.dispatcher.getTarget(new Point2D.Double(100, 100)));
+    assertSame(this.overlay, this.dispatcher.getTarget(new Point2D.Double(175, 175)));
+    assertNull(this.dispatcher.getTarget(new Point2D.Double(300, 300)));
+
+    this.overlay.setVisible(false);
+    assertSame(this.panel, this.dispatcher.getTarget(new Point2D.Double(175, 175)));
+  }
+
+  @Test
+  public void testSpatialIndexIsInvalidated() {
+    this.dispatcher.setSpatialIndexEnabled(true);
+    assertSame(this.button, this.dispatcher.getTarget(new Point2D.Double(20, 20)));
+
+    this.button.setX(100);
+    assertSame(this.panel, this.dispatcher.getTarget(new Point2D.Double(20, 20)));
+    assertSame(this.button, this.dispatcher.getTarget(new Point2D.Double(110, 20)));
+  }
+
+  @Test
+  public void testSpatialIndexIsUpdatedWhenComponentsMove() {
+    this.dispatcher.setSpatialIndexEnabled(true);
+    assertSame(this.button, this.dispatcher.getTarget(new Point2D.Double(20, 20)));
+    Object index = this.dispatcher.getSpatialIndex();
+
+    for (int x = 10; x <= 300; x += 10) {
+      this.button.setX(x);
+      assertSame(this.button, this.dispatcher.getTarget(new Point2D.Double(x + 5, 20)));
+      assertSame(
+          x <= 200 ? this.panel : null, this.dispatcher.getTarget(new Point2D.Double(x - 5, 20)));
+    }
+
+    this.panel.setY(100);
+    assertSame(this.button, this.dispatcher.getTarget(new Point2D.Double(305, 115)));
+    assertSame(this.overlay, this.dispatcher.getTarget(new Point2D.Double(175, 175)));
+
+    this.overlay.setVisible(false);
+    assertSame(this.panel, this.dispatcher.getTarget(new Point2D.Double(175, 175)));
+    this.panel.setVisible(false);
+    assertNull(this.dispatcher.getTarget(new Point2D.Double(305, 115)));
+
+    assertSame(index, this.dispatcher.getSpatialIndex());
+  }
+
+  @Test
+  public void testAddedComponentsAreAdopted() {
+    TestComponent child = new TestComponent(20, 20, 10, 10);
+    TestComponent grandChild = new TestComponent(22, 22, 5, 5);
+    child.getComponents().add(grandChild);
+
+    this.dispatcher.setSpatialIndexEnabled(true);
+    assertSame(this.button, this.dispatcher.getTarget(new Point2D.Double(23, 23)));
+
+    this.button.getComponents().add(child);
+    child.prepare();
+    assertSame(this.dispatcher, child.getMouseEventDispatcher());
+    assertSame(this.dispatcher, grandChild.getMouseEventDispatcher());
+    assertSame(grandChild, this.dispatcher.getTarget(new Point2D.Double(23, 23)));
+
+    this.button.getComponents().remove(child);
+    assertSame(this.button, this.dispatcher.getTarget(new Point2D.Double(23, 23)));
+  }
+
+  @Test
+  public void testEventsAreDeliveredToTargetAndAncestors() {
+    List<GuiComponent> handled = new ArrayList<>();
+    this.button.onMousePressed(e -> handled.add(e.getSender()));
+    this.panel.onMousePressed(e -> handled.add(e.getSender()));
+    this.overlay.onMousePressed(e -> handled.add(e.getSender()));
+
+    this.dispatcher.mousePressed(createEvent(MouseEvent.MOUSE_PRESSED, 20, 20));
+
+    assertEquals(2, handled.size());
+    assertSame(this.button, handled.get(0));
+    assertSame(this.panel, handled.get(1));
+  }
+
+  @Test
+  public void testCapturePhaseCanStopPropagation() {
+    List<GuiComponent> handled = new ArrayList<>();
+    this.panel.onMouseCapture(
+        e -> {
+          handled.add(e.getSender());
+          e.getEvent().consume();
+        });
+    this.button.onMouseCapture(e -> handled.add(e.getSender()));
+    this.button.onMousePressed(e -> handled.add(e.getSender()));
+
+    this.dispatcher.mousePressed(createEvent(MouseEvent.MOUSE_PRESSED, 20, 20));
+
+    assertEquals(1, handled.size());
+    assertSame(this.panel, handled.get(0));
+  }
+
+  @Test
+  public void testBubblePhaseCanStopPropagation() {
+    List<GuiComponent> handled = new ArrayList<>();
+    this.button.onMousePressed(
+        e -> {
+          handled.add(e.getSender());
+          e.getEvent().consume();
+        });
+    this.panel.onMousePressed(e -> handled.add(e.getSender()));
+
+    this.dispatcher.mousePressed(createEvent(MouseEvent.MOUSE_PRESSED, 20, 20));
+
+    assertEquals(1, handled.size());
+    assertSame(this.button, handled.get(0));
+  }
+
+  @Test
+  public void testHoveredComponentsAreExited() {
+    this.dispatcher.mouseMoved(createEvent(MouseEvent.MOUSE_MOVED, 20, 20));
+    assertTrue(this.button.isHovered());
+    assertTrue(this.panel.isHovered());
+
+    this.dispatcher.mouseMoved(createEvent(MouseEvent.MOUSE_MOVED, 175, 175));
+    assertFalse(this.button.isHovered());
+    assertFalse(this.panel.isHovered());
+    assertTrue(this.overlay.isHovered());
+
+    this.dispatcher.mouseExited(createEvent(MouseEvent.MOUSE_EXITED, 175, 175));
+    assertFalse(this.overlay.isHovered());
+  }
+
+  @Test
+  public void testModifiersArePreserved() {
+    int modifiers = InputEvent.SHIFT_DOWN_MASK | InputEvent.BUTTON1_DOWN_MASK;
+    List<MouseEvent> handled = new ArrayList<>();
+    this.button.onMousePressed(e -> handled.add(e.getEvent()));
+
+    this.dispatcher.mousePressed(
+        new MouseEvent(
+            new JLabel(), MouseEvent.MOUSE_PRESSED, 0, modifiers, 20, 20, 1, false,
+            MouseEvent.BUTTON1));
+
+    assertEquals(1, handled.size());
+    assertEquals(modifiers, handled.get(0).getModifiersEx());
+    assertTrue(handled.get(0).isShiftDown());
+  }
+
+  private static MouseEvent createEvent(int id, int x, int y) {
+    return new MouseEvent(new JLabel(), id, 0, 0, x, y, 1, false, MouseEvent.BUTTON1);
+  }
+
+  private class TestComponent extends GuiComponent {
+    protected TestComponent(double x, double y, double width, double height) {
+      super(x, y, width, height);
+    }
+  }
+}
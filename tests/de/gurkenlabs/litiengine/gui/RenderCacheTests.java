@@ -0,0 +1,125 @@
+package de.gurkenlabs.litiengine.gui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.gurkenlabs.litiengine.Game;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class RenderCacheTests {
+  private TestComponent panel;
+  private TestComponent label;
+
+  @BeforeAll
+  public static void initialize() {
+    // init required Game environment
+    Game.init(Game.COMMANDLINE_ARG_NOGUI);
+  }
+
+  @BeforeEach
+  public void initComponents() {
+    this.panel = new TestComponent(10, 10, 100, 50);
+    this.label = new TestComponent(20, 20, 40, 10);
+    this.panel.getComponents().add(this.label);
+    this.panel.setVisible(true);
+  }
+
+  @Test
+  public void testCacheIsOnlyUpdatedOnChange() {
+    TestComponent root = new TestComponent(0, 0, 200, 200);
+    root.getComponents().add(this.panel);
+    root.setVisible(true);
+    this.panel.setRenderCacheEnabled(true);
+
+    render(root);
+    render(root);
+    assertEquals(1, this.panel.getRenderCache().getRenderCount());
+
+    // moving the cached component doesn't change its rendering
+    this.panel.setLocation(50, 50);
+    render(root);
+    assertEquals(1, this.panel.getRenderCache().getRenderCount());
+
+    this.label.setText("changed");
+    render(root);
+    assertEquals(2, this.panel.getRenderCache().getRenderCount());
+
+    this.label.setHovered(true);
+    render(root);
+    assertEquals(3, this.panel.getRenderCache().getRenderCount());
+
+    this.label.setX(this.label.getX() + 5);
+    render(root);
+    assertEquals(4, this.panel.getRenderCache().getRenderCount());
+
+    this.panel.getAppearance().setBackgroundColor1(Color.RED);
+    render(root);
+    assertEquals(5, this.panel.getRenderCache().getRenderCount());
+
+    this.label.invalidate();
+    render(root);
+    assertEquals(6, this.panel.getRenderCache().getRenderCount());
+  }
+
+  @Test
+  public void testCachedRenderingMatchesDirectRendering() {
+    this.panel.getAppearance().setTransparentBackground(false);
+    this.panel.getAppearance().setBackgroundColor1(Color.RED);
+    this.label.getAppearance().setBackgroundColor1(Color.BLUE);
+
+    TestComponent root = new TestComponent(0, 0, 200, 200);
+    root.getComponents().add(this.panel);
+    root.setVisible(true);
+
+    BufferedImage direct = render(root);
+    this.panel.setRenderCacheEnabled(true);
+    BufferedImage cached = render(root);
+
+    assertEquals(direct.getRGB(15, 15), cached.getRGB(15, 15));
+    assertEquals(direct.getRGB(25, 25), cached.getRGB(25, 25));
+    assertEquals(direct.getRGB(150, 150), cached.getRGB(150, 150));
+  }
+
+  @Test
+  public void testDirtyRegion() {
+    assertNotNull(this.panel.pollDirtyRegion());
+    assertNull(this.panel.pollDirtyRegion());
+
+    this.label.setText("changed");
+    Rectangle2D region = this.panel.pollDirtyRegion();
+    assertNotNull(region);
+    assertTrue(region.contains(this.label.getBoundingBox()));
+    assertTrue(region.getWidth() < this.panel.getWidth());
+
+    this.label.setX(70);
+    region = this.panel.pollDirtyRegion();
+    assertTrue(region.contains(new Rectangle2D.Double(20, 20, 90, 10)));
+
+    this.label.setVisible(false);
+    region = this.panel.pollDirtyRegion();
+    assertTrue(region.contains(this.label.getBoundingBox()));
+    assertNull(this.panel.pollDirtyRegion());
+  }
+
+  private static BufferedImage render(GuiComponent component) {
+    BufferedImage image = new BufferedImage(200, 200, BufferedImage.TYPE_INT_ARGB);
+    Graphics2D g = image.createGraphics();
+    component.render(g);
+    g.dispose();
+    return image;
+  }
+
+  private class TestComponent extends GuiComponent {
+    protected TestComponent(double x, double y, double width, double height) {
+      super(x, y, width, height);
+    }
+  }
+}
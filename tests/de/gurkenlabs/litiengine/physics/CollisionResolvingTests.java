@@ -1,13 +1,19 @@
 package de.gurkenlabs.litiengine.physics;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import de.gurkenlabs.litiengine.Align;
 import de.gurkenlabs.litiengine.Game;
 import de.gurkenlabs.litiengine.Valign;
 import de.gurkenlabs.litiengine.entities.CollisionBox;
 import de.gurkenlabs.litiengine.entities.Creature;
+import de.gurkenlabs.litiengine.entities.ICollisionEntity;
+import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -194,6 +200,50 @@ public class CollisionResolvingTests {
     assertEquals(15.0, ent.getY(), EPSILON);
   }
 
+  @Test
+  public void testFastMoveDoesNotTunnel() {
+    // arrange
+    Creature ent = getNewCreature(); // pos: (10,10), w/h: 10/10
+    Game.physics().add(ent);
+
+    // thin wall that is way smaller than the movement step
+    CollisionBox wall = new CollisionBox(50, 0, 1, 100);
+    Game.physics().add(wall);
+    Game.physics().update();
+
+    List<ICollisionEntity> involved = new ArrayList<>();
+    ent.onCollision(event -> involved.addAll(event.getInvolvedEntities()));
+
+    // act
+    boolean moved = Game.physics().move(ent, 90, 100);
+
+    // assert
+    // the entity is stopped at the wall instead of passing through it
+    assertFalse(moved);
+    assertEquals(40, ent.getX(), EPSILON);
+    assertEquals(10, ent.getY(), EPSILON);
+    assertEquals(1, involved.size());
+    assertSame(wall, involved.get(0));
+  }
+
+  @Test
+  public void testFastMoveSlidesAlongContact() {
+    // arrange
+    Creature ent = getNewCreature(); // pos: (10,10), w/h: 10/10
+    Game.physics().add(ent);
+    Game.physics().add(new CollisionBox(50, 0, 1, 100));
+    Game.physics().update();
+
+    // act
+    // move 100px to the right and 20px down
+    Game.physics().move(ent, new Point2D.Double(110, 30));
+
+    // assert
+    // the entity is stopped at the wall and slides down for the remaining distance
+    assertEquals(40, ent.getX(), EPSILON);
+    assertEquals(30, ent.getY(), EPSILON);
+  }
+
   @ParameterizedTest(
       name = "testCollisionWithMapBounds_xCoordinate angle={0}, distance={1}, expectedX={2}")
   @CsvSource({
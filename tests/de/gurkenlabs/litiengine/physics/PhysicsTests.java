@@ -1,6 +1,11 @@
 package de.gurkenlabs.litiengine.physics;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -11,6 +16,7 @@ import de.gurkenlabs.litiengine.entities.Creature;
 import de.gurkenlabs.litiengine.entities.IMobileEntity;
 import java.awt.geom.Line2D;
 import java.awt.geom.Rectangle2D;
+import java.util.Arrays;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -95,6 +101,150 @@ public class PhysicsTests {
     assertFalse(Game.physics().collides(new Line2D.Double(15.1, 15.0, 15, 15)));
   }
 
+  @Test
+  public void testRaycastReturnsClosestHit() {
+    CollisionBox far = new CollisionBox(300, 0, 10, 100);
+    CollisionBox near = new CollisionBox(100, 0, 10, 100);
+    Game.physics().add(far);
+    Game.physics().add(near);
+    Game.physics().update();
+
+    RaycastHit hit = Game.physics().raycast(new Line2D.Double(0, 50, 500, 50));
+    assertSame(near, hit.getEntity());
+    assertEquals(100, hit.getDistance(), 0.0001);
+    assertEquals(100, hit.getPoint().getX(), 0.0001);
+    assertEquals(50, hit.getPoint().getY(), 0.0001);
+
+    hit = Game.physics().raycast(new Line2D.Double(500, 50, 0, 50));
+    assertSame(far, hit.getEntity());
+    assertEquals(190, hit.getDistance(), 0.0001);
+
+    assertNull(Game.physics().raycast(new Line2D.Double(0, 150, 500, 150)));
+
+    RaycastHit[] hits =
+        Game.physics()
+            .raycast(
+                Arrays.asList(
+                    new Line2D.Double(0, 50, 500, 50), new Line2D.Double(0, 150, 500, 150)),
+                Collision.ANY,
+                null,
+                true);
+    assertSame(near, hits[0].getEntity());
+    assertNull(hits[1]);
+  }
+
+  @Test
+  public void testLineOfSight() {
+    Creature player = new Creature();
+    player.setCollision(true);
+    player.setLocation(500, 50);
+
+    Creature visibleEnemy = new Creature();
+    visibleEnemy.setCollision(true);
+    visibleEnemy.setLocation(500, 300);
+
+    Creature hiddenEnemy = new Creature();
+    hiddenEnemy.setCollision(true);
+    hiddenEnemy.setLocation(0, 50);
+
+    Game.physics().add(player);
+    Game.physics().add(visibleEnemy);
+    Game.physics().add(hiddenEnemy);
+    Game.physics().add(new CollisionBox(200, 0, 10, 150));
+    Game.physics().update();
+
+    assertTrue(Game.physics().hasLineOfSight(visibleEnemy, player, Collision.ANY));
+    assertFalse(Game.physics().hasLineOfSight(hiddenEnemy, player, Collision.ANY));
+    assertTrue(Game.physics().hasLineOfSight(hiddenEnemy, player, Collision.DYNAMIC));
+    assertArrayEquals(
+        new boolean[] {true, false},
+        Game.physics()
+            .hasLineOfSight(
+                Arrays.asList(visibleEnemy, hiddenEnemy), player, Collision.STATIC, false));
+  }
+
+  @Test
+  public void testTransformedStaticEntitiesInvalidateGrid() {
+    CollisionBox wall = new CollisionBox(100, 0, 10, 100);
+    Game.physics().add(wall);
+    Game.physics().update();
+    assertSame(wall, Game.physics().raycast(new Line2D.Double(0, 50, 500, 50)).getEntity());
+
+    // the grid is rebuilt because the wall fires a transform event, not because of an update
+    wall.setLocation(100, 200);
+    assertNull(Game.physics().raycast(new Line2D.Double(0, 50, 500, 50)));
+    assertSame(wall, Game.physics().raycast(new Line2D.Double(0, 250, 500, 250)).getEntity());
+
+    wall.setSize(10, 300);
+    assertSame(wall, Game.physics().raycast(new Line2D.Double(0, 450, 500, 450)).getEntity());
+
+    // removed entities no longer invalidate the grid
+    Game.physics().remove(wall);
+    CollisionGrid grid = Game.physics().getStaticGrid();
+    wall.setLocation(0, 0);
+    assertSame(grid, Game.physics().getStaticGrid());
+  }
+
+  @Test
+  public void testStaticCollisionMap() {
+    CollisionBox wall = new CollisionBox(32, 0, 16, 64);
+    Game.physics().setBounds(new Rectangle2D.Double(0, 0, 128, 128));
+    Game.physics().add(wall);
+    Game.physics().add(new CollisionBox(70, 70, 5, 5));
+    Game.physics().update();
+
+    StaticCollisionMap map = Game.physics().compileStaticCollisionMap(16);
+    assertSame(map, Game.physics().getStaticCollisionMap());
+    assertTrue(map.isBlocked(2, 3));
+    assertTrue(map.isOccupied(4, 4));
+    assertFalse(map.isBlocked(4, 4));
+
+    assertTrue(Game.physics().collides(new Rectangle2D.Double(40, 10, 1, 1), Collision.STATIC));
+    assertFalse(Game.physics().collides(new Rectangle2D.Double(48, 10, 1, 1), Collision.STATIC));
+    assertTrue(Game.physics().collides(72, 72, Collision.STATIC));
+    assertFalse(Game.physics().collides(76, 72, Collision.STATIC));
+
+    // the map is compiled again after static entities have been removed
+    Game.physics().remove(wall);
+    StaticCollisionMap recompiled = Game.physics().getStaticCollisionMap();
+    assertNotSame(map, recompiled);
+    assertFalse(recompiled.isOccupied(2, 3));
+    assertFalse(Game.physics().collides(new Rectangle2D.Double(40, 10, 1, 1), Collision.STATIC));
+  }
+
+  @Test
+  public void testStaticCollisionMapRespectsGeometryOutsideBounds() {
+    CollisionBox outside = new CollisionBox(130, 10, 10, 10);
+    Game.physics().setBounds(new Rectangle2D.Double(0, 0, 128, 128));
+    Game.physics().add(outside);
+    Game.physics().add(new CollisionBox(32, 0, 16, 64));
+    Game.physics().update();
+    Game.physics().compileStaticCollisionMap(16);
+
+    // the query crosses the environment edge, where the map doesn't know about the box
+    assertTrue(Game.physics().collides(new Rectangle2D.Double(120, 12, 15, 2), Collision.STATIC));
+    assertTrue(Game.physics().collides(new Rectangle2D.Double(120, 12, 15, 2), Collision.ANY));
+    assertFalse(Game.physics().collides(new Rectangle2D.Double(120, 40, 15, 2), Collision.STATIC));
+    assertFalse(Game.physics().collides(new Rectangle2D.Double(100, 12, 10, 2), Collision.STATIC));
+  }
+
+  @Test
+  public void testStaticCollisionMapFollowsRelocatedEntities() {
+    CollisionBox wall = new CollisionBox(32, 0, 16, 64);
+    Game.physics().setBounds(new Rectangle2D.Double(0, 0, 128, 128));
+    Game.physics().add(wall);
+    StaticCollisionMap map = Game.physics().compileStaticCollisionMap(16);
+    assertTrue(map.isBlocked(2, 3));
+
+    // the map is compiled again without waiting for the next update
+    wall.setLocation(64, 0);
+    StaticCollisionMap recompiled = Game.physics().getStaticCollisionMap();
+    assertNotSame(map, recompiled);
+    assertFalse(recompiled.isOccupied(2, 3));
+    assertTrue(recompiled.isBlocked(4, 3));
+    assertSame(recompiled, Game.physics().getStaticCollisionMap());
+  }
+
   @Test
   public void testRectangleCollides() {
     IMobileEntity ent = mock(IMobileEntity.class);
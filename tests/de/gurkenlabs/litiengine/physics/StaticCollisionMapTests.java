@@ -0,0 +1,119 @@
+package de.gurkenlabs.litiengine.physics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.gurkenlabs.litiengine.util.geom.GeometricUtilities;
+import java.awt.geom.Line2D;
+import java.awt.geom.Point2D;
+import java.awt.geom.Rectangle2D;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class StaticCollisionMapTests {
+
+  @Test
+  public void testCellsAreRasterized() {
+    StaticCollisionMap map =
+        new StaticCollisionMap(
+            new Rectangle2D.Double(0, 0, 64, 64),
+            Arrays.asList(
+                new Rectangle2D.Double(16, 16, 32, 16), new Rectangle2D.Double(4, 50, 2, 2)),
+            16);
+
+    assertEquals(4, map.getColumns());
+    assertEquals(4, map.getRows());
+    assertTrue(map.isBlocked(1, 1));
+    assertTrue(map.isBlocked(2, 1));
+    assertFalse(map.isOccupied(1, 0));
+    assertFalse(map.isOccupied(3, 1));
+    assertTrue(map.isOccupied(0, 3));
+    assertFalse(map.isBlocked(0, 3));
+  }
+
+  @Test
+  public void testEdgesDoNotCollide() {
+    StaticCollisionMap map =
+        new StaticCollisionMap(
+            new Rectangle2D.Double(0, 0, 64, 64),
+            Arrays.asList(new Rectangle2D.Double(16, 16, 32, 16)),
+            16);
+
+    assertTrue(map.collides(new Point2D.Double(16, 16)));
+    assertFalse(map.collides(new Point2D.Double(48, 16)));
+    assertFalse(map.collides(new Rectangle2D.Double(0, 0, 16, 16)));
+    assertTrue(map.collides(new Rectangle2D.Double(0, 0, 16.5, 16.5)));
+    assertFalse(map.collides(new Line2D.Double(0, 16, 64, 16)));
+    assertTrue(map.collides(new Line2D.Double(0, 20, 64, 20)));
+
+    // a line along a cell border within the box
+    assertTrue(map.collides(new Line2D.Double(32, 0, 32, 64)));
+  }
+
+  @Test
+  public void testQueriesMatchCollisionBoxes() {
+    Random random = new Random(42);
+    List<Rectangle2D> boxes = new ArrayList<>();
+    for (int i = 0; i < 40; i++) {
+      boxes.add(
+          new Rectangle2D.Double(
+              random.nextInt(300) + random.nextDouble(),
+              random.nextInt(300),
+              1 + random.nextInt(40) + random.nextDouble(),
+              1 + random.nextInt(40)));
+    }
+
+    StaticCollisionMap map = new StaticCollisionMap(null, boxes, 16);
+    for (int i = 0; i < 2000; i++) {
+      Point2D point = new Point2D.Double(random.nextDouble() * 340, random.nextDouble() * 340);
+      assertEquals(boxes.stream().anyMatch(b -> b.contains(point)), map.collides(point));
+
+      Rectangle2D rect =
+          new Rectangle2D.Double(
+              random.nextDouble() * 340,
+              random.nextDouble() * 340,
+              random.nextDouble() * 30,
+              random.nextDouble() * 30);
+      assertEquals(
+          boxes.stream().anyMatch(b -> GeometricUtilities.intersects(b, rect)),
+          map.collides(rect));
+
+      Line2D line =
+          new Line2D.Double(
+              random.nextDouble() * 340,
+              random.nextDouble() * 340,
+              random.nextDouble() * 340,
+              random.nextDouble() * 340);
+      assertEquals(boxes.stream().anyMatch(b -> passesThrough(line, b)), map.collides(line));
+    }
+  }
+
+  private static boolean passesThrough(Line2D line, Rectangle2D box) {
+    double[] start = {line.getX1(), line.getY1()};
+    double[] delta = {line.getX2() - line.getX1(), line.getY2() - line.getY1()};
+    double[] min = {box.getMinX(), box.getMinY()};
+    double[] max = {box.getMaxX(), box.getMaxY()};
+    double near = 0;
+    double far = 1;
+    for (int axis = 0; axis < 2; axis++) {
+      if (delta[axis] == 0) {
+        if (start[axis] <= min[axis] || start[axis] >= max[axis]) {
+          return false;
+        }
+
+        continue;
+      }
+
+      double t1 = (min[axis] - start[axis]) / delta[axis];
+      double t2 = (max[axis] - start[axis]) / delta[axis];
+      near = Math.max(near, Math.min(t1, t2));
+      far = Math.min(far, Math.max(t1, t2));
+    }
+
+    return near < far;
+  }
+}
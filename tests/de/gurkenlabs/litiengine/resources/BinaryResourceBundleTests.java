@@ -0,0 +1,150 @@
+package de.gurkenlabs.litiengine.resources;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.gurkenlabs.litiengine.environment.tilemap.xml.TmxMap;
+import de.gurkenlabs.litiengine.sound.Sound;
+import de.gurkenlabs.litiengine.util.io.Codec;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class BinaryResourceBundleTests {
+
+  @Test
+  public void testSaveAndOpenBinaryBundle(@TempDir Path directory) throws Exception {
+    TmxMap map =
+        (TmxMap)
+            Resources.maps()
+                .get("tests/de/gurkenlabs/litiengine/environment/tilemap/xml/test-map.tmx");
+    ResourceBundle bundle = new ResourceBundle();
+    bundle.getMaps().add(map);
+    bundle
+        .getTilesets()
+        .add(
+            Resources.tilesets()
+                .get("tests/de/gurkenlabs/litiengine/environment/tilemap/xml/res/external-tileset.tsx"));
+
+    try (InputStream stream = Resources.get("tests/de/gurkenlabs/litiengine/resources/bip.ogg")) {
+      bundle.getSounds().add(new SoundResource(stream, "bip", SoundFormat.OGG));
+    }
+
+    String fileName = bundle.save(directory.resolve("game").toString(), true, true);
+    URL file = new File(fileName).toURI().toURL();
+
+    assertTrue(fileName.endsWith("." + ResourceBundle.FILE_EXTENSION));
+    assertTrue(BinaryResourceBundle.isBinary(file));
+
+    BinaryResourceBundle binary = BinaryResourceBundle.open(file);
+    assertTrue(binary.contains(BinaryResourceBundle.EntryType.MAP, "test-map"));
+    assertTrue(binary.contains(BinaryResourceBundle.EntryType.TILESET, "external-tileset"));
+    assertTrue(binary.contains(BinaryResourceBundle.EntryType.SOUND, "bip"));
+    assertFalse(binary.contains(BinaryResourceBundle.EntryType.SPRITESHEET, "bip"));
+    assertNull(binary.getSound("nonexisting"));
+
+    TmxMap loadedMap = binary.getMap("test-map");
+    assertEquals(map.getWidth(), loadedMap.getWidth());
+    assertEquals(map.getTilesets().size(), loadedMap.getTilesets().size());
+    assertEquals(map.getTileLayers().size(), loadedMap.getTileLayers().size());
+
+    Sound expected = Resources.sounds().get("tests/de/gurkenlabs/litiengine/resources/bip.ogg");
+    Sound sound = binary.getSound("bip");
+    assertNotNull(sound);
+    assertEquals(expected.getFormat().toString(), sound.getFormat().toString());
+    assertArrayEquals(expected.getStreamData(), sound.getStreamData());
+  }
+
+  @Test
+  public void testSpritesheetRoundTrip(@TempDir Path directory) throws Exception {
+    // names are stored as modified UTF-8, which encodes NUL and supplementary characters specially
+    String name = "sprite\u0000\uD83D\uDE00";
+    BufferedImage image = new BufferedImage(4, 2, BufferedImage.TYPE_INT_ARGB);
+    for (int x = 0; x < image.getWidth(); x++) {
+      image.setRGB(x, 0, 0xFF000000 | x * 0x102030);
+      image.setRGB(x, 1, 0x80FFFFFF);
+    }
+
+    SpritesheetResource resource = new SpritesheetResource(image, name, 2, 2);
+    resource.setKeyframes(new int[] {100, 200});
+    ResourceBundle bundle = new ResourceBundle();
+    bundle.getSpriteSheets().add(resource);
+
+    String fileName = bundle.save(directory.resolve("sprites").toString(), true, true);
+    BinaryResourceBundle binary = BinaryResourceBundle.open(new File(fileName).toURI().toURL());
+
+    assertEquals(
+        Arrays.asList(name),
+        new ArrayList<>(binary.getNames(BinaryResourceBundle.EntryType.SPRITESHEET)));
+    assertNull(binary.getSpritesheetResource("nonexisting"));
+
+    // reading the bundle doesn't load anything into the global resources
+    ResourceBundle converted = binary.toResourceBundle();
+    assertFalse(Resources.spritesheets().contains(name));
+
+    SpritesheetResource read = converted.getSpriteSheets().get(0);
+    assertEquals(name, read.getName());
+    assertEquals(2, read.getWidth());
+    assertEquals(2, read.getHeight());
+    assertEquals(ImageFormat.PNG, read.getImageFormat());
+    assertArrayEquals(new int[] {100, 200}, read.getKeyframes());
+    assertArrayEquals(getPixels(image), getPixels(Codec.decodeImage(read.getImage())));
+  }
+
+  @Test
+  public void testXmlBundleIsNotBinary(@TempDir Path directory) throws Exception {
+    String fileName = new ResourceBundle().save(directory.resolve("game").toString(), false);
+
+    assertFalse(BinaryResourceBundle.isBinary(new File(fileName).toURI().toURL()));
+  }
+
+  @Test
+  public void testCorruptedBundlesAreRejected(@TempDir Path directory) throws Exception {
+    SpritesheetResource resource =
+        new SpritesheetResource(new BufferedImage(2, 2, BufferedImage.TYPE_INT_ARGB), "sprite", 1, 1);
+    ResourceBundle bundle = new ResourceBundle();
+    bundle.getSpriteSheets().add(resource);
+    File file = new File(bundle.save(directory.resolve("corrupted").toString(), false, true));
+    byte[] valid = Files.readAllBytes(file.toPath());
+    int tocOffset = (int) ByteBuffer.wrap(valid).getLong(10);
+
+    // the table of contents offset points behind the end of the file
+    assertCorrupted(file, valid, b -> b.putLong(10, valid.length + 1L));
+    // unknown entry type
+    assertCorrupted(file, valid, b -> b.put(tocOffset, (byte) 42));
+    // entry offset behind the table of contents; type, name ("sprite") and flags precede it
+    assertCorrupted(file, valid, b -> b.putLong(tocOffset + 10, tocOffset));
+    // truncated table of contents
+    assertCorrupted(file, Arrays.copyOf(valid, tocOffset + 4), b -> {});
+  }
+
+  private static void assertCorrupted(File file, byte[] valid, Consumer<ByteBuffer> corruption)
+      throws IOException {
+    ByteBuffer corrupted = ByteBuffer.wrap(valid.clone());
+    corruption.accept(corrupted);
+    Files.write(file.toPath(), corrupted.array());
+
+    IOException exception =
+        assertThrows(IOException.class, () -> BinaryResourceBundle.open(file.toURI().toURL()));
+    assertTrue(exception.getMessage().contains(file.getName()));
+  }
+
+  private static int[] getPixels(BufferedImage image) {
+    return image.getRGB(0, 0, image.getWidth(), image.getHeight(), null, 0, image.getWidth());
+  }
+}
@@ -1,19 +1,38 @@
 package de.gurkenlabs.litiengine.resources;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import de.gurkenlabs.litiengine.EnvironmentSimulationTests;
 import de.gurkenlabs.litiengine.Game;
 import de.gurkenlabs.litiengine.environment.tilemap.IMap;
+import de.gurkenlabs.litiengine.environment.tilemap.xml.MapObject;
+import de.gurkenlabs.litiengine.environment.tilemap.xml.MapObjectLayer;
+import de.gurkenlabs.litiengine.environment.tilemap.xml.TmxMap;
+import de.gurkenlabs.litiengine.graphics.Spritesheet;
 import de.gurkenlabs.litiengine.sound.Sound;
 import java.awt.image.BufferedImage;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sound.sampled.AudioFormat;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class ResourcesTests {
 
@@ -48,6 +67,155 @@ public class ResourcesTests {
     assertEquals(0, Resources.images().count());
   }
 
+  @Test
+  public void testDeferredResource() {
+    Resources.images().clear();
+
+    AtomicInteger loads = new AtomicInteger();
+    BufferedImage testImage = new BufferedImage(5, 5, BufferedImage.TYPE_INT_ARGB);
+    Resources.images()
+        .addDeferred(
+            "deferred.png",
+            () -> {
+              loads.incrementAndGet();
+              return testImage;
+            });
+
+    assertTrue(Resources.images().contains("deferred.png"));
+    assertFalse(Resources.images().isLoaded("deferred.png"));
+    assertTrue(Resources.images().getDeferred().contains("deferred.png"));
+    assertEquals(0, Resources.images().count());
+    assertEquals(0, loads.get());
+
+    assertEquals(testImage, Resources.images().get("deferred.png"));
+    assertEquals(testImage, Resources.images().get("deferred.png"));
+
+    assertEquals(1, loads.get());
+    assertTrue(Resources.images().isLoaded("deferred.png"));
+    assertFalse(Resources.images().getDeferred().contains("deferred.png"));
+    assertEquals(1, Resources.images().count());
+  }
+
+  @Test
+  public void testDeferredResourceIsLoadedOnce() throws Exception {
+    Resources.images().clear();
+
+    AtomicInteger loads = new AtomicInteger();
+    BufferedImage testImage = new BufferedImage(5, 5, BufferedImage.TYPE_INT_ARGB);
+    Resources.images()
+        .addDeferred(
+            "concurrent.png",
+            () -> {
+              loads.incrementAndGet();
+              try {
+                Thread.sleep(50);
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+              }
+              return testImage;
+            });
+
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<BufferedImage>> results = new ArrayList<>();
+      for (int i = 0; i < 8; i++) {
+        results.add(executor.submit(() -> Resources.images().get("concurrent.png")));
+      }
+
+      for (Future<BufferedImage> result : results) {
+        assertEquals(testImage, result.get());
+      }
+    } finally {
+      executor.shutdown();
+    }
+
+    assertEquals(1, loads.get());
+  }
+
+  @Test
+  public void testDependenciesOfMap() {
+    Resources.spritesheets().addDeferred("enemy-idle", () -> null);
+    Resources.spritesheets().addDeferred("prop-barrel-intact", () -> null);
+    Resources.spritesheets().addDeferred("unrelated", () -> null);
+    Resources.sounds().addDeferred("dependency-sound", () -> null);
+
+    try {
+      ResourceDependencies dependencies =
+          Resources.getDependencies(
+              createMap("dependencies", "enemy", "barrel", "dependency-sound, unknown"));
+
+      assertEquals(
+          new HashSet<>(Arrays.asList("enemy-idle", "prop-barrel-intact")),
+          new HashSet<>(dependencies.getSpritesheets()));
+      assertEquals(Arrays.asList("dependency-sound"), new ArrayList<>(dependencies.getSounds()));
+      assertTrue(dependencies.getBlueprints().isEmpty());
+    } finally {
+      Resources.spritesheets().clear();
+      Resources.sounds().clear();
+    }
+  }
+
+  @Test
+  public void testPrefetchLoadsDeferredDependencies() throws Exception {
+    AtomicInteger loads = new AtomicInteger();
+    Sound sound =
+        new Sound("prefetch-sound", new AudioFormat(44100, 16, 1, true, false), new byte[2]);
+    Resources.sounds()
+        .addDeferred(
+            "prefetch-sound",
+            () -> {
+              loads.incrementAndGet();
+              return sound;
+            });
+    Resources.spritesheets()
+        .addDeferred(
+            "prefetch-sprite",
+            () -> {
+              loads.incrementAndGet();
+              return new Spritesheet(
+                  new BufferedImage(4, 4, BufferedImage.TYPE_INT_ARGB), "prefetch-sprite", 2, 2);
+            });
+
+    try {
+      Resources.prefetch(createMap("prefetch", "prefetch-sprite", "prefetch-sound"))
+          .get(10, TimeUnit.SECONDS);
+
+      assertEquals(2, loads.get());
+      assertTrue(Resources.sounds().isLoaded("prefetch-sound"));
+      assertFalse(Resources.spritesheets().getDeferred().contains("prefetch-sprite"));
+      assertEquals(sound, Resources.sounds().get("prefetch-sound"));
+      assertEquals(2, loads.get());
+    } finally {
+      Resources.spritesheets().clear();
+      Resources.sounds().clear();
+    }
+  }
+
+  @Test
+  public void testLazyLoadingOnlyRegistersResources(@TempDir Path directory) throws Exception {
+    byte[] pcm = new byte[4410];
+    Sound sound = new Sound("lazy-sound", new AudioFormat(44100, 16, 1, true, false), pcm);
+    ResourceBundle bundle = new ResourceBundle();
+    bundle.getSounds().add(new SoundResource(sound, SoundFormat.WAV));
+    String fileName = bundle.save(directory.resolve("lazy").toString(), false, true);
+
+    Resources.setLazyLoading(true);
+    try {
+      Resources.load(new File(fileName).toURI().toURL());
+
+      assertTrue(Resources.sounds().contains("lazy-sound"));
+      assertFalse(Resources.sounds().isLoaded("lazy-sound"));
+
+      Sound loaded = Resources.sounds().get("lazy-sound");
+      assertNotNull(loaded);
+      assertTrue(Resources.sounds().isLoaded("lazy-sound"));
+      assertArrayEquals(pcm, loaded.getStreamData());
+    } finally {
+      Resources.setLazyLoading(false);
+      Resources.sounds().clear();
+    }
+  }
+
   @Test
   public void testMapResourcesAlias() {
     IMap map =
@@ -144,4 +312,17 @@ public class ResourcesTests {
 
     assertEquals("test me once", result);
   }
+
+  private static IMap createMap(String name, String... propertyValues) {
+    TmxMap map = EnvironmentSimulationTests.createMap(name);
+    MapObjectLayer layer = new MapObjectLayer();
+    for (int i = 0; i < propertyValues.length; i++) {
+      MapObject mapObject = new MapObject();
+      mapObject.setValue("property" + i, propertyValues[i]);
+      layer.addMapObject(mapObject);
+    }
+
+    map.addLayer(layer);
+    return map;
+  }
 }
@@ -0,0 +1,85 @@
+package de.gurkenlabs.litiengine.resources;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.gurkenlabs.litiengine.sound.Sound;
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import javax.sound.sampled.AudioFormat;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class SoundsTests {
+  private static final AudioFormat MONO_22K = new AudioFormat(22050f, 16, 1, true, false);
+
+  @AfterEach
+  public void resetSounds() {
+    Resources.sounds().setOutputFormat(null);
+    Resources.sounds().setCacheDirectory(null);
+    Resources.sounds().clear();
+  }
+
+  @Test
+  public void testSoundsAreConvertedToOutputFormat() throws Exception {
+    Sound sound = new Sound(new ByteArrayInputStream(createSound().getRawData()), "tone");
+    assertSame(sound, Resources.sounds().normalize(sound));
+
+    Resources.sounds().setOutputFormat(Sounds.DEFAULT_OUTPUT_FORMAT);
+    Sound converted = Resources.sounds().normalize(sound);
+
+    assertEquals(sound.getName(), converted.getName());
+    assertTrue(converted.getFormat().matches(Sounds.DEFAULT_OUTPUT_FORMAT));
+    // one second of samples at 48 kHz, plus a few frames of the resampler
+    int frames = converted.getStreamData().length / converted.getFormat().getFrameSize();
+    assertEquals(48000, frames, 100);
+    assertArrayEquals(sound.getRawData(), converted.getRawData());
+
+    assertSame(converted, converted.convert(Sounds.DEFAULT_OUTPUT_FORMAT));
+  }
+
+  @Test
+  public void testConvertedSamplesAreCached(@TempDir Path directory) throws Exception {
+    Path file = directory.resolve("tone.wav");
+    byte[] rawData = createSound().getRawData();
+    Files.write(file, rawData);
+
+    Path cacheDirectory = directory.resolve("cache");
+    Resources.sounds().setOutputFormat(Sounds.DEFAULT_OUTPUT_FORMAT);
+    Resources.sounds().setCacheDirectory(cacheDirectory);
+    assertEquals(cacheDirectory, Resources.sounds().getCacheDirectory());
+
+    SoundCache cache = new SoundCache(cacheDirectory);
+    assertNull(cache.get("tone", rawData, Sounds.DEFAULT_OUTPUT_FORMAT));
+
+    Sound loaded = Resources.sounds().get(file.toUri().toURL());
+    assertNotNull(loaded);
+    assertTrue(Files.isRegularFile(cache.getFile(rawData, Sounds.DEFAULT_OUTPUT_FORMAT)));
+
+    Sound cached = cache.get("tone", rawData, Sounds.DEFAULT_OUTPUT_FORMAT);
+    assertNotNull(cached);
+    assertTrue(cached.getFormat().matches(loaded.getFormat()));
+    assertArrayEquals(loaded.getStreamData(), cached.getStreamData());
+    assertArrayEquals(rawData, cached.getRawData());
+
+    // samples of another output format are cached separately
+    assertNull(cache.get("tone", rawData, MONO_22K));
+  }
+
+  private static Sound createSound() {
+    byte[] pcm = new byte[22050 * 2];
+    for (int i = 0; i < 22050; i++) {
+      short sample = (short) (Math.sin(i * 2 * Math.PI * 440 / 22050) * 10000);
+      pcm[i * 2] = (byte) sample;
+      pcm[i * 2 + 1] = (byte) (sample >> 8);
+    }
+
+    return new Sound("tone", MONO_22K, pcm);
+  }
+}
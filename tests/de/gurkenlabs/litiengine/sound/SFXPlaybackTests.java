@@ -0,0 +1,105 @@
+package de.gurkenlabs.litiengine.sound;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.gurkenlabs.litiengine.Game;
+import de.gurkenlabs.litiengine.GameTest;
+import java.awt.geom.Point2D;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.sound.sampled.AudioFormat;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class SFXPlaybackTests {
+  private static final float SAMPLE_RATE = 44100;
+  private static final long SECOND = 1_000_000_000L;
+
+  @BeforeAll
+  public static void setup() {
+    Game.init(Game.COMMANDLINE_ARG_NOGUI);
+  }
+
+  @AfterAll
+  public static void terminateGame() {
+    GameTest.terminateGame();
+  }
+
+  @Test
+  public void testInaudibleSoundIsVirtual() {
+    SFXPlayback playback = createPlayback(false);
+    assertTrue(playback.isVirtual());
+    assertEquals(0, playback.getFramePosition(System.nanoTime() + SECOND));
+
+    long start = System.nanoTime();
+    playback.start();
+
+    assertTrue(playback.isVirtual());
+    assertTrue(playback.isPlaying());
+    assertEquals(SAMPLE_RATE / 2, playback.getFramePosition(start + SECOND / 2), SAMPLE_RATE / 10);
+  }
+
+  @Test
+  public void testPausedVirtualVoiceKeepsPosition() {
+    SFXPlayback playback = createPlayback(true);
+    playback.start();
+    playback.pausePlayback();
+
+    assertTrue(playback.isPaused());
+    long position = playback.getFramePosition(System.nanoTime());
+    assertEquals(position, playback.getFramePosition(System.nanoTime() + SECOND / 2));
+
+    playback.resumePlayback();
+    assertFalse(playback.isPaused());
+    assertTrue(playback.getFramePosition(System.nanoTime() + SECOND / 2) > position);
+  }
+
+  @Test
+  public void testVirtualVoiceFinishesAtEndOfSound() {
+    SFXPlayback playback = createPlayback(false);
+    AtomicBoolean finished = new AtomicBoolean();
+    playback.addSoundPlaybackListener(
+        new SoundPlaybackListener() {
+          @Override
+          public void finished(SoundEvent event) {
+            finished.set(true);
+          }
+        });
+    playback.start();
+
+    playback.updateCursor(System.nanoTime());
+    assertTrue(playback.isPlaying());
+
+    // the sound is one second long
+    playback.updateCursor(System.nanoTime() + 2 * SECOND);
+    assertFalse(playback.isPlaying());
+    assertTrue(finished.get());
+  }
+
+  @Test
+  public void testLoopedVirtualVoiceWrapsAround() {
+    SFXPlayback playback = createPlayback(true);
+    long start = System.nanoTime();
+    playback.start();
+
+    long position = playback.getFramePosition(start + SECOND * 5 / 2);
+    assertEquals(SAMPLE_RATE / 2, position, SAMPLE_RATE / 10);
+
+    playback.updateCursor(start + 3 * SECOND);
+    assertTrue(playback.isPlaying());
+  }
+
+  private static SFXPlayback createPlayback(boolean loop) {
+    Sound sound =
+        new Sound(
+            "virtual",
+            new AudioFormat(SAMPLE_RATE, 16, 1, true, false),
+            new byte[(int) SAMPLE_RATE * 2]);
+
+    // the listener is far out of range, so the sound can never be heard
+    Point2D location = new Point2D.Double(100000, 100000);
+    return Game.audio().createSound(sound, () -> location, loop, 10, 1f);
+  }
+}
@@ -0,0 +1,68 @@
+package de.gurkenlabs.litiengine.sound;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.awt.geom.Point2D;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.sound.sampled.AudioFormat;
+import org.junit.jupiter.api.Test;
+
+public class SoundSourceGridTests {
+  private static final Sound SOUND =
+      new Sound("grid", new AudioFormat(44100, 16, 1, true, false), new byte[4410]);
+
+  @Test
+  public void testQueryVisitsPlaybacksInRange() {
+    SoundSourceGrid grid = new SoundSourceGrid(64);
+    SFXPlayback near = createPlayback(new Point2D.Double(0, 0), 100, grid);
+    SFXPlayback far = createPlayback(new Point2D.Double(300, 0), 100, grid);
+    SFXPlayback wide = createPlayback(new Point2D.Double(1000, 1000), 2000, grid);
+    createPlayback(null, 100, grid);
+
+    assertEquals(3, grid.size());
+    assertEquals(new HashSet<>(Arrays.asList(near, wide)), query(grid, 50, 0));
+    assertEquals(new HashSet<>(Arrays.asList(far, wide)), query(grid, 280, 0));
+    assertEquals(Collections.singleton(wide), query(grid, 150, 0));
+  }
+
+  @Test
+  public void testMovedPlaybacksAreReindexed() {
+    SoundSourceGrid grid = new SoundSourceGrid(64);
+    AtomicReference<Point2D> location = new AtomicReference<>(new Point2D.Double(0, 0));
+    SFXPlayback playback = new SFXPlayback(SOUND, location::get, false, 50, 1f);
+    playback.sampleLocation();
+    grid.update(playback);
+    assertEquals(Collections.singleton(playback), query(grid, 10, 10));
+
+    // the grid only knows about the new location once it has been sampled
+    location.set(new Point2D.Double(500, 500));
+    assertEquals(Collections.singleton(playback), query(grid, 10, 10));
+    assertEquals(Collections.emptySet(), query(grid, 510, 510));
+
+    playback.sampleLocation();
+    grid.update(playback);
+    assertEquals(Collections.emptySet(), query(grid, 10, 10));
+    assertEquals(Collections.singleton(playback), query(grid, 510, 510));
+
+    grid.remove(playback);
+    assertEquals(0, grid.size());
+    assertEquals(Collections.emptySet(), query(grid, 510, 510));
+  }
+
+  private static SFXPlayback createPlayback(Point2D location, int range, SoundSourceGrid grid) {
+    SFXPlayback playback = new SFXPlayback(SOUND, () -> location, false, range, 1f);
+    playback.sampleLocation();
+    grid.update(playback);
+    return playback;
+  }
+
+  private static Set<SFXPlayback> query(SoundSourceGrid grid, double x, double y) {
+    Set<SFXPlayback> result = new HashSet<>();
+    grid.query(new Point2D.Double(x, y), result::add);
+    return result;
+  }
+}
@@ -0,0 +1,140 @@
+package de.gurkenlabs.litiengine.tweening;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.gurkenlabs.litiengine.EnvironmentSimulation;
+import de.gurkenlabs.litiengine.EnvironmentSimulationTests;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TweenEngineTests {
+  private EnvironmentSimulation simulation;
+  private TweenEngine engine;
+  private TestTweenable target;
+
+  @BeforeEach
+  public void setup() {
+    // 100 ticks per second, so every step advances the game time by 10 ms
+    this.simulation = EnvironmentSimulationTests.createSimulation("tweens", 100);
+    this.engine = new TweenEngine();
+    this.simulation.getLoop().attach(this.engine);
+    this.target = new TestTweenable();
+  }
+
+  @Test
+  public void testFinishedTweensAreRemoved() {
+    Tween tween = this.begin(100);
+    this.step(5);
+
+    assertEquals(1, this.engine.getActiveCount());
+    assertTrue(this.target.value > 0 && this.target.value < 100);
+
+    this.step(10);
+
+    assertTrue(tween.hasStopped());
+    assertEquals(0, this.engine.getActiveCount());
+    assertNull(this.engine.getTween(this.target, TweenType.POSITION_X));
+    assertTrue(this.engine.getTweens().isEmpty());
+  }
+
+  @Test
+  public void testFinishedTweenCanBeRestarted() {
+    Tween tween = this.begin(50);
+    this.step(10);
+    assertTrue(this.engine.getTweens().isEmpty());
+
+    this.simulation.run(tween::begin);
+    this.step(1);
+
+    assertFalse(tween.hasStopped());
+    assertEquals(1, this.engine.getActiveCount());
+    assertSame(tween, this.engine.getTween(this.target, TweenType.POSITION_X));
+  }
+
+  @Test
+  public void testStoppedTweensAreKeptUntilResumed() {
+    Tween tween = this.begin(100);
+    this.step(2);
+
+    this.engine.stop(this.target, TweenType.POSITION_X);
+    float value = this.target.value;
+    this.step(2);
+
+    assertEquals(0, this.engine.getActiveCount());
+    assertEquals(value, this.target.value);
+    assertSame(tween, this.engine.getTween(this.target, TweenType.POSITION_X));
+
+    this.engine.resume(this.target, TweenType.POSITION_X);
+    this.step(1);
+
+    assertEquals(1, this.engine.getActiveCount());
+    assertTrue(this.target.value > value);
+  }
+
+  @Test
+  public void testRemovedTweensAreNotUpdated() {
+    Tween tween = this.begin(100);
+    this.step(1);
+
+    this.engine.remove(this.target, TweenType.POSITION_X);
+    float value = this.target.value;
+    this.step(2);
+
+    assertEquals(0, this.engine.getActiveCount());
+    assertEquals(value, this.target.value);
+
+    // a removed tween is no longer managed by the engine, even if it is started again
+    this.simulation.run(tween::begin);
+    this.step(2);
+    assertEquals(0, this.engine.getActiveCount());
+    assertNull(this.engine.getTween(this.target, TweenType.POSITION_X));
+  }
+
+  @Test
+  public void testValueBufferIsReused() {
+    this.begin(100);
+    this.step(5);
+
+    assertEquals(1, this.target.buffers.size());
+  }
+
+  private Tween begin(int duration) {
+    Tween[] tween = new Tween[1];
+    this.simulation.run(
+        () ->
+            tween[0] =
+                this.engine
+                    .begin(this.target, TweenType.POSITION_X, duration)
+                    .target(100)
+                    .ease(TweenFunction.LINEAR));
+    return tween[0];
+  }
+
+  private void step(int ticks) {
+    for (int i = 0; i < ticks; i++) {
+      this.simulation.step();
+    }
+  }
+
+  private static class TestTweenable implements Tweenable {
+    private final Set<float[]> buffers = new HashSet<>();
+    private float value;
+
+    @Override
+    public float[] getTweenValues(TweenType tweenType) {
+      return new float[] {this.value};
+    }
+
+    @Override
+    public void setTweenValues(TweenType tweenType, float[] newValues) {
+      this.buffers.add(newValues);
+      this.value = newValues[0];
+    }
+  }
+}
@@ -13,6 +13,8 @@ import java.awt.Color;
 import java.awt.image.BufferedImage;
 import java.awt.image.DataBufferInt;
 import java.io.File;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -229,6 +231,39 @@ public class ImagingTests {
     assertTrue(Imaging.isEmpty(imageEmpty));
   }
 
+  @Test
+  public void testReplaceColors() {
+    BufferedImage image = new BufferedImage(4, 1, BufferedImage.TYPE_INT_ARGB);
+    image.setRGB(0, 0, Color.RED.getRGB());
+    image.setRGB(1, 0, Color.GREEN.getRGB());
+    image.setRGB(2, 0, Color.BLUE.getRGB());
+    image.setRGB(3, 0, Color.RED.getRGB());
+
+    Map<Color, Color> mappings = new LinkedHashMap<>();
+    mappings.put(Color.RED, Color.GREEN);
+    mappings.put(Color.GREEN, Color.BLUE);
+
+    BufferedImage recolored = Imaging.replaceColors(image, mappings);
+
+    // every pixel is only replaced once
+    assertEquals(Color.GREEN.getRGB(), recolored.getRGB(0, 0));
+    assertEquals(Color.BLUE.getRGB(), recolored.getRGB(1, 0));
+    assertEquals(Color.BLUE.getRGB(), recolored.getRGB(2, 0));
+    assertEquals(Color.GREEN.getRGB(), recolored.getRGB(3, 0));
+    assertEquals(Color.RED.getRGB(), image.getRGB(0, 0));
+  }
+
+  @Test
+  public void testAreEqual() {
+    BufferedImage image =
+        Resources.images().get("tests/de/gurkenlabs/litiengine/util/prop-flag.png");
+    BufferedImage copy = Imaging.copy(image);
+    assertTrue(Imaging.areEqual(image, copy));
+
+    copy.setRGB(0, 0, copy.getRGB(0, 0) ^ 0xFF000000);
+    assertFalse(Imaging.areEqual(image, copy));
+  }
+
   @Test
   public void testCopy() {
     BufferedImage image =
@@ -0,0 +1,63 @@
+package de.gurkenlabs.litiengine.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+public class LatencyHistogramTests {
+
+  @Test
+  public void testPercentiles() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    for (int i = 1; i <= 1000; i++) {
+      histogram.record(i * 1000L);
+    }
+
+    assertEquals(1000, histogram.getCount());
+    assertEquals(1000000, histogram.getMax());
+    assertEquals(500500, histogram.getMean(), 0.0001);
+    assertWithinError(500000, histogram.getPercentile(50));
+    assertWithinError(990000, histogram.getPercentile(99));
+    assertEquals(1000000, histogram.getPercentile(100));
+  }
+
+  @Test
+  public void testSmallValuesAreExact() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    histogram.record(-5);
+    histogram.record(3);
+    histogram.record(42);
+
+    assertEquals(0, histogram.getPercentile(0));
+    assertEquals(3, histogram.getPercentile(50));
+    assertEquals(42, histogram.getPercentile(99));
+  }
+
+  @Test
+  public void testConcurrentRecording() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    IntStream.range(0, 100000).parallel().forEach(i -> histogram.record(i % 100));
+
+    assertEquals(100000, histogram.getCount());
+    assertEquals(99, histogram.getMax());
+    assertEquals(49, histogram.getPercentile(50));
+  }
+
+  @Test
+  public void testReset() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    histogram.record(1234567);
+    histogram.reset();
+
+    assertEquals(0, histogram.getCount());
+    assertEquals(0, histogram.getMax());
+    assertEquals(0, histogram.getPercentile(99));
+    assertEquals(0, histogram.getMean());
+  }
+
+  private static void assertWithinError(long expected, long actual) {
+    assertTrue(Math.abs(expected - actual) <= expected * 0.04, expected + " != " + actual);
+  }
+}
@@ -0,0 +1,147 @@
+package de.gurkenlabs.litiengine.util.io;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.gurkenlabs.litiengine.environment.tilemap.xml.Tileset;
+import de.gurkenlabs.litiengine.environment.tilemap.xml.TmxMap;
+import de.gurkenlabs.litiengine.resources.TextureAtlas;
+import java.io.File;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.net.URL;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.stream.Stream;
+import javax.xml.bind.JAXBException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+public class StaxReaderTests {
+  private static final String TILEMAP_DIR = "tests/de/gurkenlabs/litiengine/environment/tilemap/xml/";
+
+  @AfterEach
+  public void disableStreamingReader() {
+    XmlUtilities.setStreamingReaderEnabled(false);
+  }
+
+  @ParameterizedTest
+  @MethodSource("getXmlFiles")
+  public void testStreamingReaderEqualsJaxb(Class<?> type, String file) throws Exception {
+    URL url = new File(file).toURI().toURL();
+
+    Object jaxb = XmlUtilities.read(type, url);
+    Object stax = StaxReader.read(type, url);
+
+    assertNotNull(jaxb);
+    assertNotNull(stax);
+    assertDeepEquals(jaxb, stax, type.getSimpleName(), new IdentityHashMap<>());
+  }
+
+  @Test
+  public void testReadIsSelectedAtRuntime() throws Exception {
+    URL url = new File(TILEMAP_DIR + "test-map.tmx").toURI().toURL();
+
+    XmlUtilities.setStreamingReaderEnabled(true);
+    assertTrue(XmlUtilities.isStreamingReaderEnabled());
+
+    TmxMap map = XmlUtilities.read(TmxMap.class, url);
+    assertEquals("1.1.4", map.getTiledVersion());
+    assertEquals(16, map.getWidth());
+    assertEquals(2, map.getTilesets().size());
+    assertEquals(1, map.getTileLayers().size());
+
+    XmlUtilities.setStreamingReaderEnabled(false);
+    assertFalse(XmlUtilities.isStreamingReaderEnabled());
+  }
+
+  @Test
+  public void testUnexpectedRootElement() throws Exception {
+    URL url = new File(TILEMAP_DIR + "test-map.tmx").toURI().toURL();
+
+    assertThrows(JAXBException.class, () -> StaxReader.read(Tileset.class, url));
+  }
+
+  private static Stream<Arguments> getXmlFiles() {
+    return Stream.of(
+        Arguments.of(TmxMap.class, TILEMAP_DIR + "test-map.tmx"),
+        Arguments.of(TmxMap.class, TILEMAP_DIR + "test-infinite-map.tmx"),
+        Arguments.of(TmxMap.class, TILEMAP_DIR + "test-mapobject.tmx"),
+        Arguments.of(Tileset.class, TILEMAP_DIR + "res/external-tileset.tsx"),
+        Arguments.of(
+            TextureAtlas.class, "tests/de/gurkenlabs/litiengine/resources/gurk-nukem-atlas.xml"));
+  }
+
+  /**
+   * Compares the entire object graphs field by field because the model classes only implement a
+   * shallow {@code equals}.
+   */
+  private static void assertDeepEquals(
+      Object expected, Object actual, String path, Map<Object, Object> visited)
+      throws IllegalAccessException {
+    if (expected == null || actual == null) {
+      assertEquals(expected, actual, path);
+      return;
+    }
+
+    assertEquals(expected.getClass(), actual.getClass(), path);
+    Class<?> type = expected.getClass();
+    if (type.isPrimitive()
+        || type.isEnum()
+        || type.getName().startsWith("java.")
+            && !(expected instanceof Collection<?>)
+            && !(expected instanceof Map<?, ?>)) {
+      assertEquals(expected, actual, path);
+      return;
+    }
+
+    if (visited.put(expected, actual) != null) {
+      return;
+    }
+
+    if (type.isArray()) {
+      assertEquals(Array.getLength(expected), Array.getLength(actual), path + ".length");
+      for (int i = 0; i < Array.getLength(expected); i++) {
+        assertDeepEquals(Array.get(expected, i), Array.get(actual, i), path + "[" + i + "]", visited);
+      }
+    } else if (expected instanceof Collection<?>) {
+      Collection<?> expectedItems = (Collection<?>) expected;
+      Collection<?> actualItems = (Collection<?>) actual;
+      assertEquals(expectedItems.size(), actualItems.size(), path + ".size()");
+      Iterator<?> actualIterator = actualItems.iterator();
+      int i = 0;
+      for (Object item : expectedItems) {
+        assertDeepEquals(item, actualIterator.next(), path + "[" + i++ + "]", visited);
+      }
+    } else if (expected instanceof Map<?, ?>) {
+      Map<?, ?> expectedMap = (Map<?, ?>) expected;
+      Map<?, ?> actualMap = (Map<?, ?>) actual;
+      assertEquals(expectedMap.keySet(), actualMap.keySet(), path + ".keySet()");
+      for (Map.Entry<?, ?> entry : expectedMap.entrySet()) {
+        assertDeepEquals(
+            entry.getValue(), actualMap.get(entry.getKey()), path + "[" + entry.getKey() + "]", visited);
+      }
+    } else {
+      for (Class<?> cls = type; cls != null && cls != Object.class; cls = cls.getSuperclass()) {
+        for (Field field : cls.getDeclaredFields()) {
+          if (Modifier.isStatic(field.getModifiers())) {
+            continue;
+          }
+
+          field.setAccessible(true);
+          assertDeepEquals(
+              field.get(expected), field.get(actual), path + "." + field.getName(), visited);
+        }
+      }
+    }
+  }
+}